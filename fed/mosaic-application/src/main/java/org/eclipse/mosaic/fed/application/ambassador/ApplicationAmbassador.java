@@ -32,6 +32,7 @@ import org.eclipse.mosaic.interactions.application.SumoTraciResponse;
 import org.eclipse.mosaic.interactions.communication.V2xFullMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.interactions.electricity.ChargingStationUpdate;
 import org.eclipse.mosaic.interactions.electricity.VehicleBatteryUpdates;
 import org.eclipse.mosaic.interactions.electricity.VehicleChargingDenial;
@@ -73,7 +74,10 @@ import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.interaction.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+import org.eclipse.mosaic.rti.api.time.TimeAdvanceRequestBatch;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 import org.apache.commons.lang3.Validate;
@@ -101,6 +105,42 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private final Map<String, VehicleRegistration> vehicleRegistrations = new HashMap<>();
 
+    /**
+     * Collects the time advance requests of all events added while processing an interaction or
+     * a time advance grant, which are then sent to the RTI as one batch.
+     */
+    private final TimeAdvanceRequestBatch timeAdvanceRequests = new TimeAdvanceRequestBatch(0, FederatePriority.LOWEST);
+
+    /**
+     * Passes each received interaction to the matching {@code process} method.
+     */
+    private final InteractionDispatcher interactionDispatcher = new InteractionDispatcher()
+            .register(RsuRegistration.class, this::process)
+            .register(ChargingStationRegistration.class, this::process)
+            .register(TrafficLightRegistration.class, this::process)
+            .register(VehicleRegistration.class, this::process)
+            .register(ScenarioVehicleRegistration.class, this::process)
+            .register(RoutelessVehicleRegistration.class, this::process)
+            .register(TmcRegistration.class, this::process)
+            .register(ServerRegistration.class, this::process)
+            .register(VehicleChargingDenial.class, this::process)
+            .register(ChargingStationUpdate.class, this::process)
+            .register(VehicleRouteRegistration.class, this::process)
+            .register(V2xMessageReception.class, this::process)
+            .register(V2xMessageReceptions.class, this::process)
+            .register(V2xFullMessageReception.class, this::process)
+            .register(EnvironmentSensorUpdates.class, this::process)
+            .register(TrafficDetectorUpdates.class, this::process)
+            .register(VehicleSeenTrafficSignsUpdate.class, this::process)
+            .register(SumoTraciResponse.class, this::process)
+            .register(V2xMessageAcknowledgement.class, this::process)
+            .register(TrafficLightUpdates.class, this::process)
+            .register(VehicleUpdates.class, this::process)
+            .register(VehicleBatteryUpdates.class, this::process)
+            .register(VehicleRoutesInitialization.class, this::process)
+            .register(VehicleTypesInitialization.class, this::process)
+            .register(ApplicationInteraction.class, this::process);
+
     /**
      * Constructor for {@link ApplicationAmbassador}.
      * This will load the configuration, initialize the {@link SimulationKernel},
@@ -233,6 +273,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     @Override
     protected void processTimeAdvanceGrant(final long time) throws InternalFederateException {
+        timeAdvanceRequests.begin();
         try {
             if (log.isDebugEnabled()) {
                 log.debug("processTimeAdvanceGrant({})", TIME.format(time));
@@ -244,8 +285,10 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 log.trace("scheduled events: {}", scheduled);
             }
         } catch (RuntimeException e) {
+            timeAdvanceRequests.discard();
             throw new InternalFederateException(ErrorRegister.AMBASSADOR_ErrorAdvanceTime.toString(), e);
         }
+        requestCollectedTimeAdvances();
     }
 
     @Override
@@ -257,61 +300,25 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                     TIME.format(SimulationKernel.SimulationKernel.getCurrentSimulationTime())
             );
         }
+        timeAdvanceRequests.begin();
         try {
-            if (interaction.getTypeId().startsWith(RsuRegistration.TYPE_ID)) {
-                this.process((RsuRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(ChargingStationRegistration.TYPE_ID)) {
-                this.process((ChargingStationRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(TrafficLightRegistration.TYPE_ID)) {
-                this.process((TrafficLightRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleRegistration.TYPE_ID)) {
-                this.process((VehicleRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(ScenarioVehicleRegistration.TYPE_ID)) {
-                this.process((ScenarioVehicleRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(RoutelessVehicleRegistration.TYPE_ID)) {
-                this.process((RoutelessVehicleRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(TmcRegistration.TYPE_ID)) {
-                this.process((TmcRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(ServerRegistration.TYPE_ID)) {
-                this.process((ServerRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleChargingDenial.TYPE_ID)) {
-                this.process((VehicleChargingDenial) interaction);
-            } else if (interaction.getTypeId().startsWith(ChargingStationUpdate.TYPE_ID)) {
-                this.process((ChargingStationUpdate) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleRouteRegistration.TYPE_ID)) {
-                this.process((VehicleRouteRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(V2xMessageReception.TYPE_ID)) {
-                this.process((V2xMessageReception) interaction);
-            } else if (interaction.getTypeId().startsWith(V2xFullMessageReception.TYPE_ID)) {
-                this.process((V2xFullMessageReception) interaction);
-            } else if (interaction.getTypeId().startsWith(EnvironmentSensorUpdates.TYPE_ID)) {
-                this.process((EnvironmentSensorUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(TrafficDetectorUpdates.TYPE_ID)) {
-                this.process((TrafficDetectorUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleSeenTrafficSignsUpdate.TYPE_ID)) {
-                this.process((VehicleSeenTrafficSignsUpdate) interaction);
-            } else if (interaction.getTypeId().startsWith(SumoTraciResponse.TYPE_ID)) {
-                this.process((SumoTraciResponse) interaction);
-            } else if (interaction.getTypeId().startsWith(V2xMessageAcknowledgement.TYPE_ID)) {
-                this.process((V2xMessageAcknowledgement) interaction);
-            } else if (interaction.getTypeId().startsWith(TrafficLightUpdates.TYPE_ID)) {
-                this.process((TrafficLightUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleUpdates.TYPE_ID)) {
-                this.process((VehicleUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleBatteryUpdates.TYPE_ID)) {
-                this.process((VehicleBatteryUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleRoutesInitialization.TYPE_ID)) {
-                this.process((VehicleRoutesInitialization) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleTypesInitialization.TYPE_ID)) {
-                this.process((VehicleTypesInitialization) interaction);
-            } else if (interaction.getTypeId().startsWith(ApplicationInteraction.TYPE_ID)) {
-                this.process((ApplicationInteraction) interaction);
-            } else {
+            if (!interactionDispatcher.dispatch(interaction)) {
                 log.warn("Unknown interaction received with time {} : {}", TIME.format(interaction.getTime()), interaction.getTypeId());
             }
         } catch (RuntimeException e) {
+            timeAdvanceRequests.discard();
             throw new InternalFederateException(ErrorRegister.AMBASSADOR_UncaughtExceptionInProcessInteraction.toString(), e);
         }
+        requestCollectedTimeAdvances();
+    }
+
+    private void requestCollectedTimeAdvances() throws InternalFederateException {
+        try {
+            timeAdvanceRequests.end(rti);
+        } catch (IllegalValueException ex) {
+            log.error(ErrorRegister.AMBASSADOR_RequestingAdvanceTime.toString(), ex);
+            throw new InternalFederateException(ErrorRegister.AMBASSADOR_RequestingAdvanceTime.toString(), ex);
+        }
     }
 
     private void process(final VehicleBatteryUpdates vehicleBatteryUpdates) {
@@ -489,6 +496,12 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         addEvent(event);
     }
 
+    private void process(final V2xMessageReceptions v2xMessageReceptions) {
+        for (V2xMessageReception v2xMessageReception : v2xMessageReceptions.getReceptions()) {
+            process(v2xMessageReception);
+        }
+    }
+
     private void process(final V2xFullMessageReception v2xFullMessageReception) {
         final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(v2xFullMessageReception.getReceiverName());
         // we don't simulate vehicles without an application
@@ -711,7 +724,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         }
 
         try {
-            rti.requestAdvanceTime(event.getTime());
+            timeAdvanceRequests.request(rti, event.getTime());
             if (log.isDebugEnabled()) {
                 log.debug("requestAdvanceTime({})", TIME.format(event.getTime()));
             }
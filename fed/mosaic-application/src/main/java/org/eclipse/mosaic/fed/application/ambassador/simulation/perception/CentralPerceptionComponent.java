@@ -18,6 +18,7 @@ package org.eclipse.mosaic.fed.application.ambassador.simulation.perception;
 import org.eclipse.mosaic.fed.application.ambassador.SimulationKernel;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.TrafficObjectIndex;
 import org.eclipse.mosaic.fed.application.config.CPerception;
+import org.eclipse.mosaic.interactions.traffic.LatestVehicleData;
 import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.database.Database;
@@ -27,7 +28,6 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.routing.Routing;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
-import com.google.common.collect.Iterables;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,9 +52,10 @@ public class CentralPerceptionComponent {
     private TrafficObjectIndex trafficObjectIndex;
 
     /**
-     * The last {@link VehicleUpdates} interaction which is used to update the vehicleIndex.
+     * The latest data of all vehicles added or updated since the last update of the vehicleIndex. As {@link VehicleUpdates}
+     * may omit unchanged vehicles, the updates of all interactions received in between are collected here.
      */
-    private VehicleUpdates latestVehicleUpdates;
+    private final LatestVehicleData pendingVehicleUpdates = new LatestVehicleData();
 
     /**
      * The last {@link TrafficLightUpdates} interaction which is used to update the vehicleIndex.
@@ -64,12 +65,12 @@ public class CentralPerceptionComponent {
     /**
      * If set to true, the traffic light index will be updated when {@code updateSpatialIndices} is called.
      */
-    private boolean updateVehicleIndex = false;
+    private volatile boolean updateVehicleIndex = false;
 
     /**
      * If set to true, the traffic light index will be updated when {@code updateSpatialIndices} is called.
      */
-    private boolean updateTrafficLightIndex = false;
+    private volatile boolean updateTrafficLightIndex = false;
 
     public CentralPerceptionComponent(CPerception perceptionConfiguration) {
         this.configuration = Validate.notNull(perceptionConfiguration, "perceptionConfiguration must not be null");
@@ -122,17 +123,22 @@ public class CentralPerceptionComponent {
      * If the positions of vehicles have not changed since last call of this method, nothing is done.
      */
     public void updateSpatialIndices() {
-        if (updateVehicleIndex) {
-            // do not update index until next VehicleUpdates interaction is received
-            updateVehicleIndex = false;
-            // using Iterables.concat allows iterating over both lists subsequently without creating a new list
-            trafficObjectIndex.updateVehicles(Iterables.concat(latestVehicleUpdates.getAdded(), latestVehicleUpdates.getUpdated()));
-        }
-        if (updateTrafficLightIndex) {
-            // do not update index until next TrafficLightUpdates interaction is received
-            updateVehicleIndex = false;
-            // using Iterables.concat allows iterating over both lists subsequently without creating a new list
-            trafficObjectIndex.updateTrafficLights(latestTrafficLightUpdates.getUpdated());
+        // perception modules may call this method concurrently, the lock is only taken if an update is pending
+        if (updateVehicleIndex || updateTrafficLightIndex) {
+            synchronized (this) {
+                if (updateVehicleIndex) {
+                    trafficObjectIndex.updateVehicles(pendingVehicleUpdates.getAll());
+                    pendingVehicleUpdates.clear();
+                    // do not update index until next VehicleUpdates interaction is received
+                    updateVehicleIndex = false;
+                }
+                if (updateTrafficLightIndex) {
+                    // using Iterables.concat allows iterating over both lists subsequently without creating a new list
+                    trafficObjectIndex.updateTrafficLights(latestTrafficLightUpdates.getUpdated());
+                    // do not update index until next TrafficLightUpdates interaction is received
+                    updateTrafficLightIndex = false;
+                }
+            }
         }
     }
 
@@ -152,8 +158,8 @@ public class CentralPerceptionComponent {
      *
      * @param vehicleUpdates the interaction holding all vehicle updates
      */
-    public void updateVehicles(VehicleUpdates vehicleUpdates) {
-        latestVehicleUpdates = vehicleUpdates;
+    public synchronized void updateVehicles(VehicleUpdates vehicleUpdates) {
+        pendingVehicleUpdates.update(vehicleUpdates);
         updateVehicleIndex = true;
         // we need to remove arrived vehicles in every simulation step, otherwise we could have dead vehicles in the index
         if (trafficObjectIndex.getNumberOfVehicles() > 0) {
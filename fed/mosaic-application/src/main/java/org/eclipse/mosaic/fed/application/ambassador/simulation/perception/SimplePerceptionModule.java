@@ -26,6 +26,7 @@ import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.math.MathUtils;
 import org.eclipse.mosaic.lib.math.Vector3d;
 import org.eclipse.mosaic.lib.math.VectorUtils;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.spatial.BoundingBox;
 import org.eclipse.mosaic.lib.spatial.Edge;
 
@@ -39,10 +40,23 @@ import java.util.List;
 
 /**
  * A perception module which detects all vehicles within the defined field of view.
+ * <p>
+ * The module can be queried by several threads concurrently, e.g., if multiple applications of the same unit are
+ * executed in parallel. Therefore, each query creates its own immutable {@link SimplePerceptionModel}, and
+ * the result buffer for vehicles in range is held per thread.
+ * </p>
  */
 public class SimplePerceptionModule extends AbstractPerceptionModule {
 
-    private SimplePerceptionModel perceptionModel;
+    /**
+     * Reused for each query of the current thread, as the vehicles in range are copied before being passed to the application.
+     */
+    private static final ThreadLocal<List<VehicleObject>> VEHICLES_IN_RANGE = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * The perception model of the latest query, used to look up surrounding walls.
+     */
+    private volatile SimplePerceptionModel perceptionModel;
 
     public SimplePerceptionModule(PerceptionModuleOwner owner, Database database, Logger log) {
         super(owner, database, log);
@@ -51,71 +65,98 @@ public class SimplePerceptionModule extends AbstractPerceptionModule {
     @Override
     public void enable(SimplePerceptionConfiguration configuration) {
         super.enable(configuration);
-        perceptionModel = new SimplePerceptionModel(owner.getId(), this.configuration);
+        Validate.isTrue(this.configuration.getViewingAngle() >= 0 && this.configuration.getViewingAngle() <= 360,
+                "Only viewing angles from 0 to 360 degrees are supported.");
+        perceptionModel = null;
+    }
+
+    /**
+     * Creates the perception model for the current position and heading of the owner.
+     *
+     * @return the perception model, or {@code null} if the module is not enabled or the owner has no position yet
+     */
+    private SimplePerceptionModel createPerceptionModel() {
+        final SimplePerceptionConfiguration configuration = this.configuration;
+        final VehicleData vehicleData = owner.getVehicleData();
+        if (configuration == null || vehicleData == null) {
+            return null;
+        }
+        SimplePerceptionModel model = new SimplePerceptionModel(
+                owner.getId(), configuration, vehicleData.getProjectedPosition(), vehicleData.getHeading()
+        );
+        perceptionModel = model;
+        // note, the perception index is updated internally only if vehicles have moved since the last call
+        SimulationKernel.SimulationKernel.getCentralPerceptionComponent().updateSpatialIndices();
+        return model;
     }
 
     @Override
     List<VehicleObject> getVehiclesInRange() {
-        if (perceptionModel == null || owner.getVehicleData() == null) {
+        final SimplePerceptionModel model = createPerceptionModel();
+        if (model == null) {
             log.warn("No perception model initialized.");
             return Lists.newArrayList();
         }
-        perceptionModel.updateOrigin(owner.getVehicleData().getProjectedPosition(), owner.getVehicleData().getHeading());
-        // note, the perception index is updated internally only if vehicles have moved since the last call
-        SimulationKernel.SimulationKernel.getCentralPerceptionComponent().updateSpatialIndices();
         // request all vehicles within the area of the field of view
-        return SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
+        final List<VehicleObject> vehiclesInRange = VEHICLES_IN_RANGE.get();
+        vehiclesInRange.clear();
+        SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
                 .getTrafficObjectIndex()
-                .getVehiclesInRange(perceptionModel);
+                .getVehiclesInRange(model, vehiclesInRange);
+        return vehiclesInRange;
     }
 
     @Override
     public List<TrafficLightObject> getTrafficLightsInRange() {
-        if (perceptionModel == null || owner.getVehicleData() == null) {
+        final SimplePerceptionModel model = createPerceptionModel();
+        if (model == null) {
             log.warn("No perception model initialized.");
             return Lists.newArrayList();
         }
-        perceptionModel.updateOrigin(owner.getVehicleData().getProjectedPosition(), owner.getVehicleData().getHeading());
-        // note, the perception index is updated internally only if vehicles have moved since the last call
-        SimulationKernel.SimulationKernel.getCentralPerceptionComponent().updateSpatialIndices();
-        // request all vehicles within the area of the field of view
+        // request all traffic lights within the area of the field of view
         return SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
                 .getTrafficObjectIndex()
-                .getTrafficLightsInRange(perceptionModel);
+                .getTrafficLightsInRange(model);
 
     }
 
     @Override
     public List<SpatialObject> getObjectsInRange() {
-        if (perceptionModel == null || owner.getVehicleData() == null) {
+        final SimplePerceptionModel model = createPerceptionModel();
+        if (model == null) {
             log.warn("No perception model initialized.");
             return Lists.newArrayList();
         }
-        perceptionModel.updateOrigin(owner.getVehicleData().getProjectedPosition(), owner.getVehicleData().getHeading());
-        SimulationKernel.SimulationKernel.getCentralPerceptionComponent().updateSpatialIndices();
         List<SpatialObject> objectsInRange = new ArrayList<>();
-        objectsInRange.addAll(SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
+        SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
                 .getTrafficObjectIndex()
-                .getVehiclesInRange(perceptionModel));
+                .getVehiclesInRange(model, objectsInRange);
         objectsInRange.addAll(SimulationKernel.SimulationKernel.getCentralPerceptionComponent()
                 .getTrafficObjectIndex()
-                .getTrafficLightsInRange(perceptionModel));
+                .getTrafficLightsInRange(model));
         return objectsInRange;
     }
 
     @Override
     public Collection<Edge<Vector3d>> getSurroundingWalls() {
-        return SimulationKernel.SimulationKernel.getCentralPerceptionComponent().getTrafficObjectIndex().getSurroundingWalls(perceptionModel);
+        SimplePerceptionModel model = perceptionModel;
+        if (model == null) {
+            model = createPerceptionModel();
+        }
+        return SimulationKernel.SimulationKernel.getCentralPerceptionComponent().getTrafficObjectIndex().getSurroundingWalls(model);
     }
 
     /**
      * Checks whether the pre-selection of vehicles actually fall in the viewing range of the
      * ego vehicle. Note: We use ego-vehicle position as origin.
+     * The model is immutable after creation and can therefore be used by several threads concurrently.
      */
     private static class SimplePerceptionModel implements PerceptionModel {
 
         private final String ownerId;
-        private final SimplePerceptionConfiguration configuration;
+        private final double viewingRange;
+        private final boolean fullCircle;
+        private final boolean narrowAngle;
 
         private final Vector3d origin = new Vector3d();
         private final Vector3d directionVector = new Vector3d();
@@ -127,28 +168,17 @@ public class SimplePerceptionModule extends AbstractPerceptionModule {
          */
         private final BoundingBox sightAreaBoundingBox = new BoundingBox();
 
-        /**
-         * Vector object used for temporary calculations, to avoid unnecessary object allocations.
-         */
-        private final Vector3d tmpVector1 = new Vector3d();
-
-        /**
-         * Vector object used for temporary calculations, to avoid unnecessary object allocations.
-         */
-        private final Vector3d tmpVector2 = new Vector3d();
-
-        SimplePerceptionModel(String ownerId, SimplePerceptionConfiguration configuration) {
-            Validate.isTrue(configuration.getViewingAngle() >= 0 && configuration.getViewingAngle() <= 360,
-                    "Only viewing angles from 0 to 360 degrees are supported.");
-
+        SimplePerceptionModel(String ownerId, SimplePerceptionConfiguration configuration, CartesianPoint origin, double heading) {
             this.ownerId = ownerId;
-            this.configuration = configuration;
-        }
+            this.viewingRange = configuration.getViewingRange();
+            // for 360 degree viewing angle field-of-view check is obsolete
+            this.fullCircle = MathUtils.isFuzzyEqual(configuration.getViewingAngle(), 360d);
+            // for < 180 degree viewing angle we use left and right vector only
+            this.narrowAngle = configuration.getViewingAngle() < 180d;
 
-        private void updateOrigin(CartesianPoint origin, double heading) {
             origin.toVector3d(this.origin);
-            calculateSightBoundingVectors(heading);
-            calculateMinimumBoundingRectangle(heading);
+            calculateSightBoundingVectors(heading, configuration.getViewingAngle());
+            calculateMinimumBoundingRectangle(heading, configuration.getViewingAngle());
         }
 
         @Override
@@ -161,34 +191,40 @@ public class SimplePerceptionModule extends AbstractPerceptionModule {
             if (other.getId().equals(this.ownerId)) { // cannot see itself
                 return false;
             }
-            synchronized (tmpVector1) {
-                // writes position of other to tmpVector1 and subtract origin to create a relative vector pointing to the other object
-                other.getProjectedPosition().toVector3d(tmpVector1).subtract(origin);
-                // we use tmpVector2 as origin from the viewpoint of this object
-                tmpVector2.set(0, 0, 0);
+            // relative vector pointing from origin to the other object
+            final double x = other.x - origin.x;
+            final double y = other.y - origin.y;
+            final double z = other.z - origin.z;
 
-                if (tmpVector1.magnitude() > configuration.getViewingRange()) { // other vehicle is NOT in range
-                    return false;
-                }
-                if (MathUtils.isFuzzyEqual(configuration.getViewingAngle(), 360d)) { // for 360 degree viewing angle field-of-view check is obsolete
-                    return true;
-                } else if (configuration.getViewingAngle() < 180d) { // for < 180 degree viewing angle we use left and right vector
-                    return isBetweenVectors(tmpVector1, tmpVector2, leftBoundVector, rightBoundVector)
-                            || liesOnVector(tmpVector1, leftBoundVector)
-                            || liesOnVector(tmpVector1, rightBoundVector);
-                } else { // for >= 180 degree do two checks: 1st between direction vector and right or 2nd between direction vector and left
-                    return isBetweenVectors(tmpVector1, tmpVector2, directionVector, rightBoundVector)
-                            || isBetweenVectors(tmpVector1, tmpVector2, leftBoundVector, directionVector)
-                            || liesOnVector(tmpVector1, leftBoundVector)
-                            || liesOnVector(tmpVector1, rightBoundVector)
-                            || liesOnVector(tmpVector1, directionVector);
-                }
+            if (x * x + y * y + z * z > viewingRange * viewingRange) { // other vehicle is NOT in range
+                return false;
             }
+            if (fullCircle) {
+                return true;
+            } else if (narrowAngle) {
+                return isBetweenVectors(x, z, leftBoundVector, rightBoundVector)
+                        || liesOnVector(x, z, leftBoundVector)
+                        || liesOnVector(x, z, rightBoundVector);
+            } else { // for >= 180 degree do two checks: 1st between direction vector and right or 2nd between direction vector and left
+                return isBetweenVectors(x, z, directionVector, rightBoundVector)
+                        || isBetweenVectors(x, z, leftBoundVector, directionVector)
+                        || liesOnVector(x, z, leftBoundVector)
+                        || liesOnVector(x, z, rightBoundVector)
+                        || liesOnVector(x, z, directionVector);
+            }
+        }
+
+        private static boolean isBetweenVectors(double x, double z, Vector3d leftVector, Vector3d rightVector) {
+            return isLeftOfLine(x, z, rightVector) // is left of right edge
+                    && !isLeftOfLine(x, z, leftVector); // is right of left vector
         }
 
-        private boolean isBetweenVectors(Vector3d pointToEvaluate, Vector3d linePoint, Vector3d leftVector, Vector3d rightVector) {
-            return VectorUtils.isLeftOfLine(pointToEvaluate, linePoint, rightVector) // is left of right edge
-                    && !VectorUtils.isLeftOfLine(pointToEvaluate, linePoint, leftVector); // is right of left vector
+        /**
+         * Checks if the relative point lies left of the line through the origin with the given direction,
+         * equivalent to {@link VectorUtils#isLeftOfLine(Vector3d, Vector3d, Vector3d)} on the XZ plane.
+         */
+        private static boolean isLeftOfLine(double x, double z, Vector3d lineDirection) {
+            return lineDirection.z * x - lineDirection.x * z > 0;
         }
 
         /**
@@ -198,62 +234,60 @@ public class SimplePerceptionModule extends AbstractPerceptionModule {
          * we additionally check if the directions match.
          * Note: This method only works, since we know that we work around the origin.
          *
-         * @param pointToEvaluate point to be evaluated
-         * @param line            check point against this line
+         * @param x    x-coordinate of the point to be evaluated
+         * @param z    z-coordinate of the point to be evaluated
+         * @param line check point against this line
          * @return {@code true} if point lies on line, otherwise {@code false}
          */
-        private boolean liesOnVector(Vector3d pointToEvaluate, Vector3d line) {
+        private static boolean liesOnVector(double x, double z, Vector3d line) {
             // first check if the magnitude of the cross product is equal to 0
-            double magCross = pointToEvaluate.z * line.x - pointToEvaluate.x * line.z;
+            double magCross = z * line.x - x * line.z;
             if (!MathUtils.isFuzzyEqual(magCross, 0)) {
                 return false;
             }
             // check if point vector is pointing in the right direction
             if (Math.abs(line.z) >= Math.abs(line.x)) {
-                return line.z > 0 ? pointToEvaluate.z > 0 : pointToEvaluate.z <= 0;
+                return line.z > 0 ? z > 0 : z <= 0;
             } else {
-                return line.x > 0 ? pointToEvaluate.x > 0 : pointToEvaluate.x <= 0;
+                return line.x > 0 ? x > 0 : x <= 0;
             }
         }
 
         /**
          * Calculates the two unit vectors circumscribing the circular sector of the viewing field.
          */
-        private void calculateSightBoundingVectors(double heading) {
-            synchronized (tmpVector1) {
-                // getting the direction vector of the heading from origin (result is written into direction)
-                VectorUtils.getDirectionVectorFromHeading(heading, directionVector);
-                double viewingAngleRadHalf = toRadians(configuration.getViewingAngle()) / 2;
-                // scale vector by range for minimum bounding rectangle
-                directionVector.multiply(configuration.getViewingRange());
-                // rotate the direction vector to the right
-                rightBoundVector.set(directionVector).rotate(-viewingAngleRadHalf, VectorUtils.UP);
-                // rotate the direction vector to the left
-                leftBoundVector.set(directionVector).rotate(viewingAngleRadHalf, VectorUtils.UP);
-            }
+        private void calculateSightBoundingVectors(double heading, double viewingAngle) {
+            // getting the direction vector of the heading from origin (result is written into direction)
+            VectorUtils.getDirectionVectorFromHeading(heading, directionVector);
+            double viewingAngleRadHalf = toRadians(viewingAngle) / 2;
+            // scale vector by range for minimum bounding rectangle
+            directionVector.multiply(viewingRange);
+            // rotate the direction vector to the right
+            rightBoundVector.set(directionVector).rotate(-viewingAngleRadHalf, VectorUtils.UP);
+            // rotate the direction vector to the left
+            leftBoundVector.set(directionVector).rotate(viewingAngleRadHalf, VectorUtils.UP);
         }
 
-        private void calculateMinimumBoundingRectangle(double heading) {
-            synchronized (tmpVector1) {
-                double headingRad = toRadians(heading);
-                double halfViewingAngleRad = toRadians(configuration.getViewingAngle()) / 2;
-                sightAreaBoundingBox.clear();
-                // add origin, end of leftbound and end of rightbound vector as possible extremes of the bounding rectangle
-                sightAreaBoundingBox.add(origin, tmpVector1.set(origin).add(leftBoundVector), tmpVector2.set(origin).add(rightBoundVector));
+        private void calculateMinimumBoundingRectangle(double heading, double viewingAngle) {
+            final Vector3d tmpVector1 = new Vector3d();
+            final Vector3d tmpVector2 = new Vector3d();
+            double headingRad = toRadians(heading);
+            double halfViewingAngleRad = toRadians(viewingAngle) / 2;
+            // add origin, end of leftbound and end of rightbound vector as possible extremes of the bounding rectangle
+            sightAreaBoundingBox.add(origin, tmpVector1.set(origin).add(leftBoundVector), tmpVector2.set(origin).add(rightBoundVector));
 
-                // check if the opening angle includes any of the following extremes in both directions on x- and z-axis
-                if (Math.abs(MathUtils.angleDif(headingRad, 0)) < halfViewingAngleRad) { // NORTH
-                    sightAreaBoundingBox.add(tmpVector1.set(origin.x, origin.y, origin.z - configuration.getViewingRange()));
-                }
-                if (Math.abs(MathUtils.angleDif(headingRad, Math.PI / 2)) < halfViewingAngleRad) { // EAST
-                    sightAreaBoundingBox.add(tmpVector1.set(origin.x + configuration.getViewingRange(), origin.y, origin.z));
-                }
-                if (Math.abs(MathUtils.angleDif(headingRad, Math.PI)) < halfViewingAngleRad) { // SOUTH
-                    sightAreaBoundingBox.add(tmpVector1.set(origin.x, origin.y, origin.z + configuration.getViewingRange()));
-                }
-                if (Math.abs(MathUtils.angleDif(headingRad, (3 * Math.PI) / 2.0)) < halfViewingAngleRad) { // WEST
-                    sightAreaBoundingBox.add(tmpVector1.set(origin.x - configuration.getViewingRange(), origin.y, origin.z));
-                }
+            // check if the opening angle includes any of the following extremes in both directions on x- and z-axis
+            if (Math.abs(MathUtils.angleDif(headingRad, 0)) < halfViewingAngleRad) { // NORTH
+                sightAreaBoundingBox.add(tmpVector1.set(origin.x, origin.y, origin.z - viewingRange));
+            }
+            if (Math.abs(MathUtils.angleDif(headingRad, Math.PI / 2)) < halfViewingAngleRad) { // EAST
+                sightAreaBoundingBox.add(tmpVector1.set(origin.x + viewingRange, origin.y, origin.z));
+            }
+            if (Math.abs(MathUtils.angleDif(headingRad, Math.PI)) < halfViewingAngleRad) { // SOUTH
+                sightAreaBoundingBox.add(tmpVector1.set(origin.x, origin.y, origin.z + viewingRange));
+            }
+            if (Math.abs(MathUtils.angleDif(headingRad, (3 * Math.PI) / 2.0)) < halfViewingAngleRad) { // WEST
+                sightAreaBoundingBox.add(tmpVector1.set(origin.x - viewingRange, origin.y, origin.z));
             }
         }
     }
@@ -29,7 +29,6 @@ import java.util.stream.Collectors;
 
 public class BoundingBoxOcclusion implements PerceptionModifier {
 
-    private final Vector3d intersectionResult = new Vector3d();
     /**
      * This defines how many equidistant points shall be evaluated per edge of a vehicle.
      * Note generally for the front and rear edge this will result in a higher resolution compared to the sides of the vehicle.
@@ -84,6 +83,8 @@ public class BoundingBoxOcclusion implements PerceptionModifier {
                 .filter(object -> !object.getId().equals(owner.getId()))
                 .collect(Collectors.toList());
         Vector3d egoPosition = owner.getVehicleData().getProjectedPosition().toVector3d();
+        // the scratch vector is held per call, as modifiers may be applied by several threads concurrently
+        Vector3d intersectionResult = new Vector3d();
         for (T objectToEvaluate : spatialObjects) {
             if (objectToEvaluate instanceof TrafficLightObject) { // Traffic Lights are treated to not be occluded
                 newObjects.add(objectToEvaluate);
@@ -93,7 +94,7 @@ public class BoundingBoxOcclusion implements PerceptionModifier {
             final int requiredVisiblePoints = pointsToEvaluate.size() == 1 ? 1 : detectionThreshold;
             int numberOfPointsVisible = 0;
             for (Vector3d point : pointsToEvaluate) {
-                boolean pointVisible = isVisible(egoPosition, point, objectToEvaluate.getId(), occludingObjects);
+                boolean pointVisible = isVisible(egoPosition, point, objectToEvaluate.getId(), occludingObjects, intersectionResult);
                 if (pointVisible) { // increment visible counter
                     numberOfPointsVisible++;
                 }
@@ -114,9 +115,11 @@ public class BoundingBoxOcclusion implements PerceptionModifier {
      * @param pointToEvaluate  the point that should be checked for occlusion
      * @param objectId         id that the point belongs to (required for points not to be occluded by the same vehicle)
      * @param occludingObjects all objects that potentially occlude the vehicle
+     * @param intersectionResult vector used to store intersection points temporarily
      * @return {@code true} if the point is visible, else {@code false}
      */
-    private <T extends SpatialObject> boolean isVisible(Vector3d egoPosition, Vector3d pointToEvaluate, String objectId, List<T> occludingObjects) {
+    private <T extends SpatialObject> boolean isVisible(Vector3d egoPosition, Vector3d pointToEvaluate, String objectId, List<T> occludingObjects,
+                                                     Vector3d intersectionResult) {
         for (T occludingObject : occludingObjects) {
             if (occludingObject.getId().equals(objectId)) {
                 continue; // cannot be occluded by itself
@@ -18,23 +18,68 @@ package org.eclipse.mosaic.fed.application.ambassador.simulation.perception.erro
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.PerceptionModuleOwner;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.SpatialObject;
 import org.eclipse.mosaic.lib.math.Vector3d;
-import org.eclipse.mosaic.lib.math.VectorUtils;
 import org.eclipse.mosaic.lib.spatial.Edge;
+import org.eclipse.mosaic.lib.spatial.EdgeGrid;
+import org.eclipse.mosaic.lib.util.gson.UnitFieldAdapter;
+
+import com.google.gson.annotations.JsonAdapter;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 
 /**
  * A simple perception modifier which removes all vehicles behind walls.
  * A list of walls in the vicinity of the ego vehicle is provided by the
  * {@link org.eclipse.mosaic.fed.application.ambassador.simulation.perception.SimplePerceptionModule SimplePerceptionModule}.
  * The check for hidden vehicles is done by finding intersection of vectors between
- * ego and all other vehicles and all walls in its vicinity.
+ * ego and all other vehicles and the walls in its vicinity. To avoid testing each vector against
+ * all walls, the walls are put into an {@link EdgeGrid}, which only tests the walls in the cells crossed by the vector.
+ * The grid is cached per owner and reused as long as the owner has not moved further than a configurable distance
+ * and has not changed its heading.
  */
 public class WallOcclusion implements PerceptionModifier {
 
-    private final Vector3d intersectionResult = new Vector3d();
+    /**
+     * The cell size of the grid holding the surrounding walls of an owner in meters.
+     */
+    private final static double CELL_SIZE = 20;
+
+    /**
+     * The distance an owner may move before its surrounding walls are collected again. Larger values
+     * save work but may miss walls at the border of the perception range. If set to 0, the walls
+     * are only reused if the owner has not moved at all. [m]
+     */
+    @JsonAdapter(UnitFieldAdapter.DistanceMeters.class)
+    private double cacheDistance = 0;
+
+    private final transient Map<PerceptionModuleOwner, CachedWalls> cachedWalls = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a new {@link WallOcclusion} modifier, which reuses the walls of the previous evaluation
+     * only if the owner has not moved in between.
+     */
+    public WallOcclusion() {
+        // uses default cache distance, which can be overridden by the configuration
+    }
+
+    /**
+     * Creates a new {@link WallOcclusion} modifier.
+     *
+     * @param cacheDistance the distance in meters an owner may move before its surrounding walls are
+     *                      collected again. Larger values save work but may miss walls at the border
+     *                      of the perception range.
+     */
+    public WallOcclusion(double cacheDistance) {
+        if (cacheDistance < 0) {
+            throw new IllegalArgumentException("Cache distance must not be negative");
+        }
+        this.cacheDistance = cacheDistance;
+    }
 
     @Override
     public <T extends SpatialObject> List<T> apply(PerceptionModuleOwner owner, List<T> spatialObjects) {
@@ -42,8 +87,9 @@ public class WallOcclusion implements PerceptionModifier {
             return spatialObjects;
         }
 
-        final Collection<Edge<Vector3d>> walls = owner.getPerceptionModule().getSurroundingWalls();
-        if (walls.isEmpty()) {
+        final Vector3d ownerPosition = owner.getVehicleData().getProjectedPosition().toVector3d();
+        final EdgeGrid<Vector3d> walls = getSurroundingWalls(owner, ownerPosition);
+        if (walls.size() == 0) {
             return spatialObjects;
         }
         final List<T> result = new ArrayList<>();
@@ -53,19 +99,8 @@ public class WallOcclusion implements PerceptionModifier {
             final int requiredVisiblePoints = (int) Math.ceil((double) pointsToEvaluate.size() / 2);
             int numberOfPointsVisible = 0;
             for (Vector3d point : pointsToEvaluate) {
-                boolean pointOccluded = false;
-                for (Edge<Vector3d> wall : walls) {
-                    // SpatialObjects with PointBoundingBoxes won't occlude anything, as they have no edges defined
-                    boolean isOccluded = VectorUtils.computeXZEdgeIntersectionPoint(
-                            owner.getVehicleData().getProjectedPosition().toVector3d(),
-                            point, wall.a, wall.b, intersectionResult
-                    );
-                    if (isOccluded) {
-                        pointOccluded = true;
-                        break;
-                    }
-                }
-                if (!pointOccluded) {
+                // SpatialObjects with PointBoundingBoxes won't occlude anything, as they have no edges defined
+                if (!walls.intersects(ownerPosition, point)) {
                     numberOfPointsVisible++;
                 }
                 if (numberOfPointsVisible == requiredVisiblePoints) {
@@ -77,4 +112,29 @@ public class WallOcclusion implements PerceptionModifier {
         return result;
     }
 
+    private EdgeGrid<Vector3d> getSurroundingWalls(PerceptionModuleOwner owner, Vector3d ownerPosition) {
+        final Double ownerHeading = owner.getVehicleData().getHeading();
+        final CachedWalls cached = cachedWalls.get(owner);
+        if (cached != null && Objects.equals(cached.heading, ownerHeading)
+                && cached.position.distanceSqrTo(ownerPosition) <= cacheDistance * cacheDistance) {
+            return cached.walls;
+        }
+        final Collection<Edge<Vector3d>> surroundingWalls = owner.getPerceptionModule().getSurroundingWalls();
+        final EdgeGrid<Vector3d> walls = new EdgeGrid<>(surroundingWalls, CELL_SIZE);
+        cachedWalls.put(owner, new CachedWalls(ownerPosition, ownerHeading, walls));
+        return walls;
+    }
+
+    private static class CachedWalls {
+
+        private final Vector3d position;
+        private final Double heading;
+        private final EdgeGrid<Vector3d> walls;
+
+        private CachedWalls(Vector3d position, Double heading, EdgeGrid<Vector3d> walls) {
+            this.position = position;
+            this.heading = heading;
+            this.walls = walls;
+        }
+    }
 }
@@ -90,6 +90,17 @@ public class TrafficObjectIndex {
         }
     }
 
+    /**
+     * Queries the {@link TrafficObjectIndex} and adds all vehicles inside the {@link PerceptionModel} to the given collection.
+     */
+    public void getVehiclesInRange(PerceptionModel perceptionModel, Collection<? super VehicleObject> result) {
+        if (vehicleIndexProviderConfigured()) {
+            vehicleIndex.getVehiclesInRange(perceptionModel, result);
+        } else {
+            log.debug("No Vehicle Index Provider configured. No Vehicles will be in range.");
+        }
+    }
+
     /**
      * Registers a vehicle and stores its corresponding vehicle type by name.
      * This is required to extract vehicle dimensions.
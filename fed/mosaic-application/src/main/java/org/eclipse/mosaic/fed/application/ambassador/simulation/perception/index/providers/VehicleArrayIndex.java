@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers;
+
+import org.eclipse.mosaic.fed.application.ambassador.SimulationKernel;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.PerceptionModel;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.PerceptionModuleOwner;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.SimplePerceptionConfiguration;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.SimplePerceptionModule;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.VehicleObject;
+import org.eclipse.mosaic.fed.application.app.api.perception.PerceptionModule;
+import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+import org.eclipse.mosaic.lib.spatial.BoundingBox;
+
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Vehicle index which stores the positions of all vehicles in primitive arrays, sorted by the cell of a
+ * fixed grid the vehicles are located in. Each vehicle is assigned to a dense slot, which allows
+ * adding and removing vehicles without rebuilding any object structure.
+ * <p>
+ * The sorted arrays are rebuilt on each index update using a counting sort, reusing all arrays, so that neither
+ * index updates nor range queries allocate memory once the index has reached its size. Range queries
+ * scan the cells within the bounding box of the {@link PerceptionModel}, evaluate the bounding box on the primitive
+ * coordinates, and check the remaining vehicles with {@link PerceptionModel#isInRange}.
+ * </p>
+ */
+public class VehicleArrayIndex extends VehicleIndex {
+
+    private final double cellWidth;
+
+    private final double cellHeight;
+
+    private double minX;
+    private double maxX;
+    private double minZ;
+    private double maxZ;
+    private int colAmount;
+    private int rowAmount;
+
+    /**
+     * Maps the id of each vehicle to its slot in {@link #slotVehicles}.
+     */
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    /**
+     * All indexed vehicles, stored in dense slots from 0 to {@link #size} - 1.
+     */
+    private VehicleObject[] slotVehicles = new VehicleObject[64];
+
+    private int size = 0;
+
+    /**
+     * The cell of each slot, used temporarily during index updates.
+     */
+    private int[] slotCells = new int[64];
+
+    /**
+     * For each cell, the position of its first vehicle in the sorted arrays. The last entry holds the number of vehicles.
+     */
+    private int[] cellStart;
+
+    private VehicleObject[] sortedVehicles = new VehicleObject[64];
+    private double[] sortedX = new double[64];
+    private double[] sortedY = new double[64];
+    private double[] sortedZ = new double[64];
+
+    private boolean sorted = true;
+
+    /**
+     * Queries may be executed concurrently, while index updates are exclusive.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public VehicleArrayIndex(double cellWidth, double cellHeight) {
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+    }
+
+    /**
+     * Configures the grid for sorting vehicles by their position.
+     */
+    @Override
+    public void initialize() {
+        CartesianRectangle bounds = SimulationKernel.SimulationKernel.getCentralPerceptionComponent().getScenarioBounds();
+        BoundingBox boundingArea = new BoundingBox();
+        boundingArea.add(bounds.getA().toVector3d(), bounds.getB().toVector3d());
+        minX = boundingArea.min.x;
+        maxX = boundingArea.max.x;
+        minZ = boundingArea.min.z;
+        maxZ = boundingArea.max.z;
+        colAmount = Math.max(1, (int) Math.ceil((maxX - minX) / cellWidth));
+        rowAmount = Math.max(1, (int) Math.ceil((maxZ - minZ) / cellHeight));
+        if ((long) colAmount * rowAmount >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many grid cells, choose a larger cell size.");
+        }
+        cellStart = new int[colAmount * rowAmount + 1];
+    }
+
+    @Override
+    public List<VehicleObject> getVehiclesInRange(PerceptionModel perceptionModel) {
+        final List<VehicleObject> result = new ArrayList<>();
+        getVehiclesInRange(perceptionModel, result);
+        return result;
+    }
+
+    @Override
+    public void getVehiclesInRange(PerceptionModel perceptionModel, Collection<? super VehicleObject> result) {
+        lock.readLock().lock();
+        try {
+            if (!sorted) {
+                // vehicles have been added or removed without an index update
+                lock.readLock().unlock();
+                sortVehicles();
+                lock.readLock().lock();
+            }
+            final BoundingBox area = perceptionModel.getBoundingBox();
+            final double areaMinX = area.min.x;
+            final double areaMaxX = area.max.x;
+            final double areaMinY = area.min.y;
+            final double areaMaxY = area.max.y;
+            final double areaMinZ = area.min.z;
+            final double areaMaxZ = area.max.z;
+
+            final int minCol = toCol(Math.max(areaMinX, minX));
+            final int maxCol = toCol(Math.min(areaMaxX, maxX));
+            final int minRow = toRow(Math.max(areaMinZ, minZ));
+            final int maxRow = toRow(Math.min(areaMaxZ, maxZ));
+            for (int col = minCol; col <= maxCol; col++) {
+                // cells of the same column are stored consecutively, so each column is one continuous range
+                final int end = cellStart[col * rowAmount + maxRow + 1];
+                for (int i = cellStart[col * rowAmount + minRow]; i < end; i++) {
+                    final double x = sortedX[i];
+                    final double y = sortedY[i];
+                    final double z = sortedZ[i];
+                    if (x >= areaMinX && x <= areaMaxX && y >= areaMinY && y <= areaMaxY && z >= areaMinZ && z <= areaMaxZ
+                            && perceptionModel.isInRange(sortedVehicles[i])) {
+                        result.add(sortedVehicles[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    void onVehicleAdded(VehicleObject vehicleObject) {
+        lock.writeLock().lock();
+        try {
+            if (size == slotVehicles.length) {
+                grow(size * 2);
+            }
+            slots.put(vehicleObject.getId(), size);
+            slotVehicles[size++] = vehicleObject;
+            sorted = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    void onIndexUpdate() {
+        sortVehicles();
+    }
+
+    @Override
+    void onVehicleRemoved(VehicleObject vehicleObject) {
+        lock.writeLock().lock();
+        try {
+            final Integer slot = slots.remove(vehicleObject.getId());
+            if (slot == null) {
+                return;
+            }
+            // move the last vehicle into the free slot to keep all slots dense
+            final VehicleObject last = slotVehicles[--size];
+            slotVehicles[size] = null;
+            if (slot != size) {
+                slotVehicles[slot] = last;
+                slots.put(last.getId(), slot);
+            }
+            sorted = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sorts all vehicles by their cell using a counting sort, and copies their current positions into the sorted arrays.
+     */
+    private void sortVehicles() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(cellStart, 0);
+            for (int slot = 0; slot < size; slot++) {
+                final VehicleObject vehicle = slotVehicles[slot];
+                final int cell = toCol(vehicle.x) * rowAmount + toRow(vehicle.z);
+                slotCells[slot] = cell;
+                cellStart[cell + 1]++;
+            }
+            for (int cell = 1; cell < cellStart.length; cell++) {
+                cellStart[cell] += cellStart[cell - 1];
+            }
+            // use the start of the following cell as insertion cursor and restore the original starts afterwards
+            for (int slot = 0; slot < size; slot++) {
+                final VehicleObject vehicle = slotVehicles[slot];
+                final int i = cellStart[slotCells[slot]]++;
+                sortedVehicles[i] = vehicle;
+                sortedX[i] = vehicle.x;
+                sortedY[i] = vehicle.y;
+                sortedZ[i] = vehicle.z;
+            }
+            for (int cell = cellStart.length - 1; cell > 0; cell--) {
+                cellStart[cell] = cellStart[cell - 1];
+            }
+            cellStart[0] = 0;
+            Arrays.fill(sortedVehicles, size, sortedVehicles.length, null);
+            sorted = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void grow(int capacity) {
+        slotVehicles = Arrays.copyOf(slotVehicles, capacity);
+        slotCells = Arrays.copyOf(slotCells, capacity);
+        sortedVehicles = Arrays.copyOf(sortedVehicles, capacity);
+        sortedX = Arrays.copyOf(sortedX, capacity);
+        sortedY = Arrays.copyOf(sortedY, capacity);
+        sortedZ = Arrays.copyOf(sortedZ, capacity);
+    }
+
+    private int toCol(double x) {
+        // also looking at special case where vehicle is directly on the max borders
+        return x < minX ? 0 : x >= maxX ? colAmount - 1 : (int) ((x - minX) / cellWidth);
+    }
+
+    private int toRow(double z) {
+        return z < minZ ? 0 : z >= maxZ ? rowAmount - 1 : (int) ((z - minZ) / cellHeight);
+    }
+
+    @Override
+    public PerceptionModule<SimplePerceptionConfiguration> createPerceptionModule(PerceptionModuleOwner owner, Database database, Logger log) {
+        return new SimplePerceptionModule(owner, database, log);
+    }
+}
@@ -26,7 +26,9 @@ import org.eclipse.mosaic.fed.application.app.api.perception.PerceptionModule;
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.geo.CartesianRectangle;
 import org.eclipse.mosaic.lib.spatial.BoundingBox;
+import org.eclipse.mosaic.lib.spatial.ConcurrentGrid;
 import org.eclipse.mosaic.lib.spatial.Grid;
+import org.eclipse.mosaic.lib.spatial.SpatialGrid;
 
 import org.slf4j.Logger;
 
@@ -38,14 +40,29 @@ public class VehicleGrid extends VehicleIndex {
 
     private final double cellHeight;
 
+    private final boolean concurrent;
+
     /**
      * The Grid to be used for spatial search of {@link VehicleObject}s.
      */
-    private Grid<VehicleObject> vehicleGrid;
+    private SpatialGrid<VehicleObject> vehicleGrid;
 
     public VehicleGrid(double cellWidth, double cellHeight) {
+        this(cellWidth, cellHeight, false);
+    }
+
+    /**
+     * Creates a new grid based vehicle index.
+     *
+     * @param cellWidth  the width of a grid cell
+     * @param cellHeight the height of a grid cell
+     * @param concurrent if {@code true}, a {@link ConcurrentGrid} is used, which allows perception modules
+     *                   of many units to query vehicles in parallel without blocking each other
+     */
+    public VehicleGrid(double cellWidth, double cellHeight, boolean concurrent) {
         this.cellWidth = cellWidth;
         this.cellHeight = cellHeight;
+        this.concurrent = concurrent;
     }
 
     /**
@@ -56,7 +73,9 @@ public class VehicleGrid extends VehicleIndex {
         CartesianRectangle bounds = SimulationKernel.SimulationKernel.getCentralPerceptionComponent().getScenarioBounds();
         BoundingBox boundingArea = new BoundingBox();
         boundingArea.add(bounds.getA().toVector3d(), bounds.getB().toVector3d());
-        vehicleGrid = new Grid<>(new SpatialObjectAdapter<>(), cellWidth, cellHeight, boundingArea);
+        vehicleGrid = concurrent
+                ? new ConcurrentGrid<>(new SpatialObjectAdapter<>(), cellWidth, cellHeight, boundingArea)
+                : new Grid<>(new SpatialObjectAdapter<>(), cellWidth, cellHeight, boundingArea);
 
     }
 
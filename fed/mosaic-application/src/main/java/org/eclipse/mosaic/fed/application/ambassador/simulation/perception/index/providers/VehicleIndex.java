@@ -29,6 +29,7 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 
 import org.slf4j.Logger;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +92,17 @@ public abstract class VehicleIndex {
      */
     public abstract List<VehicleObject> getVehiclesInRange(PerceptionModel perceptionModel);
 
+    /**
+     * Queries the {@link TrafficObjectIndex} and adds all vehicles inside the {@link PerceptionModel} to the given collection.
+     * Indexes may override this method to avoid the allocation of a result list.
+     *
+     * @param perceptionModel the perception model defining the search range
+     * @param result          the collection to add all found vehicles to
+     */
+    public void getVehiclesInRange(PerceptionModel perceptionModel, Collection<? super VehicleObject> result) {
+        result.addAll(getVehiclesInRange(perceptionModel));
+    }
+
     /**
      * Abstract method to be implemented by vehicle indexes.
      * Shall include functionality to add a vehicle object to the specific index.
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers;
+
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.PerceptionModel;
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.spatial.Edge;
+import org.eclipse.mosaic.lib.spatial.EdgeGrid;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Wall index based on a uniform {@link EdgeGrid}, which is built once from all buildings of the database.
+ * In contrast to {@link WallTree}, only walls overlapping the bounding box of the perception model are returned.
+ */
+public class WallGrid extends WallIndex {
+
+    private final double cellSize;
+
+    private EdgeGrid<Vector3d> wallGrid;
+
+    public WallGrid(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    public void initialize() {
+        wallGrid = new EdgeGrid<>(getWallsOfBuildings(), cellSize);
+    }
+
+    @Override
+    public Collection<Edge<Vector3d>> getSurroundingWalls(PerceptionModel perceptionModel) {
+        return wallGrid.getEdgesInBoundingArea(perceptionModel.getBoundingBox(), new ArrayList<>());
+    }
+}
@@ -17,10 +17,14 @@ package org.eclipse.mosaic.fed.application.ambassador.simulation.perception.inde
 
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.PerceptionModel;
 import org.eclipse.mosaic.lib.database.Database;
+import org.eclipse.mosaic.lib.database.building.Building;
+import org.eclipse.mosaic.lib.database.building.Wall;
 import org.eclipse.mosaic.lib.math.Vector3d;
 import org.eclipse.mosaic.lib.spatial.Edge;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public abstract class WallIndex {
 
@@ -41,4 +45,20 @@ public abstract class WallIndex {
     protected Database getDatabase() {
         return database;
     }
+
+    /**
+     * Returns the walls of all buildings of the database as edges in cartesian space.
+     */
+    protected List<Edge<Vector3d>> getWallsOfBuildings() {
+        List<Edge<Vector3d>> walls = new ArrayList<>();
+        for (Building building : getDatabase().getBuildings()) {
+            for (Wall wall : building.getWalls()) {
+                walls.add(new Edge<>(
+                        wall.getFromCorner().getCartesianPosition().toVector3d(),
+                        wall.getToCorner().getCartesianPosition().toVector3d()
+                ));
+            }
+        }
+        return walls;
+    }
 }
@@ -16,24 +16,19 @@
 package org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers;
 
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.PerceptionModel;
-import org.eclipse.mosaic.lib.database.building.Building;
-import org.eclipse.mosaic.lib.database.building.Wall;
 import org.eclipse.mosaic.lib.math.Vector3d;
 import org.eclipse.mosaic.lib.spatial.Edge;
 import org.eclipse.mosaic.lib.spatial.KdTree;
 import org.eclipse.mosaic.lib.spatial.SpatialItemAdapter;
 import org.eclipse.mosaic.lib.spatial.SpatialTreeTraverser;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public class WallTree extends WallIndex {
 
     private final int bucketSize;
 
     private KdTree<Edge<Vector3d>> wallTree;
-    private SpatialTreeTraverser.InRadius<Edge<Vector3d>> wallTraverser;
 
     public WallTree(int bucketSize) {
         this.bucketSize = bucketSize;
@@ -41,23 +36,15 @@ public class WallTree extends WallIndex {
 
     @Override
     public void initialize() {
-        List<Edge<Vector3d>> walls = new ArrayList<>();
-        for (Building building : super.getDatabase().getBuildings()) {
-            for (Wall wall : building.getWalls()) {
-                walls.add(new Edge<>(
-                        wall.getFromCorner().getCartesianPosition().toVector3d(),
-                        wall.getToCorner().getCartesianPosition().toVector3d()
-                ));
-            }
-        }
-        wallTree = new KdTree<>(new SpatialItemAdapter.EdgeAdapter<>(), walls, bucketSize);
-        wallTraverser = new org.eclipse.mosaic.lib.database.spatial.Edge.InRadius<>();
+        wallTree = new KdTree<>(new SpatialItemAdapter.EdgeAdapter<>(), getWallsOfBuildings(), bucketSize);
     }
 
     @Override
     public Collection<Edge<Vector3d>> getSurroundingWalls(PerceptionModel perceptionModel) {
+        // the traverser holds the result, therefore a new one is required for each query to support concurrent callers
+        final SpatialTreeTraverser.InRadius<Edge<Vector3d>> wallTraverser = new org.eclipse.mosaic.lib.database.spatial.Edge.InRadius<>();
         wallTraverser.setup(perceptionModel.getBoundingBox().center,
-                perceptionModel.getBoundingBox().center.distanceSqrTo(perceptionModel.getBoundingBox().min)); // overestimating distance
+                perceptionModel.getBoundingBox().center.distanceTo(perceptionModel.getBoundingBox().min)); // overestimating distance
         wallTraverser.traverse(wallTree);
         return wallTraverser.getResult();
     }
@@ -18,9 +18,11 @@ package org.eclipse.mosaic.fed.application.config;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.SumoIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.TrafficLightIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.TrafficLightTree;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleArrayIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleGrid;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleTree;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.WallGrid;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.WallIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.WallTree;
 import org.eclipse.mosaic.lib.geo.GeoRectangle;
@@ -64,7 +66,8 @@ public class CPerception implements Serializable {
 
     /**
      * A base class for configuring the VehicleIndex implementation to use during perception. Based on a hidden "type" parameter,
-     * JSON deserialization chooses from Tree, Grid, or SUMO configuration. Possible type values are: "tree", "grid", "sumo"
+     * JSON deserialization chooses from Tree, Grid, Array, or SUMO configuration.
+     * Possible type values are: "tree", "grid", "array", "sumo"
      */
     @JsonAdapter(CVehicleIndexTypeAdapterFactory.class)
     public static abstract class CVehicleIndex implements Serializable {
@@ -104,13 +107,35 @@ public class CPerception implements Serializable {
             @JsonAdapter(UnitFieldAdapter.DistanceMeters.class)
             public double cellHeight = 200;
 
+            /**
+             * If {@code true}, the grid can be queried by many perception modules in parallel without locking.
+             */
+            public boolean concurrent = false;
+
             @Override
             public VehicleIndex create() {
-                return enabled ? new VehicleGrid(cellWidth, cellHeight) : null;
+                return enabled ? new VehicleGrid(cellWidth, cellHeight, concurrent) : null;
             }
 
         }
 
+        /**
+         * Class for configuring a {@link VehicleArrayIndex} index.
+         */
+        private static class Array extends CVehicleIndex {
+
+            @JsonAdapter(UnitFieldAdapter.DistanceMeters.class)
+            public double cellWidth = 200;
+
+            @JsonAdapter(UnitFieldAdapter.DistanceMeters.class)
+            public double cellHeight = 200;
+
+            @Override
+            public VehicleIndex create() {
+                return enabled ? new VehicleArrayIndex(cellWidth, cellHeight) : null;
+            }
+        }
+
         /**
          * Class for configuring a vehicle index based on SUMO context subscriptions.
          */
@@ -144,8 +169,17 @@ public class CPerception implements Serializable {
         public boolean enabled = false;
         public int bucketSize = 20;
 
+        /**
+         * If greater than zero, walls are indexed in a uniform grid with the given cell size
+         * in meters instead of a tree. Default: 0
+         */
+        public double cellSize = 0;
+
         public WallIndex create() {
-            return enabled ? new WallTree(bucketSize) : null;
+            if (!enabled) {
+                return null;
+            }
+            return cellSize > 0 ? new WallGrid(cellSize) : new WallTree(bucketSize);
         }
     }
 
@@ -166,12 +200,14 @@ public class CPerception implements Serializable {
                 switch (type.toLowerCase()) {
                     case "grid":
                         return CVehicleIndex.Grid.class;
+                    case "array":
+                        return CVehicleIndex.Array.class;
                     case "sumo":
                         return CVehicleIndex.Sumo.class;
                     case "tree":
                         return CVehicleIndex.Tree.class;
                     default:
-                        throw new IllegalArgumentException("Unknown index type " + type + ". Known types are: grid, tree, sumo.");
+                        throw new IllegalArgumentException("Unknown index type " + type + ". Known types are: grid, array, tree, sumo.");
                 }
             }
 
@@ -181,6 +217,8 @@ public class CPerception implements Serializable {
                     return "tree";
                 } else if (typeClass.equals(CVehicleIndex.Grid.class)) {
                     return "grid";
+                } else if (typeClass.equals(CVehicleIndex.Array.class)) {
+                    return "array";
                 } else if (typeClass.equals(CVehicleIndex.Sumo.class)) {
                     return "sumo";
                 }
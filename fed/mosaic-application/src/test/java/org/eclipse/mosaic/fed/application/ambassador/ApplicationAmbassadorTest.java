@@ -65,12 +65,21 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.util.junit.TestUtils;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.MosaicRtiAmbassador;
 import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederationManagement;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.Monitor;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+import org.eclipse.mosaic.rti.api.parameters.FederateDescriptor;
+import org.eclipse.mosaic.rti.api.parameters.InteractionDescriptor;
+import org.eclipse.mosaic.rti.interaction.TypeBasedInteractionManagement;
+import org.eclipse.mosaic.rti.time.ConservativeTimeManagement;
 
 import com.google.common.collect.Lists;
 import org.junit.After;
@@ -134,6 +143,12 @@ public class ApplicationAmbassadorTest {
                 ArgumentMatchers.anyLong(),
                 ArgumentMatchers.anyByte()
         );
+        Mockito.doCallRealMethod().when(rtiAmbassador).requestAdvanceTimes(
+                ArgumentMatchers.any(long[].class),
+                ArgumentMatchers.anyInt(),
+                ArgumentMatchers.anyLong(),
+                ArgumentMatchers.anyByte()
+        );
         Mockito.doAnswer((i) -> recentAdvanceTime).when(rtiAmbassador).getNextEventTimestamp();
 
         recentAdvanceTime = 0;
@@ -985,6 +1000,50 @@ public class ApplicationAmbassadorTest {
         return i;
     }
 
+    /**
+     * The ApplicationAmbassador is not time constrained and processes received interactions immediately.
+     * Still, it publishes interactions only at the times it requested, so the RTI provides a lower bound on
+     * the time stamp of interactions other federates may still receive, e.g. to execute the next step of the
+     * traffic simulator in advance.
+     */
+    @Test
+    public void getLowerBoundTimeStamp_applicationAmbassadorRequestsTimeAdvances() throws Exception {
+        // SETUP
+        final FederationManagement federationManagement = mock(FederationManagement.class);
+        final ComponentProvider componentProvider = mock(ComponentProvider.class);
+        when(componentProvider.getFederationManagement()).thenReturn(federationManagement);
+        when(componentProvider.getMonitor()).thenReturn(mock(Monitor.class));
+        final TypeBasedInteractionManagement interactionManagement = new TypeBasedInteractionManagement(componentProvider);
+        when(componentProvider.getInteractionManagement()).thenReturn(interactionManagement);
+        final ConservativeTimeManagement timeManagement =
+                new ConservativeTimeManagement(componentProvider, new MosaicComponentParameters().setEndTime(END_TIME));
+        when(componentProvider.getTimeManagement()).thenReturn(timeManagement);
+
+        final ApplicationAmbassador ambassador = createAmbassador();
+        ambassador.setFederateDescriptor(new FederateDescriptor("application", ambassador, (byte) 50));
+        ambassador.setRtiAmbassador(new MosaicRtiAmbassador(componentProvider, "application"));
+        when(federationManagement.isFederateJoined("application")).thenReturn(true);
+        when(federationManagement.getAmbassador("application")).thenReturn(ambassador);
+        interactionManagement.subscribeInteractions("application",
+                Lists.newArrayList(new InteractionDescriptor(VehicleUpdates.TYPE_ID)));
+
+        final RtiAmbassador trafficSimulatorRti = new MosaicRtiAmbassador(componentProvider, "sumo");
+
+        // RUN
+        ambassador.initialize(0L, END_TIME);
+
+        // ASSERT the next step of the traffic simulator could be executed in advance until the end of the simulation
+        assertEquals(END_TIME, trafficSimulatorRti.getLowerBoundTimeStamp());
+
+        // RUN the traffic simulator publishes the result of its simulation step
+        interactionManagement.publishInteraction(new VehicleUpdates(
+                TIME.SECOND, Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList()
+        ));
+
+        // ASSERT the applications may react on the vehicle updates, hence the next step can't be executed in advance
+        assertEquals(TIME.SECOND, trafficSimulatorRti.getLowerBoundTimeStamp());
+    }
+
     private ApplicationAmbassador createAmbassador() throws IOException {
         AmbassadorParameter applicationParams;
         try {
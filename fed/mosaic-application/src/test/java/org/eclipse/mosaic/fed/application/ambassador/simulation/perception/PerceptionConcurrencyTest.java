@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.simulation.perception;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.application.ambassador.SimulationKernel;
+import org.eclipse.mosaic.fed.application.ambassador.SimulationKernelRule;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.errormodels.BoundingBoxOcclusion;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.TrafficObjectIndex;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.SpatialObject;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleTree;
+import org.eclipse.mosaic.fed.application.app.api.perception.PerceptionModule;
+import org.eclipse.mosaic.fed.application.config.CApplicationAmbassador;
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.MutableCartesianPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
+import org.eclipse.mosaic.lib.util.scheduling.EventManager;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Executes perception queries of many units from several threads, as done by the multi-threaded event scheduler.
+ */
+public class PerceptionConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PerceptionConcurrencyTest.class);
+
+    private final static double SIZE = 1000;
+    private final static int VEHICLES = 500;
+
+    private final CentralPerceptionComponent cpcMock = mock(CentralPerceptionComponent.class);
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(52, 13));
+
+    @Rule
+    public SimulationKernelRule simulationKernelRule = new SimulationKernelRule(mock(EventManager.class), null, null, cpcMock);
+
+    private final List<TestOwner> owners = new ArrayList<>();
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        when(cpcMock.getScenarioBounds())
+                .thenReturn(new CartesianRectangle(new MutableCartesianPoint(0, 0, 0), new MutableCartesianPoint(SIZE, SIZE, 0)));
+        SimulationKernel.SimulationKernel.setConfiguration(new CApplicationAmbassador());
+
+        final TrafficObjectIndex trafficObjectIndex = new TrafficObjectIndex.Builder(mock(Logger.class))
+                .withVehicleIndex(new VehicleTree(20, 12))
+                .build();
+        when(cpcMock.getTrafficObjectIndex()).thenReturn(trafficObjectIndex);
+
+        final Random random = new Random(42);
+        final VehicleType vehicleType = new VehicleType("car");
+        final List<VehicleData> vehicles = new ArrayList<>();
+        for (int i = 0; i < VEHICLES; i++) {
+            final VehicleData vehicleData = new VehicleData.Builder(0, "veh_" + i)
+                    .position(null, new MutableCartesianPoint(random.nextDouble() * SIZE, random.nextDouble() * SIZE, 0))
+                    .movement(10, 0, 0)
+                    .orientation(DriveDirection.FORWARD, random.nextDouble() * 360, 0)
+                    .create();
+            vehicles.add(vehicleData);
+            trafficObjectIndex.registerVehicleType(vehicleData.getName(), vehicleType);
+
+            final TestOwner owner = new TestOwner(vehicleData);
+            owner.perceptionModule.enable(new SimplePerceptionConfiguration.Builder(random.nextDouble() * 360, 200)
+                    .addModifier(new BoundingBoxOcclusion())
+                    .build());
+            owners.add(owner);
+        }
+        trafficObjectIndex.updateVehicles(vehicles);
+    }
+
+    @After
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentQueries_sameResultAsSequentialQueries() throws Exception {
+        // SETUP
+        final List<Set<String>> expected = new ArrayList<>();
+        for (TestOwner owner : owners) {
+            expected.add(perceivedVehicleIds(owner));
+        }
+
+        // RUN
+        final int threads = 8;
+        executor = Executors.newFixedThreadPool(threads);
+        final List<Future<List<Set<String>>>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final Random random = new Random(t);
+            results.add(executor.submit(() -> {
+                // all threads query all owners, in different orders
+                final List<Integer> order = new ArrayList<>();
+                for (int i = 0; i < owners.size(); i++) {
+                    order.add(i);
+                }
+                Collections.shuffle(order, random);
+                final List<Set<String>> perceived = new ArrayList<>(Collections.nCopies(owners.size(), null));
+                for (int i : order) {
+                    perceived.set(i, perceivedVehicleIds(owners.get(i)));
+                }
+                return perceived;
+            }));
+        }
+
+        // ASSERT
+        for (Future<List<Set<String>>> result : results) {
+            assertEquals(expected, result.get());
+        }
+    }
+
+    /**
+     * Measures the throughput of perception queries including occlusion modifiers for an increasing number of threads.
+     */
+    @Test
+    public void performanceTest() throws Exception {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        // warm up
+        measureQueries(1);
+        for (int threads = 1; threads <= 8; threads *= 2) {
+            log.debug(String.format("%d threads: %.1f queries/ms", threads, measureQueries(threads)));
+        }
+    }
+
+    private double measureQueries(int threads) throws Exception {
+        final int rounds = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            final long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    // each thread processes its share of all owners
+                    for (int round = 0; round < rounds; round++) {
+                        for (int i = offset; i < owners.size(); i += threads) {
+                            owners.get(i).perceptionModule.getPerceivedVehicles();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return rounds * owners.size() / ((System.nanoTime() - start) / 1e6);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Set<String> perceivedVehicleIds(TestOwner owner) {
+        return owner.perceptionModule.getPerceivedVehicles().stream().map(SpatialObject::getId).collect(Collectors.toSet());
+    }
+
+    private static class TestOwner implements PerceptionModuleOwner {
+
+        private final VehicleData vehicleData;
+        private final SimplePerceptionModule perceptionModule;
+
+        private TestOwner(VehicleData vehicleData) {
+            this.vehicleData = vehicleData;
+            this.perceptionModule = new SimplePerceptionModule(this, null, mock(Logger.class));
+        }
+
+        @Override
+        public String getId() {
+            return vehicleData.getName();
+        }
+
+        @Override
+        public VehicleData getVehicleData() {
+            return vehicleData;
+        }
+
+        @Override
+        public long getSimulationTime() {
+            return 0;
+        }
+
+        @Override
+        public void sendInteractionToRti(Interaction interaction) {
+            // nop
+        }
+
+        @Override
+        public PerceptionModule<SimplePerceptionConfiguration> getPerceptionModule() {
+            return perceptionModule;
+        }
+    }
+}
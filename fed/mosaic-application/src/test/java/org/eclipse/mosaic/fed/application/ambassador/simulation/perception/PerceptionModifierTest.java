@@ -22,6 +22,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.fed.application.ambassador.SimulationKernel;
@@ -54,6 +56,7 @@ import org.eclipse.mosaic.lib.spatial.Edge;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
 
 import com.google.common.collect.Lists;
+import com.google.gson.Gson;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Rule;
@@ -251,6 +254,28 @@ public class PerceptionModifierTest {
         }
     }
 
+    @Test
+    public void testWallOcclusionCacheDistanceFromConfiguration() {
+        List<Edge<Vector3d>> surroundingWalls = Lists.newArrayList(
+                new Edge<>(CartesianPoint.xy(10, 10).toVector3d(), CartesianPoint.xy(10, -10).toVector3d())
+        );
+        doReturn(surroundingWalls).when(simplePerceptionModule).getSurroundingWalls();
+
+        WallOcclusion occlusionModifier = new Gson().fromJson("{ \"cacheDistance\": \"5 m\" }", WallOcclusion.class);
+        simplePerceptionModule.enable(
+                new SimplePerceptionConfiguration.Builder(VIEWING_ANGLE, VIEWING_RANGE).addModifier(occlusionModifier).build()
+        );
+        simplePerceptionModule.getPerceivedVehicles();
+        // walls are reused while the ego vehicle stays within the cache distance
+        when(egoVehicleData.getProjectedPosition()).thenReturn(CartesianPoint.xyz(3, 0, 0));
+        simplePerceptionModule.getPerceivedVehicles();
+        verify(simplePerceptionModule, times(1)).getSurroundingWalls();
+        // walls are collected again after the ego vehicle has left the cache distance
+        when(egoVehicleData.getProjectedPosition()).thenReturn(CartesianPoint.xyz(10, 0, 0));
+        simplePerceptionModule.getPerceivedVehicles();
+        verify(simplePerceptionModule, times(2)).getSurroundingWalls();
+    }
+
     @Test
     public void testIndexedObjectsNotChanged() {
         PositionModifier positionModifier = new PositionModifier(rng, 1, 1);
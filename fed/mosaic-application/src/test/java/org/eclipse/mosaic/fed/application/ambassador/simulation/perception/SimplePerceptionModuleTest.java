@@ -29,6 +29,7 @@ import org.eclipse.mosaic.fed.application.ambassador.simulation.VehicleUnit;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.TrafficObjectIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.VehicleObject;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.TrafficLightTree;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleArrayIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleGrid;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers.VehicleTree;
@@ -99,7 +100,7 @@ public class SimplePerceptionModuleTest {
     @Parameterized.Parameters
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][]{
-                {"grid"}, {"tree"}
+                {"grid"}, {"concurrentGrid"}, {"array"}, {"tree"}
         });
     }
 
@@ -117,6 +118,12 @@ public class SimplePerceptionModuleTest {
             case "grid":
                 vehicleIndex = new VehicleGrid(5, 5);
                 break;
+            case "concurrentGrid":
+                vehicleIndex = new VehicleGrid(5, 5, true);
+                break;
+            case "array":
+                vehicleIndex = new VehicleArrayIndex(5, 5);
+                break;
             default:
                 vehicleIndex = null;
         }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.providers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.application.ambassador.SimulationKernel;
+import org.eclipse.mosaic.fed.application.ambassador.SimulationKernelRule;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.CentralPerceptionComponent;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.PerceptionModel;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.SpatialObject;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.VehicleObject;
+import org.eclipse.mosaic.fed.application.config.CApplicationAmbassador;
+import org.eclipse.mosaic.lib.enums.DriveDirection;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.MutableCartesianPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.spatial.BoundingBox;
+import org.eclipse.mosaic.lib.util.scheduling.EventManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class VehicleArrayIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleArrayIndexTest.class);
+
+    private final static double SIZE = 5000;
+
+    private final CentralPerceptionComponent cpcMock = mock(CentralPerceptionComponent.class);
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(52, 13));
+
+    @Rule
+    public SimulationKernelRule simulationKernelRule = new SimulationKernelRule(mock(EventManager.class), null, null, cpcMock);
+
+    @Before
+    public void setup() {
+        when(cpcMock.getScenarioBounds())
+                .thenReturn(new CartesianRectangle(new MutableCartesianPoint(0, 0, 0), new MutableCartesianPoint(SIZE, SIZE, 0)));
+        SimulationKernel.SimulationKernel.setConfiguration(new CApplicationAmbassador());
+    }
+
+    @Test
+    public void getVehiclesInRange_sameResultAsVehicleTree() {
+        // SETUP
+        final Random random = new Random(42);
+        final VehicleIndex referenceIndex = new VehicleTree(20, 12);
+        final VehicleIndex arrayIndex = new VehicleArrayIndex(100, 100);
+        referenceIndex.initialize();
+        arrayIndex.initialize();
+
+        List<VehicleData> vehicles = createVehicles(random, 5000);
+        for (int step = 0; step < 5; step++) {
+            // RUN
+            referenceIndex.updateVehicles(vehicles);
+            arrayIndex.updateVehicles(vehicles);
+            final List<String> removed = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                removed.add(vehicles.remove(random.nextInt(vehicles.size())).getName());
+            }
+            referenceIndex.removeVehicles(removed);
+            arrayIndex.removeVehicles(removed);
+
+            // ASSERT
+            assertEquals(referenceIndex.getNumberOfVehicles(), arrayIndex.getNumberOfVehicles());
+            for (int i = 0; i < 200; i++) {
+                final CircularRange range = new CircularRange(random.nextDouble() * SIZE, random.nextDouble() * SIZE, 200);
+                assertEquals(ids(referenceIndex.getVehiclesInRange(range)), ids(arrayIndex.getVehiclesInRange(range)));
+            }
+            vehicles = moveVehicles(random, vehicles);
+        }
+    }
+
+    /**
+     * Measures update and query times of the vehicle indexes for 50k vehicles, and the memory allocated per query.
+     */
+    @Test
+    public void performanceTest() {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int numberOfVehicles = 50000;
+        measure(new VehicleTree(20, 12), numberOfVehicles);
+        measure(new VehicleGrid(100, 100), numberOfVehicles);
+        measure(new VehicleArrayIndex(100, 100), numberOfVehicles);
+    }
+
+    private void measure(VehicleIndex index, int numberOfVehicles) {
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final Random random = new Random(42);
+        index.initialize();
+        List<VehicleData> vehicles = createVehicles(random, numberOfVehicles);
+
+        final List<CircularRange> ranges = new ArrayList<>();
+        for (int i = 0; i < numberOfVehicles; i++) {
+            ranges.add(new CircularRange(random.nextDouble() * SIZE, random.nextDouble() * SIZE, 200));
+        }
+        final List<VehicleObject> result = new ArrayList<>();
+
+        final int steps = 5;
+        long updateTime = 0;
+        long queryTime = 0;
+        long queryAllocations = 0;
+        long found = 0;
+        for (int step = 0; step < steps; step++) {
+            vehicles = moveVehicles(random, vehicles);
+            long start = System.nanoTime();
+            index.updateVehicles(vehicles);
+            updateTime += System.nanoTime() - start;
+
+            final long allocatedBefore = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            start = System.nanoTime();
+            for (CircularRange range : ranges) {
+                result.clear();
+                index.getVehiclesInRange(range, result);
+                found += result.size();
+            }
+            queryTime += System.nanoTime() - start;
+            queryAllocations += threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore;
+        }
+        log.debug(String.format("%s: update %.2f ms/step, queries %.2f ms/step (%.1f vehicles/query, %.1f bytes/query)",
+                index.getClass().getSimpleName(),
+                updateTime / 1e6 / steps,
+                queryTime / 1e6 / steps,
+                found / (double) (steps * ranges.size()),
+                queryAllocations / (double) (steps * ranges.size())
+        ));
+    }
+
+    private static List<VehicleData> createVehicles(Random random, int numberOfVehicles) {
+        final List<VehicleData> vehicles = new ArrayList<>();
+        for (int i = 0; i < numberOfVehicles; i++) {
+            vehicles.add(createVehicle("veh_" + i, random.nextDouble() * SIZE, random.nextDouble() * SIZE));
+        }
+        return vehicles;
+    }
+
+    private static List<VehicleData> moveVehicles(Random random, List<VehicleData> vehicles) {
+        return vehicles.stream().map(v -> createVehicle(v.getName(),
+                Math.min(SIZE, Math.max(0, v.getProjectedPosition().getX() + random.nextGaussian() * 10)),
+                Math.min(SIZE, Math.max(0, v.getProjectedPosition().getY() + random.nextGaussian() * 10))
+        )).collect(Collectors.toList());
+    }
+
+    private static VehicleData createVehicle(String name, double x, double y) {
+        return new VehicleData.Builder(0, name)
+                .position(null, new MutableCartesianPoint(x, y, 0))
+                .movement(10, 0, 0)
+                .orientation(DriveDirection.FORWARD, 90, 0)
+                .create();
+    }
+
+    private static Set<String> ids(List<VehicleObject> vehicles) {
+        return vehicles.stream().map(SpatialObject::getId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Perception model covering a circle around a given position.
+     */
+    private static class CircularRange implements PerceptionModel {
+
+        private final Vector3d center;
+        private final double range;
+        private final BoundingBox boundingBox = new BoundingBox();
+
+        private CircularRange(double x, double y, double range) {
+            this.center = new MutableCartesianPoint(x, y, 0).toVector3d();
+            this.range = range;
+            boundingBox.add(
+                    new Vector3d(center.x - range, center.y, center.z - range),
+                    new Vector3d(center.x + range, center.y, center.z + range)
+            );
+        }
+
+        @Override
+        public boolean isInRange(SpatialObject other) {
+            return other.distanceSqrTo(center) <= range * range;
+        }
+
+        @Override
+        public BoundingBox getBoundingBox() {
+            return boundingBox;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.ServerRegistration;
 import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.LatestVehicleData;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
@@ -50,6 +51,7 @@ import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.interaction.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
 import com.google.common.collect.Lists;
@@ -63,7 +65,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 
 /**
  * Ambassador for the Cell network simulator which handles the interaction with Eclipse MOSAIC.
@@ -101,15 +102,33 @@ public class CellAmbassador extends AbstractFederateAmbassador {
     private final Map<String, AtomicReference<CellConfiguration>> registeredVehicles = new HashMap<>();
 
     /**
-     * Store latest {@link VehicleUpdates} as they may be needed twice after enabling cell modules for vehicles.
+     * Store latest {@link VehicleData} of each vehicle as they may be needed twice after enabling cell modules for vehicles.
+     * Since {@link VehicleUpdates} may only contain vehicles which have changed, the data is kept until the vehicle is removed.
      */
-    private VehicleUpdates latestVehicleUpdates;
+    private final LatestVehicleData latestVehicleData = new LatestVehicleData();
 
     /**
      * Manager for detailed statistic of network load (e.g. of Upstream and Downstream) in individual regions / cells.
      */
     private BandwidthMeasurementManager bandwidthMeasurementManager;
 
+    /**
+     * Passes each received interaction to the matching {@code process} method, or to the {@link ChainManager}.
+     */
+    private final InteractionDispatcher interactionDispatcher = new InteractionDispatcher()
+            // Process interactions as usual in all communication simulators
+            .register(RsuRegistration.class, this::process)
+            .register(TrafficLightRegistration.class, this::process)
+            .register(ChargingStationRegistration.class, this::process)
+            .register(ServerRegistration.class, this::process)
+            .register(TmcRegistration.class, this::process)
+            .register(VehicleUpdates.class, this::process)
+            // Node configuration must be done in the correct order, therefore we must ensure that it is scheduled by the chain manager
+            .register(CellularCommunicationConfiguration.class,
+                    configInteraction -> chainManager.addEvent(configInteraction.getTime(), e -> process(configInteraction)))
+            // Communication dependent (cell) interactions go directly through the chainManager
+            .register(V2xMessageTransmission.class, v2xMessageTransmission -> chainManager.startEvent(v2xMessageTransmission));
+
     /**
      * Constructor for the Cell Ambassador.
      *
@@ -127,7 +146,8 @@ public class CellAmbassador extends AbstractFederateAmbassador {
 
         final RandomNumberGenerator rng = rti.createRandomNumberGenerator();
 
-        chainManager = new ChainManager(rti, rng, ambassadorParameter);
+        chainManager = new ChainManager(rti, rng, ambassadorParameter,
+                ConfigurationData.INSTANCE.getCellConfig().regionProcessingThreads);
 
         initializeBandwidthMeasurements();
 
@@ -186,7 +206,7 @@ public class CellAmbassador extends AbstractFederateAmbassador {
         ConfigurationData.INSTANCE.setRegionConfig(regionConfig);
 
         // Initialize spatial index for fast region lookup
-        RegionUtility.initializeRegionsIndex(regionConfig.regions);
+        RegionUtility.initializeRegionsIndex(regionConfig.regions, cellConfig.regionRasterCellSize);
     }
 
     @Override
@@ -194,6 +214,7 @@ public class CellAmbassador extends AbstractFederateAmbassador {
         log.info("FinishSimulation");
         chainManager.printStatistics();
         bandwidthMeasurementManager.finish();
+        chainManager.shutdown();
     }
 
     @Override
@@ -208,27 +229,7 @@ public class CellAmbassador extends AbstractFederateAmbassador {
             this.log.debug("ProcessInteraction {} at t={}", interaction.getTypeId(), TIME.format(interaction.getTime()));
         }
 
-        // Process interactions as usual in all communication simulators
-        if (interaction.getTypeId().equals(RsuRegistration.TYPE_ID)) {
-            process((RsuRegistration) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightRegistration.TYPE_ID)) {
-            process((TrafficLightRegistration) interaction);
-        } else if (interaction.getTypeId().equals(ChargingStationRegistration.TYPE_ID)) {
-            process((ChargingStationRegistration) interaction);
-        } else if (interaction.getTypeId().equals(ServerRegistration.TYPE_ID)) {
-            process((ServerRegistration) interaction);
-        } else if (interaction.getTypeId().equals(TmcRegistration.TYPE_ID)) {
-            process((TmcRegistration) interaction);
-        } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
-            process((VehicleUpdates) interaction);
-        } else if (interaction.getTypeId().equals(CellularCommunicationConfiguration.TYPE_ID)) {
-            final CellularCommunicationConfiguration configInteraction = (CellularCommunicationConfiguration) interaction;
-            // Node configuration must be done in the correct order, therefore we must ensure that it is scheduled by the chain manager
-            chainManager.addEvent(configInteraction.getTime(), e -> process(configInteraction));
-        } else if (interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)) {
-            // Communication dependent (cell) interactions go directly through the chainManager
-            chainManager.startEvent((V2xMessageTransmission) interaction);
-        }
+        interactionDispatcher.dispatch(interaction);
     }
 
     /**
@@ -356,7 +357,7 @@ public class CellAmbassador extends AbstractFederateAmbassador {
      * @param vehicleUpdates Vehicle movement object
      */
     private void process(VehicleUpdates vehicleUpdates) throws InternalFederateException {
-        latestVehicleUpdates = vehicleUpdates;
+        latestVehicleData.update(vehicleUpdates);
 
         final long currentTime = vehicleUpdates.getTime();
         final List<HandoverInfo> handovers = new ArrayList<>();
@@ -536,14 +537,8 @@ public class CellAmbassador extends AbstractFederateAmbassador {
     }
 
     private VehicleData fetchVehicleDataFromLastUpdate(String vehicleId) {
-        if (latestVehicleUpdates == null) {
-            return null;
-        }
-        // see if vehicle was added or updated within the last vehicle update
-        Optional<VehicleData> vehicleData = Stream.concat(latestVehicleUpdates.getAdded().stream(), latestVehicleUpdates.getUpdated().stream())
-                .filter(v -> v.getName().equals(vehicleId))
-                .findFirst();
-        return vehicleData.orElse(null);
+        // latest data of the vehicle, either added or updated within the last vehicle update or unchanged since then
+        return latestVehicleData.get(vehicleId);
     }
 
     private void handleEntityCellConfiguration(String nodeId, CellConfiguration cellConfiguration, long interactionTime) {
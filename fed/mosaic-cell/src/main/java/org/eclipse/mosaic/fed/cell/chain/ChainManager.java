@@ -37,6 +37,8 @@ import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+import org.eclipse.mosaic.rti.api.time.TimeAdvanceRequestBatch;
 
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
@@ -46,6 +48,11 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 
 /**
@@ -77,15 +84,36 @@ public class ChainManager implements EventManager {
     /**
      * The eventScheduler to simulate the (timed) interactions of the cell modules.
      */
-    private final EventScheduler eventScheduler = new DefaultEventScheduler();
+    private final EventScheduler eventScheduler;
+
+    /**
+     * Executor to process events of independent regions concurrently, {@code null} if events are processed sequentially.
+     */
+    private final ExecutorService regionExecutor;
 
     /**
      * Handle to interact with MOSAIC.
      */
     private final RtiAmbassador rti;
 
+    /**
+     * Collects the time advance requests of all events added during a time advance.
+     */
+    private final TimeAdvanceRequestBatch timeAdvanceRequests = new TimeAdvanceRequestBatch(0, FederatePriority.LOWEST);
+
+    /**
+     * Times which have been requested from the RTI but not been granted yet. Events of further interactions
+     * scheduled at one of these times do not need to request the time again.
+     */
+    private final NavigableSet<Long> pendingAdvanceTimes = new TreeSet<>();
+
     private final RandomNumberGenerator rng;
 
+    /**
+     * Random number generator handed out to the modules, if events of independent regions are processed concurrently.
+     */
+    private final RandomNumberGenerator eventOrderedRng = new EventOrderedRandomNumberGenerator();
+
     /**
      * Initialize the ChainManager, which is the EventManager for the communication dependent events
      * and at the same time the only module in the cell to perform interactions towards MOSAIC.
@@ -94,13 +122,45 @@ public class ChainManager implements EventManager {
      * @param rng the RandomGeneratorObject object that is needed by the Geocaster
      */
     public ChainManager(RtiAmbassador rti, RandomNumberGenerator rng, AmbassadorParameter ambassadorParameter) {
+        this(rti, rng, ambassadorParameter, 0);
+    }
+
+    /**
+     * Initialize the ChainManager, which is the EventManager for the communication dependent events
+     * and at the same time the only module in the cell to perform interactions towards MOSAIC.
+     *
+     * @param rti                     the reference towards MOSAIC (for requesting timeAdvances and sending interactions).
+     * @param rng                     the RandomGeneratorObject object that is needed by the Geocaster
+     * @param regionProcessingThreads number of threads to process events of independent regions with, 0 or 1 to process
+     *                                all events sequentially in the order of their scheduling (default: 0).
+     */
+    public ChainManager(RtiAmbassador rti, RandomNumberGenerator rng, AmbassadorParameter ambassadorParameter,
+                        int regionProcessingThreads) {
         log.info("Initialize ChainManager");
+        Validate.isTrue(regionProcessingThreads >= 0, "Number of region processing threads must not be negative");
         this.rti = rti;
         this.rng = rng;
         this.ambassadorParameter = ambassadorParameter;
+        if (regionProcessingThreads <= 1) {
+            this.regionExecutor = null;
+            this.eventScheduler = new DefaultEventScheduler();
+        } else {
+            log.info("Process events of independent regions using {} threads", regionProcessingThreads);
+            this.regionExecutor = createRegionExecutor(regionProcessingThreads);
+            this.eventScheduler = new RegionPartitionedEventScheduler(regionExecutor);
+        }
         initializeModuleRegistry();
     }
 
+    private static ExecutorService createRegionExecutor(int threads) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "cell-region-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Initialize the module chain,
      * modules are worked through in the order they are added.
@@ -126,10 +186,28 @@ public class ChainManager implements EventManager {
      */
     public void advanceTime(long time) {
         this.lastAdvanceTime = time;
+        synchronized (pendingAdvanceTimes) {
+            // must be done before scheduling, so that events added concurrently are either scheduled now or requested again
+            pendingAdvanceTimes.headSet(time, true).clear();
+        }
 
-        final int scheduled = eventScheduler.scheduleEvents(time);
-        if (log.isTraceEnabled()) {
-            log.trace("t={}: scheduled {} events", TIME.format(time), scheduled);
+        timeAdvanceRequests.begin();
+        try {
+            final int scheduled = eventScheduler.scheduleEvents(time);
+            if (log.isTraceEnabled()) {
+                log.trace("t={}: scheduled {} events", TIME.format(time), scheduled);
+            }
+        } catch (RuntimeException e) {
+            timeAdvanceRequests.discard();
+            synchronized (pendingAdvanceTimes) {
+                pendingAdvanceTimes.clear();
+            }
+            throw e;
+        }
+        try {
+            timeAdvanceRequests.end(rti);
+        } catch (IllegalValueException ex) {
+            throw new RuntimeException("Could not request advanceTime from RTI.", ex);
         }
     }
 
@@ -183,6 +261,11 @@ public class ChainManager implements EventManager {
 
     @Override
     public void addEvent(@Nonnull Event event) {
+        final PartitionContext partition = PartitionContext.current();
+        if (partition != null) {
+            partition.defer(() -> addEvent(event));
+            return;
+        }
         if (log.isTraceEnabled()) {
             log.trace("t={}: Add event to the scheduler with time {}",
                     TIME.format(lastAdvanceTime),
@@ -194,11 +277,16 @@ public class ChainManager implements EventManager {
         }
         eventScheduler.addEvent(event);
 
+        synchronized (pendingAdvanceTimes) {
+            if (!pendingAdvanceTimes.add(event.getTime())) {
+                return;
+            }
+        }
         if (log.isTraceEnabled()) {
             log.trace(" and requestAdvanceTime({})", TIME.format(event.getTime()));
         }
         try {
-            rti.requestAdvanceTime(event.getTime());
+            timeAdvanceRequests.request(rti, event.getTime());
         } catch (IllegalValueException ex) {
             throw new RuntimeException("Could not request advanceTime from RTI.", ex);
         }
@@ -212,6 +300,11 @@ public class ChainManager implements EventManager {
      *                    an V2xMessageAcknowledgement for the sender.
      */
     public void sendInteractionToRti(Interaction interaction) {
+        final PartitionContext partition = PartitionContext.current();
+        if (partition != null) {
+            partition.defer(() -> sendInteractionToRti(interaction));
+            return;
+        }
         log.debug("t={}: Send Interaction to RTI (msgType={}, msgTime={})",
                 TIME.format(lastAdvanceTime),
                 interaction.getTypeId(), TIME.format(interaction.getTime()));
@@ -256,7 +349,7 @@ public class ChainManager implements EventManager {
      * @return Random number.
      */
     public RandomNumberGenerator getRandomNumberGenerator() {
-        return rng;
+        return eventScheduler instanceof RegionPartitionedEventScheduler ? eventOrderedRng : rng;
     }
 
     /**
@@ -278,6 +371,11 @@ public class ChainManager implements EventManager {
      * @param properties Stream properties.
      */
     public void notifyStreamListeners(StreamParticipant sender, StreamParticipant receiver, StreamProperties properties) {
+        final PartitionContext partition = PartitionContext.current();
+        if (partition != null) {
+            partition.defer(() -> notifyStreamListeners(sender, receiver, properties));
+            return;
+        }
         for (StreamListener streamListener : streamListeners) {
             streamListener.messageSent(sender, receiver, properties);
         }
@@ -295,4 +393,78 @@ public class ChainManager implements EventManager {
             streamListener.finish();
         }
     }
+
+    /**
+     * Stops the threads used to process events of independent regions, if any.
+     */
+    public void shutdown() {
+        if (regionExecutor != null) {
+            regionExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Delegates to the main random number generator, but lets events processed concurrently wait until all
+     * previous events have been processed, so that random numbers are drawn in the order of the sequential processing.
+     */
+    private class EventOrderedRandomNumberGenerator implements RandomNumberGenerator {
+
+        private RandomNumberGenerator get() {
+            final PartitionContext partition = PartitionContext.current();
+            if (partition != null) {
+                partition.awaitTurn();
+            }
+            return rng;
+        }
+
+        @Override
+        public double nextDouble() {
+            return get().nextDouble();
+        }
+
+        @Override
+        public double nextDouble(double min, double max) {
+            return get().nextDouble(min, max);
+        }
+
+        @Override
+        public int nextInt() {
+            return get().nextInt();
+        }
+
+        @Override
+        public int nextInt(int max) {
+            return get().nextInt(max);
+        }
+
+        @Override
+        public int nextInt(int min, int max) {
+            return get().nextInt(min, max);
+        }
+
+        @Override
+        public long nextLong(long min, long max) {
+            return get().nextLong(min, max);
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return get().nextBoolean();
+        }
+
+        @Override
+        public double nextGaussian() {
+            return get().nextGaussian();
+        }
+
+        @Override
+        public double nextGaussian(double mean, double deviation) {
+            return get().nextGaussian(mean, deviation);
+        }
+
+        @Override
+        public void shuffle(List<?> list) {
+            get().shuffle(list);
+        }
+    }
 }
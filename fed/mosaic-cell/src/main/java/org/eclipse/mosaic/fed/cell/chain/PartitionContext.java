@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.chain;
+
+import org.eclipse.mosaic.lib.util.scheduling.Event;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the state of one event processed concurrently by the {@link RegionPartitionedEventScheduler}.
+ * While the event is processed, the context is bound to the processing thread. All actions which affect other
+ * events or MOSAIC (adding events, sending interactions, notifying stream listeners) are deferred by the
+ * {@link ChainManager} and replayed afterwards in the order of the events. Random numbers are only drawn after
+ * all previous events have been processed completely, which keeps the sequence of random numbers of the
+ * sequential processing.
+ */
+final class PartitionContext {
+
+    private static final ThreadLocal<PartitionContext> CURRENT = new ThreadLocal<>();
+
+    private final Progress progress;
+
+    private final int index;
+
+    private final List<Runnable> deferredActions = new ArrayList<>();
+
+    PartitionContext(Progress progress, int index) {
+        this.progress = progress;
+        this.index = index;
+    }
+
+    /**
+     * Returns the context of the event which is currently processed by the calling thread,
+     * or {@code null}, if the calling thread does not process any event concurrently.
+     */
+    static PartitionContext current() {
+        return CURRENT.get();
+    }
+
+    void defer(Runnable action) {
+        deferredActions.add(action);
+    }
+
+    /**
+     * Blocks until all previous events have been processed, i.e., until this event would be processed
+     * in the sequential processing of all events.
+     */
+    void awaitTurn() {
+        try {
+            progress.awaitCompletionOfPreviousEvents(index);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for previous events", e);
+        }
+    }
+
+    /**
+     * Processes the given event on the calling thread.
+     *
+     * @return the number of processed events
+     */
+    int processEvent(Event event) {
+        CURRENT.set(this);
+        try {
+            int processedEvents = 0;
+            for (EventProcessor processor : event.getProcessors()) {
+                if (processor.canProcessEvent()) {
+                    try {
+                        processor.processEvent(event);
+                    } catch (Exception ex) {
+                        throw new RuntimeException(ex);
+                    }
+                    processedEvents++;
+                }
+            }
+            return processedEvents;
+        } finally {
+            CURRENT.remove();
+            progress.complete(index);
+        }
+    }
+
+    /**
+     * Executes all actions deferred while processing the event.
+     */
+    void replayDeferredActions() {
+        for (Runnable action : deferredActions) {
+            action.run();
+        }
+        deferredActions.clear();
+    }
+
+    /**
+     * Tracks which events of a set of concurrently processed events have been completed.
+     */
+    static final class Progress {
+
+        private final boolean[] completed;
+
+        /**
+         * Index of the first event which has not been completed yet.
+         */
+        private int firstIncomplete = 0;
+
+        Progress(int events) {
+            this.completed = new boolean[events];
+        }
+
+        synchronized void complete(int index) {
+            completed[index] = true;
+            while (firstIncomplete < completed.length && completed[firstIncomplete]) {
+                firstIncomplete++;
+            }
+            notifyAll();
+        }
+
+        synchronized void awaitCompletion(int index) throws InterruptedException {
+            while (!completed[index]) {
+                wait();
+            }
+        }
+
+        synchronized void awaitCompletionOfPreviousEvents(int index) throws InterruptedException {
+            while (firstIncomplete < index) {
+                wait();
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.chain;
+
+import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
+import org.eclipse.mosaic.fed.cell.data.SimulationData;
+import org.eclipse.mosaic.fed.cell.message.CellModuleMessage;
+import org.eclipse.mosaic.fed.cell.message.GeocasterResult;
+import org.eclipse.mosaic.fed.cell.message.StreamResult;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.Event;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Event scheduler of the {@link ChainManager}, which processes events touching disjoint regions and nodes concurrently,
+ * while producing exactly the same results as the sequential processing of all events by the {@link DefaultEventScheduler}.
+ * All events of a simulation time, which are known at once, are started in their scheduling order, but an event
+ * touching a region or node (e.g., by consuming its capacity) is only started after all previous events touching the
+ * same region or node have been processed. Random numbers are drawn from the shared random number generator only after
+ * all previous events have been processed, and all actions affecting other events are deferred and replayed in the
+ * order of the events afterwards. Events with unknown resources are processed exclusively, i.e., after all previous
+ * and before all following events, as well as all events which are processed while regions of nodes are not yet resolved.
+ */
+class RegionPartitionedEventScheduler extends DefaultEventScheduler {
+
+    /**
+     * Executor to process events concurrently. Tasks must be started in the order of their submission,
+     * which is the case for fixed thread pools.
+     */
+    private final ExecutorService executor;
+
+    RegionPartitionedEventScheduler(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public int scheduleEvents(final long time) {
+        int processedEvents = 0;
+        scheduledTime = time;
+        while (!eventQueue.isEmpty()) {
+            final long nextEventTime = eventQueue.peek().getTime();
+            if (nextEventTime < time) {
+                throw new RuntimeException("Scheduled event lies in the past.");
+            } else if (nextEventTime > time) {
+                return processedEvents;
+            }
+            // events added while processing these events are processed in the next iteration
+            final List<Event> events = new ArrayList<>();
+            while (!eventQueue.isEmpty() && eventQueue.peek().getTime() == time) {
+                events.add(eventQueue.poll());
+            }
+            processedEvents += processEvents(events);
+        }
+        return processedEvents;
+    }
+
+    private int processEvents(List<Event> events) {
+        int processedEvents = 0;
+        final List<Event> concurrentEvents = new ArrayList<>();
+        final List<Set<String>> partitionKeys = new ArrayList<>();
+        for (Event event : events) {
+            // regions of nodes are resolved lazily in the order of the events, which must not happen concurrently
+            final Set<String> keys = SimulationData.INSTANCE.getNodesWithoutRegion().isEmpty() ? getPartitionKeys(event) : null;
+            if (keys != null) {
+                concurrentEvents.add(event);
+                partitionKeys.add(keys);
+                continue;
+            }
+            processedEvents += processConcurrently(concurrentEvents, partitionKeys);
+            concurrentEvents.clear();
+            partitionKeys.clear();
+            processedEvents += processSequentially(Collections.singletonList(event));
+        }
+        return processedEvents + processConcurrently(concurrentEvents, partitionKeys);
+    }
+
+    private static int processSequentially(List<Event> events) {
+        int processedEvents = 0;
+        for (Event event : events) {
+            for (EventProcessor processor : event.getProcessors()) {
+                if (processor.canProcessEvent()) {
+                    try {
+                        processor.processEvent(event);
+                    } catch (Exception ex) {
+                        throw new RuntimeException(ex);
+                    }
+                    processedEvents++;
+                }
+            }
+        }
+        return processedEvents;
+    }
+
+    private int processConcurrently(List<Event> events, List<Set<String>> partitionKeys) {
+        if (events.size() < 2) {
+            return processSequentially(events);
+        }
+        final PartitionContext.Progress progress = new PartitionContext.Progress(events.size());
+        final List<PartitionContext> contexts = new ArrayList<>(events.size());
+        final List<Future<Integer>> results = new ArrayList<>(events.size());
+        final Map<String, Integer> lastEventOfKey = new HashMap<>();
+        int processedEvents = 0;
+        try {
+            for (int i = 0; i < events.size(); i++) {
+                for (String key : partitionKeys.get(i)) {
+                    final Integer previousEvent = lastEventOfKey.put(key, i);
+                    if (previousEvent != null) {
+                        progress.awaitCompletion(previousEvent);
+                    }
+                }
+                final Event event = events.get(i);
+                final PartitionContext context = new PartitionContext(progress, i);
+                contexts.add(context);
+                results.add(executor.submit(() -> context.processEvent(event)));
+            }
+            for (Future<Integer> result : results) {
+                processedEvents += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while processing events", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Could not process events", e.getCause());
+        }
+        for (PartitionContext context : contexts) {
+            context.replayDeferredActions();
+        }
+        return processedEvents;
+    }
+
+    /**
+     * Returns the ids of all regions and nodes, whose capacities may be consumed or freed by the given event.
+     *
+     * @param event the event to get the partition keys for
+     * @return the partition keys, or {@code null} if the event may touch any state and must be processed exclusively
+     */
+    static Set<String> getPartitionKeys(Event event) {
+        final Set<String> keys = new LinkedHashSet<>();
+        final Object resource = event.getResource();
+        if (resource instanceof V2xMessage) {
+            // new message for the UpstreamModule
+            final String sender = ((V2xMessage) resource).getRouting().getSource().getSourceName();
+            final CNetworkProperties senderRegion = SimulationData.INSTANCE.getRegionOfNode(sender);
+            if (senderRegion == null) {
+                // resolving the region of the sender modifies the simulation data
+                return null;
+            }
+            keys.add(nodeKey(sender));
+            keys.add(regionKey(senderRegion.id));
+            return keys;
+        }
+        if (!(resource instanceof CellModuleMessage)) {
+            return null;
+        }
+        final Object moduleResource = ((CellModuleMessage) resource).getResource();
+        if (moduleResource instanceof StreamResult) {
+            // message for the GeocasterModule, or freeing of capacities in the stream modules
+            final StreamResult streamResult = (StreamResult) moduleResource;
+            if (streamResult.getInvolvedNode() != null) {
+                keys.add(nodeKey(streamResult.getInvolvedNode()));
+            }
+            keys.add(regionKey(streamResult.getRegionId()));
+            return keys;
+        }
+        if (moduleResource instanceof GeocasterResult) {
+            // message for the DownstreamModule
+            final GeocasterResult geocasterResult = (GeocasterResult) moduleResource;
+            for (CNetworkProperties region : geocasterResult.getReceivers().keySet()) {
+                keys.add(regionKey(region.id));
+            }
+            if (geocasterResult.getDownstreamMode() == TransmissionMode.DownlinkUnicast) {
+                for (String receiver : geocasterResult.getReceivers().values()) {
+                    keys.add(nodeKey(receiver));
+                }
+            }
+            return keys;
+        }
+        return null;
+    }
+
+    private static String nodeKey(String nodeId) {
+        return "node:" + nodeId;
+    }
+
+    private static String regionKey(String regionId) {
+        return "region:" + regionId;
+    }
+}
@@ -50,6 +50,14 @@ public final class CCell {
      */
     public boolean bandwidthMeasurementCompression = false;
 
+    /**
+     * The format of the export files with bandwidth measurements, either CSV, or a compact
+     * columnar binary format which can be converted to CSV afterwards (default: CSV).
+     *
+     * @see #bandwidthMeasurements
+     */
+    public CBandwidthMeasurementFormat bandwidthMeasurementFormat = CBandwidthMeasurementFormat.CSV;
+
     /**
      * Measure the bandwidth between regions.
      */
@@ -65,12 +73,30 @@ public final class CCell {
      */
     public String regionConfigurationFile = "regions.json";
 
+    /**
+     * Cell size (in meters) of a raster over all regions, which is used to look up the region of a position
+     * without testing region polygons, except for raster cells containing region boundaries.
+     * Smaller cells result in fewer polygon tests but require more memory (default: 0, no raster is used).
+     */
+    public double regionRasterCellSize = 0;
+
+    /**
+     * Number of threads to process events of independent regions with. Events touching the same region or node are
+     * still processed in their order, and results are identical to the sequential processing of all events
+     * (default: 0, all events are processed sequentially, as with 1).
+     */
+    public int regionProcessingThreads = 0;
+
     @Override
     public String toString() {
         return String.format("networkConfigurationFile: %s, regionConfigurationFile: %s",
                 networkConfigurationFile, regionConfigurationFile);
     }
 
+    public enum CBandwidthMeasurementFormat {
+        CSV, COLUMNAR
+    }
+
     public static class CBandwidthMeasurement {
 
         /**
@@ -16,17 +16,24 @@
 package org.eclipse.mosaic.fed.cell.data;
 
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
+import org.eclipse.mosaic.lib.spatial.SpatialHashGrid;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 
 /**
@@ -37,6 +44,8 @@ import javax.annotation.Nonnull;
  * <li/>the position of each known node
  * <li/>the vehicle speeds (rsus, tl, cs have a speed of 0)
  * </ul>
+ * In addition, nodes are indexed by their region and their position, so that all nodes
+ * of a region or within an area can be looked up without iterating over all known nodes.
  */
 public enum SimulationData {
     INSTANCE;
@@ -55,6 +64,21 @@ public enum SimulationData {
 
     private final Map<String, SimulationNode> simulationNodeMap = new HashMap<>();
 
+    /**
+     * Inverted index of region ids to the ids of all nodes currently assigned to that region.
+     */
+    private final Map<String, Set<String>> nodesPerRegion = new HashMap<>();
+
+    /**
+     * Ids of all nodes which have not been assigned to a region yet.
+     */
+    private final Set<String> nodesWithoutRegion = new LinkedHashSet<>();
+
+    /**
+     * Spatial index of all node positions. The cell size is in the order of magnitude of typical geocast destination areas.
+     */
+    private final SpatialHashGrid<CartesianPoint> nodePositionGrid = new SpatialHashGrid<>(Function.identity(), 500);
+
     /**
      * Set or update the position for a node.
      * To be only called by the CellAmbassador (throw exception when anything is wrong).
@@ -65,6 +89,7 @@ public enum SimulationData {
     public void setPositionOfNode(String nodeId, CartesianPoint position) {
         if (nodeId != null && position != null) {
             getOrCreate(nodeId).position = position;
+            nodePositionGrid.addOrUpdate(nodeId, position);
         } else {
             throw new RuntimeException(
                     "Unable to setPositionOfNode for nodeId=" + nodeId + ", position=" + position);
@@ -81,7 +106,23 @@ public enum SimulationData {
         Validate.notNull(region, "Unable to setRegionOfNode for nodeId=" + nodeId + ", because the given region is null");
         Validate.notNull(nodeId, "Unable to setRegionOfNode for nodeId=" + nodeId + ", region=" + region.id);
 
-        getOrCreate(nodeId).region = region;
+        final SimulationNode node = getOrCreate(nodeId);
+        if (node.region != null && !node.region.id.equals(region.id)) {
+            removeFromRegion(nodeId, node.region);
+        }
+        node.region = region;
+        nodesWithoutRegion.remove(nodeId);
+        nodesPerRegion.computeIfAbsent(region.id, k -> new LinkedHashSet<>()).add(nodeId);
+    }
+
+    private void removeFromRegion(String nodeId, CNetworkProperties region) {
+        final Set<String> nodesInRegion = nodesPerRegion.get(region.id);
+        if (nodesInRegion != null) {
+            nodesInRegion.remove(nodeId);
+            if (nodesInRegion.isEmpty()) {
+                nodesPerRegion.remove(region.id);
+            }
+        }
     }
 
     /**
@@ -125,6 +166,7 @@ public enum SimulationData {
         if (node == null) {
             node = new SimulationNode();
             simulationNodeMap.put(nodeId, node);
+            nodesWithoutRegion.add(nodeId);
         }
         return node;
     }
@@ -136,7 +178,12 @@ public enum SimulationData {
      * @param nodeId the id of the node to remove.
      */
     public void removeNode(String nodeId) {
-        simulationNodeMap.remove(nodeId);
+        final SimulationNode node = simulationNodeMap.remove(nodeId);
+        if (node != null && node.region != null) {
+            removeFromRegion(nodeId, node.region);
+        }
+        nodesWithoutRegion.remove(nodeId);
+        nodePositionGrid.remove(nodeId);
     }
 
     /**
@@ -148,6 +195,38 @@ public enum SimulationData {
         return simulationNodeMap.keySet();
     }
 
+    /**
+     * Gets all nodes which are currently assigned to the region with the given id.
+     *
+     * @param regionId the id of the region
+     * @return an unmodifiable view on the ids of all nodes in the region
+     */
+    public Set<String> getNodesInRegion(String regionId) {
+        final Set<String> nodesInRegion = nodesPerRegion.get(regionId);
+        return nodesInRegion != null ? Collections.unmodifiableSet(nodesInRegion) : Collections.emptySet();
+    }
+
+    /**
+     * Gets all nodes which have not been assigned to any region yet.
+     *
+     * @return an unmodifiable view on the ids of all nodes without region
+     */
+    public Set<String> getNodesWithoutRegion() {
+        return Collections.unmodifiableSet(nodesWithoutRegion);
+    }
+
+    /**
+     * Gets all nodes whose position is located within the given area.
+     *
+     * @param area the area to search nodes in
+     * @return a new list containing the ids of all nodes within the area
+     */
+    public List<String> getNodesInArea(Area<CartesianPoint> area) {
+        final List<String> result = new ArrayList<>();
+        nodePositionGrid.forEachInArea(area, (nodeId, position) -> result.add(nodeId));
+        return result;
+    }
+
     /**
      * Returns the position of a node from the position table.
      * Returns null if the node is non existing.
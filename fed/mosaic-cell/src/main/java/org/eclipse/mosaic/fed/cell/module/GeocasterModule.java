@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This module is the turning point between Up- and Downlink and is responsible for
@@ -54,7 +55,7 @@ public final class GeocasterModule extends CellModule {
     private static final Logger log = LoggerFactory.getLogger(GeocasterModule.class);
 
     private final RandomNumberGenerator rng;
-    private long processedMessages = 0;
+    private final AtomicLong processedMessages = new AtomicLong();
 
     /**
      * Creates a new {@link GeocasterModule} object.
@@ -115,7 +116,7 @@ public final class GeocasterModule extends CellModule {
         } else {
             unknownDestinationType(time, streamResult);
         }
-        processedMessages++;
+        processedMessages.incrementAndGet();
     }
 
     /**
@@ -284,7 +285,7 @@ public final class GeocasterModule extends CellModule {
 
     @Override
     public long getProcessedMessages() {
-        return processedMessages;
+        return processedMessages.get();
     }
 
     /**
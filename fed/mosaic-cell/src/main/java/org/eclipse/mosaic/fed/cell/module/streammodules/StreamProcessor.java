@@ -36,6 +36,7 @@ import org.slf4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Encapsulates the processing of a message transmission within both up- and downstream modules.
@@ -45,7 +46,7 @@ public class StreamProcessor {
     private final Logger log;
     private final RandomNumberGenerator randomNumberGenerator;
 
-    private int processedMessages;
+    private final AtomicInteger processedMessages = new AtomicInteger();
 
     /**
      * Creates a new {@link StreamProcessor} object.
@@ -249,7 +250,7 @@ public class StreamProcessor {
             log.trace("Calculated total {}-delay for message in region \"{}\": {} ns",
                     input.mode, input.region.id, result.messageEndTime - input.messageStartTime);
         }
-        ++processedMessages;
+        processedMessages.incrementAndGet();
     }
 
     /**
@@ -258,7 +259,7 @@ public class StreamProcessor {
      * @return Number of processed messages.
      */
     int getProcessedMessages() {
-        return processedMessages;
+        return processedMessages.get();
     }
 
     /**
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.utility;
+
+import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.CartesianPolygon;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Rasterized lookup of regions, which divides the bounding box of all regions into quadratic cells.
+ * Each cell which is covered entirely by exactly one region refers to this region directly, resulting in a
+ * lookup without any polygon test. Only for cells containing region boundaries or overlapping regions,
+ * the exact polygon tests are performed for the regions overlapping the cell.
+ * As in {@link RegionsIndex}, if several regions contain a position, the region with the nearest center is chosen.
+ */
+public class RegionRaster {
+
+    /**
+     * Upper limit for the number of cells, to avoid running out of memory due to small cell sizes.
+     */
+    private static final long MAX_CELLS = 1L << 26;
+
+    /**
+     * Edges of regions are widened by this distance (in meters) when marking boundary cells,
+     * which accounts for the limited precision of the polygon tests.
+     */
+    private static final double EDGE_MARGIN = 0.1;
+
+    private static final int NO_REGION = -1;
+
+    private final CMobileNetworkProperties[] regions;
+    private final double[] centerX;
+    private final double[] centerY;
+
+    private final double cellSize;
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+    private final int cols;
+    private final int rows;
+
+    /**
+     * For each cell (column major), the index of the region covering the cell entirely, {@link #NO_REGION},
+     * or, for boundary cells, {@code -(2 + b)} with {@code b} being the index of the boundary cell.
+     */
+    private final int[] cells;
+
+    /**
+     * Indices of all regions overlapping each boundary cell, stored in compressed row format.
+     */
+    private final int[] boundaryStart;
+    private final int[] boundaryRegions;
+
+    /**
+     * Creates a new raster for the given regions.
+     *
+     * @param regions  the regions to rasterize
+     * @param cellSize the size of the raster cells in meters
+     */
+    public RegionRaster(Collection<CMobileNetworkProperties> regions, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size of region raster must be greater than 0");
+        }
+        final List<CMobileNetworkProperties> regionsWithArea = regions.stream()
+                .filter(region -> region.getCapoArea() != null)
+                .collect(Collectors.toList());
+        this.regions = regionsWithArea.toArray(new CMobileNetworkProperties[0]);
+        this.centerX = new double[this.regions.length];
+        this.centerY = new double[this.regions.length];
+        this.cellSize = cellSize;
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < this.regions.length; i++) {
+            final Bounds<CartesianPoint> bounds = this.regions[i].getCapoArea().getBounds();
+            centerX[i] = (bounds.getSideD() + bounds.getSideB()) / 2;
+            centerY[i] = (bounds.getSideA() + bounds.getSideC()) / 2;
+            minX = Math.min(minX, bounds.getSideD());
+            maxX = Math.max(maxX, bounds.getSideB());
+            minY = Math.min(minY, bounds.getSideA());
+            maxY = Math.max(maxY, bounds.getSideC());
+        }
+        if (this.regions.length == 0) {
+            minX = minY = maxX = maxY = 0;
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.cols = Math.max(1, (int) Math.ceil((maxX - minX) / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil((maxY - minY) / cellSize));
+        if ((long) cols * rows > MAX_CELLS) {
+            throw new IllegalArgumentException(String.format(
+                    "Region raster with cell size %.1f m would consist of %d cells, choose a larger cell size.",
+                    cellSize, (long) cols * rows
+            ));
+        }
+
+        // collect all regions overlapping each cell, as linked lists stored in flat arrays
+        final CandidateList candidates = new CandidateList(cols * rows);
+        for (int region = 0; region < this.regions.length; region++) {
+            addCandidates(region, candidates);
+        }
+
+        this.cells = new int[cols * rows];
+        int[] boundaryStart = new int[64];
+        int[] boundaryRegions = new int[64];
+        int numberOfBoundaryCells = 0;
+        int numberOfBoundaryRegions = 0;
+        for (int cell = 0; cell < cols * rows; cell++) {
+            final int first = candidates.head[cell];
+            if (first < 0) {
+                cells[cell] = NO_REGION;
+            } else if (candidates.next[first] < 0 && candidates.inside[first]) {
+                // the cell is covered entirely by only one region
+                cells[cell] = candidates.region[first];
+            } else {
+                if (numberOfBoundaryCells + 1 >= boundaryStart.length) {
+                    boundaryStart = Arrays.copyOf(boundaryStart, boundaryStart.length * 2);
+                }
+                boundaryStart[numberOfBoundaryCells] = numberOfBoundaryRegions;
+                for (int entry = first; entry >= 0; entry = candidates.next[entry]) {
+                    if (numberOfBoundaryRegions == boundaryRegions.length) {
+                        boundaryRegions = Arrays.copyOf(boundaryRegions, boundaryRegions.length * 2);
+                    }
+                    boundaryRegions[numberOfBoundaryRegions++] = candidates.region[entry];
+                }
+                cells[cell] = -(2 + numberOfBoundaryCells++);
+            }
+        }
+        boundaryStart[numberOfBoundaryCells] = numberOfBoundaryRegions;
+        this.boundaryStart = Arrays.copyOf(boundaryStart, numberOfBoundaryCells + 1);
+        this.boundaryRegions = Arrays.copyOf(boundaryRegions, numberOfBoundaryRegions);
+    }
+
+    /**
+     * Adds the region as candidate to all cells it overlaps. Cells touched by the boundary of the region
+     * are added as boundary cells, cells entirely inside the region as inside cells, and cells entirely
+     * outside of the region are skipped. The latter two are distinguished by scanning each row of cells.
+     */
+    private void addCandidates(int region, CandidateList candidates) {
+        final CartesianPolygon polygon = regions[region].getCapoArea();
+        final Bounds<CartesianPoint> bounds = polygon.getBounds();
+        final int minCol = toCol(bounds.getSideD());
+        final int maxCol = toCol(bounds.getSideB());
+        final int minRow = toRow(bounds.getSideA());
+        final int maxRow = toRow(bounds.getSideC());
+        final int width = maxCol - minCol + 1;
+        final int height = maxRow - minRow + 1;
+
+        // mark all cells (relative to the bounds of the region) touched by any edge of the region
+        final List<CartesianPoint> vertices = polygon.getVertices();
+        final boolean[] touched = new boolean[width * height];
+        for (int v = 1; v < vertices.size(); v++) {
+            markEdge(vertices.get(v - 1), vertices.get(v), minCol, minRow, width, height, touched);
+        }
+
+        final double[] crossings = new double[vertices.size()];
+        for (int row = minRow; row <= maxRow; row++) {
+            // x coordinates at which the edges of the region cross the horizontal line through the cell centers of this row
+            final double y = minY + (row + 0.5) * cellSize;
+            int numberOfCrossings = 0;
+            for (int v = 1; v < vertices.size(); v++) {
+                final CartesianPoint a = vertices.get(v - 1);
+                final CartesianPoint b = vertices.get(v);
+                if ((a.getY() > y) != (b.getY() > y)) {
+                    crossings[numberOfCrossings++] = a.getX() + (y - a.getY()) * (b.getX() - a.getX()) / (b.getY() - a.getY());
+                }
+            }
+            Arrays.sort(crossings, 0, numberOfCrossings);
+
+            int crossing = 0;
+            for (int col = minCol; col <= maxCol; col++) {
+                final double x = minX + (col + 0.5) * cellSize;
+                while (crossing < numberOfCrossings && crossings[crossing] < x) {
+                    crossing++;
+                }
+                final int cell = col * rows + row;
+                if (touched[(col - minCol) * height + (row - minRow)]) {
+                    candidates.add(cell, region, false);
+                } else if (crossing % 2 == 1) {
+                    candidates.add(cell, region, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the region covering the given position.
+     *
+     * @param position the position to find the region for
+     * @return the region covering the position, or {@code null} if the position is not covered by any region
+     */
+    public CMobileNetworkProperties getRegion(CartesianPoint position) {
+        final double x = position.getX();
+        final double y = position.getY();
+        if (!(x >= minX && x <= maxX && y >= minY && y <= maxY)) {
+            return null;
+        }
+        final int col = Math.min(cols - 1, (int) ((x - minX) / cellSize));
+        final int row = Math.min(rows - 1, (int) ((y - minY) / cellSize));
+        final int cell = cells[col * rows + row];
+        if (cell >= 0) {
+            return regions[cell];
+        }
+        if (cell == NO_REGION) {
+            return null;
+        }
+        final int boundaryCell = -cell - 2;
+        CMobileNetworkProperties nearest = null;
+        double nearestDistanceSqr = Double.POSITIVE_INFINITY;
+        for (int i = boundaryStart[boundaryCell]; i < boundaryStart[boundaryCell + 1]; i++) {
+            final int region = boundaryRegions[i];
+            final double dx = centerX[region] - x;
+            final double dy = centerY[region] - y;
+            final double distanceSqr = dx * dx + dy * dy;
+            if (distanceSqr <= nearestDistanceSqr && regions[region].getCapoArea().contains(position)) {
+                nearest = regions[region];
+                nearestDistanceSqr = distanceSqr;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Returns the total number of cells of this raster.
+     */
+    public int getNumberOfCells() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the number of cells which require exact polygon tests, as they contain region boundaries or overlapping regions.
+     */
+    public int getNumberOfBoundaryCells() {
+        return boundaryStart.length - 1;
+    }
+
+    private void markEdge(CartesianPoint from, CartesianPoint to,
+                          int offsetCol, int offsetRow, int width, int height, boolean[] touched) {
+        final int minCol = Math.max(offsetCol, toCol(Math.min(from.getX(), to.getX()) - EDGE_MARGIN));
+        final int maxCol = Math.min(offsetCol + width - 1, toCol(Math.max(from.getX(), to.getX()) + EDGE_MARGIN));
+        final int minRow = Math.max(offsetRow, toRow(Math.min(from.getY(), to.getY()) - EDGE_MARGIN));
+        final int maxRow = Math.min(offsetRow + height - 1, toRow(Math.max(from.getY(), to.getY()) + EDGE_MARGIN));
+        final double dx = to.getX() - from.getX();
+        final double dy = to.getY() - from.getY();
+        final double length = Math.sqrt(dx * dx + dy * dy);
+        // half diagonal of a cell, widened by the margin, to test if the edge passes a cell
+        final double reach = cellSize * Math.sqrt(0.5) + EDGE_MARGIN;
+        for (int col = minCol; col <= maxCol; col++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                if (length > 0) {
+                    // distance of the cell center to the line through the edge
+                    final double cx = minX + (col + 0.5) * cellSize - from.getX();
+                    final double cy = minY + (row + 0.5) * cellSize - from.getY();
+                    if (Math.abs(cx * dy - cy * dx) / length > reach) {
+                        continue;
+                    }
+                }
+                touched[(col - offsetCol) * height + (row - offsetRow)] = true;
+            }
+        }
+    }
+
+    private int toCol(double x) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor((x - minX) / cellSize)));
+    }
+
+    private int toRow(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((y - minY) / cellSize)));
+    }
+
+    /**
+     * Candidate regions per cell, stored as singly linked lists in flat arrays.
+     */
+    private static class CandidateList {
+
+        private final int[] head;
+        private int[] next = new int[1024];
+        private int[] region = new int[1024];
+        private boolean[] inside = new boolean[1024];
+        private int size = 0;
+
+        private CandidateList(int numberOfCells) {
+            head = new int[numberOfCells];
+            Arrays.fill(head, -1);
+        }
+
+        private void add(int cell, int region, boolean inside) {
+            if (size == next.length) {
+                next = Arrays.copyOf(next, size * 2);
+                this.region = Arrays.copyOf(this.region, size * 2);
+                this.inside = Arrays.copyOf(this.inside, size * 2);
+            }
+            next[size] = head[cell];
+            this.region[size] = region;
+            this.inside[size] = inside;
+            head[cell] = size++;
+        }
+    }
+}
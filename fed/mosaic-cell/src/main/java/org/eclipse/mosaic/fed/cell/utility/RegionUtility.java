@@ -29,8 +29,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 /**
  * This class contains static methods to make the region handling easier.
@@ -42,26 +42,34 @@ public class RegionUtility {
     private static RegionsIndex regionsIndex;
 
     public static void initializeRegionsIndex(final Collection<CMobileNetworkProperties> regions) {
-        regionsIndex = new RegionsIndex(regions);
+        initializeRegionsIndex(regions, 0);
+    }
+
+    /**
+     * Initializes the spatial index of the given regions, which is used by {@link #getRegionForPosition(CartesianPoint)}.
+     *
+     * @param regions        the configured regions
+     * @param rasterCellSize cell size in meters of the optional region raster, or 0 to not use a region raster
+     */
+    public static void initializeRegionsIndex(final Collection<CMobileNetworkProperties> regions, double rasterCellSize) {
+        regionsIndex = new RegionsIndex(regions, rasterCellSize);
     }
 
     /**
      * Gets all nodes in the given region.
      *
      * @param region the region.
-     * @return list of all nodes.
+     * @return list of all nodes, sorted by their id.
      */
     public static List<String> getNodesForRegion(CNetworkProperties region) {
-        final List<String> nodesForRegion = new ArrayList<>();
-        final Set<String> allNodes = SimulationData.INSTANCE.getAllNodesInSimulation();
-        for (String node : allNodes) {
-            final String regionForNode = RegionUtility.getRegionForNode(node).id;
-            if (regionForNode.equals(region.id)) {
-                nodesForRegion.add(node);
-            }
+        // nodes without an assigned region yet are resolved by their position
+        for (String node : new ArrayList<>(SimulationData.INSTANCE.getNodesWithoutRegion())) {
+            RegionUtility.getRegionForNode(node);
         }
-
-        return nodesForRegion;
+        final List<String> nodes = new ArrayList<>(SimulationData.INSTANCE.getNodesInRegion(region.id));
+        // the order of the index depends on the order of insertion, but callers may draw random numbers per node
+        Collections.sort(nodes);
+        return nodes;
     }
 
     /**
@@ -128,18 +136,12 @@ public class RegionUtility {
      * Get all nodes for a destination area (of a geocast message).
      *
      * @param geoArea destination geoArea (GeoCircle or GeoRectangle).
-     * @return list of all nodes within the destination area.
+     * @return list of all nodes within the destination area, sorted by their id.
      */
     public static List<String> getNodesForDestinationArea(GeoArea geoArea) {
-        final CartesianArea area = geoArea.toCartesian();
-        List<String> nodes = new ArrayList<>();
-        for (String n : SimulationData.INSTANCE.getAllNodesInSimulation()) {
-            CartesianPoint nodePos = SimulationData.INSTANCE.getPositionOfNode(n);
-            if (nodePos != null && area.contains(nodePos)) {
-                nodes.add(n);
-            }
-        }
-
+        final List<String> nodes = SimulationData.INSTANCE.getNodesInArea(geoArea.toCartesian());
+        // the order of the spatial index depends on the node positions, but callers may draw random numbers per node
+        Collections.sort(nodes);
         return nodes;
     }
 
@@ -28,25 +28,51 @@ import org.eclipse.mosaic.lib.spatial.SpatialTree;
 import org.eclipse.mosaic.lib.spatial.SpatialTreeTraverser.Nearest;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.stream.Collectors;
 
 /**
  * Provides a spatial index for regions. This enables a fast lookup of all regions which
- * cover a given point (see {@link CRegion}.
+ * cover a given point (see {@link CRegion}. Optionally, the regions are additionally rasterized
+ * (see {@link RegionRaster}), which allows to resolve most points without any polygon test.
  */
 public class RegionsIndex {
 
+    private static final Logger log = LoggerFactory.getLogger(RegionsIndex.class);
+
     private final KdTree<MobileNetworkPropertiesWrapper> regionIndex;
     private final InArea inArea = new InArea();
 
+    private final RegionRaster regionRaster;
+
     /**
      * Creates a new {@link RegionsIndex} object.
      *
      * @param regions Collection of the regions.
      */
     public RegionsIndex(final Collection<CMobileNetworkProperties> regions) {
+        this(regions, 0);
+    }
+
+    /**
+     * Creates a new {@link RegionsIndex} object.
+     *
+     * @param regions        Collection of the regions.
+     * @param rasterCellSize Cell size in meters of the region raster, or 0 to not use a region raster.
+     */
+    public RegionsIndex(final Collection<CMobileNetworkProperties> regions, double rasterCellSize) {
+        if (rasterCellSize > 0) {
+            final long start = System.nanoTime();
+            this.regionRaster = new RegionRaster(regions, rasterCellSize);
+            log.info("Created region raster with {} cells ({} boundary cells) in {} ms",
+                    regionRaster.getNumberOfCells(), regionRaster.getNumberOfBoundaryCells(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } else {
+            this.regionRaster = null;
+        }
         this.regionIndex = new KdTree<>(
                 new SpatialItemAdapter.AreaAdapter<>(),
                 regions.stream()
@@ -57,6 +83,9 @@ public class RegionsIndex {
     }
 
     public CNetworkProperties getRegion(CartesianPoint cartesianPoint) {
+        if (regionRaster != null) {
+            return regionRaster.getRegion(cartesianPoint);
+        }
 
         inArea.setup(cartesianPoint);
         inArea.traverse(regionIndex);
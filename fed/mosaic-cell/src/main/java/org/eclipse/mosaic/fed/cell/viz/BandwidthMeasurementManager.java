@@ -34,7 +34,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -119,6 +124,24 @@ public class BandwidthMeasurementManager {
         files.forEach(FileUtils::deleteQuietly);
     }
 
+    /**
+     * Converts an export file with bandwidth measurements in columnar format (*.bwm or *.bwm.gz)
+     * to the CSV layout used by default.
+     *
+     * @param measurementFile the file with bandwidth measurements in columnar format
+     * @param csvFile         the CSV file to write
+     * @throws IOException if the file could not be read or written
+     */
+    public static void convertToCsv(File measurementFile, File csvFile) throws IOException {
+        try (InputStream in = measurementFile.getName().endsWith(".gz")
+                ? new GZIPInputStream(new FileInputStream(measurementFile))
+                : new FileInputStream(measurementFile);
+             Writer out = new OutputStreamWriter(new FileOutputStream(csvFile), StandardCharsets.UTF_8)
+        ) {
+            ColumnarBandwidthMeasurementWriter.convertToCsv(in, out);
+        }
+    }
+
     /**
      * Determines the parent directory for the bandwidth measurement file.
      *
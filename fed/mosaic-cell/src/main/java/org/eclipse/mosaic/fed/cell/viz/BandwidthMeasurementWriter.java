@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.viz;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes the aggregated bandwidth of a {@link PerRegionBandwidthMeasurement} incrementally,
+ * one row per measurement interval.
+ */
+interface BandwidthMeasurementWriter extends Closeable {
+
+    /**
+     * Writes the header, which must be called once before any row is written.
+     *
+     * @param columns the names of the columns (i.e., the region ids)
+     */
+    void writeHeader(List<String> columns) throws IOException;
+
+    /**
+     * Writes the bandwidth of all columns for one interval. The given array may be reused by the caller afterwards.
+     *
+     * @param time   the start of the interval in seconds
+     * @param values the bandwidth of each column, or {@code null}, if no bandwidth was measured in this interval
+     */
+    void writeRow(long time, long[] values) throws IOException;
+
+    /**
+     * Writes all buffered rows to the underlying stream.
+     */
+    void flush() throws IOException;
+}
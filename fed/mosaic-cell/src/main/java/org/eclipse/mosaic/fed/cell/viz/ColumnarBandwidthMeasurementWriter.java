@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.viz;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes bandwidth measurements in a compact binary format. Rows are buffered in blocks of
+ * {@link #BLOCK_SIZE} rows, which are written column by column, each value encoded as variable length
+ * unsigned integer. As most values are zero, this format is considerably smaller than CSV
+ * and faster to write. Use {@link #convertToCsv} to obtain the CSV layout of
+ * {@link CsvBandwidthMeasurementWriter} from such a file.
+ * <p>
+ * Layout: magic number, version, number of columns, column names, followed by blocks consisting of the number of
+ * rows (0 terminates the file), the times of all rows, and the values of all rows for each column.
+ * </p>
+ */
+class ColumnarBandwidthMeasurementWriter implements BandwidthMeasurementWriter {
+
+    static final int MAGIC_NUMBER = 0x4D42574D;
+    static final byte VERSION = 1;
+
+    static final int BLOCK_SIZE = 256;
+
+    private final DataOutputStream out;
+
+    private final long[] times = new long[BLOCK_SIZE];
+    private long[][] block;
+    private int rows;
+
+    private boolean closed;
+
+    ColumnarBandwidthMeasurementWriter(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeByte(VERSION);
+        out.writeInt(columns.size());
+        for (String column : columns) {
+            out.writeUTF(column);
+        }
+        block = new long[columns.size()][BLOCK_SIZE];
+    }
+
+    @Override
+    public void writeRow(long time, long[] values) throws IOException {
+        times[rows] = time;
+        for (int column = 0; column < block.length; column++) {
+            block[column][rows] = values != null ? values[column] : 0L;
+        }
+        if (++rows == BLOCK_SIZE) {
+            writeBlock();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        out.writeInt(rows);
+        for (int row = 0; row < rows; row++) {
+            writeUnsigned(out, times[row]);
+        }
+        for (long[] column : block) {
+            for (int row = 0; row < rows; row++) {
+                writeUnsigned(out, column[row]);
+            }
+        }
+        rows = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        writeBlock();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writeBlock();
+        out.writeInt(0);
+        out.close();
+    }
+
+    /**
+     * Converts bandwidth measurements written by this writer to the CSV layout
+     * of the {@link CsvBandwidthMeasurementWriter}.
+     *
+     * @param in  the input stream providing the binary bandwidth measurements
+     * @param out the writer to write the CSV lines to, which is flushed but not closed
+     */
+    static void convertToCsv(InputStream in, Writer out) throws IOException {
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC_NUMBER || data.readByte() != VERSION) {
+            throw new IOException("Unsupported format of bandwidth measurements");
+        }
+        final int numberOfColumns = data.readInt();
+        final List<String> columns = new ArrayList<>(numberOfColumns);
+        for (int i = 0; i < numberOfColumns; i++) {
+            columns.add(data.readUTF());
+        }
+
+        final CsvBandwidthMeasurementWriter csvWriter = new CsvBandwidthMeasurementWriter(out);
+        csvWriter.writeHeader(columns);
+
+        final long[] times = new long[BLOCK_SIZE];
+        final long[][] block = new long[numberOfColumns][BLOCK_SIZE];
+        final long[] values = new long[numberOfColumns];
+        int rows;
+        try {
+            while ((rows = data.readInt()) > 0) {
+                for (int row = 0; row < rows; row++) {
+                    times[row] = readUnsigned(data);
+                }
+                for (long[] column : block) {
+                    for (int row = 0; row < rows; row++) {
+                        column[row] = readUnsigned(data);
+                    }
+                }
+                for (int row = 0; row < rows; row++) {
+                    for (int column = 0; column < numberOfColumns; column++) {
+                        values[column] = block[column][row];
+                    }
+                    csvWriter.writeRow(times[row], values);
+                }
+            }
+        } catch (EOFException e) {
+            // file was not closed properly, all complete blocks have been converted
+        }
+        csvWriter.flush();
+    }
+
+    private static void writeUnsigned(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readUnsigned(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.viz;
+
+import org.apache.commons.lang3.SystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes bandwidth measurements as CSV, one line per interval, starting with the time in seconds
+ * followed by the bandwidth of each region, separated by semicolons.
+ */
+class CsvBandwidthMeasurementWriter implements BandwidthMeasurementWriter {
+
+    private final Writer writer;
+
+    private final StringBuilder line = new StringBuilder();
+
+    private int columns;
+
+    CsvBandwidthMeasurementWriter(OutputStream out) {
+        this(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    CsvBandwidthMeasurementWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        this.columns = columns.size();
+        line.setLength(0);
+        line.append("time");
+        for (String column : columns) {
+            line.append(';').append(column);
+        }
+        writeLine();
+    }
+
+    @Override
+    public void writeRow(long time, long[] values) throws IOException {
+        line.setLength(0);
+        line.append(Long.toUnsignedString(time));
+        for (int i = 0; i < columns; i++) {
+            // writing zeros directly avoids converting them to strings, which is the most frequent value
+            final long value = values != null ? values[i] : 0L;
+            if (value == 0L) {
+                line.append(";0");
+            } else {
+                line.append(';').append(Long.toUnsignedString(value));
+            }
+        }
+        writeLine();
+    }
+
+    private void writeLine() throws IOException {
+        line.append(SystemUtils.LINE_SEPARATOR);
+        writer.append(line);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -18,6 +18,7 @@ package org.eclipse.mosaic.fed.cell.viz;
 import static java.lang.Math.max;
 import static org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties.GLOBAL_NETWORK_ID;
 
+import org.eclipse.mosaic.fed.cell.config.CCell;
 import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
 import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
@@ -26,9 +27,7 @@ import org.eclipse.mosaic.rti.TIME;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
-import org.apache.commons.io.Charsets;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.SystemUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +35,6 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -73,18 +71,18 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     private final BiMap<String, Integer> indexMap = HashBiMap.create();
 
     /**
-     * List of the transmitted data. Each Array in the list represents one time step.
+     * The transmitted data of all intervals not yet exported. Each row represents one interval.
      */
     @VisibleForTesting
     final TransmittedData transmittedData = new TransmittedData();
 
     /**
-     * The number of data rows written to the CSV file so far.
+     * The number of data rows exported so far.
      */
     private int csvSize;
 
     /**
-     * The name of the CSV file.
+     * The name of the export file (without extension).
      */
     private String csvName;
 
@@ -120,9 +118,9 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     private long nextExport;
 
     /**
-     * Output stream writer for the csv file.
+     * Writer for the export file, either in CSV or in columnar binary format.
      */
-    private OutputStreamWriter csvWriter;
+    private BandwidthMeasurementWriter writer;
 
     /**
      * Constructs a new PerRegionBandwidthMeasurement.
@@ -166,28 +164,29 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     }
 
     /**
-     * Initializes the CSV file for bandwidth measurements.
+     * Initializes the export file for bandwidth measurements.
      */
     private void initCsv() {
+        final boolean columnar =
+                ConfigurationData.INSTANCE.getCellConfig().bandwidthMeasurementFormat == CCell.CBandwidthMeasurementFormat.COLUMNAR;
+        final List<String> columns = new ArrayList<>(indexMap.size());
+        for (int i = 0; i < indexMap.size(); i++) {
+            columns.add(indexMap.inverse().get(i));
+        }
         try {
+            final String fileName = csvName + (columnar ? ".bwm" : ".csv");
             final OutputStream out;
             if (ConfigurationData.INSTANCE.getCellConfig().bandwidthMeasurementCompression) {
-                out = new GZIPOutputStream(new FileOutputStream(new File(parentDir, csvName + ".csv.gz")));
+                out = new GZIPOutputStream(new FileOutputStream(new File(parentDir, fileName + ".gz")));
             } else {
-                out = new FileOutputStream(new File(parentDir, csvName + ".csv"));
+                out = new FileOutputStream(new File(parentDir, fileName));
             }
-            csvWriter = new OutputStreamWriter(out, Charsets.UTF_8);
+            writer = columnar ? new ColumnarBandwidthMeasurementWriter(out) : new CsvBandwidthMeasurementWriter(out);
+            writer.writeHeader(columns);
+            writer.flush();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-
-        StringBuilder b = new StringBuilder();
-        b.append("time");
-        for (int i = 0; i < indexMap.size(); i++) {
-            b.append(";").append(indexMap.inverse().get(i));
-        }
-        writeToCsv(b.toString());
-        flushCsv();
     }
 
     //The following methods are used to update the bandwidth measurement data during the simulation.
@@ -275,9 +274,9 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     public void finish() {
         updateCsv(true);
         try {
-            csvWriter.close();
+            writer.close();
         } catch (IOException e) {
-            log.error("Could not close CSVWriter", e);
+            log.error("Could not close bandwidth measurement writer", e);
         }
     }
 
@@ -318,8 +317,8 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
     }
 
     /**
-     * Updates the CSV file with bandwidth measurements. The list of transmitted data is written
-     * out, except the last EXPORT_STEP_SIZE items.
+     * Updates the export file with bandwidth measurements. The list of transmitted data is written
+     * out, except the last EXPORT_STEP_SIZE items. Written rows are released from memory.
      *
      * @param everything if set to <code>true</code>, the complete list of transmitted data is written down
      */
@@ -332,65 +331,38 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
         }
 
         int endRowIndex = max(csvSize, csvSize + exportSize);
-
-        StringBuffer b;
-        for (int rowIndex = csvSize; rowIndex < endRowIndex; rowIndex++) {
-            b = new StringBuffer(Long.toUnsignedString((csvSize * interval) / TIME.SECOND));
-
-            /* Previous version:
-             *      for (Long transmitted: transmittedDataList.get(rowIndex)) {
-             *          b.append(";").append(ObjectUtils.defaultIfNull(transmitted, 0).toString());
-             *      }
-             * was quite slow; especially due to inefficient iteration over the array and
-             * frequent conversions of zeros to string. */
-            long transmitted;
-            Row row = transmittedData.get(rowIndex);
-            for (int i = 0; i < row.size(); i++) {
-                transmitted = row.get(i);
-                if (transmitted == 0L) {
-                    b.append(";0");
-                } else {
-                    b.append(";").append(Long.toUnsignedString(transmitted));
-                }
-            }
-            transmittedData.clearRow(rowIndex);
-
-            writeToCsv(b.toString());
-            csvSize++;
-        }
-        flushCsv();
-    }
-
-    /**
-     * Writes measurements to the csv file.
-     *
-     * @param s String to write to csv file.
-     */
-    private void writeToCsv(String s) {
         try {
-            csvWriter.write(s);
-            csvWriter.write(SystemUtils.LINE_SEPARATOR);
-        } catch (IOException e) {
-            log.error("Could not write line", e);
-        }
-    }
-
-    private void flushCsv() {
-        try {
-            csvWriter.flush();
+            for (int rowIndex = csvSize; rowIndex < endRowIndex; rowIndex++) {
+                writer.writeRow((csvSize * interval) / TIME.SECOND, transmittedData.get(rowIndex).content);
+                transmittedData.clearRow(rowIndex);
+                csvSize++;
+            }
+            writer.flush();
         } catch (IOException e) {
-            log.error("Could not write line", e);
+            log.error("Could not write bandwidth measurements", e);
         }
     }
 
     /**
-     * Wrapper around the actual list of transmitted data.
-     * In order to consume less memory, rows which have been written out
-     * to CSV are replaced with null references.
+     * Sliding window over the transmitted data of all intervals not yet exported.
+     * Rows are kept in a ring buffer, which only grows if transmissions span more intervals
+     * than currently fit, hence memory does not grow with the simulation time.
+     * Rows which have been exported are released by {@link #clearRow}.
      */
     static class TransmittedData {
 
-        private final ArrayList<Row> transmittedDataList = new ArrayList<>();
+        private Row[] window = new Row[2 * EXPORT_STEP_SIZE];
+
+        /**
+         * Index of the first row in the window, all previous rows have been exported.
+         */
+        private int firstRowIndex = 0;
+
+        /**
+         * Total number of rows, including the exported rows.
+         */
+        private int size = 0;
+
         private int columnSize;
 
         void init(int columnSize) {
@@ -398,25 +370,42 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
         }
 
         int size() {
-            return transmittedDataList.size();
+            return size;
         }
 
         Row get(int rowIndex) {
-            if (size() <= rowIndex) {
-                for (int i = size(); i <= rowIndex; i++) {
-                    transmittedDataList.add(null);
-                }
+            if (rowIndex < firstRowIndex) {
+                // row has already been exported, late measurements are discarded
+                return new Row(columnSize);
             }
-            Row row = transmittedDataList.get(rowIndex);
+            if (rowIndex - firstRowIndex >= window.length) {
+                grow(rowIndex - firstRowIndex + 1);
+            }
+            size = max(size, rowIndex + 1);
+            final int slot = rowIndex % window.length;
+            Row row = window[slot];
             if (row == null) {
                 row = new Row(columnSize);
-                transmittedDataList.set(rowIndex, row);
+                window[slot] = row;
             }
             return row;
         }
 
         void clearRow(int rowIndex) {
-            transmittedDataList.set(rowIndex, null);
+            if (rowIndex >= firstRowIndex && rowIndex - firstRowIndex < window.length) {
+                window[rowIndex % window.length] = null;
+            }
+            if (rowIndex == firstRowIndex) {
+                firstRowIndex++;
+            }
+        }
+
+        private void grow(int minLength) {
+            final Row[] newWindow = new Row[max(minLength, 2 * window.length)];
+            for (int rowIndex = firstRowIndex; rowIndex < size; rowIndex++) {
+                newWindow[rowIndex % newWindow.length] = window[rowIndex % window.length];
+            }
+            window = newWindow;
         }
     }
 
@@ -427,7 +416,7 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
      */
     static class Row {
 
-        private Long[] content = null;
+        private long[] content = null;
         private final int size;
 
         private Row(int size) {
@@ -438,12 +427,12 @@ public class PerRegionBandwidthMeasurement implements StreamListener {
             if (content == null) {
                 return 0;
             }
-            return ObjectUtils.defaultIfNull(content[column], 0L);
+            return content[column];
         }
 
         void set(int column, long value) {
             if (content == null) {
-                content = new Long[size];
+                content = new long[size];
             }
             content[column] = value;
         }
@@ -17,7 +17,12 @@ package org.eclipse.mosaic.fed.cell.chain;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.fed.cell.config.CNetwork;
@@ -209,4 +214,30 @@ public class ChainManagerTest {
         assertTrue(eventsAdded.get(1).getProcessors().get(0) instanceof DownstreamModule);
         assertEquals(0, rtiInteractionsSent.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void addEvent_timeRequestedOnlyOnceUntilGranted() throws IllegalValueException {
+        //SETUP
+        final ChainManager chainManager = new ChainManager(rti, rng, ambassadorParameter);
+        final List<Long> processedEvents = new ArrayList<>();
+
+        //RUN
+        chainManager.addEvent(new Event(12 * TIME.SECOND, e -> processedEvents.add(e.getTime())));
+        chainManager.addEvent(new Event(12 * TIME.SECOND, e -> processedEvents.add(e.getTime())));
+        chainManager.addEvent(new Event(13 * TIME.SECOND, e -> processedEvents.add(e.getTime())));
+
+        //ASSERT
+        verify(rti, times(1)).requestAdvanceTime(eq(12 * TIME.SECOND), anyLong(), anyByte());
+        verify(rti, times(1)).requestAdvanceTime(eq(13 * TIME.SECOND), anyLong(), anyByte());
+
+        //RUN
+        chainManager.advanceTime(12 * TIME.SECOND);
+        chainManager.addEvent(new Event(12 * TIME.SECOND, e -> processedEvents.add(e.getTime())));
+        chainManager.addEvent(new Event(13 * TIME.SECOND, e -> processedEvents.add(e.getTime())));
+
+        //ASSERT
+        assertEquals(2, processedEvents.size());
+        verify(rti, times(2)).requestAdvanceTime(eq(12 * TIME.SECOND), anyLong(), anyByte());
+        verify(rti, times(1)).requestAdvanceTime(eq(13 * TIME.SECOND), anyLong(), anyByte());
+    }
+}
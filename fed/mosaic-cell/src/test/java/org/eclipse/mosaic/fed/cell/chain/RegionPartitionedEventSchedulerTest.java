@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.chain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
+import org.eclipse.mosaic.fed.cell.data.SimulationData;
+import org.eclipse.mosaic.fed.cell.junit.CellConfigurationRule;
+import org.eclipse.mosaic.fed.cell.junit.CellSimulationRule;
+import org.eclipse.mosaic.fed.cell.message.CellModuleMessage;
+import org.eclipse.mosaic.fed.cell.message.StreamResult;
+import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
+import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.GeoRectangle;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.junit.IpResolverRule;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.addressing.CellMessageRoutingBuilder;
+import org.eclipse.mosaic.lib.objects.addressing.IpResolver;
+import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
+import org.eclipse.mosaic.lib.objects.v2x.MessageRouting;
+import org.eclipse.mosaic.lib.util.scheduling.Event;
+import org.eclipse.mosaic.rti.DATA;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class RegionPartitionedEventSchedulerTest {
+
+    private static final long SEED = 182931861823L;
+
+    private static final GeoRectangle[] AREAS = {
+            // tiergarten
+            new GeoRectangle(GeoPoint.latLon(52.5165, 13.3300), GeoPoint.latLon(52.5092, 13.3780)),
+            // kreuzberg
+            new GeoRectangle(GeoPoint.latLon(52.5085, 13.3790), GeoPoint.latLon(52.4900, 13.4390)),
+            // northBerlin
+            new GeoRectangle(GeoPoint.latLon(52.5450, 13.3600), GeoPoint.latLon(52.5300, 13.4100))
+    };
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule().strictness(Strictness.LENIENT);
+
+    @Mock
+    public RtiAmbassador rti;
+
+    @Rule
+    public IpResolverRule ipResolverRule = new IpResolverRule();
+
+    private final GeoProjectionRule transformationRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13.3856, 52.5415)), 388405.53, 5820063.64)
+    );
+
+    private final CellConfigurationRule configRule = new CellConfigurationRule()
+            .withCellConfig("configs/sample_cell.json")
+            .withNetworkConfig("configs/network_for_moduletest.json")
+            .withRegionConfig("configs/regions_for_moduletest.json");
+
+    @Rule
+    public RuleChain ruleChain = RuleChain.outerRule(transformationRule).around(configRule);
+
+    @Rule
+    public CellSimulationRule simulationRule = new CellSimulationRule();
+
+    private final List<String> interactionsSent = new ArrayList<>();
+    private final Map<Integer, Integer> messageIndices = new HashMap<>();
+    private final TreeSet<Long> requestedTimes = new TreeSet<>();
+
+    private final List<String> nodes = new ArrayList<>();
+
+    @Before
+    public void setup() throws Exception {
+        doAnswer(invocation -> {
+            interactionsSent.add(toString(invocation.getArgument(0)));
+            return null;
+        }).when(rti).triggerInteraction(ArgumentMatchers.any(Interaction.class));
+        doAnswer(invocation -> {
+            final long[] times = invocation.getArgument(0);
+            final int length = invocation.getArgument(1);
+            for (int i = 0; i < length; i++) {
+                requestedTimes.add(times[i]);
+            }
+            return null;
+        }).when(rti).requestAdvanceTimes(ArgumentMatchers.any(long[].class), anyInt(), anyLong(), anyByte());
+        doAnswer(invocation -> requestedTimes.add(invocation.getArgument(0)))
+                .when(rti).requestAdvanceTime(anyLong(), anyLong(), anyByte());
+
+        final Random random = new Random(SEED);
+        for (int i = 0; i < 60; i++) {
+            final String node = "veh_" + i;
+            final GeoRectangle area = AREAS[i % AREAS.length];
+            final double lat = area.getB().getLatitude() + random.nextDouble() * (area.getA().getLatitude() - area.getB().getLatitude());
+            final double lon = area.getA().getLongitude() + random.nextDouble() * (area.getB().getLongitude() - area.getA().getLongitude());
+            SimulationData.INSTANCE.setCellConfigurationOfNode(node, new CellConfiguration(node, true));
+            SimulationData.INSTANCE.setPositionOfNode(node, GeoPoint.latLon(lat, lon).toCartesian());
+            IpResolver.getSingleton().registerHost(node);
+            nodes.add(node);
+        }
+    }
+
+    @Test
+    public void partitionKeys() {
+        RegionUtility.getRegionForNode("veh_0");
+        RegionUtility.getRegionForNode("veh_1");
+
+        final SampleV2xMessage tiergarten = createMessage(new CellMessageRoutingBuilder("veh_0", null).topoCast("veh_3"));
+        final SampleV2xMessage kreuzberg = createMessage(new CellMessageRoutingBuilder("veh_1", null).topoCast("veh_3"));
+
+        assertEquals(Set.of("node:veh_0", "region:tiergarten"),
+                RegionPartitionedEventScheduler.getPartitionKeys(new Event(0, e -> {}, tiergarten)));
+        assertEquals(Set.of("node:veh_1", "region:kreuzberg"),
+                RegionPartitionedEventScheduler.getPartitionKeys(new Event(0, e -> {}, kreuzberg)));
+
+        final StreamResult streamResult = new StreamResult("kreuzberg", 200 * DATA.BIT, TransmissionMode.UplinkUnicast, "veh_1", kreuzberg);
+        final CellModuleMessage cellModuleMessage = new CellModuleMessage.Builder("Upstream", "Geocaster").resource(streamResult).build();
+        assertEquals(Set.of("node:veh_1", "region:kreuzberg"),
+                RegionPartitionedEventScheduler.getPartitionKeys(new Event(0, e -> {}, cellModuleMessage)));
+
+        assertNull(RegionPartitionedEventScheduler.getPartitionKeys(new Event(0, e -> {})));
+    }
+
+    @Test
+    public void resultsEqualToSequentialProcessing() throws Exception {
+        final List<String> sequential = simulate(0);
+        final List<String> twoThreads = simulate(2);
+        final List<String> fourThreads = simulate(4);
+        final List<String> fourThreadsAgain = simulate(4);
+
+        assertFalse(sequential.isEmpty());
+        // capacity limits of the regions must be reached to make the order of processing relevant
+        assertTrue(sequential.stream().anyMatch(interaction -> interaction.contains("NACK")));
+        assertEquals(sequential, twoThreads);
+        assertEquals(sequential, fourThreads);
+        assertEquals(sequential, fourThreadsAgain);
+    }
+
+    @Test
+    public void randomNumbersDrawnInOrderOfEvents() {
+        for (String node : nodes) {
+            RegionUtility.getRegionForNode(node);
+        }
+        final ChainManager chainManager = new ChainManager(
+                rti, new DefaultRandomNumberGenerator(SEED), new AmbassadorParameter(null, new File("cell_config.json")), 2
+        );
+        final List<String> drawingNodes = Collections.synchronizedList(new ArrayList<>());
+        try {
+            // events of different regions, the first one takes longer before drawing a random number
+            for (String node : List.of("veh_0", "veh_1")) {
+                final StreamResult streamResult = new StreamResult(RegionUtility.getRegionForNode(node).id, 200 * DATA.BIT,
+                        TransmissionMode.UplinkUnicast, node, createMessage(new CellMessageRoutingBuilder(node, null).topoCast("veh_3")));
+                chainManager.addEvent(new Event(TIME.SECOND, e -> {
+                    if (node.equals("veh_0")) {
+                        Thread.sleep(200);
+                    }
+                    chainManager.getRandomNumberGenerator().nextDouble();
+                    drawingNodes.add(node);
+                }, new CellModuleMessage.Builder("Upstream", "Geocaster").resource(streamResult).build()));
+            }
+            chainManager.advanceTime(TIME.SECOND);
+        } finally {
+            chainManager.shutdown();
+        }
+        assertEquals(List.of("veh_0", "veh_1"), drawingNodes);
+    }
+
+    private List<String> simulate(int threads) {
+        interactionsSent.clear();
+        messageIndices.clear();
+        requestedTimes.clear();
+
+        final ChainManager chainManager = new ChainManager(
+                rti, new DefaultRandomNumberGenerator(SEED), new AmbassadorParameter(null, new File("cell_config.json")), threads
+        );
+        try {
+            final Random random = new Random(SEED);
+            for (long time = TIME.SECOND; time <= 5 * TIME.SECOND; time += TIME.SECOND) {
+                for (String sender : nodes) {
+                    final CellMessageRoutingBuilder routingBuilder = new CellMessageRoutingBuilder(sender, null);
+                    final MessageRouting routing = random.nextBoolean()
+                            ? routingBuilder.tcp().topoCast(nodes.get(random.nextInt(nodes.size())))
+                            : routingBuilder.geoBroadcastBasedOnUnicast(AREAS[random.nextInt(AREAS.length)]);
+                    chainManager.startEvent(new V2xMessageTransmission(time, createMessage(routing)));
+                }
+            }
+            while (!requestedTimes.isEmpty()) {
+                chainManager.advanceTime(requestedTimes.pollFirst());
+            }
+        } finally {
+            chainManager.shutdown();
+        }
+        return new ArrayList<>(interactionsSent);
+    }
+
+    private SampleV2xMessage createMessage(MessageRouting routing) {
+        final SampleV2xMessage message = new SampleV2xMessage(routing, 4000 * DATA.BIT);
+        messageIndices.put(message.getId(), messageIndices.size());
+        return message;
+    }
+
+    private String toString(Interaction interaction) {
+        if (interaction instanceof V2xMessageReception) {
+            final V2xMessageReception reception = (V2xMessageReception) interaction;
+            return String.format("t=%d: msg %d received by %s",
+                    reception.getTime(), messageIndices.get(reception.getMessageId()), reception.getReceiverName());
+        }
+        if (interaction instanceof V2xMessageAcknowledgement) {
+            final V2xMessageAcknowledgement ack = (V2xMessageAcknowledgement) interaction;
+            return String.format("t=%d: msg %d %s %s", ack.getTime(), messageIndices.get(ack.getOriginatingMessageId()),
+                    ack.isAcknowledged() ? "ACK" : "NACK", ack.getNegativeReasons());
+        }
+        return interaction.toString();
+    }
+}
@@ -35,6 +35,7 @@ import org.eclipse.mosaic.fed.cell.message.GeocasterResult;
 import org.eclipse.mosaic.fed.cell.message.StreamResult;
 import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
 import org.eclipse.mosaic.lib.enums.ProtocolType;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoRectangle;
 import org.eclipse.mosaic.lib.geo.UtmPoint;
@@ -74,6 +75,7 @@ import org.mockito.quality.Strictness;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -224,6 +226,44 @@ public class GeocasterModuleTest {
         assertEquals(receiverMap, geocasterResult.getReceivers());
     }
 
+    @Test
+    public void testCellGeoUnicast_seededReceiverOrder() {
+        // SETUP
+        GeoPoint nw = GeoPoint.lonLat(13.333625793457031, 52.51563064800963);
+        GeoPoint se = GeoPoint.lonLat(13.421859741210938, 52.5053554452214);
+        routing.set(new CellMessageRoutingBuilder("veh_0", null).geoBroadcastBasedOnUnicast(new GeoRectangle(nw, se)));
+        CartesianPoint inRectangleKreuzberg = GeoPoint.lonLat(13.404693603515625, 52.50838549553871).toCartesian();
+
+        // nodes are added in reverse order and placed from east to west, so that neither order equals the order of their ids
+        final List<String> receivers = new ArrayList<>();
+        for (int i = 9; i >= 0; i--) {
+            String receiver = "veh_" + i;
+            SimulationData.INSTANCE.setPositionOfNode(receiver, CartesianPoint.xy(inRectangleKreuzberg.getX() - 50 * i, inRectangleKreuzberg.getY()));
+            SimulationData.INSTANCE.setCellConfigurationOfNode(receiver, new CellConfiguration(receiver, true, 400 * DATA.BIT, 400 * DATA.BIT));
+            receivers.add(receiver);
+        }
+
+        SampleV2xMessage sampleV2XMessage = new SampleV2xMessage(routing.get(), 5 * DATA.BYTE);
+        StreamResult streamResult =
+                new StreamResult(GLOBAL_NETWORK_ID, 200 * DATA.BIT, TransmissionMode.UplinkUnicast, "rsu_0", sampleV2XMessage);
+        CellModuleMessage cellModuleMessage = new CellModuleMessage.Builder("Upstream", "Geocaster")
+                .resource(streamResult)
+                .build();
+
+        // RUN
+        geocasterModule.processEvent(new Event(10 * TIME.SECOND, geocasterModule, cellModuleMessage));
+
+        // ASSERT
+        final List<String> expectedOrder = new ArrayList<>(receivers);
+        Collections.sort(expectedOrder);
+        new DefaultRandomNumberGenerator(SEED).shuffle(expectedOrder);
+
+        assertEquals(1, cellModuleMessages.size());
+        GeocasterResult geocasterResult = cellModuleMessages.get(0).getResource();
+        assertEquals(1, geocasterResult.getReceivers().keySet().size());
+        assertEquals(expectedOrder, new ArrayList<>(geocasterResult.getReceivers().values()));
+    }
+
     @Test
     public void testCellGeoBroadcastMbms() {
         // SETUP
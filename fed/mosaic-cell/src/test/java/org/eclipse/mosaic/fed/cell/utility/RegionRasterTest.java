@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.cell.utility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
+import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
+import org.eclipse.mosaic.fed.cell.junit.CellConfigurationRule;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests the {@link RegionRaster} against the polygon based lookup of the {@link RegionsIndex}
+ * using the regions of Berlin and Brandenburg.
+ */
+public class RegionRasterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RegionRasterTest.class);
+
+    private final GeoProjectionRule transformationRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13, 52)), 249025.87, 5689442.67)
+    );
+
+    private final CellConfigurationRule configRule = new CellConfigurationRule()
+            .withNetworkConfig("configs/sample_network.json")
+            .withRegionConfig("berlinbrandenburg/regions.json");
+
+    @Rule
+    public RuleChain ruleChain = RuleChain.outerRule(transformationRule).around(configRule);
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void getRegionEqualsPolygonLookup() {
+        // SETUP
+        final List<CMobileNetworkProperties> regions = ConfigurationData.INSTANCE.getRegionConfig().regions;
+        final RegionsIndex polygonIndex = new RegionsIndex(regions);
+
+        for (double cellSize : new double[]{100, 1000}) {
+            // RUN
+            final RegionRaster regionRaster = new RegionRaster(regions, cellSize);
+
+            // ASSERT
+            for (int i = 0; i < 20000; i++) {
+                final CartesianPoint position = randomPosition(regions);
+                assertSame(polygonIndex.getRegion(position), regionRaster.getRegion(position));
+            }
+        }
+    }
+
+    @Test
+    public void getRegionOutsideOfRegions() {
+        final RegionRaster regionRaster = new RegionRaster(ConfigurationData.INSTANCE.getRegionConfig().regions, 100);
+
+        assertNull(regionRaster.getRegion(CartesianPoint.xy(-1e7, -1e7)));
+        assertNull(regionRaster.getRegion(CartesianPoint.xy(1e7, 1e7)));
+    }
+
+    @Test
+    public void withoutRegions() {
+        final RegionRaster regionRaster = new RegionRaster(Collections.emptyList(), 100);
+
+        assertEquals(1, regionRaster.getNumberOfCells());
+        assertNull(regionRaster.getRegion(CartesianPoint.xy(0, 0)));
+    }
+
+    @Test
+    public void performanceTest() {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final List<CMobileNetworkProperties> regions = ConfigurationData.INSTANCE.getRegionConfig().regions;
+        final CartesianPoint[] positions = new CartesianPoint[200_000];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = randomPosition(regions);
+        }
+
+        long start = System.nanoTime();
+        final RegionsIndex polygonIndex = new RegionsIndex(regions);
+        final long polygonBuildTime = System.nanoTime() - start;
+        start = System.nanoTime();
+        final RegionRaster regionRaster = new RegionRaster(regions, 100);
+        final long rasterBuildTime = System.nanoTime() - start;
+
+        // warm up
+        lookup(polygonIndex, null, positions);
+        lookup(null, regionRaster, positions);
+
+        start = System.nanoTime();
+        lookup(polygonIndex, null, positions);
+        final long polygonLookupTime = System.nanoTime() - start;
+        start = System.nanoTime();
+        lookup(null, regionRaster, positions);
+        final long rasterLookupTime = System.nanoTime() - start;
+
+        log.debug(String.format("Region lookup with %d regions: polygon index build %.1f ms, %.0f lookups/s; "
+                        + "region raster (%d cells, %d boundary cells) build %.1f ms, %.0f lookups/s",
+                regions.size(), polygonBuildTime / 1e6, positions.length / (polygonLookupTime / 1e9),
+                regionRaster.getNumberOfCells(), regionRaster.getNumberOfBoundaryCells(),
+                rasterBuildTime / 1e6, positions.length / (rasterLookupTime / 1e9)));
+    }
+
+    private int lookup(RegionsIndex polygonIndex, RegionRaster regionRaster, CartesianPoint[] positions) {
+        int found = 0;
+        for (CartesianPoint position : positions) {
+            if ((polygonIndex != null ? polygonIndex.getRegion(position) : regionRaster.getRegion(position)) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private CartesianPoint randomPosition(List<CMobileNetworkProperties> regions) {
+        // random position within the bounds of a random region, including positions outside of any region
+        final CMobileNetworkProperties region = regions.get(random.nextInt(regions.size()));
+        final double minX = region.getCapoArea().getBounds().getSideD();
+        final double maxX = region.getCapoArea().getBounds().getSideB();
+        final double minY = region.getCapoArea().getBounds().getSideA();
+        final double maxY = region.getCapoArea().getBounds().getSideC();
+        final double margin = 0.2 * Math.max(maxX - minX, maxY - minY);
+        return CartesianPoint.xy(
+                minX - margin + random.nextDouble() * (maxX - minX + 2 * margin),
+                minY - margin + random.nextDouble() * (maxY - minY + 2 * margin)
+        );
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.cell.utility;
 
 import static org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties.GLOBAL_NETWORK_ID;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
 
 import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
@@ -24,9 +25,12 @@ import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
 import org.eclipse.mosaic.fed.cell.data.SimulationData;
 import org.eclipse.mosaic.fed.cell.junit.CellConfigurationRule;
 import org.eclipse.mosaic.fed.cell.junit.CellSimulationRule;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoArea;
 import org.eclipse.mosaic.lib.geo.GeoCircle;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoPolygon;
+import org.eclipse.mosaic.lib.geo.GeoRectangle;
 import org.eclipse.mosaic.lib.geo.MutableGeoPoint;
 import org.eclipse.mosaic.lib.geo.UtmPoint;
 import org.eclipse.mosaic.lib.geo.UtmZone;
@@ -36,15 +40,21 @@ import org.eclipse.mosaic.lib.transform.GeoProjection;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.RuleChain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Class that tests methods of the RegionUtility of the cell.
  */
 public class RegionUtilityTest {
 
+    private static final Logger log = LoggerFactory.getLogger(RegionUtilityTest.class);
+
     private final CellConfigurationRule configRule = new CellConfigurationRule()
             .withNetworkConfig("configs/sample_network.json")
             .withRegionConfig("configs/sample_regions.json");
@@ -59,6 +69,8 @@ public class RegionUtilityTest {
     @Rule
     public CellSimulationRule simulationRule = new CellSimulationRule();
 
+    private final Random random = new Random(42);
+
     /**
      * Tests if the right region is returned for an area.
      */
@@ -166,4 +178,148 @@ public class RegionUtilityTest {
         assertEquals(sampleRegion3.id, RegionUtility.getRegionForNode("nodeWithinBoundary3").id);
         assertEquals(GLOBAL_NETWORK_ID, RegionUtility.getRegionForNode("nodeOutsideBoundary3").id);
     }
+
+    /**
+     * Tests if the indexed node lookups per region and per area equal a linear scan over all nodes,
+     * while nodes are moving, performing handovers, and leaving the simulation.
+     */
+    @Test
+    public void testGetNodesEqualsLinearScan() {
+        // SETUP
+        final List<String> nodes = createNodes(2000);
+        final List<CNetworkProperties> regions = RegionUtility.getAllRegions(true, false);
+
+        for (int step = 0; step < 5; step++) {
+            // RUN
+            moveNodes(nodes);
+            SimulationData.INSTANCE.removeNode(nodes.get(random.nextInt(nodes.size())));
+            // nodes without region are resolved lazily
+            SimulationData.INSTANCE.setPositionOfNode("new_" + step, randomPosition());
+
+            // ASSERT
+            for (CNetworkProperties region : regions) {
+                assertEquals(
+                        new HashSet<>(getNodesForRegionLinear(region)),
+                        new HashSet<>(RegionUtility.getNodesForRegion(region))
+                );
+            }
+            for (int i = 0; i < 20; i++) {
+                final GeoArea area = new GeoCircle(
+                        GeoProjection.getInstance().cartesianToGeographic(randomPosition()), random.nextDouble() * 5000
+                );
+                assertEquals(
+                        new HashSet<>(getNodesForDestinationAreaLinear(area)),
+                        new HashSet<>(RegionUtility.getNodesForDestinationArea(area))
+                );
+            }
+        }
+    }
+
+    /**
+     * Resolves the receivers of MBMS broadcasts to each of 100 regions and of 1000 geocasts among 50.000 nodes.
+     */
+    @Test
+    public void performanceTest() {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final List<CMobileNetworkProperties> regions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final CMobileNetworkProperties region = new CMobileNetworkProperties();
+            region.id = "region_" + i;
+            final double lat = 52.35 + (i / 10) * 0.03;
+            final double lon = 13.2 + (i % 10) * 0.06;
+            region.area = new GeoRectangle(GeoPoint.latLon(lat + 0.03, lon), GeoPoint.latLon(lat, lon + 0.06));
+            regions.add(region);
+        }
+        RegionUtility.initializeRegionsIndex(regions);
+        createNodes(50000);
+        final List<GeoArea> areas = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            areas.add(new GeoCircle(GeoProjection.getInstance().cartesianToGeographic(randomPosition()), 500));
+        }
+
+        // warm up
+        resolveReceivers(regions, areas, false);
+        resolveReceivers(regions, areas, true);
+
+        long start = System.nanoTime();
+        final int indexedReceivers = resolveReceivers(regions, areas, false);
+        final long indexedTime = System.nanoTime() - start;
+        start = System.nanoTime();
+        final int linearReceivers = resolveReceivers(regions, areas, true);
+        final long linearTime = System.nanoTime() - start;
+
+        assertEquals(linearReceivers, indexedReceivers);
+        log.debug(String.format("Receivers of %d regions and %d geocasts among %d nodes: indexed %.1f ms, linear scan %.1f ms",
+                regions.size(), areas.size(), SimulationData.INSTANCE.getAllNodesInSimulation().size(),
+                indexedTime / 1e6, linearTime / 1e6));
+    }
+
+    private int resolveReceivers(List<CMobileNetworkProperties> regions, List<GeoArea> areas, boolean linear) {
+        int receivers = 0;
+        for (CMobileNetworkProperties region : regions) {
+            receivers += linear ? getNodesForRegionLinear(region).size() : RegionUtility.getNodesForRegion(region).size();
+        }
+        for (GeoArea area : areas) {
+            receivers += linear ? getNodesForDestinationAreaLinear(area).size() : RegionUtility.getNodesForDestinationArea(area).size();
+        }
+        return receivers;
+    }
+
+    private List<String> getNodesForRegionLinear(CNetworkProperties region) {
+        final List<String> result = new ArrayList<>();
+        for (String node : SimulationData.INSTANCE.getAllNodesInSimulation()) {
+            if (RegionUtility.getRegionForNode(node).id.equals(region.id)) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    private List<String> getNodesForDestinationAreaLinear(GeoArea geoArea) {
+        final List<String> result = new ArrayList<>();
+        for (String node : SimulationData.INSTANCE.getAllNodesInSimulation()) {
+            final CartesianPoint position = SimulationData.INSTANCE.getPositionOfNode(node);
+            if (position != null && geoArea.toCartesian().contains(position)) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    private List<String> createNodes(int numberOfNodes) {
+        final List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < numberOfNodes; i++) {
+            final String node = "veh_" + i;
+            updateNode(node, randomPosition());
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    private void moveNodes(List<String> nodes) {
+        for (String node : nodes) {
+            final CartesianPoint position = SimulationData.INSTANCE.getPositionOfNode(node);
+            if (position != null) {
+                updateNode(node, CartesianPoint.xy(
+                        position.getX() + (random.nextDouble() * 2 - 1) * 500,
+                        position.getY() + (random.nextDouble() * 2 - 1) * 500
+                ));
+            }
+        }
+    }
+
+    /**
+     * Updates the node in the same way as the CellAmbassador does for vehicle updates.
+     */
+    private void updateNode(String node, CartesianPoint position) {
+        SimulationData.INSTANCE.setPositionOfNode(node, position);
+        SimulationData.INSTANCE.setRegionOfNode(node, RegionUtility.getRegionForPosition(position));
+    }
+
+    private CartesianPoint randomPosition() {
+        return GeoProjection.getInstance().geographicToCartesian(
+                GeoPoint.latLon(52.35 + random.nextDouble() * 0.3, 13.2 + random.nextDouble() * 0.6)
+        );
+    }
 }
@@ -16,7 +16,9 @@
 package org.eclipse.mosaic.fed.cell.viz;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import org.eclipse.mosaic.fed.cell.config.CCell;
 import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
 import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
@@ -217,6 +219,56 @@ public class PerRegionBandwidthMeasurementTest {
         assertExportedCsvFile(gzippedTargetStream);
     }
 
+    @Test
+    public void exportInColumnarFormat() throws IOException {
+        ConfigurationData.INSTANCE.getCellConfig().bandwidthMeasurementFormat = CCell.CBandwidthMeasurementFormat.COLUMNAR;
+        setup();
+
+        // RUN
+        sendNMessages(90, 10);
+        sendNMessages(250, 10);
+        sendNMessages(596, 1);
+        sendNMessages(1190, 10);
+        sendNMessages(1500, 10);
+        sendNMessages(1790, 10);
+        sendNMessages(3600, 1);
+        measurement.finish();
+
+        // ASSERT
+        File columnarFile = new File(targetFile.getParent(), "fromRegion#toRegion#ALL.bwm");
+        assertTrue(columnarFile.length() < 0.5 * getResourceSize("/bandwidthMeasurements/fromRegion#toRegion#ALL.csv"));
+
+        BandwidthMeasurementManager.convertToCsv(columnarFile, targetFile);
+        assertExportedCsvFile();
+    }
+
+    @Test
+    public void exportedRowsAreReleased() throws IOException {
+        setup();
+
+        // RUN
+        for (int t = 0; t < 100000; t += 100) {
+            sendNMessages(t, 1);
+        }
+
+        // ASSERT
+        assertEquals(99905, measurement.transmittedData.size());
+        int rowsInMemory = 0;
+        for (int i = 0; i < measurement.transmittedData.size(); i++) {
+            if (measurement.transmittedData.get(i).get(1) != 0) {
+                rowsInMemory++;
+            }
+        }
+        // only rows of the last two export steps are kept, all others have been written already
+        assertTrue(rowsInMemory <= 2 * 600);
+    }
+
+    private long getResourceSize(String resource) throws IOException {
+        try (InputStream in = this.getClass().getResourceAsStream(resource)) {
+            return IOUtils.toByteArray(in).length;
+        }
+    }
+
     private void assertExportedCsvFile() throws IOException {
         assertExportedCsvFile(FileUtils.openInputStream(targetFile));
     }
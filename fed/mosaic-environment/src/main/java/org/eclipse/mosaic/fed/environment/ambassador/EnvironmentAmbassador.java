@@ -21,6 +21,7 @@ import org.eclipse.mosaic.fed.environment.config.CEventTime;
 import org.eclipse.mosaic.interactions.environment.EnvironmentSensorActivation;
 import org.eclipse.mosaic.interactions.environment.EnvironmentSensorUpdates;
 import org.eclipse.mosaic.interactions.environment.GlobalEnvironmentUpdates;
+import org.eclipse.mosaic.interactions.traffic.LatestVehicleData;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.objects.environment.EnvironmentEvent;
 import org.eclipse.mosaic.lib.objects.environment.EnvironmentEventLocation;
@@ -55,6 +56,11 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
      */
     private final Set<String> activeUnits = new HashSet<>();
 
+    /**
+     * The latest data of all vehicles, as {@link VehicleUpdates} may omit vehicles whose state has not changed.
+     */
+    private final LatestVehicleData latestVehicleData = new LatestVehicleData();
+
     /**
      * The configuration file referenced in {@link AmbassadorParameter} is used for {@link CEnvironment}
      * object instantiation. Log message from object instantiation is logged.
@@ -156,26 +162,19 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
      * @throws RuntimeException if an interaction with sensor data could not be sent.
      */
     private void emitSensorData(VehicleUpdates vehicleUpdates) {
-        final long startTime = vehicleUpdates.getTime();
-        final long endTime = vehicleUpdates.getNextUpdate();
+        latestVehicleData.update(vehicleUpdates);
 
-        log.debug("Received {} updated vehicle movements", vehicleUpdates.getUpdated().size());
+        log.debug("Received {} updated and {} unchanged vehicle movements",
+                vehicleUpdates.getUpdated().size(), vehicleUpdates.getUnchangedNames().size());
 
         for (VehicleData info : vehicleUpdates.getUpdated()) {
-            final List<EnvironmentEvent> events = config.events.stream()
-                    .filter(e -> isValidEvent(e, info))
-                    .map(e -> new EnvironmentEvent(e.type.sensorType, e.type.value, startTime, endTime))
-                    .collect(Collectors.toList());
-
-            if (!events.isEmpty()) {
-                try {
-                    rti.triggerInteraction(new EnvironmentSensorUpdates(vehicleUpdates.getTime(), info.getName(), events));
-                    if (log.isDebugEnabled()) {
-                        log.debug("SimTime {}: Emitted sensor data to vehicle {}", info.getTime(), info.getName());
-                    }
-                } catch (IllegalValueException | InternalFederateException e) {
-                    throw new RuntimeException("Could not send interaction: " + e.getMessage());
-                }
+            emitSensorData(vehicleUpdates, info);
+        }
+        // vehicles which have not moved still need to be informed about events starting or ending in their area
+        for (String unchanged : vehicleUpdates.getUnchangedNames()) {
+            final VehicleData info = latestVehicleData.get(unchanged);
+            if (info != null) {
+                emitSensorData(vehicleUpdates, info);
             }
         }
         // Delete vehicles that have left the simulation
@@ -185,6 +184,27 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
         }
     }
 
+    private void emitSensorData(VehicleUpdates vehicleUpdates, VehicleData info) {
+        final long startTime = vehicleUpdates.getTime();
+        final long endTime = vehicleUpdates.getNextUpdate();
+
+        final List<EnvironmentEvent> events = config.events.stream()
+                .filter(e -> isValidEvent(e, info, startTime))
+                .map(e -> new EnvironmentEvent(e.type.sensorType, e.type.value, startTime, endTime))
+                .collect(Collectors.toList());
+
+        if (!events.isEmpty()) {
+            try {
+                rti.triggerInteraction(new EnvironmentSensorUpdates(vehicleUpdates.getTime(), info.getName(), events));
+                if (log.isDebugEnabled()) {
+                    log.debug("SimTime {}: Emitted sensor data to vehicle {}", startTime, info.getName());
+                }
+            } catch (IllegalValueException | InternalFederateException e) {
+                throw new RuntimeException("Could not send interaction: " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Checks if the event is valid based upon following criteria:
      * 1. Is vehicle monitored for events?
@@ -193,12 +213,13 @@ public class EnvironmentAmbassador extends AbstractFederateAmbassador {
      *
      * @param event       The event to check against
      * @param vehicleData The vehicle for the event
+     * @param time        The current simulation time, which may be later than the time of unchanged vehicle data
      * @return true if the event is valid according to criteria above
      */
-    private boolean isValidEvent(CEvent event, VehicleData vehicleData) {
+    private boolean isValidEvent(CEvent event, VehicleData vehicleData, long time) {
         return event.location != null && event.time != null && event.type != null
                 && isMonitored(vehicleData.getName())
-                && isInTimeFrame(event.time, vehicleData.getTime())
+                && isInTimeFrame(event.time, time)
                 && isInEventArea(event, vehicleData);
     }
 
@@ -162,7 +162,6 @@ public class EnvironmentAmbassadorTest {
         //PREPARE
         ambassador.processInteraction(new EnvironmentSensorActivation(0, "veh_0"));
         when(vehicleDataMock.getName()).thenReturn("veh_0");
-        when(vehicleDataMock.getTime()).thenReturn(4 * TIME.SECOND);
         when(vehicleDataMock.getPosition()).thenReturn(GeoPoint.latLon(52.5,13.2));
 
         //RUN
@@ -178,7 +177,6 @@ public class EnvironmentAmbassadorTest {
         //PREPARE
         ambassador.processInteraction(new EnvironmentSensorActivation(0, "veh_0"));
         when(vehicleDataMock.getName()).thenReturn("veh_0");
-        when(vehicleDataMock.getTime()).thenReturn(6 * TIME.SECOND);
         when(vehicleDataMock.getPosition()).thenReturn(GeoPoint.latLon(52.5,13.2));
 
         //RUN
@@ -194,7 +192,6 @@ public class EnvironmentAmbassadorTest {
         //PREPARE
         ambassador.processInteraction(new EnvironmentSensorActivation(0, "veh_0"));
         when(vehicleDataMock.getName()).thenReturn("veh_0");
-        when(vehicleDataMock.getTime()).thenReturn(20 * TIME.SECOND);
         when(vehicleDataMock.getPosition()).thenReturn(GeoPoint.latLon(52.5,13.2));
 
         //RUN
@@ -204,6 +201,25 @@ public class EnvironmentAmbassadorTest {
         assertNull(environmentSensorUpdates);
     }
 
+    @Test
+    public void emitSensorUpdates_unchangedVehicle() throws InternalFederateException, IllegalValueException {
+        //PREPARE
+        ambassador.processInteraction(new EnvironmentSensorActivation(0, "veh_0"));
+        when(vehicleDataMock.getName()).thenReturn("veh_0");
+        when(vehicleDataMock.getPosition()).thenReturn(GeoPoint.latLon(52.5,13.2));
+        ambassador.processInteraction(new VehicleUpdates(1 * TIME.SECOND, Lists.newArrayList(vehicleDataMock), Lists.newArrayList(), Lists.newArrayList()));
+        assertNull(environmentSensorUpdates);
+
+        //RUN
+        ambassador.processInteraction(new VehicleUpdates(6 * TIME.SECOND,
+                Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList(), Lists.newArrayList("veh_0")));
+
+        //ASSERT
+        assertNotNull(environmentSensorUpdates);
+        assertEquals("veh_0", environmentSensorUpdates.getUnitId());
+        assertEquals(2, environmentSensorUpdates.getEvents().size());
+    }
+
 
     @Test
     public void testTimeSliceWithinWindowBegin() {
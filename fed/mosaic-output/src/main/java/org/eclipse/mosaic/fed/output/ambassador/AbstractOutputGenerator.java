@@ -17,6 +17,8 @@ package org.eclipse.mosaic.fed.output.ambassador;
 
 import org.eclipse.mosaic.lib.util.InteractionUtils;
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.interaction.InteractionDispatcher;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 import org.apache.commons.lang3.StringUtils;
@@ -25,8 +27,6 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -71,14 +71,14 @@ public class AbstractOutputGenerator {
 
     protected final static Logger log = LoggerFactory.getLogger(AbstractOutputGenerator.class);
 
-    private final Map<String, Consumer<Interaction>> interactionRegistry = new HashMap<>();
+    private final InteractionDispatcher interactionRegistry = new InteractionDispatcher();
 
     protected AbstractOutputGenerator() {
         readHandleMethods();
     }
 
     protected <M extends Interaction> void registerInteractionForOutputGeneration(String type, Consumer<M> handleMethod) {
-        interactionRegistry.put(type, (Consumer<Interaction>) handleMethod);
+        interactionRegistry.register(type, ((Consumer<Interaction>) handleMethod)::accept);
     }
 
     public final void handleInteraction(Interaction interaction) {
@@ -86,9 +86,14 @@ public class AbstractOutputGenerator {
             return;
         }
 
-        interactionRegistry
-                .getOrDefault(interaction.getTypeId(), this::handleUnregisteredInteraction)
-                .accept(interaction);
+        try {
+            if (!interactionRegistry.dispatch(interaction)) {
+                handleUnregisteredInteraction(interaction);
+            }
+        } catch (InternalFederateException e) {
+            // registered consumers do not throw checked exceptions
+            throw new IllegalStateException(e);
+        }
     }
 
     public void handleUnregisteredInteraction(Interaction interaction) {
@@ -16,11 +16,11 @@
 package org.eclipse.mosaic.fed.output.ambassador;
 
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.interaction.InteractionTypes;
 
 import org.apache.commons.lang3.Validate;
 
-import java.util.Collection;
-import java.util.Set;
+import java.util.BitSet;
 import java.util.concurrent.PriorityBlockingQueue;
 
 class GeneratorInformation {
@@ -28,8 +28,8 @@ class GeneratorInformation {
     private final String id;
     private final AbstractOutputGenerator generator;
     private final PriorityBlockingQueue<Interaction> interactionQueue;
-    private final Collection<String> interactionTypes;
-    private final Set<String> registrationSubscriptionTypes;
+    private final BitSet interactionTypes = new BitSet();
+    private final BitSet registrationSubscriptionTypes = new BitSet();
     private final int updateUnits;
     private int updateUnitCount;
     private final long handleStartTime;
@@ -40,8 +40,12 @@ class GeneratorInformation {
         this.id = config.getId();
         this.interactionQueue = new PriorityBlockingQueue<>();
         this.generator = generator;
-        this.interactionTypes = Validate.notNull(config.getInteractionTypes());
-        this.registrationSubscriptionTypes = RegistrationSubscriptionTypes.get();
+        for (String type : Validate.notNull(config.getInteractionTypes())) {
+            this.interactionTypes.set(InteractionTypes.indexOf(type));
+        }
+        for (String type : RegistrationSubscriptionTypes.get()) {
+            this.registrationSubscriptionTypes.set(InteractionTypes.indexOf(type));
+        }
         this.updateUnits = config.getUpdateIntervalInSeconds() / globalUpdateIntervalInSeconds;
 
         this.handleStartTime = config.getHandleStartTime();
@@ -84,16 +88,13 @@ class GeneratorInformation {
      * This method allows all interactions that are either relevant and in the given handle interval
      * or interactions that add a component, while not considering the time interval.
      *
-     * @param type            the type of the interaction
+     * @param typeIndex       the index of the type of the interaction, see {@link InteractionTypes#indexOf(Interaction)}
      * @param interactionTime the time of the interaction
      * @return boolean that decides whether a interaction is relevant for handling or not
      */
-    boolean isInteractionRelevant(String type, long interactionTime) {
-        return (isInteractionInInterval(interactionTime) || isRelevantUnitRegistration(type)) && isInteractionTypeRelevant(type);
-    }
-
-    private boolean isRelevantUnitRegistration(String type) {
-        return registrationSubscriptionTypes.contains(type);
+    boolean isInteractionRelevant(int typeIndex, long interactionTime) {
+        return (isInteractionInInterval(interactionTime) || registrationSubscriptionTypes.get(typeIndex))
+                && interactionTypes.get(typeIndex);
     }
 
     private boolean isInteractionInInterval(long interactionTime) {
@@ -101,7 +102,7 @@ class GeneratorInformation {
     }
 
     boolean isInteractionTypeRelevant(String type) {
-        return interactionTypes.contains(type);
+        return interactionTypes.get(InteractionTypes.indexOf(type));
     }
 
     boolean needsFlush() {
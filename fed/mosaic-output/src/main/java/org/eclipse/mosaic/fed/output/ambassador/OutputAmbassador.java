@@ -15,6 +15,8 @@
 
 package org.eclipse.mosaic.fed.output.ambassador;
 
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.lib.math.MathUtils;
 import org.eclipse.mosaic.lib.util.XmlUtils;
 import org.eclipse.mosaic.rti.TIME;
@@ -22,6 +24,7 @@ import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.interaction.InteractionTypes;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
 
@@ -188,15 +191,23 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
 
     @Override
     public void processInteraction(Interaction interaction) {
-        String type = interaction.getTypeId();
+        if (interaction instanceof V2xMessageReceptions) {
+            // receptions bundled by the network simulator are handed to the output generators one by one,
+            // so that generators subscribed to V2xMessageReception receive them as usual
+            for (V2xMessageReception reception : ((V2xMessageReceptions) interaction).getReceptions()) {
+                processInteraction(reception);
+            }
+            return;
+        }
+        final int typeIndex = InteractionTypes.indexOf(interaction);
         long interactionTime = interaction.getTime();
-        log.trace("Process interaction with type '{}' at time: {}", type, interactionTime);
+        log.trace("Process interaction with type '{}' at time: {}", interaction.getTypeId(), interactionTime);
 
         // Add interaction to the temporary storage of all the generators,
         // which accept this kind of interaction.
         for (GeneratorInformation generator : this.generators.values()) {
             // check if values are inside desired time interval or a valid ADDED* interaction
-            if (generator.isInteractionRelevant(type, interactionTime)) {
+            if (generator.isInteractionRelevant(typeIndex, interactionTime)) {
                 if (generator.getUpdateUnitCount() == 0) {
                     //handle interaction immediately if no update interval is set
                     generator.getGenerator().handleInteraction(interaction);
@@ -22,6 +22,9 @@ import org.eclipse.mosaic.fed.output.generator.file.format.InteractionFormatter;
 import org.eclipse.mosaic.fed.output.generator.file.write.Write;
 import org.eclipse.mosaic.interactions.communication.V2xMessageRemoval;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.interactions.traffic.LatestVehicleData;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.rti.api.Interaction;
 
 import org.apache.commons.lang3.StringUtils;
@@ -29,6 +32,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class FileOutput extends AbstractOutputGenerator {
 
@@ -44,6 +53,11 @@ public class FileOutput extends AbstractOutputGenerator {
      */
     private final InteractionFormatter interactionFormatter;
 
+    /**
+     * The latest data of all vehicles, used to write vehicles which are only listed as unchanged in {@link VehicleUpdates}.
+     */
+    private final LatestVehicleData latestVehicleData = new LatestVehicleData();
+
     /**
      * Construct FileVisualizer with a writer and a message formatter.
      *
@@ -67,6 +81,36 @@ public class FileOutput extends AbstractOutputGenerator {
         visualize(interaction);
     }
 
+    @Handle
+    public void visualizeInteraction(VehicleUpdates interaction) {
+        latestVehicleData.update(interaction);
+        if (interaction.getUnchangedNames().isEmpty()) {
+            visualize(interaction);
+            return;
+        }
+        // write unchanged vehicles as updated ones at the current time and in the order of their subscription,
+        // which results in the same output as without unchanged vehicles
+        final Map<String, VehicleData> updatedByName = new HashMap<>();
+        for (VehicleData vehicleData : interaction.getUpdated()) {
+            updatedByName.put(vehicleData.getName(), vehicleData);
+        }
+        final Set<String> unchangedNames = new HashSet<>(interaction.getUnchangedNames());
+        final List<VehicleData> updated = new ArrayList<>(updatedByName.size() + unchangedNames.size());
+        for (VehicleData latest : latestVehicleData.getAll()) {
+            final VehicleData vehicleData = updatedByName.get(latest.getName());
+            if (vehicleData != null) {
+                updated.add(vehicleData);
+            } else if (unchangedNames.contains(latest.getName())) {
+                updated.add(new VehicleData.Builder(interaction.getTime(), latest.getName()).copyFrom(latest).create());
+            }
+        }
+        final VehicleUpdates expanded = new VehicleUpdates(
+                interaction.getTime(), interaction.getAdded(), updated, interaction.getRemovedNames()
+        );
+        expanded.setNextUpdate(interaction.getNextUpdate());
+        visualize(expanded);
+    }
+
     @Override
     public void handleUnregisteredInteraction(Interaction interaction) {
         visualize(interaction);
@@ -22,6 +22,7 @@ import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.traffic.LatestVehicleData;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.rti.api.Interaction;
@@ -39,11 +40,11 @@ import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.atomic.AtomicReference;
 
 @SuppressWarnings("UnstableApiUsage")
 public class WebsocketVisualizerServer extends WebSocketServer implements Runnable {
@@ -58,7 +59,12 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
      */
     private static final String VEHICLES_REMOVE_TYPE_ID = "VehiclesRemove";
 
-    private final AtomicReference<VehicleUpdates> vehicleUpdatesReference = new AtomicReference<>();
+    /**
+     * Latest data of each vehicle. As {@link VehicleUpdates} may omit vehicles which have not changed,
+     * the latest data is kept per vehicle instead of storing the latest interaction only.
+     */
+    private final LatestVehicleData latestVehicleData = new LatestVehicleData();
+    private long latestVehicleUpdatesTime;
     private final Queue<String> vehiclesToRemove = createQueue();
 
     private final Queue<V2xMessageTransmission> sentV2xMessages = createQueue();
@@ -123,8 +129,8 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
     }
 
     private void sendVehicleUpdates(WebSocket socket) {
-        if (vehicleUpdatesReference.get() != null && !vehicleUpdatesReference.get().getUpdated().isEmpty()) {
-            VehicleUpdates reduced = reduceVehicleUpdates(vehicleUpdatesReference.get());
+        if (!latestVehicleData.isEmpty()) {
+            VehicleUpdates reduced = reduceVehicleUpdates(latestVehicleUpdatesTime, latestVehicleData.getAll());
             JsonElement jsonElement = new Gson().toJsonTree(reduced);
             JsonObject jsonObject = new JsonObject();
             jsonObject.add(VehicleUpdates.TYPE_ID, jsonElement);
@@ -132,14 +138,14 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
         }
     }
 
-    private VehicleUpdates reduceVehicleUpdates(VehicleUpdates original) {
-        List<VehicleData> reducedUpdates = new ArrayList<>();
-        for (VehicleData veh : original.getUpdated()) {
+    private VehicleUpdates reduceVehicleUpdates(long time, Collection<VehicleData> vehicles) {
+        List<VehicleData> reducedUpdates = new ArrayList<>(vehicles.size());
+        for (VehicleData veh : vehicles) {
             reducedUpdates.add(new VehicleData.Builder(veh.getTime(), veh.getName())
                     .position(veh.getPosition(), veh.getProjectedPosition())
                     .create());
         }
-        return new VehicleUpdates(original.getTime(), Collections.EMPTY_LIST, reducedUpdates, Collections.EMPTY_LIST);
+        return new VehicleUpdates(time, Collections.EMPTY_LIST, reducedUpdates, Collections.EMPTY_LIST);
     }
 
     private <T extends Interaction> void sendInteractions(WebSocket socket, Queue<T> interactionsQueue) {
@@ -162,7 +168,8 @@ public class WebsocketVisualizerServer extends WebSocketServer implements Runnab
     }
 
     public synchronized void updateVehicleUpdates(VehicleUpdates interaction) {
-        vehicleUpdatesReference.set(interaction);
+        latestVehicleUpdatesTime = interaction.getTime();
+        latestVehicleData.update(interaction);
         /* VehicleUpdates can be dropped as only the latest VehicleUpdates is sent when the server is ready for the next message.
          * To avoid dropping removed vehicles, we collect then in this extra queue and send them all together. */
         vehiclesToRemove.addAll(interaction.getRemovedNames());
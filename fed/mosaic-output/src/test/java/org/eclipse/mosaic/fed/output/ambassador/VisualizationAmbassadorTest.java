@@ -25,10 +25,13 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.util.junit.TestFileRule;
@@ -169,6 +172,29 @@ public class VisualizationAmbassadorTest {
         verify(generator2, times(1)).handleUnregisteredInteraction(isA(VehicleUpdates.class));
     }
 
+    @Test
+    public void visualizeBundledReceptions() throws InternalFederateException {
+        //PREPARE
+        output.initialize(0, Long.MAX_VALUE);
+
+        AbstractOutputGenerator generator1 = output.generators.get("generator1").getGenerator();
+        AbstractOutputGenerator generator2 = output.generators.get("generator2").getGenerator();
+
+        //RUN
+        output.processInteraction(new V2xMessageReceptions(TIME.SECOND, Lists.newArrayList(
+                new V2xMessageReception(TIME.SECOND, "veh_0", 1, new V2xReceiverInformation(TIME.SECOND)),
+                new V2xMessageReception(TIME.SECOND, "veh_1", 1, new V2xReceiverInformation(TIME.SECOND))
+        )));
+        output.processTimeAdvanceGrant(TIME.SECOND);
+        output.processTimeAdvanceGrant(2 * TIME.SECOND);
+
+        //ASSERT
+        // generators subscribed to V2xMessageReception receive each bundled reception
+        verify(generator2, times(2)).handleUnregisteredInteraction(isA(V2xMessageReception.class));
+        verify(generator2, never()).handleUnregisteredInteraction(isA(V2xMessageReceptions.class));
+        verify(generator1, never()).handleUnregisteredInteraction(isA(V2xMessageReception.class));
+    }
+
     @Test
     public void visualizeMessageInInterval() throws InternalFederateException {
         //PREPARE
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.output.generator.file.format.InteractionFormatter;
+import org.eclipse.mosaic.fed.output.generator.file.write.Write;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class FileOutputTest {
+
+    private final InteractionFormatter formatterMock = mock(InteractionFormatter.class);
+
+    private FileOutput fileOutput;
+
+    @Before
+    public void setup() throws Exception {
+        when(formatterMock.format(any())).thenReturn("");
+        fileOutput = new FileOutput(mock(Write.class), formatterMock);
+    }
+
+    @Test
+    public void visualizeVehicleUpdates_unchangedVehiclesWrittenAsUpdatedAtCurrentTime() throws Exception {
+        final VehicleData veh0 = createVehicleData(1000, "veh_0");
+        final VehicleData veh1 = createVehicleData(1000, "veh_1");
+        final VehicleData veh2 = createVehicleData(1000, "veh_2");
+        fileOutput.visualizeInteraction(new VehicleUpdates(1000, Arrays.asList(veh0, veh1, veh2),
+                Collections.emptyList(), Collections.emptyList()));
+
+        // veh_0 and veh_2 have not changed, veh_1 is listed in between them in the order of subscription
+        final VehicleData veh1Updated = createVehicleData(2000, "veh_1");
+        fileOutput.visualizeInteraction(new VehicleUpdates(2000, Collections.emptyList(),
+                Collections.singletonList(veh1Updated), Collections.emptyList(), Arrays.asList("veh_2", "veh_0")));
+
+        final ArgumentCaptor<Interaction> formatted = ArgumentCaptor.forClass(Interaction.class);
+        verify(formatterMock, times(2)).format(formatted.capture());
+
+        final VehicleUpdates written = (VehicleUpdates) formatted.getAllValues().get(1);
+        assertEquals(2000, written.getTime());
+        assertTrue(written.getAdded().isEmpty());
+        assertTrue(written.getUnchangedNames().isEmpty());
+
+        final List<VehicleData> updated = written.getUpdated();
+        assertEquals(3, updated.size());
+        assertEquals("veh_0", updated.get(0).getName());
+        assertEquals(2000, updated.get(0).getTime());
+        assertEquals(veh0.getProjectedPosition(), updated.get(0).getProjectedPosition());
+        assertSame(veh1Updated, updated.get(1));
+        assertEquals("veh_2", updated.get(2).getName());
+        assertEquals(2000, updated.get(2).getTime());
+    }
+
+    private static VehicleData createVehicleData(long time, String name) {
+        return new VehicleData.Builder(time, name)
+                .position(null, CartesianPoint.xy(name.hashCode() % 100, 0))
+                .create();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Directed singlehop connectivity graph of all online nodes at one point in simulation time. A node {@code u}
+ * is connected to a node {@code v}, if {@code v} is within the communication radius of {@code u}. The graph is
+ * stored in compressed sparse row format over node indices, allowing multihop routing algorithms, such as flooding
+ * or greedy forwarding, to traverse the network using primitive arrays only.
+ * The graph is immutable and built by {@link SimulationEntities#getConnectivityGraph()} whenever nodes have changed.
+ */
+public class ConnectivityGraph {
+
+    private final String[] names;
+    private final SimulationNode[] nodes;
+    private final Map<String, Integer> indices;
+
+    /**
+     * For each node, the position of its first neighbor in {@link #neighbors}. The last entry holds the total number of edges.
+     */
+    private final int[] neighborStart;
+    private final int[] neighbors;
+
+    ConnectivityGraph(Map<String, SimulationNode> onlineNodes) {
+        final int size = onlineNodes.size();
+        this.names = new String[size];
+        this.nodes = new SimulationNode[size];
+        this.indices = new HashMap<>(size * 2);
+        double maxRadius = 0;
+        int index = 0;
+        for (Map.Entry<String, SimulationNode> entry : onlineNodes.entrySet()) {
+            names[index] = entry.getKey();
+            nodes[index] = entry.getValue();
+            indices.put(entry.getKey(), index++);
+            maxRadius = Math.max(maxRadius, entry.getValue().getRadius());
+        }
+
+        // sort nodes into cells with the size of the largest radius, so that only adjacent cells need to be searched
+        final CellIndex cellIndex = new CellIndex(nodes, Math.max(maxRadius, 1));
+        this.neighborStart = new int[size + 1];
+        int[] edges = new int[Math.max(16, size * 8)];
+        int edgeCount = 0;
+        for (int u = 0; u < size; u++) {
+            neighborStart[u] = edgeCount;
+            final CartesianPoint position = nodes[u].getPosition();
+            final double radius = nodes[u].getRadius();
+            final int col = cellIndex.toCol(position.getX());
+            final int row = cellIndex.toRow(position.getY());
+            final int colRange = (int) Math.ceil(radius / cellIndex.cellSize);
+            final int rowRange = colRange;
+            for (int c = Math.max(0, col - colRange); c <= Math.min(cellIndex.cols - 1, col + colRange); c++) {
+                for (int r = Math.max(0, row - rowRange); r <= Math.min(cellIndex.rows - 1, row + rowRange); r++) {
+                    final int cell = c * cellIndex.rows + r;
+                    for (int i = cellIndex.cellStart[cell]; i < cellIndex.cellStart[cell + 1]; i++) {
+                        final int v = cellIndex.cellNodes[i];
+                        if (v != u && position.distanceTo(nodes[v].getPosition()) <= radius) {
+                            if (edgeCount == edges.length) {
+                                edges = Arrays.copyOf(edges, edges.length * 2);
+                            }
+                            edges[edgeCount++] = v;
+                        }
+                    }
+                }
+            }
+            // neighbors are sorted to keep traversals independent of the cell layout
+            Arrays.sort(edges, neighborStart[u], edgeCount);
+        }
+        neighborStart[size] = edgeCount;
+        this.neighbors = Arrays.copyOf(edges, edgeCount);
+    }
+
+    /**
+     * Returns the number of nodes in this graph.
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the index of the node with the given name, or {@code -1} if the node is not part of this graph.
+     */
+    public int indexOf(String name) {
+        final Integer index = indices.get(name);
+        return index != null ? index : -1;
+    }
+
+    public String getName(int node) {
+        return names[node];
+    }
+
+    public SimulationNode getNode(int node) {
+        return nodes[node];
+    }
+
+    /**
+     * Returns the number of nodes which can be reached by the given node with a single hop.
+     */
+    public int getNeighborCount(int node) {
+        return neighborStart[node + 1] - neighborStart[node];
+    }
+
+    /**
+     * Returns the index of the i-th node which can be reached by the given node with a single hop.
+     * Neighbors are ordered by their index.
+     */
+    public int getNeighbor(int node, int i) {
+        return neighbors[neighborStart[node] + i];
+    }
+
+    /**
+     * Sorts node indices into a uniform grid, using a counting sort into flat arrays.
+     */
+    private static class CellIndex {
+
+        private final double cellSize;
+        private final double minX;
+        private final double minY;
+        private final int cols;
+        private final int rows;
+        private final int[] cellStart;
+        private final int[] cellNodes;
+
+        private CellIndex(SimulationNode[] nodes, double cellSize) {
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (SimulationNode node : nodes) {
+                minX = Math.min(minX, node.getPosition().getX());
+                minY = Math.min(minY, node.getPosition().getY());
+                maxX = Math.max(maxX, node.getPosition().getX());
+                maxY = Math.max(maxY, node.getPosition().getY());
+            }
+            if (nodes.length == 0) {
+                minX = minY = maxX = maxY = 0;
+            }
+            this.minX = minX;
+            this.minY = minY;
+            // limit the number of cells for widely spread nodes with small radii
+            final double extent = Math.max(maxX - minX, maxY - minY);
+            this.cellSize = Math.max(cellSize, extent / 256);
+            this.cols = (int) ((maxX - minX) / this.cellSize) + 1;
+            this.rows = (int) ((maxY - minY) / this.cellSize) + 1;
+
+            this.cellStart = new int[cols * rows + 1];
+            final int[] nodeCells = new int[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                nodeCells[i] = toCol(nodes[i].getPosition().getX()) * rows + toRow(nodes[i].getPosition().getY());
+                cellStart[nodeCells[i] + 1]++;
+            }
+            for (int cell = 1; cell < cellStart.length; cell++) {
+                cellStart[cell] += cellStart[cell - 1];
+            }
+            this.cellNodes = new int[nodes.length];
+            final int[] cursor = Arrays.copyOf(cellStart, cellStart.length - 1);
+            for (int i = 0; i < nodes.length; i++) {
+                cellNodes[cursor[nodeCells[i]]++] = i;
+            }
+        }
+
+        private int toCol(double x) {
+            return Math.min(cols - 1, (int) ((x - minX) / cellSize));
+        }
+
+        private int toRow(double y) {
+            return Math.min(rows - 1, (int) ((y - minY) / cellSize));
+        }
+    }
+}
@@ -15,7 +15,9 @@
 
 package org.eclipse.mosaic.fed.sns.ambassador;
 
+import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.spatial.SpatialHashGrid;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,6 +28,11 @@ import java.util.Map;
 enum SimulationEntities {
     INSTANCE;
 
+    /**
+     * Default cell size of {@link #onlineNodesGrid} in meters, roughly the default singlehop radius of the SNS.
+     */
+    private final static double DEFAULT_GRID_CELL_SIZE = 500;
+
     /**
      * There are two kinds of nodes: those who are online (and can send and receive messages).
      */
@@ -36,6 +43,20 @@ enum SimulationEntities {
      */
     private final HashMap<String, CartesianPoint> offlineNodes = new HashMap<>();
 
+    /**
+     * Spatial index of all online nodes, used to find receivers without iterating over all nodes.
+     */
+    private final SpatialHashGrid<SimulationNode> onlineNodesGrid =
+            new SpatialHashGrid<>(SimulationNode::getPosition, DEFAULT_GRID_CELL_SIZE);
+
+    /**
+     * Incremented on each change of online nodes, used to detect an outdated {@link #connectivityGraph}.
+     */
+    private long onlineNodesVersion = 0;
+
+    private ConnectivityGraph connectivityGraph = null;
+    private long connectivityGraphVersion = -1;
+
     /**
      * Gets all nodes currently known as online (initialized, Wifi enabled) in the simulation.
      *
@@ -54,6 +75,37 @@ enum SimulationEntities {
         return onlineNodes.get(nodeName);
     }
 
+    /**
+     * Collects all online nodes within the given area using the spatial index.
+     *
+     * @param area       the area to search for nodes
+     * @param candidates only nodes contained in this map are returned, may be {@code null} to accept all online nodes
+     * @return a new map containing all found nodes
+     */
+    public Map<String, SimulationNode> getOnlineNodesInArea(Area<CartesianPoint> area, Map<String, SimulationNode> candidates) {
+        final Map<String, SimulationNode> result = new HashMap<>();
+        onlineNodesGrid.forEachInArea(area, (nodeName, node) -> {
+            if (candidates == null || candidates.containsKey(nodeName)) {
+                result.put(nodeName, node);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the singlehop connectivity graph of all online nodes. The graph is built on the first call after any
+     * online node has been added, moved, or removed, and is shared by all callers until then.
+     *
+     * @return the current connectivity graph
+     */
+    public synchronized ConnectivityGraph getConnectivityGraph() {
+        if (connectivityGraphVersion != onlineNodesVersion) {
+            connectivityGraph = new ConnectivityGraph(onlineNodes);
+            connectivityGraphVersion = onlineNodesVersion;
+        }
+        return connectivityGraph;
+    }
+
     public boolean isNodeSimulated(String nodeName) {
         return onlineNodes.containsKey(nodeName) || offlineNodes.containsKey(nodeName);
     }
@@ -79,6 +131,9 @@ enum SimulationEntities {
             nodeData.setPosition(position);
             nodeData.setRadius(radius);
             onlineNodes.put(nodeName, nodeData);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
+            adjustGridCellSize(radius);
+            onlineNodesVersion++;
         } else {
             throw new RuntimeException("Unable to move node=" + nodeName + " to position=" + position);
         }
@@ -92,7 +147,10 @@ enum SimulationEntities {
      */
     public void updateOnlineNode(String nodeName, CartesianPoint position) {
         if (nodeName != null && position != null) {
-            onlineNodes.get(nodeName).setPosition(position);
+            SimulationNode nodeData = onlineNodes.get(nodeName);
+            nodeData.setPosition(position);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
+            onlineNodesVersion++;
         } else {
             throw new RuntimeException("Unable to update node=" + nodeName + " to position=" + position);
         }
@@ -117,6 +175,8 @@ enum SimulationEntities {
      */
     public void removeNode(String nodeId) {
         onlineNodes.remove(nodeId);
+        onlineNodesGrid.remove(nodeId);
+        onlineNodesVersion++;
         offlineNodes.remove(nodeId);
     }
 
@@ -132,10 +192,23 @@ enum SimulationEntities {
             nodeData.setPosition(offlineNodes.get(nodeName));
             nodeData.setRadius(communicationRadius);
             onlineNodes.put(nodeName, nodeData);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
             offlineNodes.remove(nodeName);
         } else {
             onlineNodes.get(nodeName).setRadius(communicationRadius);
         }
+        adjustGridCellSize(communicationRadius);
+        onlineNodesVersion++;
+    }
+
+    /**
+     * Keeps the cell size of the spatial index at the maximum singlehop radius, so that all receivers
+     * of a singlehop broadcast are found in the cell of the sender and its direct neighbors.
+     */
+    private void adjustGridCellSize(double radius) {
+        if (radius > onlineNodesGrid.getCellSize()) {
+            onlineNodesGrid.setCellSize(radius);
+        }
     }
 
     /**
@@ -147,6 +220,8 @@ enum SimulationEntities {
         if (isNodeOnline(nodeName)) {
             offlineNodes.put(nodeName, onlineNodes.get(nodeName).getPosition());
             onlineNodes.remove(nodeName);
+            onlineNodesGrid.remove(nodeName);
+            onlineNodesVersion++;
         }
     }
 
@@ -155,6 +230,9 @@ enum SimulationEntities {
      */
     public void reset() {
         onlineNodes.clear();
+        onlineNodesGrid.clear();
+        onlineNodesGrid.setCellSize(DEFAULT_GRID_CELL_SIZE);
         offlineNodes.clear();
+        onlineNodesVersion++;
     }
 }
@@ -18,10 +18,12 @@ package org.eclipse.mosaic.fed.sns.ambassador;
 import org.eclipse.mosaic.fed.sns.config.CSns;
 import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.LatestVehicleData;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.enums.DestinationType;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
@@ -40,11 +42,18 @@ import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.interaction.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementation of the Simple Network Simulator (SNS).
@@ -70,10 +79,41 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
     private double singlehopRadius;
 
     /**
-     * Stores the latest {@link VehicleUpdates} interaction, so it can be used
+     * Stores the latest {@link VehicleData} of each vehicle received with {@link VehicleUpdates}, so it can be used
      * to look up the last known position of vehicle which wants to enable its adhoc module.
      */
-    private VehicleUpdates latestVehicleUpdates;
+    private final LatestVehicleData latestVehicleData = new LatestVehicleData();
+
+    /**
+     * If {@code true}, transmissions are collected and simulated at the end of each time step.
+     */
+    private boolean batchTransmissions;
+
+    /**
+     * Transmissions of the current time step, if {@link #batchTransmissions} is enabled.
+     */
+    private final List<V2xMessageTransmission> pendingTransmissions = new ArrayList<>();
+
+    /**
+     * Executor to simulate the partitions of a batch in parallel, {@code null} if only one thread is configured.
+     */
+    private ExecutorService transmissionExecutor;
+
+    /**
+     * Wall clock time spent on processing interactions of the current time step, if {@link #batchTransmissions} is enabled.
+     */
+    private long currentStepDurationNs;
+
+    /**
+     * Passes each received interaction to the matching {@code process} method.
+     */
+    private final InteractionDispatcher interactionDispatcher = new InteractionDispatcher()
+            .register(RsuRegistration.class, this::process)
+            .register(TrafficLightRegistration.class, this::process)
+            .register(ChargingStationRegistration.class, this::process)
+            .register(VehicleUpdates.class, this::process)
+            .register(AdHocCommunicationConfiguration.class, this::process)
+            .register(V2xMessageTransmission.class, this::process);
 
     /**
      * Construct the Ambassador.
@@ -99,6 +139,10 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                 log.info("Detected GammaSpeedDelay for. The SNS is currently ignoring speed of entities in its evaluation of delay values");
             }
             this.singlehopRadius = configuration.singlehopRadius;
+            this.batchTransmissions = configuration.batchTransmissions;
+            if (batchTransmissions && configuration.transmissionThreads > 1) {
+                transmissionExecutor = createTransmissionExecutor(configuration.transmissionThreads);
+            }
             final RandomNumberGenerator rng = rti.createRandomNumberGenerator();
             transmissionSimulator = new TransmissionSimulator(rng, configuration);
         } catch (InstantiationException e) {
@@ -108,29 +152,47 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         log.info("Initialized SNS");
     }
 
+    private static ExecutorService createTransmissionExecutor(int threads) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "sns-transmission-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     @Override
     protected void processInteraction(Interaction interaction) throws InternalFederateException {
+        final long start = batchTransmissions ? System.nanoTime() : 0;
         try {
-            if (interaction.getTypeId().startsWith(RsuRegistration.TYPE_ID)) {
-                this.process((RsuRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(TrafficLightRegistration.TYPE_ID)) {
-                this.process((TrafficLightRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(ChargingStationRegistration.TYPE_ID)) {
-                this.process((ChargingStationRegistration) interaction);
-            } else if (interaction.getTypeId().startsWith(VehicleUpdates.TYPE_ID)) {
-                this.process((VehicleUpdates) interaction);
-            } else if (interaction.getTypeId().startsWith(AdHocCommunicationConfiguration.TYPE_ID)) {
-                this.process((AdHocCommunicationConfiguration) interaction);
-            } else if (interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)) {
-                this.process((V2xMessageTransmission) interaction);
-            } else {
+            if (!interactionDispatcher.dispatch(interaction)) {
                 log.warn("Received unknown interaction={} @time={}", interaction.getTypeId(), TIME.format(interaction.getTime()));
             }
         } catch (Exception e) {
             throw new InternalFederateException(e);
+        } finally {
+            if (batchTransmissions) {
+                currentStepDurationNs += System.nanoTime() - start;
+            }
         }
     }
 
+    @Override
+    protected void processTimeAdvanceGrant(long time) throws InternalFederateException {
+        if (!batchTransmissions) {
+            return;
+        }
+        final long start = System.nanoTime();
+        if (!pendingTransmissions.isEmpty()) {
+            final List<Map<String, TransmissionResult>> transmissionResults =
+                    transmissionSimulator.preProcessInteractions(pendingTransmissions, transmissionExecutor);
+            prepareV2xMessageReceptions(transmissionResults, pendingTransmissions);
+            pendingTransmissions.clear();
+        }
+        rti.getMonitor().onProcessTimeStep(ambassadorParameter.ambassadorId, time, currentStepDurationNs + System.nanoTime() - start);
+        currentStepDurationNs = 0;
+    }
+
     private void process(RsuRegistration interaction) {
         final RsuMapping applicationRsu = interaction.getMapping();
         if (applicationRsu.hasApplication()) {
@@ -156,6 +218,7 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
     }
 
     private void process(VehicleUpdates interaction) {
+        latestVehicleData.update(interaction);
         for (VehicleData added : interaction.getAdded()) {
             addOrUpdateVehicle(added);
         }
@@ -165,7 +228,6 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                         updated.getName(), updated.getPosition(), TIME.format(interaction.getTime()));
             }
         }
-        latestVehicleUpdates = interaction;
     }
 
     private void process(AdHocCommunicationConfiguration interaction) {
@@ -194,9 +256,10 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                     SimulationEntities.INSTANCE.enableWifi(nodeId, communicationRadius);
                 } else {
                     registeredVehicles.put(nodeId, communicationRadius);
-                    if (latestVehicleUpdates != null) {
-                        // progress the latest vehicle updates again to eventually activate the adhoc configuration
-                        process(latestVehicleUpdates);
+                    final VehicleData vehicleData = latestVehicleData.get(nodeId);
+                    if (vehicleData != null) {
+                        // progress the latest known data of the vehicle again to eventually activate the adhoc configuration
+                        addOrUpdateVehicle(vehicleData);
                     }
                 }
                 log.info("Radio configured in mode {} with communication radius {} for node id={} @time={}",
@@ -212,6 +275,11 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         if (type != DestinationType.AD_HOC_GEOCAST && type != DestinationType.AD_HOC_TOPOCAST) {
             return;
         }
+        if (batchTransmissions) {
+            // simulated at the end of the time step together with all other transmissions
+            pendingTransmissions.add(interaction);
+            return;
+        }
         // Calculate transmission
         Map<String, TransmissionResult> transmissionResults = transmissionSimulator.preProcessInteraction(interaction);
         // send transmission results to rti
@@ -303,8 +371,48 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
 
     }
 
+    /**
+     * Creates the {@link V2xMessageReception}s for all transmissions of a batch, and sends all receptions
+     * taking place at the same time as one {@link V2xMessageReceptions} interaction to the RTI.
+     *
+     * @param transmissionResults the results of each transmission
+     * @param transmissions       the originally sent messages
+     */
+    private void prepareV2xMessageReceptions(List<Map<String, TransmissionResult>> transmissionResults,
+                                             List<V2xMessageTransmission> transmissions) throws InternalFederateException {
+        final TreeMap<Long, List<V2xMessageReception>> receptionsByTime = new TreeMap<>();
+        for (int i = 0; i < transmissions.size(); i++) {
+            final Map<String, TransmissionResult> results = transmissionResults.get(i);
+            if (results == null) {
+                continue;
+            }
+            final V2xMessageTransmission v2xMessageTransmission = transmissions.get(i);
+            for (Map.Entry<String, TransmissionResult> transmissionResultEntry : results.entrySet()) {
+                if (transmissionResultEntry.getValue().success) {
+                    long receiveTime = v2xMessageTransmission.getTime() + transmissionResultEntry.getValue().delay;
+                    receptionsByTime.computeIfAbsent(receiveTime, k -> new ArrayList<>()).add(new V2xMessageReception(
+                            receiveTime,
+                            transmissionResultEntry.getKey(),
+                            v2xMessageTransmission.getMessageId(),
+                            new V2xReceiverInformation(receiveTime).sendTime(v2xMessageTransmission.getTime())
+                    ));
+                }
+            }
+        }
+        try {
+            for (Map.Entry<Long, List<V2xMessageReception>> receptions : receptionsByTime.entrySet()) {
+                rti.triggerInteraction(new V2xMessageReceptions(receptions.getKey(), receptions.getValue()));
+            }
+        } catch (IllegalValueException e) {
+            throw new InternalFederateException(e);
+        }
+    }
+
     @Override
     public void finishSimulation() throws InternalFederateException {
+        if (transmissionExecutor != null) {
+            transmissionExecutor.shutdown();
+        }
         log.info("Finished simulation");
     }
 
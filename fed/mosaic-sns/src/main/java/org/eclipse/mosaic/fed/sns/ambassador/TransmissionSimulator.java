@@ -19,10 +19,12 @@ import org.eclipse.mosaic.fed.sns.config.CSns;
 import org.eclipse.mosaic.fed.sns.model.AdhocTransmissionModel;
 import org.eclipse.mosaic.fed.sns.model.TransmissionParameter;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.lib.enums.DestinationType;
 import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianCircle;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoArea;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
 import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
 import org.eclipse.mosaic.lib.objects.addressing.DestinationAddressContainer;
@@ -35,9 +37,14 @@ import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class TransmissionSimulator {
 
@@ -48,6 +55,11 @@ public class TransmissionSimulator {
      */
     private static final int SINGLE_HOP_TTL = 1;
 
+    /**
+     * Added to the seed of the random number generator of each partition of a batch (golden ratio increment).
+     */
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
     /**
      * Reference to config data.
      */
@@ -84,6 +96,84 @@ public class TransmissionSimulator {
     }
 
     Map<String, TransmissionResult> preProcessInteraction(V2xMessageTransmission interaction) {
+        return preProcessInteraction(interaction, randomNumberGenerator, null);
+    }
+
+    /**
+     * Simulates all given transmissions of one time step. The transmissions are divided into a fixed number of
+     * consecutive partitions, each using its own random number generator derived from the generator of this simulator.
+     * Therefore, the results only depend on the number of partitions, but not on the number or
+     * scheduling of the threads used. The receivers of singlehop broadcasts are determined once per sender and shared
+     * by all its messages.
+     *
+     * @param transmissions the transmissions of the current time step
+     * @param executor      the executor to simulate the partitions with, {@code null} to simulate them in the calling thread
+     * @return the transmission results for each transmission, in the same order as the given transmissions,
+     *         {@code null} entries for transmissions which could not be simulated
+     * @throws InternalFederateException if the simulation of a partition failed
+     */
+    List<Map<String, TransmissionResult>> preProcessInteractions(List<V2xMessageTransmission> transmissions, ExecutorService executor)
+            throws InternalFederateException {
+        final int numberOfTransmissions = transmissions.size();
+        final int numberOfPartitions = Math.max(1, Math.min(config.transmissionPartitions, numberOfTransmissions));
+        final long stepSeed = randomNumberGenerator.nextLong(0, Long.MAX_VALUE);
+        final Map<String, Map<String, SimulationNode>> broadcastReceivers = getBroadcastReceiversPerSender(transmissions);
+
+        final List<Map<String, TransmissionResult>> results = new ArrayList<>(Collections.nCopies(numberOfTransmissions, null));
+        final List<Callable<Void>> partitions = new ArrayList<>(numberOfPartitions);
+        for (int partition = 0; partition < numberOfPartitions; partition++) {
+            final int from = (int) ((long) numberOfTransmissions * partition / numberOfPartitions);
+            final int to = (int) ((long) numberOfTransmissions * (partition + 1) / numberOfPartitions);
+            final RandomNumberGenerator partitionRng = new DefaultRandomNumberGenerator(stepSeed + partition * SEED_INCREMENT);
+            partitions.add(() -> {
+                for (int i = from; i < to; i++) {
+                    results.set(i, preProcessInteraction(transmissions.get(i), partitionRng, broadcastReceivers));
+                }
+                return null;
+            });
+        }
+        try {
+            if (executor == null || numberOfPartitions == 1) {
+                for (Callable<Void> partition : partitions) {
+                    partition.call();
+                }
+            } else {
+                for (Future<Void> future : executor.invokeAll(partitions)) {
+                    future.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalFederateException(e);
+        } catch (Exception e) {
+            throw new InternalFederateException(e);
+        }
+        return results;
+    }
+
+    /**
+     * Determines the potential receivers of all singlehop broadcasts once per sender.
+     */
+    private Map<String, Map<String, SimulationNode>> getBroadcastReceiversPerSender(List<V2xMessageTransmission> transmissions) {
+        final Map<String, Map<String, SimulationNode>> broadcastReceivers = new HashMap<>();
+        for (V2xMessageTransmission transmission : transmissions) {
+            final DestinationAddressContainer dac = transmission.getMessage().getRouting().getDestination();
+            final String senderName = transmission.getSourceName();
+            final SimulationNode sender = SimulationEntities.INSTANCE.getOnlineNode(senderName);
+            // invalid senders are reported when their transmissions are simulated
+            if (dac.getType() == DestinationType.AD_HOC_TOPOCAST && dac.getAddress().isBroadcast()
+                    && sender != null && sender.getPosition() != null && !broadcastReceivers.containsKey(senderName)) {
+                final Map<String, SimulationNode> receivers = getPotentialBroadcastReceivers(getTopocastDestinationArea(sender));
+                // remove sender as single radios could not transmit and receive at the same time
+                receivers.remove(senderName);
+                broadcastReceivers.put(senderName, receivers);
+            }
+        }
+        return broadcastReceivers;
+    }
+
+    private Map<String, TransmissionResult> preProcessInteraction(V2xMessageTransmission interaction, RandomNumberGenerator rng,
+                                                                  Map<String, Map<String, SimulationNode>> broadcastReceivers) {
         final String senderName = interaction.getSourceName();
         if (!isValidSender(senderName)) {
             return null;
@@ -99,7 +189,7 @@ public class TransmissionSimulator {
                             interaction.getMessage().getId(), senderName, TIME.format(interaction.getTime())
                     );
                 }
-                transmissionResults = sendMessageAsTopocast(senderName, dac);
+                transmissionResults = sendMessageAsTopocast(senderName, dac, rng, broadcastReceivers);
                 break;
             case AD_HOC_GEOCAST:
                 if (log.isDebugEnabled()) {
@@ -108,7 +198,7 @@ public class TransmissionSimulator {
                             interaction.getMessage().getId(), senderName, TIME.format(interaction.getTime())
                     );
                 }
-                transmissionResults = sendMessageAsGeocast(senderName, dac);
+                transmissionResults = sendMessageAsGeocast(senderName, dac, rng);
                 break;
             default:
                 log.debug(
@@ -153,6 +243,11 @@ public class TransmissionSimulator {
      * @return a Map containing the summarized transmission results
      */
     protected Map<String, TransmissionResult> sendMessageAsTopocast(String senderName, DestinationAddressContainer dac) {
+        return sendMessageAsTopocast(senderName, dac, randomNumberGenerator, null);
+    }
+
+    private Map<String, TransmissionResult> sendMessageAsTopocast(String senderName, DestinationAddressContainer dac, RandomNumberGenerator rng,
+                                                                  Map<String, Map<String, SimulationNode>> broadcastReceivers) {
         NetworkAddress destinationAddress = dac.getAddress();
         if (destinationAddress.isAnycast()) { // check for valid destination address
             log.warn(
@@ -169,7 +264,10 @@ public class TransmissionSimulator {
         // accumulate all potential receivers in direct communication range
         SimulationNode sender = SimulationEntities.INSTANCE.getOnlineNode(senderName);
         Map<String, SimulationNode> allPotentialReceivers;
-        if (destinationAddress.isBroadcast()) { // SingleHopBroadCast
+        if (destinationAddress.isBroadcast() && broadcastReceivers != null && broadcastReceivers.containsKey(senderName)) {
+            // receivers have been determined once for all messages of the sender, copy them in case the model alters them
+            allPotentialReceivers = new HashMap<>(broadcastReceivers.get(senderName));
+        } else if (destinationAddress.isBroadcast()) { // SingleHopBroadCast
             allPotentialReceivers = getPotentialBroadcastReceivers(getTopocastDestinationArea(sender));
             // remove sender as single radios could not transmit and receive at the same time
             allPotentialReceivers.remove(senderName);
@@ -180,11 +278,12 @@ public class TransmissionSimulator {
 
         // perform actual transmission
         TransmissionParameter transmissionParameter = new TransmissionParameter(
-                randomNumberGenerator,
+                rng,
                 config.singlehopDelay,
                 config.singlehopTransmission,
                 SINGLE_HOP_TTL
         );
+        transmissionParameter.useSpatialIndex = config.useSpatialIndex;
         return transmissionModel.simulateTopocast(
                 senderName, allPotentialReceivers, transmissionParameter, SimulationEntities.INSTANCE.getAllOnlineNodes()
         );
@@ -209,6 +308,10 @@ public class TransmissionSimulator {
      * @return a Map containing the summarized transmission results
      */
     protected Map<String, TransmissionResult> sendMessageAsGeocast(String senderName, DestinationAddressContainer dac) {
+        return sendMessageAsGeocast(senderName, dac, randomNumberGenerator);
+    }
+
+    private Map<String, TransmissionResult> sendMessageAsGeocast(String senderName, DestinationAddressContainer dac, RandomNumberGenerator rng) {
         if (dac.getGeoArea() == null) {
             return Collections.EMPTY_MAP;
         }
@@ -225,11 +328,12 @@ public class TransmissionSimulator {
             ttl = Math.min(dac.getTimeToLive(), config.maximumTtl); // ttl can't be higher than maximumTtl
         }
         TransmissionParameter transmissionParameter = new TransmissionParameter(
-                randomNumberGenerator,
+                rng,
                 config.singlehopDelay,
                 config.singlehopTransmission,
                 ttl
         );
+        transmissionParameter.useSpatialIndex = config.useSpatialIndex;
         return transmissionModel.simulateGeocast(
                 senderName, allReceivers, transmissionParameter, SimulationEntities.INSTANCE.getAllOnlineNodes()
         );
@@ -246,6 +350,9 @@ public class TransmissionSimulator {
      * @return a map containing the
      */
     private Map<String, SimulationNode> getPotentialBroadcastReceivers(Area<CartesianPoint> destinationArea) {
+        if (config.useSpatialIndex) {
+            return getOnlineNodesInArea(null, destinationArea);
+        }
         return getEntitiesInArea(SimulationEntities.INSTANCE.getAllOnlineNodes(), destinationArea);
     }
 
@@ -270,6 +377,30 @@ public class TransmissionSimulator {
         return results;
     }
 
+    /**
+     * This method collects all online nodes within the given {@link GeoArea} using the spatial index of all online nodes,
+     * instead of iterating over all of them. The nodes are found in a different order than by
+     * {@link #getEntitiesInArea(Map, Area)}, therefore it is only used if {@link CSns#useSpatialIndex} is enabled.
+     *
+     * @param candidates only online nodes contained in this map are returned, {@code null} to accept all online nodes
+     * @param range      the {@link GeoArea} within which the nodes should be
+     * @return A map of the online nodes, which are in the destination area.
+     */
+    public static Map<String, SimulationNode> getOnlineNodesInArea(
+            Map<String, SimulationNode> candidates, Area<CartesianPoint> range) {
+        return SimulationEntities.INSTANCE.getOnlineNodesInArea(range, candidates);
+    }
+
+    /**
+     * Returns the singlehop connectivity graph of all online nodes.
+     * It is also required in some of the {@link AdhocTransmissionModel}s to route messages over multiple hops.
+     *
+     * @return the current connectivity graph of all online nodes
+     */
+    public static ConnectivityGraph getConnectivityGraph() {
+        return SimulationEntities.INSTANCE.getConnectivityGraph();
+    }
+
     /**
      * Returns the addressed receiver, if it is known inside the destination area (more specific check compared to broadcast).
      * Note: The resulting Map will always contain 0 or 1 elements.
@@ -58,4 +58,33 @@ public class CSns {
      * Transmission configuration for a single hop.
      */
     public CTransmission singlehopTransmission = new CTransmission();
+
+    /**
+     * If {@code true}, receivers and reachable nodes are looked up in a spatial index of all online nodes, instead of
+     * checking the position of each online node. This is considerably faster for many nodes, but the receivers are
+     * found in a different order, so that random transmission results differ from the default lookup for the same seed.
+     */
+    public boolean useSpatialIndex = false;
+
+    /**
+     * If {@code true}, all transmissions of a simulation time step are collected and simulated at once at the
+     * end of the step, and all receptions taking place at the same time are sent as one
+     * {@link org.eclipse.mosaic.interactions.communication.V2xMessageReceptions V2xMessageReceptions} interaction.
+     * The application and output federates handle those as single receptions, any other federate consuming
+     * receptions of the SNS must subscribe to this interaction.
+     */
+    public boolean batchTransmissions = false;
+
+    /**
+     * The number of partitions the transmissions of a time step are divided into, each using its own
+     * random number generator. The results of a time step only depend on this value, not on the number of threads.
+     * Only used if {@link #batchTransmissions} is enabled.
+     */
+    public int transmissionPartitions = 16;
+
+    /**
+     * The number of threads used to simulate the partitions of a time step in parallel.
+     * Only used if {@link #batchTransmissions} is enabled.
+     */
+    public int transmissionThreads = 1;
 }
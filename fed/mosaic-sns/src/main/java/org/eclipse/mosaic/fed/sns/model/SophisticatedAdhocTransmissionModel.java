@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.fed.sns.model;
 
+import org.eclipse.mosaic.fed.sns.ambassador.ConnectivityGraph;
 import org.eclipse.mosaic.fed.sns.ambassador.SimulationNode;
 import org.eclipse.mosaic.fed.sns.ambassador.TransmissionSimulator;
 import org.eclipse.mosaic.lib.geo.CartesianArea;
@@ -34,6 +35,14 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
 
     private final static Logger log = LoggerFactory.getLogger(SimpleAdhocTransmissionModel.class);
 
+    /**
+     * If {@code true}, flooding and forwarding take the reachable nodes of each hop from the cached
+     * {@link ConnectivityGraph} of all online nodes, instead of searching them by their position. This is
+     * considerably faster for many multihop transmissions, but the nodes are visited in a different order,
+     * so that random transmission results differ from the position based search for the same seed.
+     */
+    public boolean useConnectivityGraph = false;
+
     @Override
     public Map<String, TransmissionResult> simulateTopocast(String senderName, Map<String, SimulationNode> receivers,
                                                             TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
@@ -99,6 +108,10 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
     private Map<String, TransmissionResult> flooding(
             String senderName, Map<String, SimulationNode> receivers,
             TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
+        final ConnectivityGraph connectivityGraph = useConnectivityGraph ? TransmissionSimulator.getConnectivityGraph() : null;
+        if (connectivityGraph != null && connectivityGraph.indexOf(senderName) >= 0) {
+            return flooding(connectivityGraph, senderName, receivers, transmissionParameter);
+        }
         Map<String, TransmissionResult> results = new HashMap<>();
         receivers.forEach((receiverName, receiver) -> results.put(receiverName, new TransmissionResult(false, 0)));
 
@@ -126,7 +139,9 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
                         floodingEntityEntry.getValue().getRadius()
                 );
                 // only search for unsatisfied receivers
-                entitiesInReach = TransmissionSimulator.getEntitiesInArea(receiversUnsatisfied, singleHopReachArea);
+                entitiesInReach = transmissionParameter.useSpatialIndex
+                        ? TransmissionSimulator.getOnlineNodesInArea(receiversUnsatisfied, singleHopReachArea)
+                        : TransmissionSimulator.getEntitiesInArea(receiversUnsatisfied, singleHopReachArea);
 
                 // simulate transmission for unsatisfied receivers in reach
 
@@ -178,6 +193,10 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
     private Tuple<String, TransmissionResult> forwarding(
             String senderName, Map<String, SimulationNode> receivers,
             TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
+        final ConnectivityGraph connectivityGraph = useConnectivityGraph ? TransmissionSimulator.getConnectivityGraph() : null;
+        if (connectivityGraph != null && connectivityGraph.indexOf(senderName) >= 0) {
+            return forwarding(connectivityGraph, senderName, receivers, transmissionParameter);
+        }
 
         String currentEntityName = senderName;
         SimulationNode currentEntity;
@@ -192,8 +211,9 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
                     currentEntity.getRadius()
             );
             // get all reachable entities within singlehop range and remove sender
-            Map<String, SimulationNode> reachableEntities =
-                    TransmissionSimulator.getEntitiesInArea(currentNodes, singleHopReach);
+            Map<String, SimulationNode> reachableEntities = transmissionParameter.useSpatialIndex
+                    ? TransmissionSimulator.getOnlineNodesInArea(null, singleHopReach)
+                    : TransmissionSimulator.getEntitiesInArea(currentNodes, singleHopReach);
             reachableEntities.remove(senderName);
             // try to find entity to build "pipeline" to destination area
             String forwardingEntityName = getForwardingEntity(reachableEntities, receivers);
@@ -225,6 +245,146 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
 
     }
 
+    /**
+     * Same as {@link #flooding(String, Map, TransmissionParameter, Map)}, but traverses the given {@link ConnectivityGraph}
+     * in breadth-first order, instead of searching the reachable receivers of each flooding entity by their position.
+     */
+    private Map<String, TransmissionResult> flooding(
+            ConnectivityGraph connectivityGraph, String senderName,
+            Map<String, SimulationNode> receivers, TransmissionParameter transmissionParameter) {
+        Map<String, TransmissionResult> results = new HashMap<>();
+        receivers.forEach((receiverName, receiver) -> results.put(receiverName, new TransmissionResult(false, 0)));
+
+        // in the beginning this reflects all receivers except the sender
+        final boolean[] unsatisfied = new boolean[connectivityGraph.size()];
+        int numberOfUnsatisfied = 0;
+        for (String receiverName : receivers.keySet()) {
+            final int receiver = connectivityGraph.indexOf(receiverName);
+            if (receiver >= 0 && !unsatisfied[receiver]) {
+                unsatisfied[receiver] = true;
+                numberOfUnsatisfied++;
+            }
+        }
+        // number of hops and accumulated delay of each reached entity
+        final int[] hops = new int[connectivityGraph.size()];
+        final long[] delays = new long[connectivityGraph.size()];
+
+        // all entities, that will be flooding in the current step
+        int[] floodingEntities = {connectivityGraph.indexOf(senderName)};
+        int numberOfFloodingEntities = 1;
+        int[] nextFloodingEntities = new int[Math.max(1, numberOfUnsatisfied)];
+
+        int currentDepth = 0;
+        while (numberOfUnsatisfied > 0 && currentDepth < transmissionParameter.ttl) {
+            ++currentDepth;
+            int numberOfNextFloodingEntities = 0;
+            for (int f = 0; f < numberOfFloodingEntities; f++) {
+                final int floodingEntity = floodingEntities[f];
+                final int previousNumberOfHops = hops[floodingEntity];
+                final long previousDelay = delays[floodingEntity];
+                final int numberOfNeighbors = connectivityGraph.getNeighborCount(floodingEntity);
+                // a sender reached by forwarding is itself one of the receivers and within its own reach
+                for (int n = unsatisfied[floodingEntity] ? -1 : 0; n < numberOfNeighbors; n++) {
+                    final int receiver = n < 0 ? floodingEntity : connectivityGraph.getNeighbor(floodingEntity, n);
+                    // only transmit to unsatisfied receivers in reach
+                    if (!unsatisfied[receiver]) {
+                        continue;
+                    }
+                    TransmissionResult transmissionResult = simulateTransmission(
+                            transmissionParameter.randomNumberGenerator,
+                            transmissionParameter.delay, transmissionParameter.transmission
+                    );
+                    if (transmissionResult.success) {
+                        transmissionResult.numberOfHops = previousNumberOfHops + 1;
+                        transmissionResult.delay += previousDelay;
+                        hops[receiver] = transmissionResult.numberOfHops;
+                        delays[receiver] = transmissionResult.delay;
+                        unsatisfied[receiver] = false;
+                        numberOfUnsatisfied--;
+                        results.put(connectivityGraph.getName(receiver), transmissionResult);
+                        nextFloodingEntities[numberOfNextFloodingEntities++] = receiver;
+                    }
+                }
+            }
+            // new entities which will be used as start nodes
+            final int[] swap = floodingEntities;
+            floodingEntities = nextFloodingEntities;
+            numberOfFloodingEntities = numberOfNextFloodingEntities;
+            nextFloodingEntities = swap.length >= nextFloodingEntities.length ? swap : new int[nextFloodingEntities.length];
+        }
+        return results;
+    }
+
+    /**
+     * Same as {@link #forwarding(String, Map, TransmissionParameter, Map)}, but takes the reachable entities of each hop
+     * from the given {@link ConnectivityGraph}, instead of searching them by their position.
+     */
+    private Tuple<String, TransmissionResult> forwarding(
+            ConnectivityGraph connectivityGraph, String senderName,
+            Map<String, SimulationNode> receivers, TransmissionParameter transmissionParameter) {
+        final int sender = connectivityGraph.indexOf(senderName);
+        final CartesianPoint[] receiverPositions = new CartesianPoint[receivers.size()];
+        int numberOfReceivers = 0;
+        for (SimulationNode receiver : receivers.values()) {
+            receiverPositions[numberOfReceivers++] = receiver.getPosition();
+        }
+
+        int currentEntity = sender;
+        TransmissionResult previousTransmissionResult = new TransmissionResult(true, 0);
+        int currentDepth = 0;
+        while (currentDepth < transmissionParameter.ttl) {
+            ++currentDepth;
+
+            // try to find entity within singlehop range to build "pipeline" to destination area
+            int forwardingEntity = -1;
+            double currentDistance = Double.MAX_VALUE;
+            final int numberOfNeighbors = connectivityGraph.getNeighborCount(currentEntity);
+            // as in the position based search, the current entity itself is within its own reach
+            search:
+            for (int n = -1; n < numberOfNeighbors; n++) {
+                final int candidate = n < 0 ? currentEntity : connectivityGraph.getNeighbor(currentEntity, n);
+                if (candidate == sender) {
+                    continue;
+                }
+                final CartesianPoint candidatePosition = connectivityGraph.getNode(candidate).getPosition();
+                for (CartesianPoint receiverPosition : receiverPositions) {
+                    final double candidateDistance = candidatePosition.distanceTo(receiverPosition);
+                    if (candidateDistance == 0) { // if this distance is 0 a node in the destination area has been found
+                        forwardingEntity = candidate;
+                        break search;
+                    }
+                    if (candidateDistance < currentDistance) { // shorter distance
+                        currentDistance = candidateDistance;
+                        forwardingEntity = candidate;
+                    }
+                }
+            }
+            if (forwardingEntity < 0) { // if no entity to forward the message to was found, Forwarding fails
+                return null;
+            }
+            // simulate the transmission to the forwarding entity
+            TransmissionResult transmissionResult =
+                    simulateTransmission(transmissionParameter.randomNumberGenerator,
+                            transmissionParameter.delay, transmissionParameter.transmission
+                    );
+            if (!transmissionResult.success) { // whenever the transmission on the way to the destination area fails, everything fails
+                return null;
+            }
+            transmissionResult.numberOfHops = previousTransmissionResult.numberOfHops + 1;
+            transmissionResult.delay += previousTransmissionResult.delay; // sum delays on the way
+
+            final String forwardingEntityName = connectivityGraph.getName(forwardingEntity);
+            if (receivers.containsKey(forwardingEntityName)) {
+                return new Tuple<>(forwardingEntityName, transmissionResult);
+            }
+
+            previousTransmissionResult = transmissionResult;
+            currentEntity = forwardingEntity;
+        }
+        // if destination area couldn't be reached in ttl, fail
+        return null;
+    }
+
     /**
      * This helper method evaluates if a GeoCast can be executed without forwarding the
      * destination area in any form. This boils down to checking if the communication-radius
@@ -43,6 +43,11 @@ public class TransmissionParameter {
      */
     public int ttl;
 
+    /**
+     * If {@code true}, nodes within an area are searched using the spatial index of all online nodes.
+     */
+    public boolean useSpatialIndex = false;
+
     /**
      * Creates a {@link TransmissionParameter}-object.
      *
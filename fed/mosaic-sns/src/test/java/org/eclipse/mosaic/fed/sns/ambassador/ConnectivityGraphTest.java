@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.fed.sns.model.SophisticatedAdhocTransmissionModel;
+import org.eclipse.mosaic.fed.sns.model.TransmissionParameter;
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.model.delay.ConstantDelay;
+import org.eclipse.mosaic.lib.model.transmission.CTransmission;
+import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tests the {@link ConnectivityGraph} of online nodes and multihop routing based on it.
+ */
+public class ConnectivityGraphTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectivityGraphTest.class);
+
+    private final Random random = new Random(42);
+
+    private final SophisticatedAdhocTransmissionModel transmissionModel = new SophisticatedAdhocTransmissionModel();
+
+    private final SophisticatedAdhocTransmissionModel graphTransmissionModel = new SophisticatedAdhocTransmissionModel();
+
+    @Before
+    public void setup() {
+        graphTransmissionModel.useConnectivityGraph = true;
+    }
+
+    @After
+    public void tearDown() {
+        SimulationEntities.INSTANCE.reset();
+    }
+
+    @Test
+    public void neighborsEqualLinearScan() {
+        // SETUP
+        createNodes(2000, 3000, 200);
+        SimulationEntities.INSTANCE.enableWifi("veh_0", 1500);
+
+        // RUN
+        final ConnectivityGraph graph = SimulationEntities.INSTANCE.getConnectivityGraph();
+
+        // ASSERT
+        final Map<String, SimulationNode> onlineNodes = SimulationEntities.INSTANCE.getAllOnlineNodes();
+        assertEquals(onlineNodes.size(), graph.size());
+        for (Map.Entry<String, SimulationNode> node : onlineNodes.entrySet()) {
+            final Set<String> expected = new TreeSet<>(TransmissionSimulator.getEntitiesInArea(new HashMap<>(onlineNodes),
+                    new CartesianCircle(node.getValue().getPosition(), node.getValue().getRadius())).keySet());
+            expected.remove(node.getKey());
+
+            final int index = graph.indexOf(node.getKey());
+            final Set<String> actual = new TreeSet<>();
+            for (int i = 0; i < graph.getNeighborCount(index); i++) {
+                actual.add(graph.getName(graph.getNeighbor(index, i)));
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void graphIsRebuiltOnlyOnChange() {
+        // SETUP
+        createNodes(100, 1000, 200);
+
+        // RUN + ASSERT
+        final ConnectivityGraph graph = SimulationEntities.INSTANCE.getConnectivityGraph();
+        assertSame(graph, SimulationEntities.INSTANCE.getConnectivityGraph());
+
+        SimulationEntities.INSTANCE.updateOnlineNode("veh_0", CartesianPoint.xy(500, 500));
+        final ConnectivityGraph updatedGraph = SimulationEntities.INSTANCE.getConnectivityGraph();
+        assertNotSame(graph, updatedGraph);
+        assertSame(updatedGraph, SimulationEntities.INSTANCE.getConnectivityGraph());
+
+        SimulationEntities.INSTANCE.disableWifi("veh_1");
+        assertEquals(99, SimulationEntities.INSTANCE.getConnectivityGraph().size());
+        assertEquals(-1, SimulationEntities.INSTANCE.getConnectivityGraph().indexOf("veh_1"));
+    }
+
+    @Test
+    public void floodingOnGraphEqualsPositionBasedFlooding() {
+        // SETUP
+        final List<String> nodes = createNodes(1500, 4000, 300);
+        final Map<String, SimulationNode> onlineNodes = SimulationEntities.INSTANCE.getAllOnlineNodes();
+
+        int numberOfGeocasts = 0;
+        while (numberOfGeocasts < 50) {
+            final String sender = nodes.get(random.nextInt(nodes.size()));
+            final CartesianPoint senderPosition = onlineNodes.get(sender).getPosition();
+            final CartesianCircle destination = new CartesianCircle(senderPosition, 200 + random.nextDouble() * 1500);
+            final Map<String, SimulationNode> receivers = TransmissionSimulator.getEntitiesInArea(new HashMap<>(onlineNodes), destination);
+            if (receivers.size() < 2) {
+                continue;
+            }
+            numberOfGeocasts++;
+
+            // RUN + ASSERT
+            assertGeocastOnGraphEqualsPositionBasedGeocast(sender, receivers, onlineNodes);
+        }
+    }
+
+    /**
+     * Greedy forwarding chooses between equally suitable candidates in iteration order, which is why this
+     * is tested with a chain of nodes, in which each hop has exactly one best candidate.
+     */
+    @Test
+    public void forwardingOnGraphEqualsPositionBasedForwarding() {
+        // SETUP
+        for (int i = 0; i < 20; i++) {
+            SimulationEntities.INSTANCE.createOnlineNode("veh_" + i, CartesianPoint.xy(i * 250, 10 * (i % 2)), 300);
+        }
+        final Map<String, SimulationNode> onlineNodes = SimulationEntities.INSTANCE.getAllOnlineNodes();
+        final Map<String, SimulationNode> receivers = TransmissionSimulator.getEntitiesInArea(new HashMap<>(onlineNodes),
+                new CartesianCircle(CartesianPoint.xy(4000, 0), 1100));
+
+        // RUN + ASSERT
+        final Map<String, TransmissionResult> results = assertGeocastOnGraphEqualsPositionBasedGeocast("veh_0", receivers, onlineNodes);
+        // the first node in the destination area is reached by forwarding and then floods the message to itself
+        assertEquals(13, results.get("veh_12").numberOfHops);
+        assertEquals(19, results.get("veh_19").numberOfHops);
+    }
+
+    private Map<String, TransmissionResult> assertGeocastOnGraphEqualsPositionBasedGeocast(
+            String sender, Map<String, SimulationNode> receivers, Map<String, SimulationNode> onlineNodes) {
+        final Map<String, TransmissionResult> graphResults = graphTransmissionModel.simulateGeocast(
+                sender, new HashMap<>(receivers), createLosslessTransmissionParameter(20), onlineNodes);
+        final Map<String, TransmissionResult> positionResults = transmissionModel.simulateGeocast(
+                sender, new HashMap<>(receivers), createLosslessTransmissionParameter(20), onlineNodes);
+
+        assertEquals(positionResults.keySet(), graphResults.keySet());
+        for (String receiver : positionResults.keySet()) {
+            assertEquals(positionResults.get(receiver).success, graphResults.get(receiver).success);
+            assertEquals(positionResults.get(receiver).numberOfHops, graphResults.get(receiver).numberOfHops);
+            assertEquals(positionResults.get(receiver).delay, graphResults.get(receiver).delay);
+        }
+        return graphResults;
+    }
+
+    /**
+     * Replays one step of a geocast heavy scenario, in which 200 of 5.000 nodes send a multihop geocast.
+     */
+    @Test
+    public void performanceTest() {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final double size = 10000;
+        final List<String> nodes = createNodes(5000, size, 300);
+        final Map<String, SimulationNode> onlineNodes = SimulationEntities.INSTANCE.getAllOnlineNodes();
+
+        final List<String> senders = new ArrayList<>();
+        final List<Map<String, SimulationNode>> receivers = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            senders.add(nodes.get(random.nextInt(nodes.size())));
+            receivers.add(TransmissionSimulator.getEntitiesInArea(new HashMap<>(onlineNodes),
+                    new CartesianCircle(randomPoint(size), 1000)));
+        }
+
+        // warm up
+        replayGeocastStep(graphTransmissionModel, senders, receivers, onlineNodes);
+        replayGeocastStep(transmissionModel, senders, receivers, onlineNodes);
+
+        SimulationEntities.INSTANCE.updateOnlineNode(nodes.get(0), randomPoint(size));
+        final long graphTime = replayGeocastStep(graphTransmissionModel, senders, receivers, onlineNodes);
+        final long positionTime = replayGeocastStep(transmissionModel, senders, receivers, onlineNodes);
+        log.debug(String.format("Geocast step with %d nodes and %d geocasts: graph %.1f ms, position based %.1f ms",
+                nodes.size(), senders.size(), graphTime / 1e6, positionTime / 1e6));
+    }
+
+    private long replayGeocastStep(SophisticatedAdhocTransmissionModel model, List<String> senders,
+                                   List<Map<String, SimulationNode>> receivers, Map<String, SimulationNode> currentNodes) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < senders.size(); i++) {
+            model.simulateGeocast(
+                    senders.get(i), new HashMap<>(receivers.get(i)), createLosslessTransmissionParameter(10), currentNodes);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private TransmissionParameter createLosslessTransmissionParameter(int ttl) {
+        final ConstantDelay constantDelay = new ConstantDelay();
+        constantDelay.delay = 1;
+        final CTransmission transmission = new CTransmission();
+        transmission.lossProbability = 0.0f;
+        transmission.maxRetries = 0;
+        return new TransmissionParameter(new DefaultRandomNumberGenerator(42), constantDelay, transmission, ttl);
+    }
+
+    private List<String> createNodes(int numberOfNodes, double size, double radius) {
+        final List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < numberOfNodes; i++) {
+            final String name = "veh_" + i;
+            SimulationEntities.INSTANCE.createOnlineNode(name, randomPoint(size), radius);
+            nodes.add(name);
+        }
+        return nodes;
+    }
+
+    private CartesianPoint randomPoint(double size) {
+        return CartesianPoint.xy(random.nextDouble() * size, random.nextDouble() * size);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.fed.sns.config.CSns;
+import org.eclipse.mosaic.fed.sns.model.TransmissionParameter;
+import org.eclipse.mosaic.lib.enums.AdHocChannel;
+import org.eclipse.mosaic.lib.enums.DestinationType;
+import org.eclipse.mosaic.lib.enums.ProtocolType;
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
+import org.eclipse.mosaic.lib.objects.addressing.DestinationAddressContainer;
+import org.eclipse.mosaic.lib.objects.addressing.NetworkAddress;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests the spatial index of online nodes in {@link SimulationEntities}.
+ */
+public class SimulationEntitiesTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationEntitiesTest.class);
+
+    private final Random random = new Random(42);
+
+    @After
+    public void tearDown() {
+        SimulationEntities.INSTANCE.reset();
+    }
+
+    @Test
+    public void getOnlineNodesInArea_equalsLinearScan() {
+        // SETUP
+        final List<String> nodes = createNodes(2000, 2000, 300);
+
+        for (int step = 0; step < 10; step++) {
+            // RUN
+            moveNodes(nodes, 2000, 50);
+            SimulationEntities.INSTANCE.disableWifi(nodes.get(random.nextInt(nodes.size())));
+            SimulationEntities.INSTANCE.removeNode(nodes.get(random.nextInt(nodes.size())));
+            final String reEnabled = nodes.get(random.nextInt(nodes.size()));
+            if (SimulationEntities.INSTANCE.isNodeOffline(reEnabled)) {
+                SimulationEntities.INSTANCE.enableWifi(reEnabled, 300);
+            }
+
+            // ASSERT
+            for (int i = 0; i < 50; i++) {
+                final CartesianPoint center = randomPoint(2000);
+                assertQueryEqualsLinearScan(new CartesianCircle(center, random.nextDouble() * 600));
+            }
+        }
+    }
+
+    @Test
+    public void getOnlineNodesInArea_largeArea() {
+        createNodes(500, 10000, 300);
+
+        assertQueryEqualsLinearScan(new CartesianRectangle(CartesianPoint.xy(-100, -100), CartesianPoint.xy(20000, 20000)));
+        assertQueryEqualsLinearScan(new CartesianRectangle(CartesianPoint.xy(1000, 2000), CartesianPoint.xy(6000, 3000)));
+    }
+
+    @Test
+    public void getOnlineNodesInArea_radiusLargerThanCellSize() {
+        // SETUP
+        final List<String> nodes = createNodes(1000, 5000, 300);
+
+        // RUN
+        SimulationEntities.INSTANCE.enableWifi(nodes.get(0), 2500);
+
+        // ASSERT
+        final SimulationNode node = SimulationEntities.INSTANCE.getOnlineNode(nodes.get(0));
+        assertQueryEqualsLinearScan(new CartesianCircle(node.getPosition(), node.getRadius()));
+    }
+
+    @Test
+    public void sendMessageAsTopocast_receiversInOrderOfOnlineNodesByDefault() throws Exception {
+        // SETUP
+        final List<String> nodes = createNodes(1000, 2000, 300);
+        final CSns config = new CSns();
+        config.singlehopTransmission.lossProbability = 0.5;
+        final TransmissionSimulator transmissionSimulator = new TransmissionSimulator(new DefaultRandomNumberGenerator(42), config);
+
+        final String senderName = nodes.get(0);
+        final SimulationNode sender = SimulationEntities.INSTANCE.getOnlineNode(senderName);
+        final Map<String, SimulationNode> expectedReceivers = TransmissionSimulator.getEntitiesInArea(
+                SimulationEntities.INSTANCE.getAllOnlineNodes(), new CartesianCircle(sender.getPosition(), sender.getRadius())
+        );
+        expectedReceivers.remove(senderName);
+        final Map<String, TransmissionResult> expected = config.adhocTransmissionModel.simulateTopocast(
+                senderName, expectedReceivers,
+                new TransmissionParameter(new DefaultRandomNumberGenerator(42), config.singlehopDelay, config.singlehopTransmission, 1),
+                SimulationEntities.INSTANCE.getAllOnlineNodes()
+        );
+
+        // RUN
+        final Map<String, TransmissionResult> actual = transmissionSimulator.sendMessageAsTopocast(senderName, createBroadcast());
+
+        // ASSERT
+        assertEquals(expected.keySet(), actual.keySet());
+        for (String receiverName : expected.keySet()) {
+            assertEquals(expected.get(receiverName).success, actual.get(receiverName).success);
+        }
+    }
+
+    /**
+     * Replays one step of a CAM heavy scenario, in which each of 10.000 nodes sends a singlehop broadcast.
+     */
+    @Test
+    public void performanceTest() throws Exception {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int numberOfNodes = 10000;
+        final double size = 10000;
+        final List<String> nodes = createNodes(numberOfNodes, size, 500);
+        final CSns config = new CSns();
+        config.useSpatialIndex = true;
+        final TransmissionSimulator transmissionSimulator = new TransmissionSimulator(new DefaultRandomNumberGenerator(42), config);
+        final DestinationAddressContainer broadcast = createBroadcast();
+
+        // warm up
+        replayBroadcastStep(nodes, transmissionSimulator, broadcast);
+        replayLinearScanStep(nodes);
+
+        final long indexedTime = replayBroadcastStep(nodes, transmissionSimulator, broadcast);
+        final long linearTime = replayLinearScanStep(nodes);
+        log.debug(String.format("Broadcast step with %d nodes: indexed %.1f ms, linear scan %.1f ms",
+                numberOfNodes, indexedTime / 1e6, linearTime / 1e6));
+    }
+
+    private long replayBroadcastStep(List<String> nodes, TransmissionSimulator transmissionSimulator, DestinationAddressContainer broadcast) {
+        final long start = System.nanoTime();
+        moveNodes(nodes, 10000, 15);
+        for (String node : nodes) {
+            Map<String, TransmissionResult> results = transmissionSimulator.sendMessageAsTopocast(node, broadcast);
+            assertNotNull(results);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long replayLinearScanStep(List<String> nodes) {
+        final Map<String, SimulationNode> allNodes = new HashMap<>(SimulationEntities.INSTANCE.getAllOnlineNodes());
+        final long start = System.nanoTime();
+        moveNodes(nodes, 10000, 15);
+        for (String node : nodes) {
+            final SimulationNode sender = SimulationEntities.INSTANCE.getOnlineNode(node);
+            TransmissionSimulator.getEntitiesInArea(allNodes, new CartesianCircle(sender.getPosition(), sender.getRadius()));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static DestinationAddressContainer createBroadcast() {
+        return new DestinationAddressContainer(
+                DestinationType.AD_HOC_TOPOCAST, new NetworkAddress(NetworkAddress.BROADCAST_ADDRESS),
+                AdHocChannel.CCH, 1, null, ProtocolType.UDP
+        );
+    }
+
+    private void assertQueryEqualsLinearScan(Area<CartesianPoint> area) {
+        final Map<String, SimulationNode> copyOfOnlineNodes = new HashMap<>(SimulationEntities.INSTANCE.getAllOnlineNodes());
+        assertEquals(
+                TransmissionSimulator.getEntitiesInArea(copyOfOnlineNodes, area),
+                SimulationEntities.INSTANCE.getOnlineNodesInArea(area, null)
+        );
+        assertEquals(
+                TransmissionSimulator.getEntitiesInArea(copyOfOnlineNodes, area),
+                TransmissionSimulator.getOnlineNodesInArea(copyOfOnlineNodes, area)
+        );
+    }
+
+    private List<String> createNodes(int numberOfNodes, double size, double radius) {
+        final List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < numberOfNodes; i++) {
+            final String name = "veh_" + i;
+            SimulationEntities.INSTANCE.createOnlineNode(name, randomPoint(size), radius);
+            nodes.add(name);
+        }
+        return nodes;
+    }
+
+    private void moveNodes(List<String> nodes, double size, double maxDistance) {
+        for (String node : nodes) {
+            if (SimulationEntities.INSTANCE.isNodeOnline(node)) {
+                final CartesianPoint position = SimulationEntities.INSTANCE.getOnlineNode(node).getPosition();
+                SimulationEntities.INSTANCE.updateOnlineNode(node, CartesianPoint.xy(
+                        Math.min(size, Math.max(0, position.getX() + (random.nextDouble() * 2 - 1) * maxDistance)),
+                        Math.min(size, Math.max(0, position.getY() + (random.nextDouble() * 2 - 1) * maxDistance))
+                ));
+            } else if (SimulationEntities.INSTANCE.isNodeOffline(node)) {
+                SimulationEntities.INSTANCE.createOrUpdateOfflineNode(node, randomPoint(size));
+            }
+        }
+    }
+
+    private CartesianPoint randomPoint(double size) {
+        return CartesianPoint.xy(random.nextDouble() * size, random.nextDouble() * size);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.enums.AdHocChannel;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.junit.IpResolverRule;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.addressing.AdHocMessageRoutingBuilder;
+import org.eclipse.mosaic.lib.objects.addressing.IpResolver;
+import org.eclipse.mosaic.lib.objects.communication.AdHocConfiguration;
+import org.eclipse.mosaic.lib.objects.communication.InterfaceConfiguration;
+import org.eclipse.mosaic.lib.objects.v2x.EncodedPayload;
+import org.eclipse.mosaic.lib.objects.v2x.MessageRouting;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * Tests for {@link SnsAmbassador} with batched transmissions enabled.
+ */
+public class SnsAmbassadorBatchTest {
+
+    @Rule
+    public IpResolverRule ipResolverRule = new IpResolverRule();
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(52, 13));
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<Interaction> triggeredInteractions = new ArrayList<>();
+
+    private Monitor monitorMock;
+
+    @After
+    public void tearDown() {
+        SimulationEntities.INSTANCE.reset();
+    }
+
+    @Test
+    public void topoBroadcast_receptionsBundledPerTime() throws Exception {
+        // SETUP
+        final SnsAmbassador ambassador = createAmbassador(0.0, 1);
+        addVehicle(ambassador, "veh_0", GeoPoint.latLon(52.31, 13.41));
+        addVehicle(ambassador, "veh_1", GeoPoint.latLon(52.31, 13.40));
+        addVehicle(ambassador, "veh_2", GeoPoint.latLon(52.31, 13.39));
+
+        // RUN
+        ambassador.processInteraction(createBroadcast("veh_0", GeoPoint.latLon(52.31, 13.41)));
+        ambassador.processInteraction(createBroadcast("veh_0", GeoPoint.latLon(52.31, 13.41)));
+        ambassador.processInteraction(createBroadcast("veh_1", GeoPoint.latLon(52.31, 13.40)));
+        assertTrue("transmissions must not be simulated before the end of the time step", triggeredInteractions.isEmpty());
+        ambassador.advanceTime(0);
+
+        // ASSERT
+        assertEquals(1, triggeredInteractions.size());
+        final V2xMessageReceptions receptions = (V2xMessageReceptions) triggeredInteractions.get(0);
+        assertEquals(1, receptions.getTime());
+        assertEquals(
+                Lists.newArrayList("veh_0", "veh_1", "veh_1", "veh_2"),
+                receptions.getReceptions().stream().map(V2xMessageReception::getReceiverName).sorted().collect(Collectors.toList())
+        );
+        verify(monitorMock).onProcessTimeStep(eq("sns"), eq(0L), anyLong());
+    }
+
+    @Test
+    public void noTransmissions_noReceptions() throws Exception {
+        final SnsAmbassador ambassador = createAmbassador(0.0, 1);
+        addVehicle(ambassador, "veh_0", GeoPoint.latLon(52.31, 13.41));
+
+        ambassador.advanceTime(0);
+
+        assertTrue(triggeredInteractions.isEmpty());
+        verify(monitorMock, times(1)).onProcessTimeStep(eq("sns"), eq(0L), anyLong());
+        verify(monitorMock, never()).onProcessTimeStep(eq("sns"), eq(1L), anyLong());
+    }
+
+    @Test
+    public void lossyBroadcasts_sameResultsForAnyNumberOfThreads() throws Exception {
+        final List<String> singleThreaded = simulateLossyBroadcasts(1);
+        SimulationEntities.INSTANCE.reset();
+        final List<String> multiThreaded = simulateLossyBroadcasts(4);
+
+        assertTrue(singleThreaded.size() > 0);
+        assertEquals(singleThreaded, multiThreaded);
+    }
+
+    private List<String> simulateLossyBroadcasts(int threads) throws Exception {
+        triggeredInteractions.clear();
+        final SnsAmbassador ambassador = createAmbassador(0.3, threads);
+        final Random random = new Random(7);
+        final List<GeoPoint> positions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final GeoPoint position = GeoPoint.latLon(52.3 + random.nextDouble() * 0.02, 13.4 + random.nextDouble() * 0.02);
+            addVehicle(ambassador, "veh_" + i, position);
+            positions.add(position);
+        }
+        final List<V2xMessageTransmission> transmissions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            transmissions.add(createBroadcast("veh_" + i, positions.get(i)));
+            ambassador.processInteraction(transmissions.get(i));
+        }
+        ambassador.advanceTime(0);
+        ambassador.finishSimulation();
+
+        final List<String> receptions = new ArrayList<>();
+        for (Interaction interaction : triggeredInteractions) {
+            for (V2xMessageReception reception : ((V2xMessageReceptions) interaction).getReceptions()) {
+                // message ids are unique across runs, therefore the position of the message in the step is compared
+                final int messageIndex = reception.getMessageId() - transmissions.get(0).getMessageId();
+                receptions.add(messageIndex + "@" + reception.getReceiverName() + "@" + reception.getTime());
+            }
+        }
+        return receptions;
+    }
+
+    private SnsAmbassador createAmbassador(double lossProbability, int threads) throws Exception {
+        final File configurationFile = temporaryFolder.newFile();
+        FileUtils.writeStringToFile(configurationFile, "{"
+                + "\"singlehopDelay\": { \"type\": \"ConstantDelay\", \"delay\": 1 },"
+                + "\"singlehopTransmission\": { \"lossProbability\": " + lossProbability + ", \"maxRetries\": 0 },"
+                + "\"batchTransmissions\": true,"
+                + "\"transmissionPartitions\": 8,"
+                + "\"transmissionThreads\": " + threads
+                + "}", StandardCharsets.UTF_8);
+
+        final RtiAmbassador rtiMock = mock(RtiAmbassador.class);
+        monitorMock = mock(Monitor.class);
+        when(rtiMock.getMonitor()).thenReturn(monitorMock);
+        when(rtiMock.createRandomNumberGenerator()).thenReturn(new DefaultRandomNumberGenerator(89989123L));
+        doAnswer((invocationOnMock) -> {
+            triggeredInteractions.add(invocationOnMock.getArgument(0));
+            return null;
+        }).when(rtiMock).triggerInteraction(isA(V2xMessageReceptions.class));
+
+        final SnsAmbassador ambassador = new SnsAmbassador(new AmbassadorParameter("sns", configurationFile));
+        ambassador.setRtiAmbassador(rtiMock);
+        ambassador.initialize(0, 1000 * TIME.SECOND);
+        return ambassador;
+    }
+
+    private V2xMessageTransmission createBroadcast(String sender, GeoPoint position) {
+        final MessageRouting routing = new AdHocMessageRoutingBuilder(sender, position).viaChannel(AdHocChannel.CCH).topoBroadCast();
+        final V2xMessage v2xMessage = new V2xMessage(routing) {
+            @Nonnull
+            @Override
+            public EncodedPayload getPayload() {
+                return new EncodedPayload(0);
+            }
+        };
+        return new V2xMessageTransmission(0, v2xMessage);
+    }
+
+    private void addVehicle(SnsAmbassador ambassador, String vehicleName, GeoPoint position) throws InternalFederateException {
+        ambassador.processInteraction(new VehicleRegistration(0, vehicleName, null, Lists.newArrayList("app"),
+                new VehicleDeparture.Builder("0").create(), new VehicleType("default")));
+        ambassador.processInteraction(new AdHocCommunicationConfiguration(0,
+                new AdHocConfiguration.Builder(vehicleName)
+                        .addInterface(new InterfaceConfiguration.Builder(AdHocChannel.CCH)
+                                .ip(IpResolver.getSingleton().registerHost(vehicleName))
+                                .subnet(IpResolver.getSingleton().getNetMask())
+                                .radius(700d)
+                                .create()
+                        ).create()
+        ));
+        final VehicleData vehicleData = new VehicleData.Builder(0, vehicleName).position(position, position.toCartesian()).create();
+        ambassador.processInteraction(new VehicleUpdates(0, Lists.newArrayList(), Lists.newArrayList(vehicleData), Lists.newArrayList()));
+    }
+}
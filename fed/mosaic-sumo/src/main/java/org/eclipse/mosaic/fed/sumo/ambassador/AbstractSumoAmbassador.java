@@ -97,6 +97,7 @@ import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.federatestarter.ExecutableFederateExecutor;
 import org.eclipse.mosaic.rti.api.federatestarter.NopFederateExecutor;
+import org.eclipse.mosaic.rti.api.interaction.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
 import org.eclipse.mosaic.rti.config.CLocalHost;
@@ -209,6 +210,37 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
      */
     private final EventScheduler eventScheduler = new DefaultEventScheduler();
 
+    /**
+     * Executes the next simulation step in advance, if {@link CSumo#speculativeStepping} is enabled. Otherwise {@code null}.
+     */
+    private SpeculativeSimulationStep speculativeStep = null;
+
+    /**
+     * Passes each interaction processed in {@link #processInteractionAdvanced} to the matching {@code receiveInteraction} method.
+     * Subclasses may register handlers for further interactions.
+     */
+    protected final InteractionDispatcher interactionDispatcher = new InteractionDispatcher()
+            .register(VehicleFederateAssignment.class, this::receiveInteraction)
+            .register(VehicleUpdates.class, this::receiveInteraction)
+            .register(VehicleSlowDown.class, this::receiveInteraction)
+            .register(VehicleRouteChange.class, this::receiveInteraction)
+            .register(TrafficLightStateChange.class, this::receiveInteraction)
+            .register(SumoTraciRequest.class, this::receiveInteraction)
+            .register(VehicleLaneChange.class, this::receiveInteraction)
+            .register(VehicleStop.class, this::receiveInteraction)
+            .register(VehicleResume.class, this::receiveInteraction)
+            .register(VehicleParametersChange.class, this::receiveInteraction)
+            .register(VehicleSensorActivation.class, this::receiveInteraction)
+            .register(VehicleSpeedChange.class, this::receiveInteraction)
+            .register(VehicleSightDistanceConfiguration.class, this::receiveInteraction)
+            .register(InductionLoopDetectorSubscription.class, this::receiveInteraction)
+            .register(LaneAreaDetectorSubscription.class, this::receiveInteraction)
+            .register(TrafficLightSubscription.class, this::receiveInteraction)
+            .register(LanePropertyChange.class, this::receiveInteraction)
+            .register(TrafficSignRegistration.class, this::receiveInteraction)
+            .register(TrafficSignSpeedLimitChange.class, this::receiveInteraction)
+            .register(TrafficSignLaneAssignmentChange.class, this::receiveInteraction);
+
     /**
      * Maximum amount of attempts to connect to SUMO.
      */
@@ -401,6 +433,11 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
 
         nextTimeStep = startTime;
 
+        if (sumoConfig.speculativeStepping) {
+            log.info("Execute simulation steps speculatively in advance");
+            speculativeStep = new SpeculativeSimulationStep();
+        }
+
         // If simulation is to start and stop, do nothing and postpone the thing
         // to do until a VehicleRoutesInitialization interaction was received
         // Else connect to the TraCI server, if Sumo is already started no
@@ -464,6 +501,7 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
      */
     @Override
     public void processInteraction(Interaction interaction) throws InternalFederateException {
+        notifySpeculativeStep(interaction);
         interactionList.add(interaction);
 
         if (log.isTraceEnabled()) {
@@ -484,47 +522,7 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             throw new InternalFederateException("Interaction time lies in the future:" + interaction.getTime() + ", current time:" + time);
         }
 
-        if (interaction.getTypeId().equals(VehicleFederateAssignment.TYPE_ID)) {
-            receiveInteraction((VehicleFederateAssignment) interaction);
-        } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
-            receiveInteraction((VehicleUpdates) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSlowDown.TYPE_ID)) {
-            receiveInteraction((VehicleSlowDown) interaction);
-        } else if (interaction.getTypeId().equals(VehicleRouteChange.TYPE_ID)) {
-            receiveInteraction((VehicleRouteChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightStateChange.TYPE_ID)) {
-            receiveInteraction((TrafficLightStateChange) interaction);
-        } else if (interaction.getTypeId().equals(SumoTraciRequest.TYPE_ID)) {
-            receiveInteraction((SumoTraciRequest) interaction);
-        } else if (interaction.getTypeId().equals(VehicleLaneChange.TYPE_ID)) {
-            receiveInteraction((VehicleLaneChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleStop.TYPE_ID)) {
-            receiveInteraction((VehicleStop) interaction);
-        } else if (interaction.getTypeId().equals(VehicleResume.TYPE_ID)) {
-            receiveInteraction((VehicleResume) interaction);
-        } else if (interaction.getTypeId().equals(VehicleParametersChange.TYPE_ID)) {
-            receiveInteraction((VehicleParametersChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSensorActivation.TYPE_ID)) {
-            receiveInteraction((VehicleSensorActivation) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSpeedChange.TYPE_ID)) {
-            receiveInteraction((VehicleSpeedChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSightDistanceConfiguration.TYPE_ID)) {
-            receiveInteraction((VehicleSightDistanceConfiguration) interaction);
-        } else if (interaction.getTypeId().equals(InductionLoopDetectorSubscription.TYPE_ID)) {
-            receiveInteraction((InductionLoopDetectorSubscription) interaction);
-        } else if (interaction.getTypeId().equals(LaneAreaDetectorSubscription.TYPE_ID)) {
-            receiveInteraction((LaneAreaDetectorSubscription) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightSubscription.TYPE_ID)) {
-            this.receiveInteraction((TrafficLightSubscription) interaction);
-        } else if (interaction.getTypeId().equals(LanePropertyChange.TYPE_ID)) {
-            receiveInteraction((LanePropertyChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignRegistration.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignRegistration) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignSpeedLimitChange.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignSpeedLimitChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignLaneAssignmentChange.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignLaneAssignmentChange) interaction);
-        } else {
+        if (!interactionDispatcher.dispatch(interaction)) {
             log.warn(UNKNOWN_INTERACTION + interaction.getTypeId());
         }
     }
@@ -1186,12 +1184,29 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
         }
     }
 
+    /**
+     * Must be called for each received interaction, in order to detect interactions
+     * which arrive while the next simulation step is executed speculatively.
+     *
+     * @param interaction the received interaction
+     */
+    void notifySpeculativeStep(Interaction interaction) {
+        if (speculativeStep != null) {
+            speculativeStep.onInteraction(interaction);
+        }
+    }
+
     @Override
     public synchronized void processTimeAdvanceGrant(long time) throws InternalFederateException {
         if (bridge instanceof TraciClientBridge && socket == null) {
             throw new InternalFederateException("Error during advance time (" + time + "): Sumo not yet ready.");
         }
 
+        if (speculativeStep != null) {
+            // SUMO must not receive any other command while executing a speculative simulation step
+            speculativeStep.await();
+        }
+
         // send cached interactions
         for (Interaction interaction : interactionList) {
             processInteractionAdvanced(interaction, time);
@@ -1208,8 +1223,14 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             flushNotYetAddedVehicles(lastAdvanceTime);
         }
 
-        // schedule events, e.g. change speed events
-        int scheduled = eventScheduler.scheduleEvents(time);
+        // schedule events, e.g. change speed events, which are sent to SUMO as one pipelined batch
+        final int scheduled;
+        bridge.beginBatch();
+        try {
+            scheduled = eventScheduler.scheduleEvents(time);
+        } finally {
+            bridge.endBatch();
+        }
         log.debug("scheduled {} events at time {}", scheduled, TIME.format(time));
 
         try {
@@ -1224,7 +1245,12 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             }
 
             setExternalVehiclesToLatestPositions();
-            TraciSimulationStepResult simulationStepResult = bridge.getSimulationControl().simulateUntil(time);
+            final TraciSimulationStepResult simulationStepResult;
+            if (speculativeStep != null && speculativeStep.isPending()) {
+                simulationStepResult = speculativeStep.take(time);
+            } else {
+                simulationStepResult = bridge.getSimulationControl().simulateUntil(time);
+            }
 
             VehicleUpdates vehicleUpdates = simulationStepResult.getVehicleUpdates();
             log.trace("Leaving advance time: {}", time);
@@ -1242,33 +1268,83 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             rti.requestAdvanceTime(nextTimeStep, 0, FederatePriority.higher(descriptor.getPriority()));
 
             lastAdvanceTime = time;
+
+            if (isSpeculativeStepPossible()) {
+                executeSpeculativeStep(time);
+            }
         } catch (InternalFederateException | IOException | IllegalValueException e) {
             log.error("Error during advanceTime(" + time + ")", e);
             throw new InternalFederateException(e);
         }
     }
 
+    /**
+     * The next simulation step can only be executed in advance, if it does not depend on the state of other
+     * federates. This requires that there are no externally simulated vehicles, and that the RTI guarantees
+     * that no interaction will be received anymore which would have to be applied before the next step.
+     */
+    private boolean isSpeculativeStepPossible() {
+        if (speculativeStep == null
+                || !speculativeStep.isEnabled()
+                || !externalVehicles.isEmpty()
+                || nextTimeStep > getEndTime()) {
+            return false;
+        }
+        // interactions with the time stamp of the next step could be received before it in the synchronous case
+        if (rti.getLowerBoundTimeStamp() <= nextTimeStep) {
+            return false;
+        }
+        // interactions which have been received already, but are processed with the next time advance
+        final Interaction nextInteraction = interactionQueue.peek();
+        return nextInteraction == null || nextInteraction.getTime() > nextTimeStep;
+    }
+
+    /**
+     * Executes the next simulation step in advance. All commands which would be sent to SUMO before
+     * the next simulation step are sent beforehand, as they don't depend on any further interaction.
+     */
+    private void executeSpeculativeStep(long time) throws InternalFederateException {
+        flushNotYetAddedVehicles(time);
+        bridge.beginBatch();
+        try {
+            eventScheduler.scheduleEvents(nextTimeStep);
+        } finally {
+            bridge.endBatch();
+        }
+        speculativeStep.execute(bridge, nextTimeStep);
+    }
+
     private void setExternalVehiclesToLatestPositions() {
-        for (Map.Entry<String, ExternalVehicleState> external : externalVehicles.entrySet()) {
-            if (external.getValue().isAdded()) {
-                VehicleData latestVehicleData = external.getValue().getLastMovementInfo();
-                if (latestVehicleData == null) {
-                    log.warn("No position data available for external vehicle {}", external.getKey());
-                    latestVehicleData = bridge.getSimulationControl().getLastKnownVehicleData(external.getKey());
-                }
-                if (latestVehicleData != null) {
-                    try {
-                        bridge.getVehicleControl().moveToXY(
-                                external.getKey(),
-                                latestVehicleData.getPosition().toCartesian(),
-                                latestVehicleData.getHeading(),
-                                sumoConfig.moveToXyMode
-                        );
-                    } catch (InternalFederateException e) {
-                        log.warn("Could not set position of vehicle " + external.getKey(), e);
+        // all vehicles are moved with one pipelined batch of commands instead of one round trip per vehicle
+        bridge.beginBatch();
+        try {
+            for (Map.Entry<String, ExternalVehicleState> external : externalVehicles.entrySet()) {
+                if (external.getValue().isAdded()) {
+                    VehicleData latestVehicleData = external.getValue().getLastMovementInfo();
+                    if (latestVehicleData == null) {
+                        log.warn("No position data available for external vehicle {}", external.getKey());
+                        latestVehicleData = bridge.getSimulationControl().getLastKnownVehicleData(external.getKey());
+                    }
+                    if (latestVehicleData != null) {
+                        try {
+                            bridge.getVehicleControl().moveToXY(
+                                    external.getKey(),
+                                    latestVehicleData.getPosition().toCartesian(),
+                                    latestVehicleData.getHeading(),
+                                    sumoConfig.moveToXyMode
+                            );
+                        } catch (InternalFederateException e) {
+                            log.warn("Could not set position of vehicle " + external.getKey(), e);
+                        }
                     }
                 }
             }
+        } finally {
+            try {
+                bridge.endBatch();
+            } catch (InternalFederateException e) {
+                log.warn("Could not set position of external vehicles", e);
+            }
         }
     }
 
@@ -1283,6 +1359,7 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
         }
 
         updates.getUpdated().removeIf(currentVehicle -> externalVehicles.containsKey(currentVehicle.getName()));
+        updates.getUnchangedNames().removeIf(externalVehicles::containsKey);
         updates.getRemovedNames().removeIf(vehicle -> externalVehicles.remove(vehicle) != null);
     }
 
@@ -1374,6 +1451,9 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
     @Override
     public void finishSimulation() {
         log.info("Closing SUMO connection");
+        if (speculativeStep != null) {
+            speculativeStep.shutdown();
+        }
         if (bridge != null) {
             bridge.close();
         }
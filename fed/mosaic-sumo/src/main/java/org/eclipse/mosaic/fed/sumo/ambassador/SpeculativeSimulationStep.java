@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.ambassador;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.TraciSimulationStepResult;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class is used by the {@link AbstractSumoAmbassador} to execute the next simulation step of SUMO
+ * in a separate thread, while the other federates process the current time step. The result of the step
+ * is buffered until the time advance for the step is granted.
+ *
+ * <p>SUMO can not undo a simulation step. Therefore, a step is only executed in advance, if the RTI guarantees that
+ * no interaction for this step will be received anymore. Should an interaction be received nevertheless while a step
+ * is executed speculatively, e.g. from a federate which does not keep its lookahead, the interaction can only be applied
+ * to the subsequent simulation step. In this case, the speculative execution is disabled, and all further simulation
+ * steps are executed synchronously again.</p>
+ */
+class SpeculativeSimulationStep {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "sumo-speculative-step");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Future<TraciSimulationStepResult> pendingStep = null;
+
+    private long pendingStepTime;
+
+    /**
+     * Flag to indicate whether an interaction has been received for the time window of the pending step.
+     */
+    private boolean conflicting = false;
+
+    private boolean enabled = true;
+
+    /**
+     * Checks whether the next simulation step may be executed speculatively.
+     *
+     * @return {@code true}, if no conflicting interaction has been received yet
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Checks whether a simulation step has been executed speculatively and not been taken yet.
+     *
+     * @return {@code true}, if a simulation step is pending
+     */
+    boolean isPending() {
+        return pendingStep != null;
+    }
+
+    /**
+     * Starts the execution of the simulation step until the given time. The bridge must not be used
+     * until the result of this step has been taken via {@link #take(long)}, or this step has been awaited.
+     *
+     * @param bridge the bridge to SUMO
+     * @param time   the time until SUMO is simulated
+     */
+    void execute(Bridge bridge, long time) {
+        pendingStepTime = time;
+        conflicting = false;
+        pendingStep = executor.submit(() -> bridge.getSimulationControl().simulateUntil(time));
+    }
+
+    /**
+     * Notifies about an interaction which has been received. If a step is pending, the interaction
+     * should have been applied before this step, and the speculative execution is disabled.
+     *
+     * @param interaction the received interaction
+     */
+    void onInteraction(Interaction interaction) {
+        if (pendingStep != null && !conflicting) {
+            log.warn("Received {} at {} while the simulation step at {} was executed speculatively. The interaction is applied"
+                            + " to the subsequent simulation step, and all further simulation steps are executed synchronously.",
+                    interaction.getTypeId(), TIME.format(interaction.getTime()), TIME.format(pendingStepTime));
+            conflicting = true;
+            enabled = false;
+        }
+    }
+
+    /**
+     * Waits until a pending step has finished, so that the bridge can be used again. The result of the step
+     * is kept until it is taken via {@link #take(long)}.
+     *
+     * @throws InternalFederateException if the pending step could not be executed
+     */
+    void await() throws InternalFederateException {
+        if (pendingStep == null) {
+            return;
+        }
+        try {
+            pendingStep.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalFederateException("Interrupted while waiting for speculative simulation step", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InternalFederateException) {
+                throw (InternalFederateException) e.getCause();
+            }
+            throw new InternalFederateException("Could not execute speculative simulation step", e);
+        }
+    }
+
+    /**
+     * Returns the result of the pending step, which must have been executed until the given time.
+     *
+     * @param time the granted time
+     * @return the result of the simulation step
+     * @throws InternalFederateException if the pending step could not be executed or has been executed until another time
+     */
+    TraciSimulationStepResult take(long time) throws InternalFederateException {
+        if (time != pendingStepTime) {
+            throw new InternalFederateException("Speculative simulation step was executed until " + TIME.format(pendingStepTime)
+                    + ", but time advance was granted until " + TIME.format(time));
+        }
+        await();
+        try {
+            return pendingStep.get();
+        } catch (InterruptedException | ExecutionException e) {
+            // already handled by await()
+            throw new InternalFederateException(e);
+        } finally {
+            pendingStep = null;
+        }
+    }
+
+    /**
+     * Waits for a pending step and stops the executing thread.
+     */
+    void shutdown() {
+        try {
+            await();
+        } catch (InternalFederateException e) {
+            log.warn("Speculative simulation step could not be executed", e);
+        }
+        pendingStep = null;
+        executor.shutdown();
+    }
+}
@@ -31,6 +31,7 @@ import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.interaction.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
 import com.google.common.collect.Iterables;
@@ -76,6 +77,18 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
      */
     private final List<VehicleRegistration> notYetSubscribedVehicles = new ArrayList<>();
 
+    /**
+     * Passes interactions which are processed directly on arrival to the matching {@code receiveInteraction} method.
+     * All other interactions are cached and processed during the next time advance.
+     */
+    private final InteractionDispatcher immediateInteractionDispatcher = new InteractionDispatcher()
+            .register(VehicleRoutesInitialization.class, this::receiveInteraction)
+            .register(VehicleTypesInitialization.class, this::receiveInteraction)
+            .register(VehicleRegistration.class, vehicleRegistration -> {
+                notifySpeculativeStep(vehicleRegistration);
+                receiveInteraction(vehicleRegistration);
+            });
+
     /**
      * Constructor for {@link SumoAmbassador}.
      *
@@ -83,6 +96,7 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
      */
     public SumoAmbassador(AmbassadorParameter ambassadorParameter) {
         super(ambassadorParameter);
+        interactionDispatcher.register(VehicleRouteRegistration.class, this::receiveInteraction);
     }
 
     @Override
@@ -98,43 +112,12 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
      */
     @Override
     public synchronized void processInteraction(Interaction interaction) throws InternalFederateException {
-        // Init and VehicleRegistration are processed directly...
-        if (interaction.getTypeId().equals(VehicleRoutesInitialization.TYPE_ID)) {
-            this.receiveInteraction((VehicleRoutesInitialization) interaction);
-        } else if (interaction.getTypeId().equals(VehicleTypesInitialization.TYPE_ID)) {
-            this.receiveInteraction((VehicleTypesInitialization) interaction);
-        } else if (interaction.getTypeId().equals(VehicleRegistration.TYPE_ID)) {
-            this.receiveInteraction((VehicleRegistration) interaction);
-        } else {
-            // ... everything else is saved for later
+        // Init and VehicleRegistration are processed directly, everything else is saved for later
+        if (!immediateInteractionDispatcher.dispatch(interaction)) {
             super.processInteraction(interaction);
         }
     }
 
-    /**
-     * This processes all other types of interactions as part of {@link #processTimeAdvanceGrant(long)}.
-     *
-     * @param interaction The interaction to process.
-     * @param time        The time of the processed interaction.
-     * @throws InternalFederateException Exception is thrown if the interaction time is not correct.
-     */
-    @Override
-    protected void processInteractionAdvanced(Interaction interaction, long time) throws InternalFederateException {
-        // make sure the interaction is not in the future
-        if (interaction.getTime() > time) {
-            throw new InternalFederateException(
-                    "Interaction time lies in the future:" + interaction.getTime()
-                            + " current time:" + time
-            );
-        }
-
-        if (interaction.getTypeId().equals(VehicleRouteRegistration.TYPE_ID)) {
-            receiveInteraction((VehicleRouteRegistration) interaction);
-        } else {
-            super.processInteractionAdvanced(interaction, time);
-        }
-    }
-
     /**
      * Handles the {@link VehicleRegistration}-registration and adds the vehicle to the current
      * simulation.
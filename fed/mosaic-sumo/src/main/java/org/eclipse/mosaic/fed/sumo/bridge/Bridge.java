@@ -21,8 +21,10 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.AbstractTraciCommand;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.TraciCommandPipeline;
 import org.eclipse.mosaic.fed.sumo.util.MosaicConformVehicleIdTransformer;
 import org.eclipse.mosaic.lib.util.objects.IdTransformer;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -55,6 +57,27 @@ public interface Bridge {
      */
     DataOutputStream getOut();
 
+    /**
+     * Getter for the pipeline of commands sent via the socket connection to SUMO.
+     *
+     * @return the pipeline which collects commands sent without waiting for their responses.
+     */
+    TraciCommandPipeline getCommandPipeline();
+
+    /**
+     * Starts a batch of commands. Until the matching {@link #endBatch()} call, commands without
+     * result may be sent to SUMO together, without waiting for the response of each command.
+     */
+    void beginBatch();
+
+    /**
+     * Ends a batch of commands started by {@link #beginBatch()}. If this ends the outermost batch,
+     * all remaining commands of the batch are sent and their responses are read.
+     *
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    void endBatch() throws InternalFederateException;
+
     /**
      * Getter for the currently running SUMO version.
      *
@@ -21,6 +21,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.TraciCommandPipeline;
 import org.eclipse.mosaic.fed.sumo.config.CSumo;
 
 import org.eclipse.sumo.libsumo.Simulation;
@@ -107,7 +108,11 @@ public class LibSumoBridge implements Bridge {
 
     @Override
     public void close() {
-        Simulation.close();
+        try {
+            Simulation.close();
+        } finally {
+            simulationControl.close();
+        }
     }
 
     @Override
@@ -125,6 +130,21 @@ public class LibSumoBridge implements Bridge {
         throw new UnsupportedOperationException("This SUMO bridge implementation does not provide a socket connection.");
     }
 
+    @Override
+    public TraciCommandPipeline getCommandPipeline() {
+        throw new UnsupportedOperationException("This SUMO bridge implementation does not provide a socket connection.");
+    }
+
+    @Override
+    public void beginBatch() {
+        // nop, commands are executed directly by libsumo
+    }
+
+    @Override
+    public void endBatch() {
+        // nop, commands are executed directly by libsumo
+    }
+
     @Override
     public void onCommandCompleted() {
         //nop
@@ -23,6 +23,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.TraciCommandPipeline;
 import org.eclipse.mosaic.fed.sumo.config.CSumo;
 import org.eclipse.mosaic.lib.objects.traffic.SumoTraciResult;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -33,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
@@ -50,11 +52,17 @@ public class TraciClientBridge implements Bridge {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
+    /**
+     * Size of the buffer in which commands are assembled before they are sent to SUMO.
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
     private final CommandRegister commandRegister;
 
     private final Socket sumoServerSocket;
     private final DataInputStream in;
     private final DataOutputStream out;
+    private final TraciCommandPipeline commandPipeline = new TraciCommandPipeline();
 
     private final SimulationFacade simulationControl;
     private final VehicleFacade vehicleControl;
@@ -93,10 +101,13 @@ public class TraciClientBridge implements Bridge {
             inCapture = new ByteArrayOutputStream();
             outCapture = new ByteArrayOutputStream();
             this.in = new DataInputStream(new TeeInputStream(new BufferedInputStream(sumoServerSocket.getInputStream()), inCapture));
-            this.out = new DataOutputStream(new TeeOutputStream(sumoServerSocket.getOutputStream(), outCapture));
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    new TeeOutputStream(sumoServerSocket.getOutputStream(), outCapture), OUTPUT_BUFFER_SIZE
+            ));
         } else {
             this.in = new DataInputStream(new BufferedInputStream(sumoServerSocket.getInputStream()));
-            this.out = new DataOutputStream(sumoServerSocket.getOutputStream());
+            // commands are written to a buffer and flushed once they are complete, see AbstractTraciCommand
+            this.out = new DataOutputStream(new BufferedOutputStream(sumoServerSocket.getOutputStream(), OUTPUT_BUFFER_SIZE));
         }
         this.sumoServerSocket = sumoServerSocket;
         this.commandRegister = commandRegister;
@@ -180,6 +191,7 @@ public class TraciClientBridge implements Bridge {
         } catch (Exception e) {
             log.error("Simulation could not be closed properly.", e);
         } finally {
+            simulationControl.close();
             closeStreamsAndSockets();
         }
     }
@@ -218,6 +230,21 @@ public class TraciClientBridge implements Bridge {
         return out;
     }
 
+    @Override
+    public TraciCommandPipeline getCommandPipeline() {
+        return commandPipeline;
+    }
+
+    @Override
+    public void beginBatch() {
+        commandPipeline.begin();
+    }
+
+    @Override
+    public void endBatch() throws InternalFederateException {
+        commandPipeline.end(this);
+    }
+
     public CommandRegister getCommandRegister() {
         return commandRegister;
     }
@@ -225,6 +252,9 @@ public class TraciClientBridge implements Bridge {
     @Override
     public void emergencyExit(Throwable e) {
         log.error("Close all TraCI streams due to an error", e);
+        if (simulationControl != null) { // may be called while connecting
+            simulationControl.close();
+        }
         closeStreamsAndSockets();
     }
 
@@ -73,6 +73,7 @@ import org.eclipse.mosaic.lib.util.objects.Position;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
+import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,6 +83,12 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SimulationFacade {
 
@@ -91,6 +98,30 @@ public class SimulationFacade {
      */
     private final static double FUEL_DENSITY = 0.74; // g/m^3
 
+    private final static Consumptions NO_CONSUMPTIONS = new Consumptions(0d);
+    private final static Emissions NO_EMISSIONS = new Emissions(0d, 0d, 0d, 0d, 0d);
+
+    /**
+     * Below this number of vehicles, the subscription results are always processed by the calling thread,
+     * as the overhead of the parallel processing would outweigh its benefits.
+     */
+    private final static int MIN_VEHICLES_FOR_PARALLEL_POST_PROCESSING = 1000;
+
+    /**
+     * All combinations of the decoded vehicle signals, indexed by the four lowest bits of the encoded signals
+     * (blinkers and brake light) and the reverse drive bit. Since {@link VehicleSignals} are immutable,
+     * they can be shared between all vehicles and simulation steps.
+     */
+    private final static VehicleSignals[] VEHICLE_SIGNALS = new VehicleSignals[32];
+
+    static {
+        for (int i = 0; i < VEHICLE_SIGNALS.length; i++) {
+            VEHICLE_SIGNALS[i] = new VehicleSignals(
+                    getBit(i, 1), getBit(i, 0), getBit(i, 2), getBit(i, 3), getBit(i, 4)
+            );
+        }
+    }
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private final Bridge bridge;
@@ -121,6 +152,12 @@ public class SimulationFacade {
     private final Map<String, InductionLoop> inductionLoops = new HashMap<>();
     private final Map<String, SumoVehicleState> sumoVehicles = new HashMap<>();
 
+    /**
+     * Executes the post-processing of vehicle subscription results in parallel. Is {@code null}
+     * if only one thread is configured, in which case all results are processed by the calling thread.
+     */
+    private final ExecutorService postProcessingExecutor;
+
     /**
      * This list is used to cache teleporting vehicles. It is only filled if at least one vehicle is potentially teleporting
      * and reset to {@code null} after each time step.
@@ -131,6 +168,16 @@ public class SimulationFacade {
         private final String id;
         private VehicleData currentVehicleData = null;
         private VehicleData lastVehicleData = null;
+        /**
+         * Set, if the state of the vehicle has not changed within the current simulation step and
+         * the {@link #lastVehicleData} has been kept as {@link #currentVehicleData}.
+         */
+        private boolean unchanged = false;
+        /**
+         * The index of the vehicle within the subscription results of the current simulation step, if these are
+         * processed in parallel. Otherwise, or if the vehicle has no subscription result, this is {@code -1}.
+         */
+        private int processingIndex = -1;
         private Double frontSensorDistance = null;
         private Double rearSensorDistance = null;
 
@@ -147,7 +194,7 @@ public class SimulationFacade {
         }
 
         private boolean isNotUpdated() {
-            return lastVehicleData != null && currentVehicleData == lastVehicleData;
+            return lastVehicleData != null && currentVehicleData == lastVehicleData && !unchanged;
         }
     }
 
@@ -192,6 +239,29 @@ public class SimulationFacade {
 
         this.vehicleSubscribeSurrounding = bridge.getCommandRegister().getOrCreate(VehicleSubscribeSurroundingVehicle.class);
         this.vehicleSubscriptionFilterFieldOfVision = bridge.getCommandRegister().getOrCreate(VehicleSubscriptionSetFieldOfVision.class);
+
+        Validate.isTrue(sumoConfiguration.postProcessingThreads >= 1, "Number of post-processing threads must be at least 1");
+        this.postProcessingExecutor = sumoConfiguration.postProcessingThreads > 1
+                ? createPostProcessingExecutor(sumoConfiguration.postProcessingThreads - 1) : null;
+    }
+
+    private static ExecutorService createPostProcessingExecutor(int threads) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "sumo-post-processing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Releases the resources of this facade, i.e. stops the threads used for the post-processing of simulation
+     * steps. Must be called when the simulation is closed.
+     */
+    public void close() {
+        if (postProcessingExecutor != null) {
+            postProcessingExecutor.shutdownNow();
+        }
     }
 
     /**
@@ -435,22 +505,29 @@ public class SimulationFacade {
             final List<AbstractSubscriptionResult> subscriptions = simulateStep.execute(bridge, time);
 
             // POST-PROCESSING
-            sumoVehicles.values().forEach(v -> v.lastVehicleData = v.currentVehicleData);
+            sumoVehicles.values().forEach(v -> {
+                v.lastVehicleData = v.currentVehicleData;
+                v.unchanged = false;
+                v.processingIndex = -1;
+            });
 
             final Map<String, String> vehicleSegmentInfo = calculateVehicleSegmentInfo(subscriptions);
 
             final List<VehicleData> addedVehicles = new LinkedList<>();
             final List<VehicleData> updatedVehicles = new LinkedList<>();
+            final List<String> unchangedVehicles = new ArrayList<>();
 
             final List<InductionLoopInfo> updatedInductionLoops = new ArrayList<>();
             final List<LaneAreaDetectorInfo> updatedLaneAreas = new ArrayList<>();
             final Map<String, TrafficLightGroupInfo> trafficLightGroupInfos = new HashMap<>();
 
+            final SumoVehicleState[] processedVehicles = processVehicleSubscriptionResults(time, subscriptions, vehicleSegmentInfo);
+            int vehicleIndex = 0;
+
             for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
                 if (subscriptionResult instanceof VehicleSubscriptionResult) {
-                    final SumoVehicleState sumoVehicle = processVehicleSubscriptionResult(
-                            time, (VehicleSubscriptionResult) subscriptionResult, vehicleSegmentInfo
-                    );
+                    // vehicles are collected in the order of the subscription results, regardless of how they were processed
+                    final SumoVehicleState sumoVehicle = processedVehicles[vehicleIndex++];
                     if (sumoVehicle == null) {
                         continue;
                     }
@@ -458,6 +535,8 @@ public class SimulationFacade {
                         addedVehicles.add(sumoVehicle.currentVehicleData);
                     } else if (sumoVehicle.isUpdated()) {
                         updatedVehicles.add(sumoVehicle.currentVehicleData);
+                    } else if (sumoVehicle.unchanged) {
+                        unchangedVehicles.add(sumoVehicle.id);
                     }
                 } else if (subscriptionResult instanceof InductionLoopSubscriptionResult) {
                     final InductionLoopInfo inductionLoopInfo = processInductionLoopSubscriptionResult(
@@ -479,6 +558,14 @@ public class SimulationFacade {
 
             for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
                 if (subscriptionResult instanceof VehicleContextSubscriptionResult) {
+                    final SumoVehicleState sumoVehicle = getOrCreateVehicleState(subscriptionResult.id);
+                    if (sumoVehicle.unchanged) {
+                        // the vehicles in sight are added to the VehicleData, which therefore must not be shared with the last step
+                        sumoVehicle.currentVehicleData = new VehicleData.Builder(time, sumoVehicle.id).copyFrom(sumoVehicle.lastVehicleData).create();
+                        sumoVehicle.unchanged = false;
+                        unchangedVehicles.remove(sumoVehicle.id);
+                        updatedVehicles.add(sumoVehicle.currentVehicleData);
+                    }
                     // needs to be done in a subsequent loop, as previously created VehicleData is updated here
                     processVehicleContextSubscriptionResult((VehicleContextSubscriptionResult) subscriptionResult);
                 }
@@ -486,7 +573,8 @@ public class SimulationFacade {
 
             final List<String> removedVehicles = findRemovedVehicles(time);
 
-            final VehicleUpdates vehicleUpdates = new VehicleUpdates(time, addedVehicles, updatedVehicles, removedVehicles);
+            final VehicleUpdates vehicleUpdates =
+                    new VehicleUpdates(time, addedVehicles, updatedVehicles, removedVehicles, unchangedVehicles);
             final TrafficDetectorUpdates trafficDetectorUpdates = new TrafficDetectorUpdates(time, updatedLaneAreas, updatedInductionLoops);
             final TrafficLightUpdates trafficLightUpdates = new TrafficLightUpdates(time, trafficLightGroupInfos);
 
@@ -498,15 +586,127 @@ public class SimulationFacade {
         }
     }
 
+    /**
+     * Processes all {@link VehicleSubscriptionResult}s of the current simulation step. If configured, the results are
+     * partitioned and processed in parallel, as the processing of a vehicle only depends on its own state. Only the
+     * vehicles with an activated front sensor read the state of other vehicles and are therefore processed
+     * sequentially afterwards.
+     *
+     * @return the processed vehicle states in the order of the vehicle subscription results. An entry is
+     *         {@code null} if the vehicle is ignored in this simulation step.
+     */
+    private SumoVehicleState[] processVehicleSubscriptionResults(final long time,
+                                                                 final List<AbstractSubscriptionResult> subscriptions,
+                                                                 final Map<String, String> vehicleSegmentInfo
+    ) throws CommandException, InternalFederateException {
+        final List<VehicleSubscriptionResult> vehicles = new ArrayList<>(subscriptions.size());
+        for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
+            if (subscriptionResult instanceof VehicleSubscriptionResult) {
+                vehicles.add((VehicleSubscriptionResult) subscriptionResult);
+            }
+        }
+
+        final SumoVehicleState[] vehicleStates = new SumoVehicleState[vehicles.size()];
+        final SumoVehicleState[] processedVehicles = new SumoVehicleState[vehicles.size()];
+
+        if (postProcessingExecutor == null || vehicles.size() < MIN_VEHICLES_FOR_PARALLEL_POST_PROCESSING) {
+            for (int i = 0; i < vehicles.size(); i++) {
+                vehicleStates[i] = getOrCreateVehicleState(vehicles.get(i).id);
+                processedVehicles[i] = processVehicleSubscriptionResult(time, vehicleStates[i], vehicles.get(i), vehicleSegmentInfo);
+            }
+            return processedVehicles;
+        }
+
+        // the vehicle states and the list of teleporting vehicles are shared between all threads and therefore prepared beforehand
+        for (int i = 0; i < vehicles.size(); i++) {
+            vehicleStates[i] = getOrCreateVehicleState(vehicles.get(i).id);
+            vehicleStates[i].processingIndex = i;
+            if (currentTeleportingList == null && isTeleportingCandidate(vehicleStates[i], vehicles.get(i))) {
+                currentTeleportingList = getTeleportingList.execute(bridge);
+            }
+        }
+
+        final int partitions = sumoConfiguration.postProcessingThreads;
+        final int partitionSize = (vehicles.size() + partitions - 1) / partitions;
+        final List<Future<Void>> futures = new ArrayList<>(partitions - 1);
+        for (int partition = 1; partition < partitions; partition++) {
+            final int from = partition * partitionSize;
+            final int to = Math.min(from + partitionSize, vehicles.size());
+            futures.add(postProcessingExecutor.submit(() -> {
+                processVehicleSubscriptionResults(time, vehicles, vehicleStates, vehicleSegmentInfo, from, to, processedVehicles);
+                return null;
+            }));
+        }
+        // the first partition is processed by the calling thread
+        processVehicleSubscriptionResults(
+                time, vehicles, vehicleStates, vehicleSegmentInfo, 0, Math.min(partitionSize, vehicles.size()), processedVehicles
+        );
+        awaitPostProcessing(futures);
+
+        for (int i = 0; i < vehicles.size(); i++) {
+            if (vehicleStates[i].frontSensorDistance != null) {
+                processedVehicles[i] = processVehicleSubscriptionResult(time, vehicleStates[i], vehicles.get(i), vehicleSegmentInfo);
+            }
+        }
+        return processedVehicles;
+    }
+
+    private void processVehicleSubscriptionResults(final long time,
+                                                   final List<VehicleSubscriptionResult> vehicles,
+                                                   final SumoVehicleState[] vehicleStates,
+                                                   final Map<String, String> vehicleSegmentInfo,
+                                                   final int from,
+                                                   final int to,
+                                                   final SumoVehicleState[] processedVehicles
+    ) throws CommandException, InternalFederateException {
+        for (int i = from; i < to; i++) {
+            if (vehicleStates[i].frontSensorDistance == null) {
+                processedVehicles[i] = processVehicleSubscriptionResult(time, vehicleStates[i], vehicles.get(i), vehicleSegmentInfo);
+            }
+        }
+    }
+
+    private void awaitPostProcessing(List<Future<Void>> futures) throws CommandException, InternalFederateException {
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalFederateException("Interrupted while processing vehicle subscription results", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof InternalFederateException) {
+                throw (InternalFederateException) e.getCause();
+            }
+            throw new InternalFederateException("Could not process vehicle subscription results", e);
+        }
+    }
+
+    /**
+     * Returns {@code true}, if the list of teleporting vehicles is required to process the given vehicle.
+     */
+    private static boolean isTeleportingCandidate(SumoVehicleState sumoVehicle, VehicleSubscriptionResult veh) {
+        return hasInvalidPosition(veh)
+                && sumoVehicle.lastVehicleData != null
+                && !sumoVehicle.lastVehicleData.getVehicleStopMode().isParking();
+    }
+
+    private static boolean hasInvalidPosition(VehicleSubscriptionResult veh) {
+        return veh.position == null || !veh.position.isValid();
+    }
+
     private SumoVehicleState processVehicleSubscriptionResult(final long time,
+                                                              final SumoVehicleState sumoVehicle,
                                                               final VehicleSubscriptionResult veh,
                                                               final Map<String, String> vehicleSegmentInfo
     ) throws CommandException, InternalFederateException {
 
-        final SumoVehicleState sumoVehicle = getOrCreateVehicleState(veh.id);
         final VehicleStopMode vehicleStopMode = VehicleStopMode.fromSumoInt(veh.stoppedStateEncoded);
         final boolean isParking = vehicleStopMode.isParking();
-        final boolean hasInvalidPosition = veh.position == null || !veh.position.isValid();
+        final boolean hasInvalidPosition = hasInvalidPosition(veh);
         final boolean isNewVehicle = sumoVehicle.lastVehicleData == null;
         /* When a vehicle is trying to leave a parking area but the lane it's trying to enter is occupied, vehicles are put in a similar
          * state as when spawned. The position will be invalid until the lane is free. Therefore, we need to handle this case separately. */
@@ -541,50 +741,102 @@ public class SimulationFacade {
             return null;
         }
 
-        final VehicleData.Builder vehicleDataBuilder = new VehicleData.Builder(time, veh.id);
-
         if (isWaitingToLeaveParking) {
             log.debug("Vehicle {} is currently waiting to leave parking area on edge {}.",
                     veh.id, sumoVehicle.lastVehicleData.getRoadPosition().getConnectionId());
-            // if the vehicle is waiting to leave a parking area, we assume it's still parked and copy previous vehicle data
-            vehicleDataBuilder.copyFrom(sumoVehicle.lastVehicleData);
-        } else {
-            vehicleDataBuilder
-                    .position(veh.position.getGeographicPosition(), veh.position.getProjectedPosition())
-                    .movement(veh.speed, veh.acceleration, fixDistanceDriven(veh.distanceDriven, sumoVehicle.lastVehicleData))
-                    .orientation(DriveDirection.UNAVAILABLE, veh.heading, veh.slope)
-                    .route(veh.routeId)
-                    .signals(decodeVehicleSignals(veh.signalsEncoded))
-                    .stopped(vehicleStopMode)
-                    .sensors(createSensorData(sumoVehicle, veh.leadingVehicle, veh.followerVehicle, veh.minGap))
-                    .laneArea(vehicleSegmentInfo.get(veh.id));
-            if (sumoConfiguration.subscriptions != null && sumoConfiguration.subscriptions.contains(CSumo.SUBSCRIPTION_TRAINS)) {
-                vehicleDataBuilder.additional(extractTrainData(veh));
+            if (sumoConfiguration.deltaVehicleUpdates) {
+                return keepUnchanged(sumoVehicle);
             }
-            if (isParking) {
-                if (!sumoVehicle.lastVehicleData.isStopped()) {
-                    log.info("Vehicle {} has parked at {} (edge: {})", veh.id, veh.position, veh.edgeId);
-                }
-                vehicleDataBuilder
-                        // use the last known road position, otherwise we can not retrieve a valid one
-                        .road(sumoVehicle.lastVehicleData.getRoadPosition())
-                        // for parking vehicles, there are no consumptions and emissions to measure
-                        .consumptions(new VehicleConsumptions(
-                                new Consumptions(0d), sumoVehicle.lastVehicleData.getVehicleConsumptions().getAllConsumptions())
-                        ).emissions(new VehicleEmissions(
-                                new Emissions(0d, 0d, 0d, 0d, 0d), sumoVehicle.lastVehicleData.getVehicleEmissions().getAllEmissions()));
-            } else {
-                vehicleDataBuilder
-                        .road(getRoadPosition(veh, sumoVehicle.lastVehicleData))
-                        .consumptions(calculateConsumptions(veh, sumoVehicle.lastVehicleData))
-                        .emissions(calculateEmissions(veh, sumoVehicle.lastVehicleData));
+            // if the vehicle is waiting to leave a parking area, we assume it's still parked and copy previous vehicle data
+            sumoVehicle.currentVehicleData = new VehicleData.Builder(time, veh.id).copyFrom(sumoVehicle.lastVehicleData).create();
+            return sumoVehicle;
+        }
+
+        final VehicleData lastVehicleData = sumoVehicle.lastVehicleData;
+        final double distanceDriven = fixDistanceDriven(veh.distanceDriven, lastVehicleData);
+        final VehicleSignals signals = decodeVehicleSignals(veh.signalsEncoded);
+        final VehicleSensors sensors = createSensorData(sumoVehicle, veh.leadingVehicle, veh.followerVehicle, veh.minGap);
+        final String laneArea = vehicleSegmentInfo.get(veh.id);
+        final PublicTransportData trainData =
+                sumoConfiguration.subscriptions != null && sumoConfiguration.subscriptions.contains(CSumo.SUBSCRIPTION_TRAINS)
+                        ? extractTrainData(veh) : null;
+
+        final IRoadPosition roadPosition;
+        final VehicleConsumptions consumptions;
+        final VehicleEmissions emissions;
+        if (isParking) {
+            if (!lastVehicleData.isStopped()) {
+                log.info("Vehicle {} has parked at {} (edge: {})", veh.id, veh.position, veh.edgeId);
             }
+            // use the last known road position, otherwise we can not retrieve a valid one
+            roadPosition = lastVehicleData.getRoadPosition();
+            // for parking vehicles, there are no consumptions and emissions to measure
+            consumptions = calculateConsumptions(NO_CONSUMPTIONS, lastVehicleData);
+            emissions = calculateEmissions(NO_EMISSIONS, lastVehicleData);
+        } else {
+            roadPosition = getRoadPosition(veh, lastVehicleData);
+            consumptions = calculateConsumptions(veh, lastVehicleData);
+            emissions = calculateEmissions(veh, lastVehicleData);
+        }
+
+        if (sumoConfiguration.deltaVehicleUpdates && lastVehicleData != null
+                && lastVehicleData.getVehiclesInSight().isEmpty()
+                && lastVehicleData.getProjectedPosition().getX() == veh.position.getProjectedPosition().getX()
+                && lastVehicleData.getProjectedPosition().getY() == veh.position.getProjectedPosition().getY()
+                && lastVehicleData.getProjectedPosition().getZ() == veh.position.getProjectedPosition().getZ()
+                && lastVehicleData.getSpeed() == veh.speed
+                && isEqual(lastVehicleData.getLongitudinalAcceleration(), veh.acceleration)
+                && isEqual(lastVehicleData.getHeading(), veh.heading)
+                && lastVehicleData.getSlope() == veh.slope
+                && lastVehicleData.getDistanceDriven() == distanceDriven
+                && lastVehicleData.getVehicleStopMode() == vehicleStopMode
+                && Objects.equals(lastVehicleData.getRouteId(), veh.routeId)
+                && Objects.equals(lastVehicleData.getLaneAreaId(), laneArea)
+                && lastVehicleData.getVehicleSignals() == signals
+                && Objects.equals(lastVehicleData.getVehicleSensors(), sensors)
+                && lastVehicleData.getRoadPosition() == roadPosition
+                && lastVehicleData.getVehicleConsumptions() == consumptions
+                && lastVehicleData.getVehicleEmissions() == emissions
+                && trainData == null && lastVehicleData.getAdditionalData() == null
+        ) {
+            return keepUnchanged(sumoVehicle);
+        }
+
+        final VehicleData.Builder vehicleDataBuilder = new VehicleData.Builder(time, veh.id)
+                .position(veh.position.getProjectedPosition())
+                .movement(veh.speed, veh.acceleration, distanceDriven)
+                .orientation(DriveDirection.UNAVAILABLE, veh.heading, veh.slope)
+                .route(veh.routeId)
+                .signals(signals)
+                .stopped(vehicleStopMode)
+                .sensors(lastVehicleData != null && sensors.equals(lastVehicleData.getVehicleSensors())
+                        ? lastVehicleData.getVehicleSensors() : sensors)
+                .laneArea(laneArea)
+                .road(roadPosition)
+                .consumptions(consumptions)
+                .emissions(emissions);
+        if (trainData != null) {
+            vehicleDataBuilder.additional(trainData);
         }
 
         sumoVehicle.currentVehicleData = vehicleDataBuilder.create();
         return sumoVehicle;
     }
 
+    private static boolean isEqual(Double lastValue, double value) {
+        return lastValue != null && lastValue == value;
+    }
+
+    /**
+     * Keeps the last {@link VehicleData} of the vehicle for the current simulation step, which
+     * lists the vehicle as unchanged in {@link VehicleUpdates} instead of publishing it again.
+     */
+    private SumoVehicleState keepUnchanged(SumoVehicleState sumoVehicle) {
+        sumoVehicle.currentVehicleData = sumoVehicle.lastVehicleData;
+        sumoVehicle.unchanged = true;
+        return sumoVehicle;
+    }
+
     private PublicTransportData extractTrainData(VehicleSubscriptionResult veh) {
         return new PublicTransportData.Builder().withLineId(veh.line).nextStops(veh.nextStops).build();
     }
@@ -710,7 +962,7 @@ public class SimulationFacade {
                 && leadingVehicle.getDistance() < vehicleState.frontSensorDistance
         ) {
             frontDistance = leadingVehicle.getDistance() + minGap;
-            VehicleData leadingVehicleData = getLastKnownVehicleData(leadingVehicle.getOtherVehicleId());
+            VehicleData leadingVehicleData = getLeadingVehicleData(vehicleState, leadingVehicle.getOtherVehicleId());
             leaderSpeed = leadingVehicleData != null ? leadingVehicleData.getSpeed() : -1;
         }
         if (hasBackSensorActivated
@@ -725,6 +977,20 @@ public class SimulationFacade {
         );
     }
 
+    /**
+     * Returns the data of the leading vehicle as it would be known if all vehicles were processed sequentially
+     * in the order of the subscription results, that is, the data of the last simulation step if the leading
+     * vehicle is processed after the given vehicle.
+     */
+    private VehicleData getLeadingVehicleData(SumoVehicleState vehicleState, String leadingVehicleId) {
+        final SumoVehicleState leadingVehicle = sumoVehicles.get(leadingVehicleId);
+        if (leadingVehicle == null) {
+            return null;
+        }
+        return leadingVehicle.processingIndex > vehicleState.processingIndex
+                ? leadingVehicle.lastVehicleData : leadingVehicle.currentVehicleData;
+    }
+
     /**
      * Maps vehicles to the their current lane segments (on which a vehicle is located).
      *
@@ -756,11 +1022,19 @@ public class SimulationFacade {
      * @return The vehicle consumption.
      */
     private VehicleConsumptions calculateConsumptions(VehicleSubscriptionResult veh, VehicleData lastVehicleData) {
-        final Consumptions currentConsumptions = new Consumptions(fixFuelConsumptionValue(veh.fuel));
+        return calculateConsumptions(new Consumptions(fixFuelConsumptionValue(veh.fuel)), lastVehicleData);
+    }
+
+    private VehicleConsumptions calculateConsumptions(Consumptions currentConsumptions, VehicleData lastVehicleData) {
         if (lastVehicleData != null && lastVehicleData.getVehicleConsumptions() != null) {
+            final VehicleConsumptions lastConsumptions = lastVehicleData.getVehicleConsumptions();
+            if (NO_CONSUMPTIONS.equals(currentConsumptions) && NO_CONSUMPTIONS.equals(lastConsumptions.getCurrentConsumptions())) {
+                // nothing has been consumed in the current and last step, the consumptions of the last step can be shared
+                return lastConsumptions;
+            }
             return new VehicleConsumptions(
                     currentConsumptions,
-                    lastVehicleData.getVehicleConsumptions().getAllConsumptions().addConsumptions(currentConsumptions)
+                    lastConsumptions.getAllConsumptions().addConsumptions(currentConsumptions)
             );
         }
         return new VehicleConsumptions(currentConsumptions, currentConsumptions);
@@ -787,10 +1061,19 @@ public class SimulationFacade {
                 fixEmissionValue(veh.hc),
                 fixEmissionValue(veh.pmx),
                 fixEmissionValue(veh.nox));
+        return calculateEmissions(currentEmissions, lastVehicleData);
+    }
+
+    private VehicleEmissions calculateEmissions(Emissions currentEmissions, VehicleData lastVehicleData) {
         if (lastVehicleData != null && lastVehicleData.getVehicleEmissions() != null) {
+            final VehicleEmissions lastEmissions = lastVehicleData.getVehicleEmissions();
+            if (NO_EMISSIONS.equals(currentEmissions) && NO_EMISSIONS.equals(lastEmissions.getCurrentEmissions())) {
+                // nothing has been emitted in the current and last step, the emissions of the last step can be shared
+                return lastEmissions;
+            }
             return new VehicleEmissions(
                     currentEmissions,
-                    lastVehicleData.getVehicleEmissions().getAllEmissions().addEmissions(currentEmissions)
+                    lastEmissions.getAllEmissions().addEmissions(currentEmissions)
             );
         }
         return new VehicleEmissions(currentEmissions, currentEmissions);
@@ -814,6 +1097,9 @@ public class SimulationFacade {
 
         IRoadPosition roadPosition = null;
         if (!veh.edgeId.contains(":")) {
+            if (lastVehicleData != null && isSameRoadPosition(lastVehicleData.getRoadPosition(), veh)) {
+                return lastVehicleData.getRoadPosition();
+            }
             roadPosition = createRoadPosition(
                     veh.edgeId,
                     veh.laneIndex,
@@ -826,6 +1112,14 @@ public class SimulationFacade {
         return roadPosition;
     }
 
+    private boolean isSameRoadPosition(IRoadPosition roadPosition, VehicleSubscriptionResult veh) {
+        return roadPosition != null
+                && roadPosition.getLaneIndex() == veh.laneIndex
+                && roadPosition.getOffset() == veh.lanePosition
+                && roadPosition.getLateralLanePosition() == veh.lateralLanePosition
+                && veh.edgeId.equals(roadPosition.getConnectionId());
+    }
+
     /**
      * Fixing the driven distance.
      *
@@ -858,17 +1152,11 @@ public class SimulationFacade {
      * This method decodes the vehicle signals.
      *
      * @param signalsEncoded Encoded number indicating the vehicle signals.
-     * @return a new {@link VehicleSignals} object
+     * @return the shared {@link VehicleSignals} object matching the encoded signals
      */
     private VehicleSignals decodeVehicleSignals(int signalsEncoded) {
-        boolean blinkerRight = getBit(signalsEncoded, 0);
-        boolean blinkerLeft = getBit(signalsEncoded, 1);
-        boolean blinkerEmergency = getBit(signalsEncoded, 2);
-        boolean brakeLight = getBit(signalsEncoded, 3);
-        boolean reverseDrive = getBit(signalsEncoded, 7);
-        return new VehicleSignals(
-                blinkerLeft, blinkerRight, blinkerEmergency, brakeLight, reverseDrive
-        );
+        // bit 0: blinker right, bit 1: blinker left, bit 2: blinker emergency, bit 3: brake light, bit 7: reverse drive
+        return VEHICLE_SIGNALS[(signalsEncoded & 0x0F) | ((signalsEncoded >> 3) & 0x10)];
     }
 
 
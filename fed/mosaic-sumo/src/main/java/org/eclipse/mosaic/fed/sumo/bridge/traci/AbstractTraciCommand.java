@@ -110,7 +110,15 @@ public abstract class AbstractTraciCommand<T> {
      */
     protected void execute(Bridge bridge, Object... arguments) throws CommandException, InternalFederateException {
         if (checkVersion(bridge)) {
-            sendMessageToTraci(bridge, arguments);
+            final TraciCommandPipeline pipeline = bridge.getCommandPipeline();
+            if (pipeline.isActive()) {
+                // the response is read later, when further commands have been sent
+                sendMessageToTraci(bridge, arguments, false);
+                pipeline.enqueue(bridge, getClass().getSimpleName(), () -> readResults(bridge, false));
+                return;
+            }
+            sendMessageToTraci(bridge, arguments, true);
+            pipeline.complete(bridge);
             readResults(bridge, false);
         }
     }
@@ -127,7 +135,8 @@ public abstract class AbstractTraciCommand<T> {
      */
     protected List<T> executeAndReturnList(Bridge bridge, Object... arguments) throws CommandException, InternalFederateException {
         if (checkVersion(bridge)) {
-            sendMessageToTraci(bridge, arguments);
+            sendMessageToTraci(bridge, arguments, true);
+            bridge.getCommandPipeline().complete(bridge);
             return readResults(bridge, true);
         } else {
             return Lists.newArrayList();
@@ -145,7 +154,8 @@ public abstract class AbstractTraciCommand<T> {
      */
     protected Optional<T> executeAndReturn(Bridge bridge, Object... arguments) throws CommandException, InternalFederateException {
         if (checkVersion(bridge)) {
-            sendMessageToTraci(bridge, arguments);
+            sendMessageToTraci(bridge, arguments, true);
+            bridge.getCommandPipeline().complete(bridge);
             return Optional.ofNullable(Iterables.getFirst(readResults(bridge, false), null));
         } else {
             return Optional.empty();
@@ -170,9 +180,11 @@ public abstract class AbstractTraciCommand<T> {
      * is variable, the next argument from the list of given arguments is used accordingly.
      * This implies, that the length of the passed arguments array must match the length of the writers which
      * are supposed to write variable content.
+     *
+     * @param flush if {@code true}, the command is sent immediately, otherwise it remains in the buffer of the output stream
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private void sendMessageToTraci(Bridge bridge, Object[] arguments) throws InternalFederateException {
+    private void sendMessageToTraci(Bridge bridge, Object[] arguments, boolean flush) throws InternalFederateException {
         try {
 
             int messageLength = 0;
@@ -211,6 +223,9 @@ public abstract class AbstractTraciCommand<T> {
                     block.write(bridge.getOut());
                 }
             }
+            if (flush) {
+                bridge.getOut().flush();
+            }
         } catch (Exception t) {
             bridge.emergencyExit(t);
             throw new InternalFederateException("Error during executing TraCI command " + this.getClass().getSimpleName(), t);
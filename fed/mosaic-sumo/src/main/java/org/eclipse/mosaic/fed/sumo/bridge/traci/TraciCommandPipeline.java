@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pipelines TraCI commands which do not return any result. Between {@link #begin()} and the matching
+ * {@link #end(Bridge)} call, which may be nested, such commands are only written to the (buffered) output stream,
+ * without waiting for the response of SUMO. The responses are read later in the order of the commands, either
+ * when the batch ends, when a command with a result is executed, or when {@link #MAX_PENDING_COMMANDS} responses
+ * are pending. This way, many commands are sent with a single write and only one round trip to SUMO.
+ * <p>
+ * Since the responses of pipelined commands are read later, a failure of such a command (i.e., an
+ * error status returned by SUMO) can not be thrown to the caller anymore and is logged instead.
+ * </p>
+ * Usage:
+ * <pre>
+ *     bridge.beginBatch();
+ *     try {
+ *         // execute commands, e.g., bridge.getVehicleControl().moveToXY(...)
+ *     } finally {
+ *         bridge.endBatch();
+ *     }
+ * </pre>
+ */
+public class TraciCommandPipeline {
+
+    /**
+     * Maximum number of commands sent without reading their responses. This limit ensures that
+     * SUMO never blocks on writing responses, while this client still writes commands.
+     */
+    static final int MAX_PENDING_COMMANDS = 256;
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final Deque<PendingResponse> pendingResponses = new ArrayDeque<>();
+
+    private int depth = 0;
+
+    /**
+     * Starts pipelining of commands without result.
+     */
+    public void begin() {
+        depth++;
+    }
+
+    /**
+     * Stops pipelining of commands without result. If this ends the outermost batch, all pending commands
+     * are sent and their responses are read.
+     *
+     * @param bridge the bridge to read the responses from
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    public void end(Bridge bridge) throws InternalFederateException {
+        if (depth == 0) {
+            throw new IllegalStateException("end() called without matching begin()");
+        }
+        if (--depth == 0) {
+            complete(bridge);
+        }
+    }
+
+    /**
+     * Returns {@code true}, if commands without result should be pipelined.
+     */
+    public boolean isActive() {
+        return depth > 0;
+    }
+
+    /**
+     * Returns the number of commands whose responses have not been read yet.
+     */
+    public int getNumberOfPendingCommands() {
+        return pendingResponses.size();
+    }
+
+    /**
+     * Adds a command, which has been written without flushing, whose response is to be read later.
+     */
+    void enqueue(Bridge bridge, String commandName, ResponseReader responseReader) throws InternalFederateException {
+        pendingResponses.add(new PendingResponse(commandName, responseReader));
+        if (pendingResponses.size() >= MAX_PENDING_COMMANDS) {
+            complete(bridge);
+        }
+    }
+
+    /**
+     * Sends all written commands and reads the responses of all pending commands in their order.
+     *
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    void complete(Bridge bridge) throws InternalFederateException {
+        if (pendingResponses.isEmpty()) {
+            return;
+        }
+        try {
+            bridge.getOut().flush();
+        } catch (IOException e) {
+            pendingResponses.clear();
+            bridge.emergencyExit(e);
+            throw new InternalFederateException("Error during sending pipelined TraCI commands", e);
+        }
+        while (!pendingResponses.isEmpty()) {
+            final PendingResponse pendingResponse = pendingResponses.poll();
+            try {
+                pendingResponse.responseReader.read();
+            } catch (CommandException e) {
+                log.warn("Pipelined TraCI command {} failed: {}", pendingResponse.commandName, e.getMessage());
+            } catch (InternalFederateException e) {
+                pendingResponses.clear();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Reads the response of one pipelined command.
+     */
+    interface ResponseReader {
+        void read() throws CommandException, InternalFederateException;
+    }
+
+    private static class PendingResponse {
+
+        private final String commandName;
+        private final ResponseReader responseReader;
+
+        private PendingResponse(String commandName, ResponseReader responseReader) {
+            this.commandName = commandName;
+            this.responseReader = responseReader;
+        }
+    }
+}
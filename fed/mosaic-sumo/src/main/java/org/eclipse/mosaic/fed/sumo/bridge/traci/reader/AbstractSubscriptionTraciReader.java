@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
 
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,7 @@ public abstract class AbstractSubscriptionTraciReader<T extends AbstractSubscrip
     }
 
     private final TypeBasedTraciReader typeBasedTraciReader = new TypeBasedTraciReader();
+    private final InternedStringTable idTable = new InternedStringTable();
 
     protected TypeBasedTraciReader getTypeBasedTraciReader() {
         return typeBasedTraciReader;
@@ -41,15 +43,29 @@ public abstract class AbstractSubscriptionTraciReader<T extends AbstractSubscrip
 
     @Override
     protected T readFromStream(DataInputStream in) throws IOException {
-        T result = createSubscriptionResult(readString(in));
+        T result = createSubscriptionResult(readInternedString(in, idTable));
 
         int varCount = readUnsignedByte(in);
 
         for (int i = 0; i < varCount; i++) {
             int varId = readUnsignedByte(in);
             int varStatus = readUnsignedByte(in);
+            int varType = readByte(in);
+
+            // most subscribed variables are plain numbers, which are passed on without being boxed
+            if (varStatus == 0x00 && varType == TraciDatatypes.DOUBLE) {
+                handleDoubleVariable(result, varId, readDouble(in));
+                continue;
+            } else if (varStatus == 0x00 && varType == TraciDatatypes.INTEGER) {
+                handleIntegerVariable(result, varId, readInt(in));
+                continue;
+            } else if (varStatus == 0x00 && varType == TraciDatatypes.UBYTE) {
+                handleIntegerVariable(result, varId, readUnsignedByte(in));
+                continue;
+            }
+
             typeBasedTraciReader.setNextCompoundVarId(varId);
-            Object varValue = typeBasedTraciReader.read(in, totalBytesLeft - numBytesRead);
+            Object varValue = typeBasedTraciReader.readValueOfType(in, totalBytesLeft - numBytesRead, varType);
             this.numBytesRead += typeBasedTraciReader.getNumberOfBytesRead();
 
             if (varStatus == 0x00) {
@@ -63,4 +79,28 @@ public abstract class AbstractSubscriptionTraciReader<T extends AbstractSubscrip
     }
 
     protected abstract void handleSubscriptionVariable(T result, int varId, Object varValue);
+
+    /**
+     * Handles a subscription variable of type double. Subclasses should override this method
+     * to store the value without boxing it, by default it is passed to {@link #handleSubscriptionVariable}.
+     *
+     * @param result   the result to store the value in
+     * @param varId    the id of the variable
+     * @param varValue the value of the variable
+     */
+    protected void handleDoubleVariable(T result, int varId, double varValue) {
+        handleSubscriptionVariable(result, varId, varValue);
+    }
+
+    /**
+     * Handles a subscription variable of type integer or unsigned byte. Subclasses should override this method
+     * to store the value without boxing it, by default it is passed to {@link #handleSubscriptionVariable}.
+     *
+     * @param result   the result to store the value in
+     * @param varId    the id of the variable
+     * @param varValue the value of the variable
+     */
+    protected void handleIntegerVariable(T result, int varId, int varValue) {
+        handleSubscriptionVariable(result, varId, varValue);
+    }
 }
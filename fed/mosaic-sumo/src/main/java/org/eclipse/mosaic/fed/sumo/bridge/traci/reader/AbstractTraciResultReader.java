@@ -122,6 +122,20 @@ public abstract class AbstractTraciResultReader<T> {
         return new String(bytes, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Reads a string from the stream and looks it up in the given table, so that strings which are
+     * received repeatedly (e.g., identifiers within subscription results) are only decoded once.
+     *
+     * @param in    the stream to read the string from
+     * @param table the table holding already known strings
+     * @return the read string
+     */
+    protected String readInternedString(DataInputStream in, InternedStringTable table) throws IOException {
+        int len = readInt(in);
+        numBytesRead += len;
+        return table.read(in, len);
+    }
+
     public interface Matcher<T> {
         boolean matches(T actual);
     }
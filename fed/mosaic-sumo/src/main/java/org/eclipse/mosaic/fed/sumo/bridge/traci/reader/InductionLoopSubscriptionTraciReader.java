@@ -52,15 +52,27 @@ public class InductionLoopSubscriptionTraciReader extends AbstractSubscriptionTr
      * @param varValue The value of the variable.
      */
     protected void handleSubscriptionVariable(InductionLoopSubscriptionResult result, int varId, Object varValue) {
+        if (varValue instanceof Double) {
+            handleDoubleVariable(result, varId, (double) varValue);
+            return;
+        }
+        switch (varId) {
+            case CommandRetrieveInductionLoopState.VAR_LAST_STEP_VEHICLE_DATA:
+                result.vehiclesOnInductionLoop = (List<InductionLoopVehicleData>) varValue;
+                break;
+            default:
+                log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+        }
+    }
+
+    @Override
+    protected void handleDoubleVariable(InductionLoopSubscriptionResult result, int varId, double varValue) {
         switch (varId) {
             case CommandRetrieveInductionLoopState.VAR_LAST_STEP_MEAN_SPEED:
-                result.meanSpeed = (double) varValue;
+                result.meanSpeed = varValue;
                 break;
             case CommandRetrieveInductionLoopState.VAR_LAST_STEP_MEAN_VEHICLE_LENGTH:
-                result.meanVehicleLength = (double) varValue;
-                break;
-            case CommandRetrieveInductionLoopState.VAR_LAST_STEP_VEHICLE_DATA:
-                result.vehiclesOnInductionLoop = (List<InductionLoopVehicleData>) varValue;
+                result.meanVehicleLength = varValue;
                 break;
             default:
                 log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Bounded table of strings which have been read from TraCI, keyed by their raw UTF-8 bytes. Subscription results
+ * repeat the same identifiers (vehicle, edge, and route ids) in every simulation step, therefore, looking up
+ * the raw bytes of a string in this table avoids decoding and allocating the same string over and over again.
+ * The table is direct-mapped, i.e., an entry is simply replaced if another string is hashed to the same slot,
+ * which keeps the memory footprint bounded regardless of the number of distinct strings.
+ */
+class InternedStringTable {
+
+    /**
+     * Strings longer than this are decoded without being stored in the table.
+     */
+    static final int MAX_INTERNED_LENGTH = 128;
+
+    private static final int DEFAULT_CAPACITY = 1 << 15;
+
+    private final byte[][] keys;
+    private final String[] values;
+    private final int mask;
+
+    private byte[] buffer = new byte[MAX_INTERNED_LENGTH];
+
+    InternedStringTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of slots of the table, rounded up to the next power of two
+     */
+    InternedStringTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.keys = new byte[size][];
+        this.values = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Reads {@code length} bytes from the given stream and returns the string they represent. If the same bytes
+     * have been read before, the previously created string instance is returned.
+     *
+     * @param in     the stream to read the bytes from
+     * @param length the number of bytes of the encoded string
+     * @return the decoded string
+     */
+    String read(DataInputStream in, int length) throws IOException {
+        if (length > MAX_INTERNED_LENGTH) {
+            if (buffer.length < length) {
+                buffer = new byte[length];
+            }
+            in.readFully(buffer, 0, length);
+            return new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+        in.readFully(buffer, 0, length);
+
+        int slot = hash(buffer, length) & mask;
+        byte[] key = keys[slot];
+        if (key != null && key.length == length && Arrays.equals(key, 0, length, buffer, 0, length)) {
+            return values[slot];
+        }
+        String value = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        keys[slot] = Arrays.copyOf(buffer, length);
+        values[slot] = value;
+        return value;
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -42,24 +42,47 @@ public class LaneAreaSubscriptionTraciReader extends AbstractSubscriptionTraciRe
      * @param varValue The value of the variable.
      */
     protected void handleSubscriptionVariable(LaneAreaSubscriptionResult result, int varId, Object varValue) {
+        if (varValue instanceof Double) {
+            handleDoubleVariable(result, varId, (double) varValue);
+            return;
+        } else if (varValue instanceof Integer) {
+            handleIntegerVariable(result, varId, (int) varValue);
+            return;
+        }
         switch (varId) {
-            case CommandRetrieveLaneAreaState.VAR_LENGTH:
-                result.length = (double) varValue;
+            case CommandRetrieveLaneAreaState.VAR_LAST_STEP_VEHICLE_IDS:
+                result.vehicles = (List<String>) varValue;
                 break;
-            case CommandRetrieveLaneAreaState.VAR_LAST_STEP_VEHICLE_NUMBER:
-                result.vehicleCount = (int) varValue;
+            default:
+                log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+        }
+    }
+
+    @Override
+    protected void handleDoubleVariable(LaneAreaSubscriptionResult result, int varId, double varValue) {
+        switch (varId) {
+            case CommandRetrieveLaneAreaState.VAR_LENGTH:
+                result.length = varValue;
                 break;
             case CommandRetrieveLaneAreaState.VAR_LAST_STEP_MEAN_SPEED:
-                result.meanSpeed = (double) varValue;
+                result.meanSpeed = varValue;
                 break;
-            case CommandRetrieveLaneAreaState.VAR_LAST_STEP_HALTING_VEHICLE_NUMBER:
-                result.haltingVehicles = (int) varValue;
+            default:
+                log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+        }
+    }
+
+    @Override
+    protected void handleIntegerVariable(LaneAreaSubscriptionResult result, int varId, int varValue) {
+        switch (varId) {
+            case CommandRetrieveLaneAreaState.VAR_LAST_STEP_VEHICLE_NUMBER:
+                result.vehicleCount = varValue;
                 break;
-            case CommandRetrieveLaneAreaState.VAR_LAST_STEP_VEHICLE_IDS:
-                result.vehicles = (List<String>) varValue;
+            case CommandRetrieveLaneAreaState.VAR_LAST_STEP_HALTING_VEHICLE_NUMBER:
+                result.haltingVehicles = varValue;
                 break;
             default:
                 log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
         }
     }
-}
\ No newline at end of file
+}
@@ -44,16 +44,17 @@ public class TrafficLightSubscriptionReader extends AbstractSubscriptionTraciRea
      * @param varValue The value of the variable.
      */
     protected void handleSubscriptionVariable(TrafficLightSubscriptionResult result, int varId, Object varValue) {
+        if (varValue instanceof Double) {
+            handleDoubleVariable(result, varId, (double) varValue);
+            return;
+        } else if (varValue instanceof Integer) {
+            handleIntegerVariable(result, varId, (int) varValue);
+            return;
+        }
         switch (varId) {
             case CommandRetrieveTrafficLightValue.VAR_CURRENT_PROGRAM:
                 result.currentProgramId = (String) varValue;
                 break;
-            case CommandRetrieveTrafficLightValue.VAR_CURRENT_PHASE_INDEX:
-                result.currentPhaseIndex = (int) varValue;
-                break;
-            case CommandRetrieveTrafficLightValue.VAR_TIME_OF_NEXT_SWITCH:
-                result.assumedNextPhaseSwitchTime = (long) ((double) varValue * TIME.SECOND); //s -> ns
-                break;
             case CommandRetrieveTrafficLightValue.VAR_CURRENT_STATE:
                 result.currentStateEncoded = (String) varValue;
                 break;
@@ -62,4 +63,25 @@ public class TrafficLightSubscriptionReader extends AbstractSubscriptionTraciRea
         }
     }
 
+    @Override
+    protected void handleDoubleVariable(TrafficLightSubscriptionResult result, int varId, double varValue) {
+        switch (varId) {
+            case CommandRetrieveTrafficLightValue.VAR_TIME_OF_NEXT_SWITCH:
+                result.assumedNextPhaseSwitchTime = (long) (varValue * TIME.SECOND); //s -> ns
+                break;
+            default:
+                log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+        }
+    }
+
+    @Override
+    protected void handleIntegerVariable(TrafficLightSubscriptionResult result, int varId, int varValue) {
+        switch (varId) {
+            case CommandRetrieveTrafficLightValue.VAR_CURRENT_PHASE_INDEX:
+                result.currentPhaseIndex = varValue;
+                break;
+            default:
+                log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+        }
+    }
 }
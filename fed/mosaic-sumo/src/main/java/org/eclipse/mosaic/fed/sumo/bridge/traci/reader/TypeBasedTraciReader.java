@@ -29,6 +29,7 @@ public class TypeBasedTraciReader extends AbstractTraciResultReader<Object> {
     private final Position2dTraciReader position2dReader = new Position2dTraciReader();
     private final Position3dTraciReader position3dReader = new Position3dTraciReader();
     private final ListTraciReader<String> stringListReader = new ListTraciReader<>(new StringTraciReader());
+    private final InternedStringTable stringTable = new InternedStringTable();
 
     /**
      * This map is used to differentiate between different compound readers. The readers are identified using the
@@ -51,8 +52,24 @@ public class TypeBasedTraciReader extends AbstractTraciResultReader<Object> {
 
     @Override
     protected Object readFromStream(DataInputStream in) throws IOException {
-        int varReturnType = readByte(in);
+        return readValue(in, readByte(in));
+    }
+
+    /**
+     * Reads a value of the given type from the stream, used if the type byte has already been consumed by the caller.
+     *
+     * @param in            the stream which is used to read the bytes from
+     * @param bytesLeft     the total number of bytes left on the stream to read
+     * @param varReturnType the type of the value as defined in {@link TraciDatatypes}
+     * @return the read value
+     */
+    Object readValueOfType(DataInputStream in, int bytesLeft, int varReturnType) throws IOException {
+        totalBytesLeft = bytesLeft;
+        numBytesRead = 0;
+        return readValue(in, varReturnType);
+    }
 
+    private Object readValue(DataInputStream in, int varReturnType) throws IOException {
         switch (varReturnType) {
             case TraciDatatypes.FLOAT:
                 return readFloat(in);
@@ -67,7 +84,7 @@ public class TypeBasedTraciReader extends AbstractTraciResultReader<Object> {
             case TraciDatatypes.INTEGER:
                 return readInt(in);
             case TraciDatatypes.STRING:
-                return readString(in);
+                return readInternedString(in, stringTable);
             case TraciDatatypes.STRING_LIST:
                 List<String> result = stringListReader.read(in, totalBytesLeft - numBytesRead);
                 numBytesRead += stringListReader.getNumberOfBytesRead();
@@ -30,6 +30,8 @@ public class VehicleContextSubscriptionTraciReader extends AbstractTraciResultRe
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private final TypeBasedTraciReader typeBasedTraciReader = new TypeBasedTraciReader();
+    private final VehicleSubscriptionTraciReader childTraciReader = new VehicleSubscriptionTraciReader();
+    private final InternedStringTable idTable = new InternedStringTable();
 
     public VehicleContextSubscriptionTraciReader() {
         super(null);
@@ -38,8 +40,7 @@ public class VehicleContextSubscriptionTraciReader extends AbstractTraciResultRe
     @Override
     protected VehicleContextSubscriptionResult readFromStream(DataInputStream in) throws IOException {
         VehicleContextSubscriptionResult result = new VehicleContextSubscriptionResult();
-        result.id = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(readString(in));
-        VehicleSubscriptionTraciReader childTraciReader = new VehicleSubscriptionTraciReader();
+        result.id = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(readInternedString(in, idTable));
 
         readUnsignedByte(in); // ignore context domain byte
         int varCount = readUnsignedByte(in);
@@ -47,7 +48,7 @@ public class VehicleContextSubscriptionTraciReader extends AbstractTraciResultRe
 
         for (int o = 0; o < objectCount; o++) {
             VehicleSubscriptionResult childResult = new VehicleSubscriptionResult();
-            childResult.id = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(readString(in));
+            childResult.id = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(readInternedString(in, idTable));
             for (int v = 0; v < varCount; v++) {
                 int varId = readUnsignedByte(in);
                 int varStatus = readUnsignedByte(in);
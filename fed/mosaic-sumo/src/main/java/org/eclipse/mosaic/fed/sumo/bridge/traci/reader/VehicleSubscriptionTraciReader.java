@@ -56,64 +56,82 @@ public class VehicleSubscriptionTraciReader extends AbstractSubscriptionTraciRea
      * @param varValue The value of the variable.
      */
     protected void handleSubscriptionVariable(VehicleSubscriptionResult result, int varId, Object varValue) {
-        if (varId == CommandRetrieveVehicleState.VAR_SPEED.var) {
-            result.speed = (double) varValue;
+        if (varValue instanceof Double) {
+            handleDoubleVariable(result, varId, (double) varValue);
+        } else if (varValue instanceof Integer) {
+            handleIntegerVariable(result, varId, (int) varValue);
         } else if (varId == CommandRetrieveVehicleState.VAR_POSITION.var) {
             result.position = (Position) varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_POSITION_3D.var) {
             result.position = (Position) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_ANGLE.var) {
-            result.heading = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_ACCELERATION.var) {
-            result.acceleration = (double) varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_ROAD_ID.var) {
             result.edgeId = (String) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LANE_INDEX.var) {
-            result.laneIndex = (int) varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_ROUTE_ID.var) {
             result.routeId = (String) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_SIGNAL_STATES.var) {
-            result.signalsEncoded = (int) varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_LEADER.var) {
+            result.leadingVehicle = (LeadFollowVehicle) varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_FOLLOWER.var) {
+            result.followerVehicle = (LeadFollowVehicle) varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_NEXT_STOPS.var) {
+            result.nextStops = (List<PublicTransportData.StoppingPlace>) varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_LINE.var) {
+            result.line = (String) varValue;
+        } else {
+            log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+        }
+    }
+
+    @Override
+    protected void handleDoubleVariable(VehicleSubscriptionResult result, int varId, double varValue) {
+        if (varId == CommandRetrieveVehicleState.VAR_SPEED.var) {
+            result.speed = varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_ANGLE.var) {
+            result.heading = varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_ACCELERATION.var) {
+            result.acceleration = varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_LANE_POSITION.var) {
+            result.lanePosition = varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_DISTANCE.var) {
+            result.distanceDriven = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_CO2.var) {
-            result.co2 = (double) varValue;
+            result.co2 = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_CO.var) {
-            result.co = (double) varValue;
+            result.co = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_HC.var) {
-            result.hc = (double) varValue;
+            result.hc = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_PMX.var) {
-            result.pmx = (double) varValue;
+            result.pmx = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_NOX.var) {
-            result.nox = (double) varValue;
+            result.nox = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_FUEL.var) {
-            result.fuel = (double) varValue;
+            result.fuel = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_ELECTRICITY.var) {
-            result.electricity = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LANE_POSITION.var) {
-            result.lanePosition = (double) varValue;
+            result.electricity = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_LATERAL_LANE_POSITION.var) {
-            result.lateralLanePosition = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_DISTANCE.var) {
-            result.distanceDriven = (double) varValue;
+            result.lateralLanePosition = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_SLOPE.var) {
-            result.slope = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_STOP_STATE.var) {
-            result.stoppedStateEncoded = (int) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LEADER.var) {
-            result.leadingVehicle = (LeadFollowVehicle) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_FOLLOWER.var) {
-            result.followerVehicle = (LeadFollowVehicle) varValue;
+            result.slope = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_MIN_GAP.var) {
-            result.minGap = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_NEXT_STOPS.var) {
-            result.nextStops = (List<PublicTransportData.StoppingPlace>) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LINE.var) {
-            result.line = (String) varValue;
+            result.minGap = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_LENGTH.var) {
-            result.length = (double) varValue;
+            result.length = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_WIDTH.var) {
-            result.width = (double) varValue;
+            result.width = varValue;
         } else if (varId == CommandRetrieveVehicleState.VAR_HEIGHT.var) {
-            result.height = (double) varValue;
+            result.height = varValue;
+        } else {
+            log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+        }
+    }
+
+    @Override
+    protected void handleIntegerVariable(VehicleSubscriptionResult result, int varId, int varValue) {
+        if (varId == CommandRetrieveVehicleState.VAR_LANE_INDEX.var) {
+            result.laneIndex = varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_SIGNAL_STATES.var) {
+            result.signalsEncoded = varValue;
+        } else if (varId == CommandRetrieveVehicleState.VAR_STOP_STATE.var) {
+            result.stoppedStateEncoded = varValue;
         } else {
             log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
         }
@@ -121,6 +139,8 @@ public class VehicleSubscriptionTraciReader extends AbstractSubscriptionTraciRea
 
     static class LeadingVehicleReader extends AbstractTraciResultReader<LeadFollowVehicle> {
 
+        private final InternedStringTable idTable = new InternedStringTable();
+
         protected LeadingVehicleReader() {
             super(null);
         }
@@ -128,7 +148,7 @@ public class VehicleSubscriptionTraciReader extends AbstractSubscriptionTraciRea
         @Override
         protected LeadFollowVehicle readFromStream(DataInputStream in) throws IOException {
             readByte(in);
-            String leaderId = readString(in);
+            String leaderId = readInternedString(in, idTable);
 
             readByte(in);
             double leaderDistance = readDouble(in);
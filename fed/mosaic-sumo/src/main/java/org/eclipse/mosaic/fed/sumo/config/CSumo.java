@@ -129,6 +129,30 @@ public class CSumo implements Serializable {
      */
     public final static String SUBSCRIPTION_TRAINS = "trains";
 
+    /**
+     * If set to {@code true}, vehicles whose state has not changed since the last simulation step (e.g. parked vehicles)
+     * are not included as updated vehicles in {@link org.eclipse.mosaic.interactions.traffic.VehicleUpdates}, but
+     * only listed by their names as unchanged vehicles. Applications mapped onto such vehicles are not notified
+     * until their state changes again.
+     */
+    public boolean deltaVehicleUpdates = false;
+
+    /**
+     * The number of threads used to process the vehicle subscription results of a simulation step, including the
+     * calling thread. If set to {@code 1} (default), all results are processed sequentially. The order of the
+     * vehicles in {@link org.eclipse.mosaic.interactions.traffic.VehicleUpdates} does not depend on this value.
+     */
+    public int postProcessingThreads = 1;
+
+    /**
+     * If set to {@code true}, the next simulation step of SUMO is executed in advance while the other federates process
+     * the current time step. A step is only executed in advance if there are no externally simulated vehicles, and if the
+     * RTI guarantees that no interaction for this step can be received anymore. This is not the case as long as any other
+     * federate has requested a time advance up to this step (considering its lookahead), or interactions up to this step
+     * are still being delivered. Otherwise, the step is executed synchronously.
+     */
+    public boolean speculativeStepping = false;
+
     /**
      * The default lane width to be used when adding traffic signs per
      * lane (default: 3.2) (only relevant when using SUMO-GUI)
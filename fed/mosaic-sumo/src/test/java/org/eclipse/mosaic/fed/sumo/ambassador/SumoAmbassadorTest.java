@@ -25,10 +25,13 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,6 +60,7 @@ import org.eclipse.mosaic.lib.util.junit.TestFileRule;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.Monitor;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 import org.eclipse.mosaic.rti.api.parameters.FederateDescriptor;
@@ -70,6 +74,7 @@ import org.junit.Test;
 import org.junit.rules.RuleChain;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import java.io.File;
 import java.io.IOException;
@@ -249,6 +254,88 @@ public class SumoAmbassadorTest {
         verify(traciClientBridgeMock.getVehicleControl()).setSpeed(eq("veh_0"), eq(10.0));
     }
 
+    @Test
+    public void speculativeStepping_nextStepExecutedInAdvance() throws Throwable {
+        ambassador.sumoConfig.speculativeStepping = true;
+        // no other federate can send any interaction
+        when(rtiMock.getLowerBoundTimeStamp()).thenReturn(Long.MAX_VALUE);
+        sendVehiclePathsAndTypes_doInitTraci();
+        mockSimulationStepResult(0L);
+
+        // RUN
+        ambassador.advanceTime(0L);
+
+        // ASSERT the next step is executed before its time advance is granted
+        verify(traciClientBridgeMock.getSimulationControl(), timeout(1000)).simulateUntil(eq(TIME.SECOND));
+
+        // RUN
+        ambassador.advanceTime(TIME.SECOND);
+
+        // ASSERT the result of the executed step is published, and the next step is executed in advance
+        verify(traciClientBridgeMock.getSimulationControl(), timeout(1000)).simulateUntil(eq(2 * TIME.SECOND));
+        verify(traciClientBridgeMock.getSimulationControl(), times(1)).simulateUntil(eq(TIME.SECOND));
+        verify(rtiMock, times(2)).triggerInteraction(isA(VehicleUpdates.class));
+        verify(rtiMock, times(1)).requestAdvanceTime(eq(2 * TIME.SECOND), eq(0L), anyByte());
+
+        ambassador.finishSimulation();
+    }
+
+    @Test
+    public void speculativeStepping_interactionPossibleForNextStep_synchronousStepping() throws Throwable {
+        ambassador.sumoConfig.speculativeStepping = true;
+        // another federate may still send interactions for the next step
+        when(rtiMock.getLowerBoundTimeStamp()).thenReturn(TIME.SECOND);
+        sendVehiclePathsAndTypes_doInitTraci();
+        mockSimulationStepResult(0L);
+
+        // RUN
+        ambassador.advanceTime(0L);
+
+        // ASSERT the next step is not executed in advance
+        verify(traciClientBridgeMock.getSimulationControl(), after(200).never()).simulateUntil(eq(TIME.SECOND));
+
+        // RUN
+        VehicleSpeedChange vehicleSpeedChange =
+                new VehicleSpeedChange(TIME.SECOND, "veh_0", VehicleSpeedChange.VehicleSpeedChangeType.WITH_DURATION, 10, 5 * TIME.SECOND, 0);
+        ambassador.processInteraction(vehicleSpeedChange);
+        ambassador.advanceTime(TIME.SECOND);
+
+        // ASSERT the interaction is applied before the next step is executed
+        InOrder inOrder = inOrder(traciClientBridgeMock.getVehicleControl(), traciClientBridgeMock.getSimulationControl());
+        inOrder.verify(traciClientBridgeMock.getVehicleControl()).slowDown(eq("veh_0"), eq(10.0), eq(5 * TIME.SECOND));
+        inOrder.verify(traciClientBridgeMock.getSimulationControl()).simulateUntil(eq(TIME.SECOND));
+
+        ambassador.finishSimulation();
+    }
+
+    @Test
+    public void speculativeStepping_interactionReceivedForNextStep_synchronousStepping() throws Throwable {
+        ambassador.sumoConfig.speculativeStepping = true;
+        when(rtiMock.getLowerBoundTimeStamp()).thenReturn(Long.MAX_VALUE);
+        when(rtiMock.getMonitor()).thenReturn(mock(Monitor.class));
+        sendVehiclePathsAndTypes_doInitTraci();
+        mockSimulationStepResult(0L);
+
+        // RUN
+        VehicleSpeedChange vehicleSpeedChange =
+                new VehicleSpeedChange(TIME.SECOND, "veh_0", VehicleSpeedChange.VehicleSpeedChangeType.WITH_DURATION, 10, 5 * TIME.SECOND, 0);
+        ambassador.receiveInteraction(vehicleSpeedChange);
+        ambassador.advanceTime(0L);
+
+        // ASSERT the next step is not executed in advance, as the received interaction must be applied first
+        verify(traciClientBridgeMock.getSimulationControl(), after(200).never()).simulateUntil(eq(TIME.SECOND));
+
+        // RUN
+        ambassador.advanceTime(TIME.SECOND);
+
+        // ASSERT
+        InOrder inOrder = inOrder(traciClientBridgeMock.getVehicleControl(), traciClientBridgeMock.getSimulationControl());
+        inOrder.verify(traciClientBridgeMock.getVehicleControl()).slowDown(eq("veh_0"), eq(10.0), eq(5 * TIME.SECOND));
+        inOrder.verify(traciClientBridgeMock.getSimulationControl()).simulateUntil(eq(TIME.SECOND));
+
+        ambassador.finishSimulation();
+    }
+
     @Test
     public void addVehicleAndSimulate_subscribeToAllVehiclesTrue_vehicleIsAddedAndSubscribedFor() throws Throwable {
         testSubscribeToAllVehicles(true);
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.facades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandRegister;
+import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSimulateStep;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.util.objects.Position;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimulationFacadeTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationFacadeTest.class);
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(52.5, 13.4));
+
+    private final List<AbstractSubscriptionResult> subscriptionResults = new ArrayList<>();
+
+    private Bridge bridgeMock;
+
+    @Before
+    public void setup() throws Exception {
+        final SimulationSimulateStep simulateStepMock = mock(SimulationSimulateStep.class);
+        when(simulateStepMock.execute(any(), anyLong())).thenAnswer(i -> new ArrayList<>(subscriptionResults));
+
+        final CommandRegister commandRegisterMock = mock(CommandRegister.class);
+        when(commandRegisterMock.getOrCreate(any())).thenAnswer(i -> mock((Class<?>) i.getArgument(0)));
+        when(commandRegisterMock.getOrCreate(SimulationSimulateStep.class)).thenReturn(simulateStepMock);
+
+        // the bridge is called for each vehicle in each step, a proxy avoids the overhead of recorded mock invocations
+        bridgeMock = (Bridge) Proxy.newProxyInstance(Bridge.class.getClassLoader(), new Class<?>[]{Bridge.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getCommandRegister":
+                    return commandRegisterMock;
+                case "getCurrentVersion":
+                    return SumoVersion.HIGHEST;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Test
+    public void simulateUntil_allVehiclesUpdated() throws Exception {
+        // SETUP
+        final SimulationFacade simulationFacade = new SimulationFacade(bridgeMock, new CSumo());
+        final VehicleSubscriptionResult moving = createVehicle("veh_0", 10, 10);
+        final VehicleSubscriptionResult standing = createVehicle("veh_1", 50, 0);
+        subscriptionResults.addAll(Lists.newArrayList(moving, standing));
+        simulationFacade.simulateUntil(TIME.SECOND);
+
+        // RUN
+        moving.position = new Position(CartesianPoint.xy(20, 0));
+        final VehicleUpdates vehicleUpdates = simulationFacade.simulateUntil(2 * TIME.SECOND).getVehicleUpdates();
+
+        // ASSERT
+        assertEquals(0, vehicleUpdates.getAdded().size());
+        assertEquals(2, vehicleUpdates.getUpdated().size());
+        assertEquals(0, vehicleUpdates.getUnchangedNames().size());
+        assertEquals(0, vehicleUpdates.getRemovedNames().size());
+    }
+
+    @Test
+    public void simulateUntil_deltaVehicleUpdates_unchangedVehiclesListedByName() throws Exception {
+        // SETUP
+        final CSumo sumoConfiguration = new CSumo();
+        sumoConfiguration.deltaVehicleUpdates = true;
+        final SimulationFacade simulationFacade = new SimulationFacade(bridgeMock, sumoConfiguration);
+        final VehicleSubscriptionResult moving = createVehicle("veh_0", 10, 10);
+        final VehicleSubscriptionResult standing = createVehicle("veh_1", 50, 0);
+        subscriptionResults.addAll(Lists.newArrayList(moving, standing));
+
+        VehicleUpdates vehicleUpdates = simulationFacade.simulateUntil(TIME.SECOND).getVehicleUpdates();
+        assertEquals(2, vehicleUpdates.getAdded().size());
+        final VehicleData standingData = vehicleUpdates.getAdded().get(1);
+
+        // RUN
+        moving.position = new Position(CartesianPoint.xy(20, 0));
+        vehicleUpdates = simulationFacade.simulateUntil(2 * TIME.SECOND).getVehicleUpdates();
+
+        // ASSERT
+        assertEquals(1, vehicleUpdates.getUpdated().size());
+        assertEquals("veh_0", vehicleUpdates.getUpdated().get(0).getName());
+        assertEquals(Lists.newArrayList("veh_1"), vehicleUpdates.getUnchangedNames());
+        assertTrue(vehicleUpdates.getRemovedNames().isEmpty());
+        assertSame(standingData, simulationFacade.getLastKnownVehicleData("veh_1"));
+
+        // RUN: the standing vehicle starts driving, the other one leaves the simulation
+        subscriptionResults.remove(moving);
+        standing.speed = 5;
+        vehicleUpdates = simulationFacade.simulateUntil(3 * TIME.SECOND).getVehicleUpdates();
+
+        // ASSERT
+        assertEquals(1, vehicleUpdates.getUpdated().size());
+        assertEquals("veh_1", vehicleUpdates.getUpdated().get(0).getName());
+        assertEquals(5, vehicleUpdates.getUpdated().get(0).getSpeed(), 0.0001d);
+        assertTrue(vehicleUpdates.getUnchangedNames().isEmpty());
+        assertEquals(Lists.newArrayList("veh_0"), vehicleUpdates.getRemovedNames());
+    }
+
+    @Test
+    public void simulateUntil_deltaVehicleUpdates_unchangedVehicleNotRemoved() throws Exception {
+        // SETUP
+        final CSumo sumoConfiguration = new CSumo();
+        sumoConfiguration.deltaVehicleUpdates = true;
+        final SimulationFacade simulationFacade = new SimulationFacade(bridgeMock, sumoConfiguration);
+        subscriptionResults.add(createVehicle("veh_0", 0, 0));
+
+        // RUN
+        simulationFacade.simulateUntil(TIME.SECOND);
+        simulationFacade.simulateUntil(2 * TIME.SECOND);
+        final VehicleUpdates vehicleUpdates = simulationFacade.simulateUntil(3 * TIME.SECOND).getVehicleUpdates();
+
+        // ASSERT
+        assertTrue(vehicleUpdates.getUpdated().isEmpty());
+        assertEquals(Lists.newArrayList("veh_0"), vehicleUpdates.getUnchangedNames());
+        assertTrue(vehicleUpdates.getRemovedNames().isEmpty());
+    }
+
+    @Test
+    public void simulateUntil_parallelPostProcessing_sameVehicleUpdates() throws Exception {
+        // SETUP
+        final List<VehicleSubscriptionResult> results = createVehicles(3000);
+        final CSumo parallelConfiguration = new CSumo();
+        parallelConfiguration.postProcessingThreads = 4;
+        final SimulationFacade sequentialFacade = new SimulationFacade(bridgeMock, new CSumo());
+        final SimulationFacade parallelFacade = new SimulationFacade(bridgeMock, parallelConfiguration);
+
+        // the leader of a vehicle with front sensor is read from the state of the other vehicle
+        results.get(10).leadingVehicle = new LeadFollowVehicle("veh_20", 5);
+        sequentialFacade.configureDistanceSensors("veh_10", 100, true, false);
+        parallelFacade.configureDistanceSensors("veh_10", 100, true, false);
+
+        for (int step = 0; step < 3; step++) {
+            // RUN
+            moveVehicles(results, step);
+            final VehicleUpdates expected = sequentialFacade.simulateUntil(step * TIME.SECOND).getVehicleUpdates();
+            final VehicleUpdates actual = parallelFacade.simulateUntil(step * TIME.SECOND).getVehicleUpdates();
+
+            // ASSERT
+            assertEquals(expected, actual);
+            assertEquals(step == 0 ? 3000 : 0, actual.getAdded().size());
+            assertEquals(step == 0 ? 0 : 3000, actual.getUpdated().size());
+        }
+        parallelFacade.close();
+    }
+
+    /**
+     * Compares the post-processing of simulation steps with and without delta encoded vehicle updates,
+     * with 80% of the vehicles waiting (e.g. in a traffic jam or at a red light).
+     */
+    @Test
+    public void performanceTest() throws Exception {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int vehicles = 20000;
+        final int steps = 50;
+
+        final List<VehicleSubscriptionResult> results = new ArrayList<>();
+        for (int i = 0; i < vehicles; i++) {
+            VehicleSubscriptionResult result = createVehicle("veh_" + i, i % 5 == 0 ? 10 : 0, i);
+            results.add(result);
+            subscriptionResults.add(result);
+        }
+
+        for (boolean delta : new boolean[]{false, true}) {
+            final CSumo sumoConfiguration = new CSumo();
+            sumoConfiguration.deltaVehicleUpdates = delta;
+            final SimulationFacade simulationFacade = new SimulationFacade(bridgeMock, sumoConfiguration);
+            simulationFacade.simulateUntil(0);
+
+            long publishedVehicleData = 0;
+            final long start = System.nanoTime();
+            for (int step = 1; step <= steps; step++) {
+                for (int i = 0; i < vehicles; i += 5) {
+                    results.get(i).position = new Position(CartesianPoint.xy(step * 10, i));
+                    results.get(i).distanceDriven = step * 10;
+                }
+                publishedVehicleData += simulationFacade.simulateUntil(step * TIME.SECOND).getVehicleUpdates().getUpdated().size();
+            }
+            final long duration = System.nanoTime() - start;
+            log.debug(String.format("deltaVehicleUpdates=%s: %d steps with %d vehicles took %d ms, %d VehicleData published",
+                    delta, steps, vehicles, duration / TIME.MILLI_SECOND, publishedVehicleData));
+            assertEquals(delta ? steps * vehicles / 5 : steps * vehicles, publishedVehicleData);
+        }
+    }
+
+    /**
+     * Compares the sequential and the parallel post-processing of simulation steps with 10k and 50k vehicles.
+     * The speedup depends on the available processors.
+     */
+    @Test
+    public void performanceTest_parallelPostProcessing() throws Exception {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int steps = 20;
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        for (int vehicles : new int[]{10000, 50000}) {
+            subscriptionResults.clear();
+            final List<VehicleSubscriptionResult> results = createVehicles(vehicles);
+
+            for (int postProcessingThreads : new int[]{1, threads}) {
+                final CSumo sumoConfiguration = new CSumo();
+                sumoConfiguration.postProcessingThreads = postProcessingThreads;
+                final SimulationFacade simulationFacade = new SimulationFacade(bridgeMock, sumoConfiguration);
+                simulationFacade.simulateUntil(0);
+
+                long updatedVehicles = 0;
+                long processingTime = 0;
+                for (int step = 1; step <= steps; step++) {
+                    moveVehicles(results, step);
+                    final long start = System.nanoTime();
+                    updatedVehicles += simulationFacade.simulateUntil(step * TIME.SECOND).getVehicleUpdates().getUpdated().size();
+                    processingTime += System.nanoTime() - start;
+                }
+                simulationFacade.close();
+                log.debug(String.format("postProcessingThreads=%d: %d steps with %d vehicles took %d ms",
+                        postProcessingThreads, steps, vehicles, processingTime / TIME.MILLI_SECOND));
+                assertEquals((long) steps * vehicles, updatedVehicles);
+            }
+        }
+    }
+
+    private List<VehicleSubscriptionResult> createVehicles(int count) {
+        final List<VehicleSubscriptionResult> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final VehicleSubscriptionResult result = createVehicle("veh_" + i, 10, i);
+            result.co2 = i % 100;
+            result.fuel = i % 10;
+            results.add(result);
+            subscriptionResults.add(result);
+        }
+        return results;
+    }
+
+    private static void moveVehicles(List<VehicleSubscriptionResult> results, int step) {
+        for (VehicleSubscriptionResult result : results) {
+            result.position = new Position(CartesianPoint.xy(step * 10, result.position.getProjectedPosition().getY()));
+            result.distanceDriven = step * 10;
+            result.lanePosition = step * 10;
+        }
+    }
+
+    private static VehicleSubscriptionResult createVehicle(String id, double speed, double y) {
+        final VehicleSubscriptionResult result = new VehicleSubscriptionResult();
+        result.id = id;
+        result.position = new Position(CartesianPoint.xy(0, y));
+        result.speed = speed;
+        result.heading = 90;
+        result.routeId = "0";
+        result.edgeId = "1_2_3";
+        result.laneIndex = 0;
+        result.lanePosition = 0;
+        return result;
+    }
+}
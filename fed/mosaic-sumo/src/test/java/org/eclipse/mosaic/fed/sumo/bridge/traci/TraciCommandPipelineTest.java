@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the {@link TraciCommandPipeline} against a fake TraCI server, which answers each command with a status response.
+ */
+public class TraciCommandPipelineTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TraciCommandPipelineTest.class);
+
+    private FakeTraciServer server;
+    private Socket socket;
+    private Bridge bridge;
+    private TraciCommandPipeline pipeline;
+
+    private final VehicleSetSpeed setSpeed = new VehicleSetSpeed();
+
+    @Before
+    public void setup() throws IOException {
+        server = new FakeTraciServer();
+        socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        socket.setTcpNoDelay(true);
+
+        pipeline = new TraciCommandPipeline();
+        bridge = createBridge(
+                new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+                new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024))
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        socket.close();
+        server.close();
+    }
+
+    @Test
+    public void commandsWithoutBatch() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            setSpeed.execute(bridge, "veh_" + i, 10d);
+            // command is sent and its response is read immediately
+            assertEquals(i + 1, server.getReceivedCommands());
+        }
+        assertEquals(0, pipeline.getNumberOfPendingCommands());
+    }
+
+    @Test
+    public void commandsInBatch() throws Exception {
+        pipeline.begin();
+        for (int i = 0; i < 100; i++) {
+            setSpeed.execute(bridge, "veh_" + i, 10d);
+        }
+        assertEquals(100, pipeline.getNumberOfPendingCommands());
+
+        pipeline.end(bridge);
+
+        assertFalse(pipeline.isActive());
+        assertEquals(0, pipeline.getNumberOfPendingCommands());
+        assertEquals(100, server.getReceivedCommands());
+
+        // responses of all commands have been consumed, therefore the next command reads its own response
+        setSpeed.execute(bridge, "veh_0", 5d);
+        assertEquals(101, server.getReceivedCommands());
+    }
+
+    @Test
+    public void nestedBatchesAndLimitOfPendingCommands() throws Exception {
+        pipeline.begin();
+        pipeline.begin();
+        for (int i = 0; i < TraciCommandPipeline.MAX_PENDING_COMMANDS + 10; i++) {
+            setSpeed.execute(bridge, "veh_" + i, 10d);
+        }
+        assertEquals(10, pipeline.getNumberOfPendingCommands());
+
+        pipeline.end(bridge);
+        assertTrue(pipeline.isActive());
+        assertEquals(10, pipeline.getNumberOfPendingCommands());
+
+        pipeline.end(bridge);
+        assertEquals(0, pipeline.getNumberOfPendingCommands());
+        assertEquals(TraciCommandPipeline.MAX_PENDING_COMMANDS + 10, server.getReceivedCommands());
+    }
+
+    @Test
+    public void failedCommandInBatchIsNotThrown() throws Exception {
+        server.failVehicle("veh_2");
+
+        pipeline.begin();
+        for (int i = 0; i < 5; i++) {
+            setSpeed.execute(bridge, "veh_" + i, 10d);
+        }
+        pipeline.end(bridge);
+
+        assertEquals(5, server.getReceivedCommands());
+        assertEquals(0, pipeline.getNumberOfPendingCommands());
+    }
+
+    @Test
+    public void performanceTest() throws Exception {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int commands = 20000;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < commands; i++) {
+            setSpeed.execute(bridge, "veh_" + (i % 1000), 10d);
+        }
+        final long sequential = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        pipeline.begin();
+        for (int i = 0; i < commands; i++) {
+            setSpeed.execute(bridge, "veh_" + (i % 1000), 10d);
+        }
+        pipeline.end(bridge);
+        final long pipelined = System.nanoTime() - start;
+
+        assertEquals(2 * commands, server.getReceivedCommands());
+        log.debug(String.format("%d commands: sequential %d ms, pipelined %d ms", commands, sequential / 1_000_000, pipelined / 1_000_000));
+    }
+
+    /**
+     * Creates a minimal {@link Bridge} providing the streams of the connection to the fake server. A plain proxy is used
+     * instead of a Mockito mock, as intercepting the many calls of each command would dominate the measured time.
+     */
+    private Bridge createBridge(DataInputStream in, DataOutputStream out) {
+        return (Bridge) Proxy.newProxyInstance(Bridge.class.getClassLoader(), new Class<?>[]{Bridge.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getIn":
+                    return in;
+                case "getOut":
+                    return out;
+                case "getCurrentVersion":
+                    return SumoVersion.HIGHEST;
+                case "getCommandPipeline":
+                    return pipeline;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    /**
+     * Accepts one connection and answers each received command with a status response, which is
+     * an error for commands addressing a specific vehicle, and OK otherwise.
+     */
+    private static class FakeTraciServer {
+
+        private final ServerSocket serverSocket;
+        private final Thread thread;
+        private final AtomicInteger receivedCommands = new AtomicInteger();
+        private volatile String failingVehicle;
+
+        private FakeTraciServer() throws IOException {
+            serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+            thread = new Thread(this::serve, "fake-traci-server");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private int getReceivedCommands() {
+            return receivedCommands.get();
+        }
+
+        private void failVehicle(String vehicleId) {
+            this.failingVehicle = vehicleId;
+        }
+
+        private void serve() {
+            try (Socket client = serverSocket.accept();
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(client.getOutputStream()))
+            ) {
+                client.setTcpNoDelay(true);
+                while (true) {
+                    final byte[] message = new byte[in.readInt() - 4];
+                    in.readFully(message);
+                    // [length (1 or 5 bytes)] [command id] [variable] [vehicle id (string)] ...
+                    int offset = message[0] == 0 ? 5 : 1;
+                    final int commandId = message[offset] & 0xFF;
+                    offset += 2;
+                    final int idLength = ((message[offset] & 0xFF) << 24) | ((message[offset + 1] & 0xFF) << 16)
+                            | ((message[offset + 2] & 0xFF) << 8) | (message[offset + 3] & 0xFF);
+                    final String vehicleId = new String(message, offset + 4, idLength, StandardCharsets.UTF_8);
+
+                    final byte[] description = vehicleId.equals(failingVehicle)
+                            ? "Vehicle is not known".getBytes(StandardCharsets.UTF_8)
+                            : new byte[0];
+                    receivedCommands.incrementAndGet();
+                    out.writeInt(4 + 7 + description.length);
+                    out.writeByte(7 + description.length);
+                    out.writeByte(commandId);
+                    out.writeByte(description.length > 0 ? 0xFF : 0x00);
+                    out.writeInt(description.length);
+                    out.write(description);
+                    if (in.available() == 0) {
+                        out.flush();
+                    }
+                }
+            } catch (EOFException e) {
+                // client closed connection
+            } catch (IOException e) {
+                // server closed
+            }
+        }
+
+        private void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
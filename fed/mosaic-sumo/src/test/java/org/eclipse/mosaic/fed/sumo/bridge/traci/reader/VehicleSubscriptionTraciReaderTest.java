@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests the decoding of vehicle subscription results, which passes numeric values without boxing
+ * and interns repeatedly received identifiers.
+ */
+public class VehicleSubscriptionTraciReaderTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleSubscriptionTraciReaderTest.class);
+
+    @Rule
+    public final GeoProjectionRule transformRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13.0, 52.0)), -385281.94, -5817994.50)
+    );
+
+    @Test
+    public void readVehicleSubscription() throws IOException {
+        byte[] bytes = encode(out -> {
+            writeVehicle(out, "veh_0", 13.5d, 1);
+            // additional variables handled by the compound and generic readers
+            out.writeByte(CommandRetrieveVehicleState.VAR_LEADER.var);
+            out.writeByte(0x00);
+            out.writeByte(TraciDatatypes.COMPOUND);
+            out.writeInt(2);
+            out.writeByte(TraciDatatypes.STRING);
+            writeString(out, "veh_1");
+            out.writeByte(TraciDatatypes.DOUBLE);
+            out.writeDouble(25d);
+        }, 1);
+
+        VehicleSubscriptionTraciReader reader = new VehicleSubscriptionTraciReader();
+        VehicleSubscriptionResult result = reader.read(stream(bytes), bytes.length);
+
+        assertEquals(bytes.length, reader.getNumberOfBytesRead());
+        assertEquals(13.5d, result.speed, 0.0001d);
+        assertEquals(90d, result.heading, 0.0001d);
+        assertEquals(0.5d, result.acceleration, 0.0001d);
+        assertEquals(100d, result.position.getX(), 0.0001d);
+        assertEquals(200d, result.position.getY(), 0.0001d);
+        assertEquals("edge_1", result.edgeId);
+        assertEquals("route_1", result.routeId);
+        assertEquals(1, result.laneIndex);
+        assertEquals(42.5d, result.lanePosition, 0.0001d);
+        assertEquals(8, result.signalsEncoded);
+        assertEquals(1, result.stoppedStateEncoded);
+        assertEquals("veh_1", result.leadingVehicle.getOtherVehicleId());
+        assertEquals(25d, result.leadingVehicle.getDistance(), 0.0001d);
+    }
+
+    @Test
+    public void readVehicleSubscription_identifiersInterned() throws IOException {
+        VehicleSubscriptionTraciReader reader = new VehicleSubscriptionTraciReader();
+
+        byte[] bytes = encode(out -> writeVehicle(out, "veh_0", 10d, 1), 0);
+        VehicleSubscriptionResult first = reader.read(stream(bytes), bytes.length);
+        VehicleSubscriptionResult second = reader.read(stream(bytes), bytes.length);
+
+        assertNotSame(first, second);
+        assertSame(first.edgeId, second.edgeId);
+        assertSame(first.routeId, second.routeId);
+    }
+
+    @Test
+    public void internedStringTable_collisionsReplaceEntries() throws IOException {
+        InternedStringTable table = new InternedStringTable(2);
+
+        for (int run = 0; run < 2; run++) {
+            for (int i = 0; i < 100; i++) {
+                byte[] bytes = ("edge_" + i).getBytes(StandardCharsets.UTF_8);
+                assertEquals("edge_" + i, table.read(stream(bytes), bytes.length));
+            }
+        }
+
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < InternedStringTable.MAX_INTERNED_LENGTH; i++) {
+            longString.append("\u00e4b");
+        }
+        byte[] bytes = longString.toString().getBytes(StandardCharsets.UTF_8);
+        assertEquals(longString.toString(), table.read(stream(bytes), bytes.length));
+    }
+
+    /**
+     * Decodes the subscription results of 20.000 vehicles in a row, once with the generic reader which boxes each value
+     * and decodes each string, and once with the primitive fast path and interned identifiers.
+     */
+    @Test
+    public void performanceTest() throws IOException {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int vehicles = 20000;
+        final int steps = 20;
+
+        byte[][] results = new byte[vehicles][];
+        for (int i = 0; i < vehicles; i++) {
+            final int vehicle = i;
+            results[i] = encode(out -> writeVehicle(out, "veh_" + vehicle, vehicle % 14, vehicle % 3), 0);
+        }
+
+        VehicleSubscriptionTraciReader boxingReader = new BoxingVehicleSubscriptionTraciReader();
+        VehicleSubscriptionTraciReader reader = new VehicleSubscriptionTraciReader();
+
+        // warm up
+        decode(boxingReader, results, 5);
+        decode(reader, results, 5);
+
+        long boxingTime = decode(boxingReader, results, steps);
+        long primitiveTime = decode(reader, results, steps);
+
+        log.debug(String.format("Decoding %d vehicle subscriptions: %.2f ms (boxed values), %.2f ms (primitive values, interned ids)",
+                vehicles, boxingTime / 1e6 / steps, primitiveTime / 1e6 / steps));
+    }
+
+    private static long decode(VehicleSubscriptionTraciReader reader, byte[][] results, int steps) throws IOException {
+        double checksum = 0;
+        long start = System.nanoTime();
+        for (int step = 0; step < steps; step++) {
+            for (byte[] result : results) {
+                checksum += reader.read(stream(result), result.length).speed;
+            }
+        }
+        long time = System.nanoTime() - start;
+        assertEquals(steps * sumOfSpeeds(results.length), checksum, 0.001d);
+        return time;
+    }
+
+    private static double sumOfSpeeds(int vehicles) {
+        double sum = 0;
+        for (int i = 0; i < vehicles; i++) {
+            sum += i % 14;
+        }
+        return sum;
+    }
+
+    private static void writeVehicle(DataOutputStream out, String vehicleId, double speed, int laneIndex) throws IOException {
+        writeString(out, vehicleId);
+        out.writeByte(0); // variable count, patched by encode
+        writeDouble(out, CommandRetrieveVehicleState.VAR_SPEED.var, speed);
+        out.writeByte(CommandRetrieveVehicleState.VAR_POSITION.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.POSITION2D);
+        out.writeDouble(100d);
+        out.writeDouble(200d);
+        writeDouble(out, CommandRetrieveVehicleState.VAR_ANGLE.var, 90d);
+        writeDouble(out, CommandRetrieveVehicleState.VAR_ACCELERATION.var, 0.5d);
+        out.writeByte(CommandRetrieveVehicleState.VAR_ROAD_ID.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.STRING);
+        writeString(out, "edge_" + laneIndex);
+        out.writeByte(CommandRetrieveVehicleState.VAR_ROUTE_ID.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.STRING);
+        writeString(out, "route_" + laneIndex);
+        out.writeByte(CommandRetrieveVehicleState.VAR_LANE_INDEX.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.INTEGER);
+        out.writeInt(laneIndex);
+        writeDouble(out, CommandRetrieveVehicleState.VAR_LANE_POSITION.var, 42.5d);
+        writeDouble(out, CommandRetrieveVehicleState.VAR_DISTANCE.var, 1000d);
+        writeDouble(out, CommandRetrieveVehicleState.VAR_SLOPE.var, 0d);
+        out.writeByte(CommandRetrieveVehicleState.VAR_SIGNAL_STATES.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.INTEGER);
+        out.writeInt(8);
+        out.writeByte(CommandRetrieveVehicleState.VAR_STOP_STATE.var);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.UBYTE);
+        out.writeByte(1);
+    }
+
+    private static void writeDouble(DataOutputStream out, int varId, double value) throws IOException {
+        out.writeByte(varId);
+        out.writeByte(0x00);
+        out.writeByte(TraciDatatypes.DOUBLE);
+        out.writeDouble(value);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] encode(Encoder encoder, int additionalVariables) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        encoder.encode(new DataOutputStream(bytes));
+        byte[] result = bytes.toByteArray();
+        int idLength = ((result[0] & 0xFF) << 24) | ((result[1] & 0xFF) << 16) | ((result[2] & 0xFF) << 8) | (result[3] & 0xFF);
+        result[4 + idLength] = (byte) (12 + additionalVariables);
+        return result;
+    }
+
+    private static DataInputStream stream(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private interface Encoder {
+        void encode(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Decodes subscription results the generic way, by reading each value as boxed object and each string as new instance.
+     */
+    private static class BoxingVehicleSubscriptionTraciReader extends VehicleSubscriptionTraciReader {
+
+        @Override
+        protected VehicleSubscriptionResult readFromStream(DataInputStream in) throws IOException {
+            VehicleSubscriptionResult result = createSubscriptionResult(readString(in));
+            int varCount = readUnsignedByte(in);
+            for (int i = 0; i < varCount; i++) {
+                int varId = readUnsignedByte(in);
+                readUnsignedByte(in);
+                int varType = readByte(in);
+                Object varValue;
+                if (varType == TraciDatatypes.STRING) {
+                    varValue = readString(in);
+                } else {
+                    getTypeBasedTraciReader().setNextCompoundVarId(varId);
+                    varValue = getTypeBasedTraciReader().readValueOfType(in, totalBytesLeft - numBytesRead, varType);
+                    numBytesRead += getTypeBasedTraciReader().getNumberOfBytesRead();
+                }
+                handleSubscriptionVariable(result, varId, varValue);
+            }
+            return result;
+        }
+    }
+}
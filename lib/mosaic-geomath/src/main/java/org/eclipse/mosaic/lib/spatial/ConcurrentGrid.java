@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * {@link ConcurrentGrid} stores spatial objects on the 2D X,Z plane using a fixed grid of cells, similar to {@link Grid}.
+ * In contrast to {@link Grid}, range queries do not lock the grid and can be executed by many threads in parallel.
+ * <p>
+ * Queries are answered from an immutable snapshot of the grid, which is rebuilt on each {@link #updateGrid()} call,
+ * or on the first query after items have been added or removed. The snapshot stores the items sorted by their cell
+ * together with their center positions in primitive arrays. Therefore, item positions are captured
+ * when the snapshot is built, changes of item positions are considered after the next {@link #updateGrid()} call.
+ * </p>
+ */
+public class ConcurrentGrid<T> implements SpatialGrid<T> {
+
+    private final SpatialItemAdapter<T> adapter;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int colAmount;
+    private final int rowAmount;
+    private final double minX;
+    private final double maxX;
+    private final double minZ;
+    private final double maxZ;
+
+    /**
+     * All items of the grid by their hash. Guarded by itself.
+     */
+    private final Map<Integer, T> items = new HashMap<>();
+
+    private volatile Snapshot<T> snapshot = new Snapshot<>(0);
+
+    private volatile boolean dirty = false;
+
+    public ConcurrentGrid(final SpatialItemAdapter<T> adapter, double cellWidth, double cellHeight, final BoundingBox gridBounds) {
+        this(adapter, cellWidth, cellHeight, gridBounds.min.x, gridBounds.max.x, gridBounds.min.z, gridBounds.max.z);
+    }
+
+    public ConcurrentGrid(final SpatialItemAdapter<T> adapter, double cellWidth, double cellHeight,
+                          double minX, double maxX, double minZ, double maxZ) {
+        this.adapter = adapter;
+
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        colAmount = Math.max(1, (int) Math.ceil((maxX - minX) / cellWidth));
+        rowAmount = Math.max(1, (int) Math.ceil((maxZ - minZ) / cellHeight));
+        if ((long) colAmount * rowAmount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many grid cells, choose a larger cell size.");
+        }
+    }
+
+    /**
+     * Searches all objects within the given bounding area.
+     *
+     * @param area   the rectangle area for range search
+     * @param filter a predicate to exclude certain objects from the result list
+     * @return the list of results
+     */
+    @Override
+    public List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter) {
+        return getItemsInBoundingArea(area, filter, new ArrayList<>());
+    }
+
+    /**
+     * Searches all objects within the given bounding area. This method can be called concurrently
+     * and does not block, unless items have been added or removed since the last update of the grid.
+     *
+     * @param area   the rectangle area for range search
+     * @param filter a predicate to exclude certain objects from the result list
+     * @param result the list of results
+     * @return the list of results
+     */
+    @Override
+    public List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter, List<T> result) {
+        final Snapshot<T> current = getSnapshot();
+        if (current.size == 0) {
+            return result;
+        }
+        final int minCol = toCol(Math.max(area.min.x, minX));
+        final int maxCol = toCol(Math.min(area.max.x, maxX));
+        final int minRow = toRow(Math.max(area.min.z, minZ));
+        final int maxRow = toRow(Math.min(area.max.z, maxZ));
+
+        final int[] cells = current.cells;
+        for (int col = minCol; col <= maxCol; col++) {
+            // cells of the same column are stored consecutively, so each column is one continuous range
+            final int lastCell = col * rowAmount + maxRow;
+            for (int i = current.firstIndexOf(col * rowAmount + minRow); i < current.size && cells[i] <= lastCell; i++) {
+                if (area.contains(current.x[i], current.y[i], current.z[i])) {
+                    final T item = current.items[i];
+                    if (filter == null || filter.test(item)) {
+                        result.add(item);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds or updates an item in the grid.
+     *
+     * @param item the item to be added
+     * @return true if the item has been added to the grid, false if it has already been present in the grid
+     */
+    @Override
+    public boolean addItem(T item) {
+        synchronized (items) {
+            dirty = true;
+            return items.put(adapter.getItemHash(item), item) == null;
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot used for queries, considering the current positions of all items.
+     */
+    @Override
+    public void updateGrid() {
+        synchronized (items) {
+            rebuildSnapshot();
+        }
+    }
+
+    @Override
+    public void removeItem(T item) {
+        synchronized (items) {
+            if (items.remove(adapter.getItemHash(item)) != null) {
+                dirty = true;
+            }
+        }
+    }
+
+    private Snapshot<T> getSnapshot() {
+        if (dirty) {
+            synchronized (items) {
+                if (dirty) {
+                    rebuildSnapshot();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private void rebuildSnapshot() {
+        final Snapshot<T> newSnapshot = new Snapshot<>(items.size());
+        // sort items by their cell using the cell in the upper and the insertion index in the lower bits
+        final long[] order = new long[items.size()];
+        final List<T> unsorted = new ArrayList<>(items.values());
+        for (int i = 0; i < order.length; i++) {
+            final T item = unsorted.get(i);
+            final int cell = toCol(adapter.getCenterX(item)) * rowAmount + toRow(adapter.getCenterZ(item));
+            order[i] = ((long) cell << 32) | i;
+        }
+        Arrays.sort(order);
+        for (int i = 0; i < order.length; i++) {
+            final T item = unsorted.get((int) order[i]);
+            newSnapshot.cells[i] = (int) (order[i] >>> 32);
+            newSnapshot.items[i] = item;
+            newSnapshot.x[i] = adapter.getCenterX(item);
+            newSnapshot.y[i] = adapter.getCenterY(item);
+            newSnapshot.z[i] = adapter.getCenterZ(item);
+        }
+        snapshot = newSnapshot;
+        dirty = false;
+    }
+
+    private int toCol(double x) {
+        // also looking at special case where item is directly on the max borders
+        return x < minX ? 0 : x >= maxX ? colAmount - 1 : (int) ((x - minX) / cellWidth);
+    }
+
+    private int toRow(double z) {
+        return z < minZ ? 0 : z >= maxZ ? rowAmount - 1 : (int) ((z - minZ) / cellHeight);
+    }
+
+    /**
+     * Immutable view of all items of the grid, sorted by their cell index.
+     */
+    private static class Snapshot<T> {
+
+        private final int size;
+        private final int[] cells;
+        private final T[] items;
+        private final double[] x;
+        private final double[] y;
+        private final double[] z;
+
+        @SuppressWarnings("unchecked")
+        private Snapshot(int size) {
+            this.size = size;
+            this.cells = new int[size];
+            this.items = (T[]) new Object[size];
+            this.x = new double[size];
+            this.y = new double[size];
+            this.z = new double[size];
+        }
+
+        /**
+         * Returns the index of the first item with a cell index greater or equal to the given one.
+         */
+        private int firstIndexOf(int cell) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (cells[mid] < cell) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
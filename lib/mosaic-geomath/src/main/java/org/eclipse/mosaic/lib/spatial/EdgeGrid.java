@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.math.VectorUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable uniform grid on the 2D X,Z plane for fast intersection tests of line segments with a static set of
+ * {@link Edge}s, e.g., for checking if the line of sight between two points is blocked by walls of buildings.
+ * <p>
+ * Each edge is registered in all cells overlapped by its bounding box. An intersection test only visits
+ * the cells crossed by the tested segment and returns as soon as one intersecting edge is found. The grid
+ * is built once and can be queried by multiple threads concurrently.
+ * </p>
+ */
+public class EdgeGrid<T extends Vector3d> {
+
+    /**
+     * Tolerance added to all cell computations, so that touching edges are found in neighboring cells as well.
+     */
+    private final static double EPSILON = 1e-6;
+
+    private final double cellSize;
+    private final double minX;
+    private final double minZ;
+    private final double maxX;
+    private final double maxZ;
+    private final int colAmount;
+    private final int rowAmount;
+
+    private final Edge<T>[] edges;
+    private final int[] edgeMinCol;
+    private final int[] edgeMinRow;
+
+    /**
+     * For each cell, the position of its first edge in {@link #cellEdges}. The last entry holds the total number of entries.
+     */
+    private final int[] cellStart;
+
+    /**
+     * Indices of the edges in {@link #edges}, sorted by the cells they are registered in.
+     */
+    private final int[] cellEdges;
+
+    /**
+     * Creates a new grid containing the given edges.
+     *
+     * @param edges    the edges to add to the grid
+     * @param cellSize the width and height of each cell
+     */
+    @SuppressWarnings("unchecked")
+    public EdgeGrid(Collection<? extends Edge<T>> edges, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be greater than 0");
+        }
+        this.cellSize = cellSize;
+        this.edges = edges.toArray(new Edge[0]);
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxZ = Double.NEGATIVE_INFINITY;
+        for (Edge<T> edge : this.edges) {
+            minX = Math.min(minX, Math.min(edge.a.x, edge.b.x));
+            minZ = Math.min(minZ, Math.min(edge.a.z, edge.b.z));
+            maxX = Math.max(maxX, Math.max(edge.a.x, edge.b.x));
+            maxZ = Math.max(maxZ, Math.max(edge.a.z, edge.b.z));
+        }
+        if (this.edges.length == 0) {
+            minX = minZ = maxX = maxZ = 0;
+        }
+        this.minX = minX - EPSILON;
+        this.minZ = minZ - EPSILON;
+        this.maxX = maxX + EPSILON;
+        this.maxZ = maxZ + EPSILON;
+        this.colAmount = Math.max(1, (int) Math.ceil((this.maxX - this.minX) / cellSize));
+        this.rowAmount = Math.max(1, (int) Math.ceil((this.maxZ - this.minZ) / cellSize));
+        if ((long) colAmount * rowAmount >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many grid cells, choose a larger cell size.");
+        }
+
+        this.edgeMinCol = new int[this.edges.length];
+        this.edgeMinRow = new int[this.edges.length];
+        this.cellStart = new int[colAmount * rowAmount + 1];
+
+        // first pass: count entries per cell
+        for (int i = 0; i < this.edges.length; i++) {
+            final Edge<T> edge = this.edges[i];
+            edgeMinCol[i] = toCol(Math.min(edge.a.x, edge.b.x) - EPSILON);
+            edgeMinRow[i] = toRow(Math.min(edge.a.z, edge.b.z) - EPSILON);
+            final int maxCol = toCol(Math.max(edge.a.x, edge.b.x) + EPSILON);
+            final int maxRow = toRow(Math.max(edge.a.z, edge.b.z) + EPSILON);
+            for (int col = edgeMinCol[i]; col <= maxCol; col++) {
+                for (int row = edgeMinRow[i]; row <= maxRow; row++) {
+                    cellStart[col * rowAmount + row + 1]++;
+                }
+            }
+        }
+        for (int cell = 1; cell < cellStart.length; cell++) {
+            cellStart[cell] += cellStart[cell - 1];
+        }
+        // second pass: fill entries, using a copy of the cell starts as insertion cursors
+        this.cellEdges = new int[cellStart[cellStart.length - 1]];
+        final int[] cursor = cellStart.clone();
+        for (int i = 0; i < this.edges.length; i++) {
+            final Edge<T> edge = this.edges[i];
+            final int maxCol = toCol(Math.max(edge.a.x, edge.b.x) + EPSILON);
+            final int maxRow = toRow(Math.max(edge.a.z, edge.b.z) + EPSILON);
+            for (int col = edgeMinCol[i]; col <= maxCol; col++) {
+                for (int row = edgeMinRow[i]; row <= maxRow; row++) {
+                    cellEdges[cursor[col * rowAmount + row]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of edges in this grid.
+     */
+    public int size() {
+        return edges.length;
+    }
+
+    /**
+     * Checks if the segment between the two given points intersects any edge of this grid on the X,Z plane.
+     * Uses the same intersection test as {@link VectorUtils#computeXZEdgeIntersectionPoint}.
+     *
+     * @param from the start of the segment
+     * @param to   the end of the segment
+     * @return {@code true}, if at least one edge intersects the segment
+     */
+    public boolean intersects(Vector3d from, Vector3d to) {
+        final double segmentMinX = Math.min(from.x, to.x);
+        final double segmentMaxX = Math.max(from.x, to.x);
+        final double segmentMinZ = Math.min(from.z, to.z);
+        final double segmentMaxZ = Math.max(from.z, to.z);
+        if (edges.length == 0 || segmentMaxX < minX || segmentMinX > maxX || segmentMaxZ < minZ || segmentMinZ > maxZ) {
+            return false;
+        }
+        final Vector3d intersection = new Vector3d();
+        final double slope = (to.z - from.z) / (to.x - from.x);
+        final int minCol = toCol(segmentMinX - EPSILON);
+        final int maxCol = toCol(segmentMaxX + EPSILON);
+        for (int col = minCol; col <= maxCol; col++) {
+            // the z-range of the segment within the current column
+            double zA = segmentMinZ;
+            double zB = segmentMaxZ;
+            if (Double.isFinite(slope)) {
+                final double colMinX = Math.max(segmentMinX, minX + col * cellSize);
+                final double colMaxX = Math.min(segmentMaxX, minX + (col + 1) * cellSize);
+                zA = from.z + (colMinX - from.x) * slope;
+                zB = from.z + (colMaxX - from.x) * slope;
+            }
+            final int minRow = toRow(Math.min(zA, zB) - EPSILON);
+            final int maxRow = toRow(Math.max(zA, zB) + EPSILON);
+            // cells of the same column are stored consecutively
+            final int end = cellStart[col * rowAmount + maxRow + 1];
+            for (int i = cellStart[col * rowAmount + minRow]; i < end; i++) {
+                final Edge<T> edge = edges[cellEdges[i]];
+                if (VectorUtils.computeXZEdgeIntersectionPoint(from, to, edge.a, edge.b, intersection)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds all edges whose bounding box overlaps the cells covered by the given area to the result list. Each edge is
+     * added only once.
+     *
+     * @param area   the area to search edges in
+     * @param result the list to add the found edges to
+     * @return the result list
+     */
+    public List<Edge<T>> getEdgesInBoundingArea(BoundingBox area, List<Edge<T>> result) {
+        if (edges.length == 0 || area.max.x < minX || area.min.x > maxX || area.max.z < minZ || area.min.z > maxZ) {
+            return result;
+        }
+        final int minCol = toCol(area.min.x);
+        final int maxCol = toCol(area.max.x);
+        final int minRow = toRow(area.min.z);
+        final int maxRow = toRow(area.max.z);
+        for (int col = minCol; col <= maxCol; col++) {
+            final int end = cellStart[col * rowAmount + maxRow + 1];
+            for (int i = cellStart[col * rowAmount + minRow]; i < end; i++) {
+                final int edge = cellEdges[i];
+                // an edge is reported only in the first cell of the search area it is registered in
+                final int row = rowOfEntry(col, i);
+                if (col == Math.max(edgeMinCol[edge], minCol) && row == Math.max(edgeMinRow[edge], minRow)) {
+                    result.add(edges[edge]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the row of the cell in the given column which contains the given entry.
+     */
+    private int rowOfEntry(int col, int entry) {
+        int low = col * rowAmount;
+        int high = low + rowAmount - 1;
+        // find the last cell of the column starting at or before the entry
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (cellStart[mid] <= entry) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low - col * rowAmount;
+    }
+
+    private int toCol(double x) {
+        return x < minX ? 0 : x >= maxX ? colAmount - 1 : Math.min(colAmount - 1, (int) ((x - minX) / cellSize));
+    }
+
+    private int toRow(double z) {
+        return z < minZ ? 0 : z >= maxZ ? rowAmount - 1 : Math.min(rowAmount - 1, (int) ((z - minZ) / cellSize));
+    }
+}
@@ -25,7 +25,7 @@ import java.util.function.Predicate;
 /**
  * {@link Grid} represents data structure to efficiently store spatial objects on the 2D X,Z plane using a fixed grid of cells.
  */
-public class Grid<T> {
+public class Grid<T> implements SpatialGrid<T> {
 
     private final SpatialItemAdapter<T> adapter;
     private final double cellWidth;
@@ -76,6 +76,7 @@ public class Grid<T> {
      * @param filter a predicate to exclude certain objects from the result list
      * @return the list of results
      */
+    @Override
     public List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter) {
         return getItemsInBoundingArea(area, filter, new ArrayList<>());
     }
@@ -88,6 +89,7 @@ public class Grid<T> {
      * @param result the list of results
      * @return the list of results
      */
+    @Override
     public List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter, List<T> result) {
         synchronized (tmpIndexA) {
             CellIndex minIndex = toCellIndex(Math.max(area.min.x, minX), Math.max(area.min.z, minZ), tmpIndexA);
@@ -116,6 +118,7 @@ public class Grid<T> {
      * @param item the item to be added
      * @return true if the item has been added to the grid, false if it has already been present in the grid
      */
+    @Override
     public boolean addItem(T item) {
         synchronized (tmpIndexA) {
             CellIndex newCellIndex = toCellIndex(adapter.getCenterX(item), adapter.getCenterZ(item), new CellIndex());
@@ -129,6 +132,7 @@ public class Grid<T> {
         }
     }
 
+    @Override
     public void updateGrid() {
         synchronized (tmpIndexA) {
             items.forEach((key, currentIndex) -> {
@@ -144,6 +148,7 @@ public class Grid<T> {
         }
     }
 
+    @Override
     public void removeItem(T item) {
         synchronized (tmpIndexA) {
             CellIndex cellIndex = items.remove(getItemKey(item));
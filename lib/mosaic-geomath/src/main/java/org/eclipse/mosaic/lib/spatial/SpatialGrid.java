@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Common interface of grids storing spatial objects on the 2D X,Z plane using a fixed grid of cells.
+ *
+ * @see Grid
+ * @see ConcurrentGrid
+ */
+public interface SpatialGrid<T> {
+
+    /**
+     * Searches all objects within the given bounding area.
+     *
+     * @param area   the rectangle area for range search
+     * @param filter a predicate to exclude certain objects from the result list
+     * @return the list of results
+     */
+    List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter);
+
+    /**
+     * Searches all objects within the given bounding area.
+     *
+     * @param area   the rectangle area for range search
+     * @param filter a predicate to exclude certain objects from the result list
+     * @param result the list of results
+     * @return the list of results
+     */
+    List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter, List<T> result);
+
+    /**
+     * Adds or updates an item in the grid.
+     *
+     * @param item the item to be added
+     * @return true if the item has been added to the grid, false if it has already been present in the grid
+     */
+    boolean addItem(T item);
+
+    /**
+     * Updates the cells of all items according to their current positions.
+     */
+    void updateGrid();
+
+    void removeItem(T item);
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Unbounded spatial hash of items identified by a name, which divides the plane into quadratic cells and
+ * stores each item in the cell covering its position. Item movements are applied incrementally, an item
+ * is only moved between cells if it actually left its cell. Area lookups only visit the cells overlapped
+ * by the bounding box of the area, which makes them proportional to the number of items near the area
+ * instead of all items in the grid. Items of a cell are visited in the order they have been added.
+ *
+ * @param <T> the type of the stored items
+ */
+public class SpatialHashGrid<T> {
+
+    private final Map<Long, Map<String, T>> cells = new HashMap<>();
+
+    private final Map<String, Long> itemCells = new HashMap<>();
+
+    private final Function<T, CartesianPoint> positionOf;
+
+    private double cellSize;
+
+    /**
+     * Creates a new empty grid.
+     *
+     * @param positionOf function returning the current position of an item
+     * @param cellSize   the size of the cells in meters
+     */
+    public SpatialHashGrid(Function<T, CartesianPoint> positionOf, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be greater than 0");
+        }
+        this.positionOf = positionOf;
+        this.cellSize = cellSize;
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Sets the size of the cells and re-sorts all items accordingly.
+     *
+     * @param cellSize the new cell size in meters
+     */
+    public void setCellSize(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be greater than 0");
+        }
+        final Map<String, T> items = new LinkedHashMap<>();
+        cells.values().forEach(items::putAll);
+        this.cellSize = cellSize;
+        cells.clear();
+        itemCells.clear();
+        items.forEach(this::addOrUpdate);
+    }
+
+    /**
+     * Adds the item to the grid, or moves it to another cell, if its position has changed since the last call.
+     *
+     * @param name the name of the item
+     * @param item the item holding its current position
+     */
+    public void addOrUpdate(String name, T item) {
+        final long newCell = cellOf(positionOf.apply(item));
+        final Long oldCell = itemCells.put(name, newCell);
+        if (oldCell != null) {
+            if (oldCell == newCell) {
+                // the item object may have been replaced
+                cells.get(newCell).put(name, item);
+                return;
+            }
+            removeFromCell(oldCell, name);
+        }
+        cells.computeIfAbsent(newCell, k -> new LinkedHashMap<>()).put(name, item);
+    }
+
+    /**
+     * Removes the item from the grid.
+     *
+     * @param name the name of the item
+     */
+    public void remove(String name) {
+        final Long cell = itemCells.remove(name);
+        if (cell != null) {
+            removeFromCell(cell, name);
+        }
+    }
+
+    /**
+     * Removes all items from the grid.
+     */
+    public void clear() {
+        cells.clear();
+        itemCells.clear();
+    }
+
+    /**
+     * Passes all items located within the given area to the given consumer.
+     *
+     * @param area     the area to search for items
+     * @param consumer receives the name and the item of each found item
+     */
+    public void forEachInArea(Area<CartesianPoint> area, BiConsumer<String, T> consumer) {
+        final Bounds<CartesianPoint> bounds = area.getBounds();
+        final long minCol = toIndex(bounds.getSideD());
+        final long maxCol = toIndex(bounds.getSideB());
+        final long minRow = toIndex(bounds.getSideA());
+        final long maxRow = toIndex(bounds.getSideC());
+        if ((double) (maxCol - minCol + 1) * (maxRow - minRow + 1) > cells.size()) {
+            // large areas, e.g. of geocasts, cover more cells than there are occupied ones
+            for (Map<String, T> cell : cells.values()) {
+                forEachInArea(cell, area, consumer);
+            }
+            return;
+        }
+        for (long col = minCol; col <= maxCol; col++) {
+            for (long row = minRow; row <= maxRow; row++) {
+                final Map<String, T> cell = cells.get(toCell(col, row));
+                if (cell != null) {
+                    forEachInArea(cell, area, consumer);
+                }
+            }
+        }
+    }
+
+    private void forEachInArea(Map<String, T> cell, Area<CartesianPoint> area, BiConsumer<String, T> consumer) {
+        for (Map.Entry<String, T> entry : cell.entrySet()) {
+            if (area.contains(positionOf.apply(entry.getValue()))) {
+                consumer.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void removeFromCell(long cell, String name) {
+        final Map<String, T> items = cells.get(cell);
+        items.remove(name);
+        if (items.isEmpty()) {
+            cells.remove(cell);
+        }
+    }
+
+    private long toIndex(double coordinate) {
+        return (long) Math.floor(coordinate / cellSize);
+    }
+
+    private long cellOf(CartesianPoint position) {
+        return toCell(toIndex(position.getX()), toIndex(position.getY()));
+    }
+
+    private static long toCell(long col, long row) {
+        return (col << 32) ^ (row & 0xFFFFFFFFL);
+    }
+}
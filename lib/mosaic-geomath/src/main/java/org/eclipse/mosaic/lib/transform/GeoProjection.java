@@ -145,6 +145,55 @@ public abstract class GeoProjection {
         return cartesianToGeographic(cartesian, new MutableGeoPoint(0d, 0d, 0d));
     }
 
+    /**
+     * Converts multiple local coordinates depicted by {@link CartesianPoint}s to geographic WGS84 coordinates in one pass.
+     *
+     * @param cartesians the local coordinates
+     * @param results    the {@link MutableGeoPoint}s to which the results are written to, in the same order as the
+     *                   local coordinates. Missing entries ({@code null}) are created.
+     * @return the results array with converted WGS84 coordinates
+     */
+    public MutableGeoPoint[] cartesianToGeographic(final CartesianPoint[] cartesians, final MutableGeoPoint[] results) {
+        checkBatchSize(cartesians.length, results.length);
+        for (int i = 0; i < cartesians.length; i++) {
+            results[i] = cartesianToGeographic(cartesians[i], results[i] != null ? results[i] : new MutableGeoPoint());
+        }
+        return results;
+    }
+
+    /**
+     * Converts multiple geographic WGS84 coordinates depicted by {@link GeoPoint}s into local coordinates in one pass.
+     *
+     * @param geographics geographic WGS84 coordinates
+     * @param results     the {@link MutableCartesianPoint}s to which the results are written to, in the same order as the
+     *                    geographic coordinates. Missing entries ({@code null}) are created.
+     * @return the results array with converted local coordinates
+     */
+    public MutableCartesianPoint[] geographicToCartesian(final GeoPoint[] geographics, final MutableCartesianPoint[] results) {
+        checkBatchSize(geographics.length, results.length);
+        for (int i = 0; i < geographics.length; i++) {
+            results[i] = geographicToCartesian(geographics[i], results[i] != null ? results[i] : new MutableCartesianPoint());
+        }
+        return results;
+    }
+
+    /**
+     * Creates a {@link LocalTangentPlane} which approximates the conversion from local to geographic coordinates
+     * around the given local coordinate. Suitable for small scenario areas only, see {@link LocalTangentPlane}.
+     *
+     * @param center the local coordinate to approximate the conversion around
+     * @return the approximated conversion
+     */
+    public LocalTangentPlane createLocalTangentPlane(final CartesianPoint center) {
+        return new LocalTangentPlane(this, center);
+    }
+
+    static void checkBatchSize(int inputs, int results) {
+        if (results < inputs) {
+            throw new IllegalArgumentException("Results array is smaller (" + results + ") than input array (" + inputs + ").");
+        }
+    }
+
     /**
      * Converts a cartesian world coordinate depicted by a {@link UtmPoint} into local coordinates coordinates.
      *
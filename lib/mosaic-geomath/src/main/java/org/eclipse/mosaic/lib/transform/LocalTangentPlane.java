@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.transform;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.MutableGeoPoint;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Approximates the conversion from local coordinates to geographic WGS84 coordinates of a {@link GeoProjection}
+ * by a tangent plane at a given center. The plane is spanned by the partial derivatives of latitude and longitude
+ * at the center, supplemented by second order terms to consider the convergence of meridians. All derivatives are
+ * calculated once with the actual projection. Afterwards, each conversion is a polynomial without any trigonometric calls.
+ *
+ * <p>The error grows with the distance to the center, therefore this approximation should only be used for
+ * small scenario areas, e.g. within a few kilometers around the center.</p>
+ */
+public class LocalTangentPlane {
+
+    /**
+     * Distance in meters used to calculate the partial derivatives with central differences.
+     */
+    private static final double DERIVATION_STEP = 1000;
+
+    private final double centerX;
+    private final double centerY;
+    private final double centerZ;
+
+    private final double centerAltitude;
+
+    private final Polynomial latitude;
+    private final Polynomial longitude;
+
+    LocalTangentPlane(GeoProjection geoProjection, CartesianPoint center) {
+        this.centerX = center.getX();
+        this.centerY = center.getY();
+        this.centerZ = center.getZ();
+
+        final GeoPoint[][] samples = new GeoPoint[3][3];
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                samples[i + 1][j + 1] = geoProjection.cartesianToGeographic(
+                        CartesianPoint.xyz(centerX + i * DERIVATION_STEP, centerY + j * DERIVATION_STEP, centerZ)
+                );
+            }
+        }
+        this.centerAltitude = samples[1][1].getAltitude();
+        this.latitude = new Polynomial(samples, GeoPoint::getLatitude);
+        this.longitude = new Polynomial(samples, GeoPoint::getLongitude);
+    }
+
+    /**
+     * Converts a local coordinate depicted by a {@link CartesianPoint} to approximated geographic WGS84 coordinates.
+     *
+     * @param cartesian the local coordinate
+     * @param result    the {@link MutableGeoPoint} to which the result is written to
+     * @return the result object with converted WGS84 coordinates
+     */
+    public MutableGeoPoint cartesianToGeographic(final CartesianPoint cartesian, final MutableGeoPoint result) {
+        final double dx = cartesian.getX() - centerX;
+        final double dy = cartesian.getY() - centerY;
+        return result.set(
+                latitude.evaluate(dx, dy),
+                longitude.evaluate(dx, dy),
+                centerAltitude + cartesian.getZ() - centerZ
+        );
+    }
+
+    /**
+     * Converts multiple local coordinates depicted by {@link CartesianPoint}s to approximated geographic
+     * WGS84 coordinates in one pass.
+     *
+     * @param cartesians the local coordinates
+     * @param results    the {@link MutableGeoPoint}s to which the results are written to, in the same order as the
+     *                   local coordinates. Missing entries ({@code null}) are created.
+     * @return the results array with converted WGS84 coordinates
+     */
+    public MutableGeoPoint[] cartesianToGeographic(final CartesianPoint[] cartesians, final MutableGeoPoint[] results) {
+        GeoProjection.checkBatchSize(cartesians.length, results.length);
+        for (int i = 0; i < cartesians.length; i++) {
+            results[i] = cartesianToGeographic(cartesians[i], results[i] != null ? results[i] : new MutableGeoPoint());
+        }
+        return results;
+    }
+
+    /**
+     * Second order Taylor polynomial of a coordinate component around the center, derived from samples
+     * on a 3x3 grid with central differences.
+     */
+    private static class Polynomial {
+
+        private final double value;
+        private final double dx;
+        private final double dy;
+        private final double dxx;
+        private final double dyy;
+        private final double dxy;
+
+        private Polynomial(GeoPoint[][] samples, ToDoubleFunction<GeoPoint> component) {
+            final double h = DERIVATION_STEP;
+            value = component.applyAsDouble(samples[1][1]);
+            dx = (component.applyAsDouble(samples[2][1]) - component.applyAsDouble(samples[0][1])) / (2 * h);
+            dy = (component.applyAsDouble(samples[1][2]) - component.applyAsDouble(samples[1][0])) / (2 * h);
+            dxx = (component.applyAsDouble(samples[2][1]) - 2 * value + component.applyAsDouble(samples[0][1])) / (h * h);
+            dyy = (component.applyAsDouble(samples[1][2]) - 2 * value + component.applyAsDouble(samples[1][0])) / (h * h);
+            dxy = (component.applyAsDouble(samples[2][2]) - component.applyAsDouble(samples[2][0])
+                    - component.applyAsDouble(samples[0][2]) + component.applyAsDouble(samples[0][0])) / (4 * h * h);
+        }
+
+        private double evaluate(double x, double y) {
+            return value + dx * x + dy * y + 0.5 * dxx * x * x + 0.5 * dyy * y * y + dxy * x * y;
+        }
+    }
+}
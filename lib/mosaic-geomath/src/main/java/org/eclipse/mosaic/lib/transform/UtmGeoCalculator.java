@@ -18,6 +18,7 @@ package org.eclipse.mosaic.lib.transform;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.MutableGeoPoint;
 import org.eclipse.mosaic.lib.geo.MutableUtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
 import org.eclipse.mosaic.lib.math.Vector3d;
 
 public class UtmGeoCalculator implements GeoCalculator {
@@ -28,6 +29,15 @@ public class UtmGeoCalculator implements GeoCalculator {
     private final MutableUtmPoint utmA = new MutableUtmPoint();
     private final MutableUtmPoint utmB = new MutableUtmPoint();
 
+    /**
+     * Most conversions are done relative to the same origin (e.g. the origin of the projection),
+     * hence the UTM coordinates of the last origin are kept to save the forward projection.
+     */
+    private double lastOriginLatitude = Double.NaN;
+    private double lastOriginLongitude = Double.NaN;
+    private double lastOriginAltitude = Double.NaN;
+    private final MutableUtmPoint lastOriginUtm = new MutableUtmPoint();
+
     public UtmGeoCalculator() {
         this(GeoProjection.getInstance());
     }
@@ -39,7 +49,7 @@ public class UtmGeoCalculator implements GeoCalculator {
     @Override
     public Vector3d distanceBetween(GeoPoint a, GeoPoint b, Vector3d result) {
         synchronized (utmA) {
-            geoProjection.geographicToUtm(a, utmA);
+            utmA.set(toUtmOfOrigin(a));
             geoProjection.geographicToUtm(b, utmB);
 
             if (utmA.getZone().number == utmB.getZone().number && utmB.getZone().isNorthernHemisphere() == utmB.getZone().isNorthernHemisphere()) {
@@ -57,7 +67,7 @@ public class UtmGeoCalculator implements GeoCalculator {
     @Override
     public MutableGeoPoint pointFromDirection(GeoPoint origin, Vector3d direction, MutableGeoPoint result) {
         synchronized (utmA) {
-            geoProjection.geographicToUtm(origin, utmA);
+            utmA.set(toUtmOfOrigin(origin));
             utmA.set(
                     utmA.getEasting() + direction.x,
                     utmA.getNorthing() - direction.z,
@@ -68,4 +78,16 @@ public class UtmGeoCalculator implements GeoCalculator {
         }
         return result;
     }
+
+    private UtmPoint toUtmOfOrigin(GeoPoint origin) {
+        if (origin.getLatitude() != lastOriginLatitude
+                || origin.getLongitude() != lastOriginLongitude
+                || origin.getAltitude() != lastOriginAltitude) {
+            geoProjection.geographicToUtm(origin, lastOriginUtm);
+            lastOriginLatitude = origin.getLatitude();
+            lastOriginLongitude = origin.getLongitude();
+            lastOriginAltitude = origin.getAltitude();
+        }
+        return lastOriginUtm;
+    }
 }
@@ -128,6 +128,20 @@ public class Wgs84Projection extends GeoProjection {
         return vectorToGeographic(cartesian.toVector3d(), result);
     }
 
+    @Override
+    public MutableGeoPoint[] cartesianToGeographic(CartesianPoint[] cartesians, MutableGeoPoint[] results) {
+        checkBatchSize(cartesians.length, results.length);
+        final GeoCalculator geoCalculator = getGeoCalculator();
+        final Vector3d direction = new Vector3d();
+        for (int i = 0; i < cartesians.length; i++) {
+            if (results[i] == null) {
+                results[i] = new MutableGeoPoint();
+            }
+            geoCalculator.pointFromDirection(geoOrigin, cartesians[i].toVector3d(direction), results[i]);
+        }
+        return results;
+    }
+
     @Override
     public Vector3d utmToVector(UtmPoint utm, Vector3d result) {
         return geographicToVector(utmToGeographic(utm), result);
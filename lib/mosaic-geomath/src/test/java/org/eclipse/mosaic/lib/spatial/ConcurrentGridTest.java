@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.lib.math.Vector3d;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class ConcurrentGridTest {
+
+    private final static SpatialItemAdapter<Item> ADAPTER = new SpatialItemAdapter<Item>() {
+        @Override
+        public double getMinX(Item item) {
+            return item.x;
+        }
+
+        @Override
+        public double getMinY(Item item) {
+            return 0;
+        }
+
+        @Override
+        public double getMinZ(Item item) {
+            return item.z;
+        }
+    };
+
+    private ConcurrentGrid<Item> grid;
+
+    @Before
+    public void setup() {
+        grid = new ConcurrentGrid<>(ADAPTER, 10, 10, 0, 100, 0, 100);
+    }
+
+    @Test
+    public void addItem_queryRange() {
+        // SETUP
+        assertTrue(grid.addItem(new Item(5, 5)));
+        assertTrue(grid.addItem(new Item(15, 5)));
+        assertTrue(grid.addItem(new Item(95, 95)));
+
+        // RUN + ASSERT
+        assertEquals(1, grid.getItemsInBoundingArea(area(0, 0, 10, 10), null).size());
+        assertEquals(2, grid.getItemsInBoundingArea(area(0, 0, 20, 10), null).size());
+        assertEquals(3, grid.getItemsInBoundingArea(area(0, 0, 100, 100), null).size());
+        assertEquals(0, grid.getItemsInBoundingArea(area(20, 20, 90, 90), null).size());
+    }
+
+    @Test
+    public void addItem_alreadyPresent() {
+        final Item item = new Item(5, 5);
+        assertTrue(grid.addItem(item));
+        assertFalse(grid.addItem(item));
+        assertEquals(1, grid.getItemsInBoundingArea(area(0, 0, 100, 100), null).size());
+    }
+
+    @Test
+    public void removeItem_itemNotFoundAnymore() {
+        // SETUP
+        final Item item = new Item(5, 5);
+        grid.addItem(item);
+        assertEquals(1, grid.getItemsInBoundingArea(area(0, 0, 10, 10), null).size());
+
+        // RUN
+        grid.removeItem(item);
+
+        // ASSERT
+        assertEquals(0, grid.getItemsInBoundingArea(area(0, 0, 10, 10), null).size());
+    }
+
+    @Test
+    public void updateGrid_movedItemFoundAtNewPosition() {
+        // SETUP
+        final Item item = new Item(5, 5);
+        grid.addItem(item);
+        grid.updateGrid();
+
+        // RUN
+        item.x = 55;
+        item.z = 75;
+        grid.updateGrid();
+
+        // ASSERT
+        assertEquals(0, grid.getItemsInBoundingArea(area(0, 0, 10, 10), null).size());
+        assertEquals(1, grid.getItemsInBoundingArea(area(50, 70, 60, 80), null).size());
+    }
+
+    @Test
+    public void queryRange_sameResultAsGrid() {
+        // SETUP
+        final Random random = new Random(42);
+        final Grid<Item> referenceGrid = new Grid<>(ADAPTER, 10, 10, 0, 100, 0, 100);
+        final List<Item> items = createItems(random, 1000, 100);
+        items.forEach(grid::addItem);
+        items.forEach(referenceGrid::addItem);
+
+        for (int step = 0; step < 10; step++) {
+            for (Item item : items) {
+                item.move(random, 100);
+            }
+            grid.updateGrid();
+            referenceGrid.updateGrid();
+
+            // RUN + ASSERT
+            for (int i = 0; i < 100; i++) {
+                final BoundingBox area = randomArea(random, 100, 30);
+                assertEquals(
+                        new HashSet<>(referenceGrid.getItemsInBoundingArea(area, item -> item.x > 20)),
+                        new HashSet<>(grid.getItemsInBoundingArea(area, item -> item.x > 20))
+                );
+            }
+        }
+    }
+
+    @Test
+    public void queryRange_concurrentQueriesDuringUpdates() throws Exception {
+        // SETUP
+        final Random random = new Random(42);
+        final List<Item> items = createItems(random, 1000, 100);
+        items.forEach(grid::addItem);
+        grid.updateGrid();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    int found = 0;
+                    for (int i = 0; i < 2000; i++) {
+                        // items never leave the grid, thus all items are found in each snapshot
+                        assertEquals(items.size(), grid.getItemsInBoundingArea(area(0, 0, 100, 100), null).size());
+                        found++;
+                    }
+                    return found;
+                }));
+            }
+
+            // RUN
+            for (int step = 0; step < 200; step++) {
+                for (Item item : items) {
+                    item.move(random, 100);
+                }
+                grid.updateGrid();
+            }
+
+            // ASSERT
+            for (Future<Integer> result : results) {
+                assertEquals(2000, (int) result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Measures the throughput of range queries executed by a growing number of threads,
+     * comparing the synchronized {@link Grid} with the {@link ConcurrentGrid}.
+     */
+    @Test
+    public void performanceTest() throws Exception {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int numberOfItems = 5000;
+        final double size = 5000;
+        final List<Item> items = createItems(new Random(42), numberOfItems, size);
+
+        final Grid<Item> synchronizedGrid = new Grid<>(ADAPTER, 200, 200, 0, size, 0, size);
+        final ConcurrentGrid<Item> concurrentGrid = new ConcurrentGrid<>(ADAPTER, 200, 200, 0, size, 0, size);
+        items.forEach(synchronizedGrid::addItem);
+        items.forEach(concurrentGrid::addItem);
+        synchronizedGrid.updateGrid();
+        concurrentGrid.updateGrid();
+
+        // warm up
+        measureQueries(1, area -> synchronizedGrid.getItemsInBoundingArea(area, null));
+        measureQueries(1, area -> concurrentGrid.getItemsInBoundingArea(area, null));
+
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            final double gridThroughput = measureQueries(threads, area -> synchronizedGrid.getItemsInBoundingArea(area, null));
+            final double concurrentGridThroughput = measureQueries(threads, area -> concurrentGrid.getItemsInBoundingArea(area, null));
+            assertTrue(gridThroughput > 0 && concurrentGridThroughput > 0);
+        }
+    }
+
+    /**
+     * Executes queries with the given number of threads and returns the achieved throughput in queries per microsecond.
+     */
+    private double measureQueries(int threads, Function<BoundingBox, List<Item>> query) throws Exception {
+        final int queriesPerThread = 20000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            final long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                final Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < queriesPerThread; i++) {
+                        query.apply(randomArea(random, 5000, 400));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return (threads * queriesPerThread) / ((System.nanoTime() - start) / 1e3);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<Item> createItems(Random random, int numberOfItems, double size) {
+        final List<Item> items = new ArrayList<>();
+        for (int i = 0; i < numberOfItems; i++) {
+            items.add(new Item(random.nextDouble() * size, random.nextDouble() * size));
+        }
+        return items;
+    }
+
+    private static BoundingBox randomArea(Random random, double size, double areaSize) {
+        final double x = random.nextDouble() * (size - areaSize);
+        final double z = random.nextDouble() * (size - areaSize);
+        return area(x, z, x + areaSize, z + areaSize);
+    }
+
+    private static BoundingBox area(double minX, double minZ, double maxX, double maxZ) {
+        final BoundingBox area = new BoundingBox();
+        area.add(new Vector3d(minX, 0, minZ), new Vector3d(maxX, 0, maxZ));
+        return area;
+    }
+
+    private static class Item {
+
+        private double x;
+        private double z;
+
+        private Item(double x, double z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        private void move(Random random, double size) {
+            x = Math.min(size, Math.max(0, x + random.nextGaussian()));
+            z = Math.min(size, Math.max(0, z + random.nextGaussian()));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.math.VectorUtils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+public class EdgeGridTest {
+
+    @Test
+    public void intersects_simpleEdges() {
+        // SETUP
+        final EdgeGrid<Vector3d> grid = new EdgeGrid<>(List.of(
+                edge(10, 0, 10, 20),
+                edge(50, 50, 60, 60)
+        ), 5);
+
+        // RUN + ASSERT
+        assertTrue(grid.intersects(new Vector3d(0, 0, 5), new Vector3d(20, 0, 5)));
+        assertTrue(grid.intersects(new Vector3d(50, 0, 60), new Vector3d(60, 0, 50)));
+        assertFalse(grid.intersects(new Vector3d(0, 0, 5), new Vector3d(9, 0, 5)));
+        assertFalse(grid.intersects(new Vector3d(0, 0, 30), new Vector3d(100, 0, 30)));
+        assertFalse(grid.intersects(new Vector3d(-100, 0, -100), new Vector3d(-50, 0, -50)));
+    }
+
+    @Test
+    public void intersects_verticalSegment() {
+        final EdgeGrid<Vector3d> grid = new EdgeGrid<>(List.of(edge(0, 10, 20, 10)), 5);
+
+        assertTrue(grid.intersects(new Vector3d(5, 0, 0), new Vector3d(5, 0, 20)));
+        assertFalse(grid.intersects(new Vector3d(5, 0, 0), new Vector3d(5, 0, 9)));
+    }
+
+    @Test
+    public void intersects_emptyGrid() {
+        final EdgeGrid<Vector3d> grid = new EdgeGrid<>(Collections.emptyList(), 5);
+
+        assertEquals(0, grid.size());
+        assertFalse(grid.intersects(new Vector3d(0, 0, 0), new Vector3d(10, 0, 10)));
+    }
+
+    @Test
+    public void intersects_equalsBruteForce() {
+        // SETUP
+        final Random random = new Random(42);
+        final List<Edge<Vector3d>> edges = createEdges(random, 2000, 1000);
+        final EdgeGrid<Vector3d> grid = new EdgeGrid<>(edges, 20);
+
+        // RUN + ASSERT
+        for (int i = 0; i < 5000; i++) {
+            final Vector3d from = randomPoint(random, 1000);
+            final Vector3d to = randomPoint(random, 1000);
+            assertEquals(intersectsBruteForce(edges, from, to), grid.intersects(from, to));
+        }
+    }
+
+    @Test
+    public void getEdgesInBoundingArea_equalsBruteForce() {
+        // SETUP
+        final Random random = new Random(42);
+        final List<Edge<Vector3d>> edges = createEdges(random, 2000, 1000);
+        final EdgeGrid<Vector3d> grid = new EdgeGrid<>(edges, 20);
+
+        for (int i = 0; i < 500; i++) {
+            final BoundingBox area = new BoundingBox();
+            area.add(randomPoint(random, 1000), randomPoint(random, 1000));
+
+            // RUN
+            final List<Edge<Vector3d>> result = grid.getEdgesInBoundingArea(area, new ArrayList<>());
+
+            // ASSERT
+            assertEquals("duplicate edges in result", result.size(), new HashSet<>(result).size());
+            for (Edge<Vector3d> edge : edges) {
+                if (overlaps(edge, area)) {
+                    assertTrue(result.contains(edge));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCellSize() {
+        new EdgeGrid<>(Collections.<Edge<Vector3d>>emptyList(), 0);
+    }
+
+    @Test
+    public void performanceTest() {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final Random random = new Random(42);
+        final List<Edge<Vector3d>> edges = createEdges(random, 20000, 5000);
+        final List<Vector3d> points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            final Vector3d from = randomPoint(random, 5000);
+            points.add(from);
+            points.add(randomPoint(random, 200).add(from));
+        }
+
+        final EdgeGrid<Vector3d> grid = new EdgeGrid<>(edges, 25);
+
+        int occludedGrid = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < points.size(); i += 2) {
+            occludedGrid += grid.intersects(points.get(i), points.get(i + 1)) ? 1 : 0;
+        }
+        final long gridTime = System.nanoTime() - start;
+
+        int occludedBruteForce = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < points.size(); i += 2) {
+            occludedBruteForce += intersectsBruteForce(edges, points.get(i), points.get(i + 1)) ? 1 : 0;
+        }
+        final long bruteForceTime = System.nanoTime() - start;
+
+        assertEquals(occludedBruteForce, occludedGrid);
+        assertTrue("EdgeGrid is not faster than brute force", gridTime < bruteForceTime);
+    }
+
+    private static boolean intersectsBruteForce(List<Edge<Vector3d>> edges, Vector3d from, Vector3d to) {
+        final Vector3d intersection = new Vector3d();
+        for (Edge<Vector3d> edge : edges) {
+            if (VectorUtils.computeXZEdgeIntersectionPoint(from, to, edge.a, edge.b, intersection)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlaps(Edge<Vector3d> edge, BoundingBox area) {
+        return Math.max(edge.a.x, edge.b.x) >= area.min.x && Math.min(edge.a.x, edge.b.x) <= area.max.x
+                && Math.max(edge.a.z, edge.b.z) >= area.min.z && Math.min(edge.a.z, edge.b.z) <= area.max.z;
+    }
+
+    private static List<Edge<Vector3d>> createEdges(Random random, int numberOfEdges, double size) {
+        final List<Edge<Vector3d>> edges = new ArrayList<>();
+        for (int i = 0; i < numberOfEdges; i++) {
+            final Vector3d a = randomPoint(random, size);
+            final Vector3d b = randomPoint(random, 30).add(a);
+            edges.add(new Edge<>(a, b));
+        }
+        return edges;
+    }
+
+    private static Vector3d randomPoint(Random random, double size) {
+        return new Vector3d(random.nextDouble() * size, 0, random.nextDouble() * size);
+    }
+
+    private static Edge<Vector3d> edge(double x1, double z1, double x2, double z2) {
+        return new Edge<>(new Vector3d(x1, 0, z1), new Vector3d(x2, 0, z2));
+    }
+}
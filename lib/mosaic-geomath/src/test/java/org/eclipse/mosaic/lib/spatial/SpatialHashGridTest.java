@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+public class SpatialHashGridTest {
+
+    private final SpatialHashGrid<CartesianPoint> grid = new SpatialHashGrid<>(Function.identity(), 100);
+
+    @Test
+    public void itemsInArea() {
+        grid.addOrUpdate("a", CartesianPoint.xy(10, 10));
+        grid.addOrUpdate("b", CartesianPoint.xy(-150, 20));
+        grid.addOrUpdate("c", CartesianPoint.xy(450, 450));
+
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), new HashSet<>(itemsIn(new CartesianRectangle(CartesianPoint.xy(-200, -50), CartesianPoint.xy(50, 50)))));
+        assertEquals(Collections.singletonList("c"), itemsIn(new CartesianCircle(CartesianPoint.xy(400, 400), 100)));
+        assertEquals(Collections.emptyList(), itemsIn(new CartesianCircle(CartesianPoint.xy(250, 250), 50)));
+    }
+
+    @Test
+    public void itemsInLargeArea() {
+        grid.addOrUpdate("a", CartesianPoint.xy(10, 10));
+        grid.addOrUpdate("b", CartesianPoint.xy(90_000, 90_000));
+
+        assertEquals(2, itemsIn(new CartesianRectangle(CartesianPoint.xy(-100_000, -100_000), CartesianPoint.xy(100_000, 100_000))).size());
+    }
+
+    @Test
+    public void moveAndRemoveItems() {
+        grid.addOrUpdate("a", CartesianPoint.xy(10, 10));
+        grid.addOrUpdate("b", CartesianPoint.xy(20, 20));
+        final CartesianRectangle origin = new CartesianRectangle(CartesianPoint.xy(0, 0), CartesianPoint.xy(50, 50));
+
+        // move within the same cell but out of the area
+        grid.addOrUpdate("a", CartesianPoint.xy(80, 80));
+        assertEquals(Collections.singletonList("b"), itemsIn(origin));
+
+        // move to another cell
+        grid.addOrUpdate("b", CartesianPoint.xy(520, 20));
+        assertEquals(Collections.emptyList(), itemsIn(origin));
+        assertEquals(Collections.singletonList("b"), itemsIn(new CartesianCircle(CartesianPoint.xy(500, 0), 50)));
+
+        grid.remove("b");
+        grid.remove("unknown");
+        assertEquals(Collections.emptyList(), itemsIn(new CartesianCircle(CartesianPoint.xy(500, 0), 50)));
+    }
+
+    @Test
+    public void changeCellSize() {
+        grid.addOrUpdate("a", CartesianPoint.xy(10, 10));
+        grid.addOrUpdate("b", CartesianPoint.xy(950, 10));
+
+        grid.setCellSize(1000);
+
+        assertEquals(1000, grid.getCellSize(), 0d);
+        assertEquals(Arrays.asList("a", "b"), itemsIn(new CartesianRectangle(CartesianPoint.xy(0, 0), CartesianPoint.xy(999, 50))));
+
+        grid.clear();
+        assertEquals(Collections.emptyList(), itemsIn(new CartesianRectangle(CartesianPoint.xy(0, 0), CartesianPoint.xy(999, 50))));
+    }
+
+    private List<String> itemsIn(Area<CartesianPoint> area) {
+        final List<String> result = new ArrayList<>();
+        grid.forEachInArea(area, (name, position) -> result.add(name));
+        return result;
+    }
+}
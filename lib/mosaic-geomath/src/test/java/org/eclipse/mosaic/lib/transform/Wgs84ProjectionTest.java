@@ -16,10 +16,14 @@
 package org.eclipse.mosaic.lib.transform;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.MutableCartesianPoint;
+import org.eclipse.mosaic.lib.geo.MutableGeoPoint;
 import org.eclipse.mosaic.lib.geo.MutableUtmPoint;
 import org.eclipse.mosaic.lib.geo.UtmPoint;
 import org.eclipse.mosaic.lib.geo.UtmZone;
@@ -27,6 +31,8 @@ import org.eclipse.mosaic.lib.math.Vector3d;
 
 import org.junit.Test;
 
+import java.util.Random;
+
 public class Wgs84ProjectionTest {
 
     @Test
@@ -170,6 +176,102 @@ public class Wgs84ProjectionTest {
 
     }
 
+    @Test
+    public void cartesianToGeographic_batchEqualsSingleConversion() {
+        GeoProjection transform = new Wgs84Projection(GeoPoint.latLon(52.520817, 13.409414), CartesianPoint.xy(-392081, -5820156));
+
+        CartesianPoint[] cartesians = createCartesianPoints(100, 5000);
+        MutableGeoPoint[] results = transform.cartesianToGeographic(cartesians, new MutableGeoPoint[cartesians.length]);
+
+        for (int i = 0; i < cartesians.length; i++) {
+            GeoPoint expected = transform.cartesianToGeographic(cartesians[i]);
+            assertEquals(expected.getLatitude(), results[i].getLatitude(), 0d);
+            assertEquals(expected.getLongitude(), results[i].getLongitude(), 0d);
+            assertEquals(expected.getAltitude(), results[i].getAltitude(), 0d);
+        }
+    }
+
+    @Test
+    public void pointFromDirection_changingOrigins() {
+        GeoProjection transform = new Wgs84Projection(GeoPoint.latLon(52.520817, 13.409414));
+        UtmGeoCalculator calculator = new UtmGeoCalculator(transform);
+        MutableGeoPoint origin = new MutableGeoPoint(52.520817, 13.409414, 0);
+        Vector3d direction = new Vector3d(100, 0, -100);
+
+        GeoPoint first = calculator.pointFromDirection(origin, direction, new MutableGeoPoint());
+        origin.set(52.5, 13.3, 0);
+        GeoPoint second = calculator.pointFromDirection(origin, direction, new MutableGeoPoint());
+
+        // the origin has been changed, the UTM coordinates of the origin must not be reused
+        GeoPoint expected = new UtmGeoCalculator(transform).pointFromDirection(origin, direction, new MutableGeoPoint());
+        assertEquals(expected.getLatitude(), second.getLatitude(), 0d);
+        assertEquals(expected.getLongitude(), second.getLongitude(), 0d);
+        assertNotEquals(first.getLatitude(), second.getLatitude(), 0.01d);
+    }
+
+    @Test
+    public void localTangentPlane_smallDeviationWithinFiveKilometers() {
+        GeoProjection transform = new Wgs84Projection(GeoPoint.latLon(52.520817, 13.409414), CartesianPoint.xy(-392081, -5820156));
+        LocalTangentPlane tangentPlane = transform.createLocalTangentPlane(CartesianPoint.xy(0, 0));
+
+        Vector3d deviation = new Vector3d();
+        double maxDeviation = 0;
+        for (CartesianPoint cartesian : createCartesianPoints(1000, 5000)) {
+            GeoPoint expected = transform.cartesianToGeographic(cartesian);
+            GeoPoint approximated = tangentPlane.cartesianToGeographic(cartesian, new MutableGeoPoint());
+            maxDeviation = Math.max(maxDeviation,
+                    new HarvesineGeoCalculator().distanceBetween(expected, approximated, deviation).magnitude());
+        }
+        assertTrue("Deviation was " + maxDeviation, maxDeviation < 0.5);
+    }
+
+    /**
+     * Runs many conversions from local to geographic coordinates with the UTM based calculation, which is used
+     * for scenarios, for single and batch conversions as well as for the tangent plane approximation, e.g. to
+     * attach a profiler. Only runs if the system property {@code performanceTests} is set.
+     */
+    @Test
+    public void performanceTest() {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        GeoProjection transform = new Wgs84Projection(GeoPoint.latLon(52.520817, 13.409414), CartesianPoint.xy(-392081, -5820156));
+        LocalTangentPlane tangentPlane = transform.createLocalTangentPlane(CartesianPoint.xy(0, 0));
+
+        CartesianPoint[] cartesians = createCartesianPoints(100000, 5000);
+        MutableGeoPoint[] results = new MutableGeoPoint[cartesians.length];
+        MutableGeoPoint result = new MutableGeoPoint();
+
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            for (CartesianPoint cartesian : cartesians) {
+                transform.cartesianToGeographic(cartesian, result);
+            }
+            long single = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            transform.cartesianToGeographic(cartesians, results);
+            long batch = System.nanoTime() - start;
+            // the batch conversion must yield the same result as the single conversion
+            assertEquals(result.getLatitude(), results[results.length - 1].getLatitude(), 1e-9);
+            assertEquals(result.getLongitude(), results[results.length - 1].getLongitude(), 1e-9);
+
+            start = System.nanoTime();
+            tangentPlane.cartesianToGeographic(cartesians, results);
+            long approximated = System.nanoTime() - start;
+
+            assertTrue(single > 0 && batch > 0 && approximated > 0);
+        }
+    }
+
+    private static CartesianPoint[] createCartesianPoints(int count, double radius) {
+        Random random = new Random(13);
+        CartesianPoint[] cartesians = new CartesianPoint[count];
+        for (int i = 0; i < count; i++) {
+            cartesians[i] = CartesianPoint.xyz((random.nextDouble() * 2 - 1) * radius, (random.nextDouble() * 2 - 1) * radius, random.nextDouble() * 50);
+        }
+        return cartesians;
+    }
+
     private void testUtmConversion(GeoPoint wgs84, MutableUtmPoint utm) {
         Wgs84Projection transform = new Wgs84Projection(wgs84);
 
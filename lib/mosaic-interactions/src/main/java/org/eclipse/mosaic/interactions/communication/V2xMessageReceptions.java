@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.communication;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+
+/**
+ * This extension of {@link Interaction} bundles several {@link V2xMessageReception}s which
+ * take place at the same time. It is used by network simulators to avoid triggering one
+ * interaction per received message, e.g., for periodic broadcasts of many vehicles.
+ */
+public final class V2xMessageReceptions extends Interaction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * String identifying the type of this interaction.
+     */
+    public final static String TYPE_ID = createTypeIdentifier(V2xMessageReceptions.class);
+
+    /**
+     * The bundled receptions, all having the same time as this interaction.
+     */
+    @Nonnull
+    private final List<V2xMessageReception> receptions;
+
+    /**
+     * Constructor for {@link V2xMessageReceptions}.
+     *
+     * @param time       Timestamp of this interaction, unit: [ns]
+     * @param receptions the bundled receptions, all having the given time stamp
+     */
+    public V2xMessageReceptions(long time, @Nonnull List<V2xMessageReception> receptions) {
+        super(time);
+        this.receptions = Objects.requireNonNull(receptions);
+    }
+
+    @Nonnull
+    public List<V2xMessageReception> getReceptions() {
+        return receptions;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(5, 23)
+                .append(receptions)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        V2xMessageReceptions other = (V2xMessageReceptions) obj;
+        return new EqualsBuilder()
+                .append(this.receptions, other.receptions)
+                .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("receptions", receptions.size())
+                .toString();
+    }
+}
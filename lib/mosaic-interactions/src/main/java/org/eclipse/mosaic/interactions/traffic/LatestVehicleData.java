@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.traffic;
+
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the latest {@link VehicleData} of each vehicle received with {@link VehicleUpdates} interactions. As
+ * {@link VehicleUpdates} may list vehicles whose state has not changed by their names only, the data received
+ * before is kept for those vehicles until they are removed. This class is not thread-safe.
+ */
+public class LatestVehicleData {
+
+    private final Map<String, VehicleData> vehicles = new LinkedHashMap<>();
+
+    /**
+     * Applies the given {@link VehicleUpdates}. Removed vehicles are dropped first, as a vehicle
+     * may be removed and added again with the same name within one simulation step.
+     *
+     * @param vehicleUpdates the interaction holding added, updated, and removed vehicles
+     */
+    public void update(VehicleUpdates vehicleUpdates) {
+        for (String removed : vehicleUpdates.getRemovedNames()) {
+            vehicles.remove(removed);
+        }
+        for (VehicleData added : vehicleUpdates.getAdded()) {
+            vehicles.put(added.getName(), added);
+        }
+        for (VehicleData updated : vehicleUpdates.getUpdated()) {
+            vehicles.put(updated.getName(), updated);
+        }
+    }
+
+    /**
+     * Returns the latest data of the given vehicle, or {@code null} if the vehicle is not known or has been removed.
+     */
+    public VehicleData get(String vehicleName) {
+        return vehicles.get(vehicleName);
+    }
+
+    /**
+     * Returns the latest data of all vehicles in the order they were first received.
+     */
+    public Collection<VehicleData> getAll() {
+        return vehicles.values();
+    }
+
+    public boolean isEmpty() {
+        return vehicles.isEmpty();
+    }
+
+    public void clear() {
+        vehicles.clear();
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,7 +33,10 @@ import java.util.stream.Collectors;
  * This extension of {@link Interaction} is used to update the position of some or all vehicles
  * of the simulation. It consists of three lists, containing newly added vehicles, vehicles
  * which were updated since the last simulation step, and vehicles which have been removed
- * from the traffic simulation.
+ * from the traffic simulation. Optionally, a traffic simulator may publish the names of vehicles
+ * whose state has not changed since their last update (e.g., parked vehicles) instead of including them
+ * in the list of updated vehicles. Receivers should then keep using the {@link VehicleData} last received for
+ * those vehicles.
  */
 public final class VehicleUpdates extends Interaction {
 
@@ -63,6 +67,11 @@ public final class VehicleUpdates extends Interaction {
      */
     private final List<String> removedNames;
 
+    /**
+     * List of vehicle IDs (strings) identifying vehicles whose state has not changed since their last update.
+     */
+    private final List<String> unchangedNames;
+
     /**
      * Constructor using fields.
      *
@@ -72,10 +81,25 @@ public final class VehicleUpdates extends Interaction {
      * @param removedNames Vehicles that were removed in this simulation step.
      */
     public VehicleUpdates(long time, List<VehicleData> added, List<VehicleData> updated, List<String> removedNames) {
+        this(time, added, updated, removedNames, new ArrayList<>(0));
+    }
+
+    /**
+     * Constructor using fields.
+     *
+     * @param time           Timestamp of this interaction, unit: [ns]
+     * @param added          Vehicles that were added in this simulation step.
+     * @param updated        Vehicles that were already in the simulation and whose state has changed.
+     * @param removedNames   Vehicles that were removed in this simulation step.
+     * @param unchangedNames Vehicles that are still in the simulation but whose state has not changed since their last update.
+     */
+    public VehicleUpdates(long time, List<VehicleData> added, List<VehicleData> updated, List<String> removedNames,
+                          List<String> unchangedNames) {
         super(time);
         this.added = added;
         this.updated = updated;
         this.removedNames = removedNames;
+        this.unchangedNames = unchangedNames;
     }
 
     public List<VehicleData> getAdded() {
@@ -90,6 +114,15 @@ public final class VehicleUpdates extends Interaction {
         return this.removedNames;
     }
 
+    /**
+     * Returns the names of all vehicles which are still in the simulation, but whose state has not changed since the
+     * last {@link VehicleData} published for them. Those vehicles are neither included in {@link #getAdded()} nor
+     * in {@link #getUpdated()}.
+     */
+    public List<String> getUnchangedNames() {
+        return this.unchangedNames;
+    }
+
     public long getNextUpdate() {
         return this.nextUpdate;
     }
@@ -105,6 +138,7 @@ public final class VehicleUpdates extends Interaction {
                 .append(added)
                 .append(updated)
                 .append(removedNames)
+                .append(unchangedNames)
                 .toHashCode();
     }
 
@@ -126,6 +160,7 @@ public final class VehicleUpdates extends Interaction {
                 .append(this.added, other.added)
                 .append(this.updated, other.updated)
                 .append(this.removedNames, other.removedNames)
+                .append(this.unchangedNames, other.unchangedNames)
                 .isEquals();
     }
 
@@ -136,6 +171,7 @@ public final class VehicleUpdates extends Interaction {
                 .append("added", added.stream().map(UnitData::getName).collect(Collectors.joining(",")))
                 .append("updated", updated.stream().map(UnitData::getName).collect(Collectors.joining(",")))
                 .append("removed", removedNames)
+                .append("unchanged", unchangedNames.size())
                 .toString();
     }
 
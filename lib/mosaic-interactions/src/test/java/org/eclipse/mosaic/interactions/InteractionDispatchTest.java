@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.interactions.application.ApplicationInteraction;
+import org.eclipse.mosaic.interactions.application.SumoTraciResponse;
+import org.eclipse.mosaic.interactions.communication.V2xFullMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.electricity.ChargingStationUpdate;
+import org.eclipse.mosaic.interactions.electricity.VehicleBatteryUpdates;
+import org.eclipse.mosaic.interactions.electricity.VehicleChargingDenial;
+import org.eclipse.mosaic.interactions.environment.EnvironmentSensorUpdates;
+import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
+import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
+import org.eclipse.mosaic.interactions.mapping.ServerRegistration;
+import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
+import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
+import org.eclipse.mosaic.interactions.mapping.advanced.RoutelessVehicleRegistration;
+import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioVehicleRegistration;
+import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
+import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
+import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
+import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.interactions.trafficsigns.VehicleSeenTrafficSignsUpdate;
+import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.interaction.InteractionDispatcher;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Compares the dispatching of interactions using a chain of type id comparisons, as done
+ * by the {@code ApplicationAmbassador} previously, with the {@link InteractionDispatcher}.
+ */
+public class InteractionDispatchTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InteractionDispatchTest.class);
+
+    /**
+     * The interaction types in the order they were compared in the {@code ApplicationAmbassador}.
+     */
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends Interaction>[] INTERACTION_TYPES = new Class[]{
+            RsuRegistration.class, ChargingStationRegistration.class, TrafficLightRegistration.class,
+            VehicleRegistration.class, ScenarioVehicleRegistration.class, RoutelessVehicleRegistration.class,
+            TmcRegistration.class, ServerRegistration.class, VehicleChargingDenial.class, ChargingStationUpdate.class,
+            VehicleRouteRegistration.class, V2xMessageReception.class, V2xFullMessageReception.class,
+            EnvironmentSensorUpdates.class, TrafficDetectorUpdates.class, VehicleSeenTrafficSignsUpdate.class,
+            SumoTraciResponse.class, V2xMessageAcknowledgement.class, TrafficLightUpdates.class, VehicleUpdates.class,
+            VehicleBatteryUpdates.class, VehicleRoutesInitialization.class, VehicleTypesInitialization.class,
+            ApplicationInteraction.class
+    };
+
+    private static final String[] TYPE_IDS = new String[INTERACTION_TYPES.length];
+
+    static {
+        for (int i = 0; i < INTERACTION_TYPES.length; i++) {
+            TYPE_IDS[i] = Interaction.createTypeIdentifier(INTERACTION_TYPES[i]);
+        }
+    }
+
+    private final int[] handled = new int[INTERACTION_TYPES.length];
+
+    @Test
+    public void dispatchMatchesTypeIdComparison() throws Exception {
+        final InteractionDispatcher dispatcher = createDispatcher();
+        for (Interaction interaction : createInteractions()) {
+            int expected = dispatchByTypeId(interaction);
+            dispatcher.dispatch(interaction);
+            assertEquals(2, handled[expected]);
+        }
+    }
+
+    @Test
+    public void performanceTest() throws Exception {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final InteractionDispatcher dispatcher = createDispatcher();
+        final Interaction[] interactions = createInteractions();
+        final int rounds = 2_000_000;
+
+        for (int warmup = 0; warmup < 2; warmup++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                dispatchByTypeId(interactions[i % interactions.length]);
+            }
+            long durationChain = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                dispatcher.dispatch(interactions[i % interactions.length]);
+            }
+            long durationDispatcher = System.nanoTime() - start;
+
+            log.debug("Type id comparison: {} ns/interaction, InteractionDispatcher: {} ns/interaction",
+                    durationChain / (double) rounds, durationDispatcher / (double) rounds);
+        }
+    }
+
+    private InteractionDispatcher createDispatcher() {
+        final InteractionDispatcher dispatcher = new InteractionDispatcher();
+        for (int i = 0; i < INTERACTION_TYPES.length; i++) {
+            final int type = i;
+            dispatcher.register(INTERACTION_TYPES[i], interaction -> handled[type]++);
+        }
+        return dispatcher;
+    }
+
+    private int dispatchByTypeId(Interaction interaction) {
+        for (int i = 0; i < TYPE_IDS.length; i++) {
+            if (interaction.getTypeId().startsWith(TYPE_IDS[i])) {
+                handled[i]++;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Interaction[] createInteractions() {
+        return new Interaction[]{
+                new RsuRegistration(0, "rsu_0", "rsu", new ArrayList<>(), GeoPoint.ORIGO),
+                new TrafficDetectorUpdates(0, new ArrayList<>(), new ArrayList<>()),
+                new TrafficLightUpdates(0, new HashMap<>()),
+                new VehicleUpdates(0, new ArrayList<>(), new ArrayList<>(), new ArrayList<>())
+        };
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.LatestVehicleData;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannel.CMD;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannel.NodeDataContainer;
@@ -44,7 +45,10 @@ import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.federatestarter.DockerFederateExecutor;
+import org.eclipse.mosaic.rti.api.interaction.InteractionDispatcher;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+import org.eclipse.mosaic.rti.api.time.TimeAdvanceRequestBatch;
 
 import com.google.common.collect.Lists;
 import org.apache.commons.lang3.tuple.Pair;
@@ -59,9 +63,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Optional;
 import java.util.Scanner;
-import java.util.stream.Stream;
 
 /**
  * The Ambassador for coupling a network simulator to MOSAIC RTI.
@@ -128,9 +130,25 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
 
     /**
      * This is used to fetch the most recent position of a vehicle when a {@link AdHocCommunicationConfiguration} interaction
-     * is processed.
+     * is processed. As {@link VehicleUpdates} may omit vehicles which have not changed, the latest data is kept per vehicle.
      */
-    private VehicleUpdates latestVehicleUpdates = null;
+    private final LatestVehicleData latestVehicleData = new LatestVehicleData();
+
+    /**
+     * Collects the next event requests of the federate during a time advance, which are then sent to the RTI as one batch.
+     */
+    private final TimeAdvanceRequestBatch timeAdvanceRequests = new TimeAdvanceRequestBatch(0, FederatePriority.LOWEST);
+
+    /**
+     * Passes each received interaction to the matching {@code process} method.
+     */
+    private final InteractionDispatcher interactionDispatcher = new InteractionDispatcher()
+            .register(RsuRegistration.class, this::process)
+            .register(TrafficLightRegistration.class, this::process)
+            .register(ChargingStationRegistration.class, this::process)
+            .register(VehicleUpdates.class, this::process)
+            .register(V2xMessageTransmission.class, this::process)
+            .register(AdHocCommunicationConfiguration.class, this::process);
 
     /**
      * A config object for whether to bypass federate destination type capability queries in
@@ -279,19 +297,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
     protected void processInteraction(Interaction interaction) throws InternalFederateException {
         this.log.trace("ProcessInteraction {} at time={}", interaction.getTypeId(), TIME.format(interaction.getTime()));
         // 2nd step of time management cycle: Deliver interactions to the federate
-        if (interaction.getTypeId().equals(RsuRegistration.TYPE_ID)) {
-            this.process((RsuRegistration) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightRegistration.TYPE_ID)) {
-            this.process((TrafficLightRegistration) interaction);
-        } else if (interaction.getTypeId().equals(ChargingStationRegistration.TYPE_ID)) {
-            this.process((ChargingStationRegistration) interaction);
-        } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
-            this.process((VehicleUpdates) interaction);
-        } else if (interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)) {
-            this.process((V2xMessageTransmission) interaction);
-        } else if (interaction.getTypeId().equals(AdHocCommunicationConfiguration.TYPE_ID)) {
-            this.process((AdHocCommunicationConfiguration) interaction);
-        }
+        interactionDispatcher.dispatch(interaction);
     }
 
     @Override
@@ -302,47 +308,58 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
             ambassadorFederateChannel.writeAdvanceTimeMessage(time);
             // Wait until next event request to start time management cycle
             // read while end of step is signalled
-            command_loop:
-            while (true) { // While the federate is advancing time we are receiving messages from it
-                log.trace("Reading Command in TimeAdvanceGrant");
-                int cmd = this.federateAmbassadorChannel.readCommand(); // Which message does the federate send?
-                switch (cmd) {
-                    case CMD.NEXT_EVENT: // The federate has scheduled an event
-                        long nextTime = this.federateAmbassadorChannel.readTimeBody();
-                        log.trace("Requested next_event at {} ", nextTime);
-                        // If the federates event is beyond our allowed time we have to request time advance from the RTI
-                        if (nextTime > time) {
-                            this.rti.requestAdvanceTime(nextTime);
-                        }
-                        break;
-                    case CMD.MSG_RECV:  // A simulated node has received a V2X message
-                        ReceiveMessageContainer rcvMsgContainer = this.federateAmbassadorChannel.readMessage(simulatedNodes);
-                        // read message body
-                        // The receiver may have been removed from the simulation while message was on air
-                        if (rcvMsgContainer.receiverName != null) {
-                            V2xMessageReception msg = new V2xMessageReception(
-                                    rcvMsgContainer.time,
-                                    rcvMsgContainer.receiverName,
-                                    rcvMsgContainer.msgId,
-                                    rcvMsgContainer.receiverInformation
-                            );
-                            log.debug("Receive V2XMessage : Id({}) on Node {} at Time={}", msg.getMessageId(), msg.getReceiverName(), TIME.format(msg.getTime()));
-                            this.rti.triggerInteraction(msg);  // Hand the received message to the RTI and thus the other federates
-                        }
-                        break;
-                    case CMD.END:       // The federate has terminated the current time advance -> we are done here
-                        long termTime = federateAmbassadorChannel.readTimeBody();
-                        log.trace("End ProcessTimeAdvanceGrant at: {}", termTime);
-                        break command_loop; // break out of the infinite loop
-                    default:
-                        throw new InternalFederateException("Unknown command from federate at processTimeAdvanceGrant");
-                }
+            timeAdvanceRequests.begin();
+            try {
+                processFederateCommands(time);
+            } catch (Exception e) {
+                timeAdvanceRequests.discard();
+                throw e;
             }
+            timeAdvanceRequests.end(this.rti);
         } catch (IOException | IllegalValueException | InternalFederateException e) {
             throw new InternalFederateException(e);
         }
     }
 
+    private void processFederateCommands(long time) throws IOException, IllegalValueException, InternalFederateException {
+        command_loop:
+        while (true) { // While the federate is advancing time we are receiving messages from it
+            log.trace("Reading Command in TimeAdvanceGrant");
+            int cmd = this.federateAmbassadorChannel.readCommand(); // Which message does the federate send?
+            switch (cmd) {
+                case CMD.NEXT_EVENT: // The federate has scheduled an event
+                    long nextTime = this.federateAmbassadorChannel.readTimeBody();
+                    log.trace("Requested next_event at {} ", nextTime);
+                    // If the federates event is beyond our allowed time we have to request time advance from the RTI
+                    if (nextTime > time) {
+                        timeAdvanceRequests.request(this.rti, nextTime);
+                    }
+                    break;
+                case CMD.MSG_RECV:  // A simulated node has received a V2X message
+                    ReceiveMessageContainer rcvMsgContainer = this.federateAmbassadorChannel.readMessage(simulatedNodes);
+                    // read message body
+                    // The receiver may have been removed from the simulation while message was on air
+                    if (rcvMsgContainer.receiverName != null) {
+                        V2xMessageReception msg = new V2xMessageReception(
+                                rcvMsgContainer.time,
+                                rcvMsgContainer.receiverName,
+                                rcvMsgContainer.msgId,
+                                rcvMsgContainer.receiverInformation
+                        );
+                        log.debug("Receive V2XMessage : Id({}) on Node {} at Time={}", msg.getMessageId(), msg.getReceiverName(), TIME.format(msg.getTime()));
+                        this.rti.triggerInteraction(msg);  // Hand the received message to the RTI and thus the other federates
+                    }
+                    break;
+                case CMD.END:       // The federate has terminated the current time advance -> we are done here
+                    long termTime = federateAmbassadorChannel.readTimeBody();
+                    log.trace("End ProcessTimeAdvanceGrant at: {}", termTime);
+                    break command_loop; // break out of the infinite loop
+                default:
+                    throw new InternalFederateException("Unknown command from federate at processTimeAdvanceGrant");
+            }
+        }
+    }
+
     @Override
     public void finishSimulation() throws InternalFederateException {
         try {
@@ -443,7 +460,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
     private synchronized void process(VehicleUpdates interaction) throws InternalFederateException {
         try {
             // save the latest vehicle updates for the case: first VehicleUpdates arrive before AdHocCommunicationConfiguration
-            latestVehicleUpdates = interaction;
+            latestVehicleData.update(interaction);
 
             if (!interaction.getAdded().isEmpty()) {
                 List<VehicleData> addedVehicles = interaction.getAdded();
@@ -661,14 +678,8 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
     }
 
     private synchronized VehicleData fetchVehicleDataFromLastUpdate(String vehicleId) {
-        if (latestVehicleUpdates == null) {
-            return null;
-        }
-        // see if vehicle was added or updated within the last vehicle update
-        Optional<VehicleData> vehicleData = Stream.concat(latestVehicleUpdates.getAdded().stream(), latestVehicleUpdates.getUpdated().stream())
-                .filter(v -> v.getName().equals(vehicleId))
-                .findFirst();
-        return vehicleData.orElse(null);
+        // latest data of the vehicle, either added or updated within the last vehicle update or unchanged since then
+        return latestVehicleData.get(vehicleId);
     }
 
     private synchronized void addRsuNodeToSimulation(String nodeId, RegisteredNode virtualNode, long time) throws InternalFederateException {
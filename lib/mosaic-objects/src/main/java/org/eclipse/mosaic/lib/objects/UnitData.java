@@ -45,9 +45,10 @@ public abstract class UnitData implements Serializable {
     private final String name;
 
     /**
-     * Current geographic position of the unit.
+     * Current geographic position of the unit. May be {@code null} on creation, if the
+     * unit is able to derive it on demand (see {@link #computePosition()}).
      */
-    private final GeoPoint position;
+    private volatile GeoPoint position;
 
     /**
      * Creates a new {@link UnitData}.
@@ -85,15 +86,38 @@ public abstract class UnitData implements Serializable {
      * Returns the current geographical position of the unit.
      */
     public GeoPoint getPosition() {
+        GeoPoint result = position;
+        if (result == null) {
+            result = computePosition();
+            position = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the geographical position of the unit only if it is already known, without
+     * deriving it via {@link #computePosition()}.
+     */
+    protected GeoPoint getPositionIfKnown() {
         return position;
     }
 
+    /**
+     * Derives the geographical position of the unit, if it has not been given on creation.
+     * Called on first access of {@link #getPosition()}.
+     *
+     * @return the geographical position of the unit, or {@code null}, if not available
+     */
+    protected GeoPoint computePosition() {
+        return null;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder(5, 59)
                 .append(time)
                 .append(name)
-                .append(position)
+                .append(getPosition())
                 .toHashCode();
     }
 
@@ -113,7 +137,7 @@ public abstract class UnitData implements Serializable {
         return new EqualsBuilder()
                 .append(this.time, other.time)
                 .append(this.name, other.name)
-                .append(this.position, other.position)
+                .append(this.getPosition(), other.getPosition())
                 .isEquals();
     }
 
@@ -122,7 +146,7 @@ public abstract class UnitData implements Serializable {
         return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
                 .append("time", this.time)
                 .append("name", this.name)
-                .append("position", this.position)
+                .append("position", getPosition())
                 .build();
     }
 
@@ -23,6 +23,7 @@ import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.objects.UnitData;
 import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
+import org.eclipse.mosaic.lib.transform.GeoProjection;
 import org.eclipse.mosaic.lib.util.gson.PolymorphismTypeAdapterFactory;
 
 import com.google.gson.annotations.JsonAdapter;
@@ -194,6 +195,15 @@ public class VehicleData extends UnitData {
         return projectedPosition;
     }
 
+    /**
+     * Derives the geographical position from the projected position, if the
+     * vehicle data has been created with the projected position only.
+     */
+    @Override
+    protected GeoPoint computePosition() {
+        return projectedPosition != null && GeoProjection.isInitialized() ? projectedPosition.toGeo() : null;
+    }
+
     /**
      * Returns the position of the vehicle in the road network.
      */
@@ -495,6 +505,14 @@ public class VehicleData extends UnitData {
             return this;
         }
 
+        /**
+         * Set the projected position of the vehicle only. The geographic position is
+         * derived from it not until it is requested via {@link VehicleData#getPosition()}.
+         */
+        public Builder position(CartesianPoint projectedPosition) {
+            return position(null, projectedPosition);
+        }
+
         /**
          * Set the position on the road of the vehicle.
          */
@@ -603,7 +621,8 @@ public class VehicleData extends UnitData {
          */
         public Builder copyFrom(VehicleData veh) {
             Validate.notNull(veh, "The vehicle info to be copied from must not be null.");
-            this.position = veh.getPosition();
+            // the geographic position is taken over only if already known, otherwise it is derived lazily again
+            this.position = veh.getPositionIfKnown();
             this.projectedPosition = veh.getProjectedPosition();
             this.roadPosition = veh.getRoadPosition();
             this.routeId = veh.getRouteId();
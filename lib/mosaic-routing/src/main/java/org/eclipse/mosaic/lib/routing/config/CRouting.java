@@ -27,4 +27,11 @@ public class CRouting implements Serializable {
      */
     public String source = null;
 
+    /**
+     * The directory in which prepared routing graphs are cached, e.g. to speed up the start of
+     * subsequent simulations using the same database. If {@code null} (default), the routing graph
+     * is created from the database in each simulation.
+     */
+    public String graphCache = null;
+
 }
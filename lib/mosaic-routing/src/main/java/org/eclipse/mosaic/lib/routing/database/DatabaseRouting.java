@@ -46,6 +46,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -86,11 +87,26 @@ public class DatabaseRouting implements Routing {
         }
 
         //creates an implementation of IRoutingGraph according to the configuration
-        this.routing = new GraphHopperRouting(scenarioDatabase);
+        this.routing = new GraphHopperRouting(scenarioDatabase, getGraphDirectory(configuration, baseDirectory, dbFile));
 
         this.routeManager = new RouteManager(this.scenarioDatabase);
     }
 
+    private static File getGraphDirectory(final CRouting configuration, final File baseDirectory, final File dbFile) {
+        if (configuration == null || configuration.graphCache == null) {
+            return null;
+        }
+        final File cacheDirectory = new File(configuration.graphCache).isAbsolute()
+                ? new File(configuration.graphCache)
+                : new File(baseDirectory, configuration.graphCache);
+        try {
+            return GraphHopperRouting.getGraphCacheDirectory(cacheDirectory, dbFile);
+        } catch (IOException e) {
+            log.warn("Could not determine cached routing graph for database '{}'", dbFile.getAbsolutePath(), e);
+            return null;
+        }
+    }
+
     @Override
     public Map<String, VehicleRoute> getRoutesFromDatabaseForMessage() {
         return routeManager.getRoutesFromDatabaseForMessage();
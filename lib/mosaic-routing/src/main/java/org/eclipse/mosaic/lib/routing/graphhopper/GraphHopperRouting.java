@@ -37,6 +37,11 @@ import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncodingManager;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
 import com.graphhopper.config.Profile;
 import com.graphhopper.routing.Path;
 import com.graphhopper.routing.RoutingAlgorithm;
@@ -48,12 +53,16 @@ import com.graphhopper.routing.util.AccessFilter;
 import com.graphhopper.routing.util.EdgeFilter;
 import com.graphhopper.routing.weighting.Weighting;
 import com.graphhopper.storage.BaseGraph;
+import com.graphhopper.storage.DAType;
+import com.graphhopper.storage.Directory;
+import com.graphhopper.storage.GHDirectory;
 import com.graphhopper.storage.Graph;
 import com.graphhopper.storage.NodeAccess;
 import com.graphhopper.storage.RAMDirectory;
 import com.graphhopper.storage.index.LocationIndex;
 import com.graphhopper.storage.index.LocationIndexTree;
 import com.graphhopper.storage.index.Snap;
+import com.graphhopper.util.Constants;
 import com.graphhopper.util.DistanceCalc;
 import com.graphhopper.util.DistancePlaneProjection;
 import com.graphhopper.util.EdgeIteratorState;
@@ -67,6 +76,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -135,35 +150,88 @@ public class GraphHopperRouting {
      */
     private static final double MAX_DISTANCE_TO_TARGET = 500d;
 
+    /**
+     * Is increased whenever the content of a stored graph changes, in order to invalidate existing graph caches.
+     */
+    private static final int GRAPH_CACHE_VERSION = 1;
+
+    /**
+     * Name of the file within a stored graph directory, which holds the mapping between graph and database ids.
+     */
+    private static final String GRAPH_MAPPING_FILE = "database_mapping";
+
     private final DistanceCalc distanceCalculation = new DistancePlaneProjection();
 
-    private final GraphhopperToDatabaseMapper graphMapper;
     private final Database db;
     private final VehicleEncodingManager encoding;
-    private final BaseGraph graph;
-    private final LocationIndex locationIndex;
+    private GraphhopperToDatabaseMapper graphMapper;
+    private BaseGraph graph;
+    private LocationIndex locationIndex;
 
     public GraphHopperRouting(Database db) {
+        this(db, null);
+    }
+
+    /**
+     * Creates the routing graph of the given database. If a graph directory is given, a graph previously stored in this
+     * directory is loaded memory-mapped and read-only. Otherwise, the graph is created from the database and stored in
+     * the directory for later usage. Use {@link #getGraphCacheDirectory} to obtain a directory which matches the database.
+     *
+     * @param db             the scenario database
+     * @param graphDirectory the directory to load the prepared graph from or to store it to, or {@code null}
+     *                       if the graph should only be held in memory
+     */
+    public GraphHopperRouting(Database db, File graphDirectory) {
         this.db = db;
 
-        graphMapper = new GraphhopperToDatabaseMapper();
         encoding = new VehicleEncodingManager(PROFILES);
 
-        graph = createGraphFromDatabase(db);
+        if (graphDirectory != null && loadStoredGraph(graphDirectory)) {
+            LOG.info("Loaded routing graph from {}, nodes: {}, edges: {}", graphDirectory, graph.getNodes(), graph.getEdges());
+            return;
+        }
+
+        final File storeDirectory = graphDirectory != null ? createTemporaryDirectory(graphDirectory) : null;
+
+        graphMapper = new GraphhopperToDatabaseMapper();
+        graph = createGraphFromDatabase(db, storeDirectory != null ? new RAMDirectory(storeDirectory.getPath(), true) : new RAMDirectory());
         locationIndex = createLocationIndex();
         cleanUpGraph();
 
         graph.flush();
+
+        if (storeDirectory != null) {
+            storeGraph(storeDirectory, graphDirectory);
+        }
     }
 
-    private BaseGraph createGraphFromDatabase(Database db) {
-        final BaseGraph graph = new BaseGraph
-                .Builder(encoding.getEncodingManager())
-                .setDir(new RAMDirectory())
-                .set3D(true)
-                .withTurnCosts(encoding.getEncodingManager().needsTurnCostsSupport())
-                .setSegmentSize(-1)
-                .build();
+    /**
+     * Returns the directory within the given cache directory, in which the routing graph for the given database file
+     * is stored. The name of the directory is a hash of the content of the database file and the used profiles,
+     * so that a stored graph is never used for a modified database.
+     *
+     * @param cacheDirectory the directory holding all cached routing graphs
+     * @param databaseFile   the scenario database file
+     * @return the directory of the routing graph for the given database file
+     * @throws IOException if the database file could not be read
+     */
+    public static File getGraphCacheDirectory(File cacheDirectory, File databaseFile) throws IOException {
+        final Hasher hasher = Hashing.sha256().newHasher()
+                .putInt(GRAPH_CACHE_VERSION)
+                .putString(Constants.VERSION, StandardCharsets.UTF_8);
+        for (Profile profile : PROFILES) {
+            hasher.putString(profile.getName(), StandardCharsets.UTF_8)
+                    .putString(profile.getVehicle(), StandardCharsets.UTF_8)
+                    .putBoolean(profile.isTurnCosts());
+        }
+        try (OutputStream out = Funnels.asOutputStream(hasher)) {
+            Files.copy(databaseFile.toPath(), out);
+        }
+        return new File(cacheDirectory, hasher.hash().toString());
+    }
+
+    private BaseGraph createGraphFromDatabase(Database db, Directory directory) {
+        final BaseGraph graph = createGraph(directory);
 
         final DatabaseGraphLoader reader = new DatabaseGraphLoader(db);
         reader.initialize(graph, encoding, graphMapper);
@@ -172,11 +240,92 @@ public class GraphHopperRouting {
         return graph;
     }
 
+    private BaseGraph createGraph(Directory directory) {
+        return new BaseGraph
+                .Builder(encoding.getEncodingManager())
+                .setDir(directory)
+                .set3D(true)
+                .withTurnCosts(encoding.getEncodingManager().needsTurnCostsSupport())
+                .setSegmentSize(-1)
+                .build();
+    }
+
     private LocationIndex createLocationIndex() {
+        return createLocationIndexTree(graph).prepareIndex();
+    }
+
+    private static LocationIndexTree createLocationIndexTree(BaseGraph graph) {
         return new LocationIndexTree(graph, graph.getDirectory())
                 .setMinResolutionInMeter(300)
-                .setMaxRegionSearch(4)
-                .prepareIndex();
+                .setMaxRegionSearch(4);
+    }
+
+    private boolean loadStoredGraph(File graphDirectory) {
+        final File mappingFile = new File(graphDirectory, GRAPH_MAPPING_FILE);
+        if (!mappingFile.exists()) {
+            return false;
+        }
+        BaseGraph storedGraph = null;
+        LocationIndexTree storedLocationIndex = null;
+        try {
+            storedGraph = createGraph(new GHDirectory(graphDirectory.getPath(), DAType.MMAP_RO));
+            if (storedGraph.loadExisting()) {
+                storedLocationIndex = createLocationIndexTree(storedGraph);
+                if (storedLocationIndex.loadExisting()) {
+                    graphMapper = GraphhopperToDatabaseMapper.load(mappingFile, db);
+                    graph = storedGraph;
+                    locationIndex = storedLocationIndex;
+                    return true;
+                }
+            }
+            LOG.warn("Could not load routing graph from {}, graph is created from database instead.", graphDirectory);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not load routing graph from {}, graph is created from database instead.", graphDirectory, e);
+        }
+        // the memory-mapped files must be released, as the broken graph directory is replaced afterwards
+        if (storedLocationIndex != null) {
+            storedLocationIndex.close();
+        }
+        if (storedGraph != null) {
+            storedGraph.close();
+        }
+        return false;
+    }
+
+    private static File createTemporaryDirectory(File graphDirectory) {
+        try {
+            final File parent = graphDirectory.getAbsoluteFile().getParentFile();
+            Files.createDirectories(parent.toPath());
+            return Files.createTempDirectory(parent.toPath(), graphDirectory.getName() + "-").toFile();
+        } catch (IOException e) {
+            LOG.warn("Could not create directory to store routing graph in {}", graphDirectory, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the graph into a temporary directory first, which is then moved to the actual graph directory. This
+     * way, other simulations never load an incomplete graph, even if they are started at the same time.
+     */
+    private void storeGraph(File storeDirectory, File graphDirectory) {
+        try {
+            ((LocationIndexTree) locationIndex).flush();
+            graphMapper.store(new File(storeDirectory, GRAPH_MAPPING_FILE));
+            if (graphDirectory.exists()) {
+                // a graph directory which could not be loaded is broken and would never be replaced otherwise
+                LOG.info("Delete broken routing graph in {}", graphDirectory);
+                MoreFiles.deleteRecursively(graphDirectory.toPath(), RecursiveDeleteOption.ALLOW_INSECURE);
+            }
+            Files.move(storeDirectory.toPath(), graphDirectory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            LOG.info("Stored routing graph in {}", graphDirectory);
+        } catch (IOException e) {
+            LOG.warn("Could not store routing graph in {}", graphDirectory, e);
+            try {
+                MoreFiles.deleteRecursively(storeDirectory.toPath(), RecursiveDeleteOption.ALLOW_INSECURE);
+            } catch (IOException deleteException) {
+                LOG.warn("Could not delete temporary directory {}", storeDirectory, deleteException);
+            }
+        }
     }
 
     protected void cleanUpGraph() {
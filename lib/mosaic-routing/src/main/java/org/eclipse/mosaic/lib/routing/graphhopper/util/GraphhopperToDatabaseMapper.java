@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.lib.routing.graphhopper.util;
 
+import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
 
@@ -22,6 +23,15 @@ import com.carrotsearch.hppc.IntObjectHashMap;
 import com.carrotsearch.hppc.IntObjectMap;
 import com.carrotsearch.hppc.ObjectIntHashMap;
 import com.carrotsearch.hppc.ObjectIntMap;
+import com.carrotsearch.hppc.cursors.IntObjectCursor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 
 public class GraphhopperToDatabaseMapper {
 
@@ -62,6 +72,60 @@ public class GraphhopperToDatabaseMapper {
         getGraphToDbNodeMap().put(nodeId, node);
     }
 
+    /**
+     * Writes the ids of all mapped nodes and connections to the given file.
+     *
+     * @param file the file to write the mapping to
+     * @throws IOException if the file could not be written
+     */
+    public void store(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+            out.writeInt(getGraphToDbNodeMap().size());
+            for (IntObjectCursor<Node> node : getGraphToDbNodeMap()) {
+                out.writeInt(node.key);
+                out.writeUTF(node.value.getId());
+            }
+            out.writeInt(getGraphToDbConnectionMap().size());
+            for (IntObjectCursor<Connection> connection : getGraphToDbConnectionMap()) {
+                out.writeInt(connection.key);
+                out.writeUTF(connection.value.getId());
+            }
+        }
+    }
+
+    /**
+     * Reads a mapping which has been written by {@link #store(File)} before.
+     *
+     * @param file     the file to read the mapping from
+     * @param database the database containing all mapped nodes and connections
+     * @return the mapping between graph and database
+     * @throws IOException if the file could not be read, or a mapped node or connection does not exist in the database
+     */
+    public static GraphhopperToDatabaseMapper load(File file, Database database) throws IOException {
+        final GraphhopperToDatabaseMapper mapper = new GraphhopperToDatabaseMapper();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            final int nodes = in.readInt();
+            for (int i = 0; i < nodes; i++) {
+                final int nodeId = in.readInt();
+                final Node node = database.getNode(in.readUTF());
+                if (node == null) {
+                    throw new IOException("Mapped node of graph node " + nodeId + " does not exist in database");
+                }
+                mapper.setNode(node, nodeId);
+            }
+            final int connections = in.readInt();
+            for (int i = 0; i < connections; i++) {
+                final int connectionId = in.readInt();
+                final Connection connection = database.getConnection(in.readUTF());
+                if (connection == null) {
+                    throw new IOException("Mapped connection of graph edge " + connectionId + " does not exist in database");
+                }
+                mapper.setConnection(connection, connectionId);
+            }
+        }
+        return mapper;
+    }
+
     private ObjectIntMap<Connection> getDbToGraphConnectionMap() {
         if (dbToGraphConnectionMap == null) {
             dbToGraphConnectionMap = new ObjectIntHashMap<>();
@@ -15,8 +15,11 @@
 
 package org.eclipse.mosaic.lib.routing.graphhopper;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
@@ -36,6 +39,7 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
@@ -92,6 +96,84 @@ public class GraphHopperRoutingTest {
         assertValidRoute(result.get(0));
     }
 
+    @Test
+    public void graphCache_storedGraphIsLoaded_sameRoutes() throws IOException {
+        final File graphDirectory = GraphHopperRouting.getGraphCacheDirectory(
+                folder.newFolder("graph-cache"), new File(folder.getRoot(), "tiergarten.db")
+        );
+        final RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(database.getNode("27537749").getPosition()),
+                new RoutingPosition(database.getNode("252864802").getPosition()),
+                new RoutingParameters()
+        );
+
+        // RUN the graph is created and stored
+        final List<CandidateRoute> storingResult = new GraphHopperRouting(database, graphDirectory).findRoutes(request);
+
+        // ASSERT
+        assertTrue(graphDirectory.isDirectory());
+        assertEquals(1, folder.getRoot().toPath().resolve("graph-cache").toFile().list().length);
+
+        // RUN the stored graph is loaded
+        final List<CandidateRoute> loadingResult = new GraphHopperRouting(database, graphDirectory).findRoutes(request);
+
+        // ASSERT
+        final List<CandidateRoute> expectedResult = routing.findRoutes(request);
+        assertEquals(expectedResult.get(0).getConnectionIds(), storingResult.get(0).getConnectionIds());
+        assertEquals(expectedResult.get(0).getConnectionIds(), loadingResult.get(0).getConnectionIds());
+        assertEquals(expectedResult.get(0).getTime(), loadingResult.get(0).getTime(), 0.001d);
+    }
+
+    @Test
+    public void graphCache_corruptedMapping_graphIsRebuiltAndStoredAgain() throws IOException {
+        final File cacheDirectory = folder.newFolder("graph-cache");
+        final File graphDirectory = GraphHopperRouting.getGraphCacheDirectory(cacheDirectory, new File(folder.getRoot(), "tiergarten.db"));
+        final File mappingFile = new File(graphDirectory, "database_mapping");
+        final RoutingRequest request = new RoutingRequest(
+                new RoutingPosition(database.getNode("27537749").getPosition()),
+                new RoutingPosition(database.getNode("252864802").getPosition()),
+                new RoutingParameters()
+        );
+        new GraphHopperRouting(database, graphDirectory);
+        FileUtils.writeStringToFile(mappingFile, "corrupted", StandardCharsets.UTF_8);
+
+        // RUN the stored graph cannot be loaded, the graph is created from database and stored again
+        final List<CandidateRoute> rebuildResult = new GraphHopperRouting(database, graphDirectory).findRoutes(request);
+
+        // ASSERT
+        final byte[] repairedMapping = FileUtils.readFileToByteArray(mappingFile);
+        assertNotEquals("corrupted", new String(repairedMapping, StandardCharsets.UTF_8));
+        assertEquals(1, cacheDirectory.list().length);
+
+        // RUN the repaired graph is loaded
+        final List<CandidateRoute> loadingResult = new GraphHopperRouting(database, graphDirectory).findRoutes(request);
+
+        // ASSERT
+        assertArrayEquals(repairedMapping, FileUtils.readFileToByteArray(mappingFile));
+        final List<CandidateRoute> expectedResult = routing.findRoutes(request);
+        assertEquals(expectedResult.get(0).getConnectionIds(), rebuildResult.get(0).getConnectionIds());
+        assertEquals(expectedResult.get(0).getConnectionIds(), loadingResult.get(0).getConnectionIds());
+    }
+
+    @Test
+    public void getGraphCacheDirectory_modifiedDatabase_otherDirectory() throws IOException {
+        final File cacheDirectory = folder.newFolder("graph-cache");
+        final File databaseFile = new File(folder.getRoot(), "tiergarten.db");
+        final File modifiedDatabaseFile = folder.newFile("modified.db");
+        FileUtils.copyFile(databaseFile, modifiedDatabaseFile);
+        FileUtils.writeByteArrayToFile(modifiedDatabaseFile, new byte[]{0}, true);
+
+        // RUN + ASSERT
+        assertEquals(
+                GraphHopperRouting.getGraphCacheDirectory(cacheDirectory, databaseFile),
+                GraphHopperRouting.getGraphCacheDirectory(cacheDirectory, databaseFile)
+        );
+        assertNotEquals(
+                GraphHopperRouting.getGraphCacheDirectory(cacheDirectory, databaseFile),
+                GraphHopperRouting.getGraphCacheDirectory(cacheDirectory, modifiedDatabaseFile)
+        );
+    }
+
     private void assertValidRoute(CandidateRoute candidateRoute) {
         Connection currentConnection;
         Connection previousConnection = null;
@@ -28,7 +28,8 @@ import javax.annotation.concurrent.Immutable;
 /**
  * Type, which should be used to define the position of an entity. It contains a
  * geographic position (longitude, latitude) as well as a projected position using
- * the projection defined for a federation.
+ * the projection defined for a federation. If created from a projected position, the
+ * geographic position is calculated not until it is requested the first time.
  */
 @Immutable
 public class Position implements Serializable {
@@ -43,16 +44,17 @@ public class Position implements Serializable {
     private final CartesianPoint projectedPosition;
 
     /**
-     * Geographic position with latitude and longitude coordinate.
+     * Geographic position with latitude and longitude coordinate. Calculated lazily
+     * from {@link #projectedPosition}, if not given on creation.
      */
-    private final GeoPoint geographicPosition;
+    private volatile GeoPoint geographicPosition;
 
     private final boolean valid;
 
     private Position(boolean valid, CartesianPoint cartesianPoint, GeoPoint geoPoint) {
         this.valid = valid;
         this.projectedPosition = Validate.notNull(cartesianPoint);
-        this.geographicPosition = Validate.notNull(geoPoint);
+        this.geographicPosition = geoPoint;
     }
 
     /**
@@ -61,7 +63,7 @@ public class Position implements Serializable {
      * @param geographicPosition the {@link GeoPoint} describing the geographic position with latitude and longitude
      */
     public Position(final GeoPoint geographicPosition) {
-        this(true, geographicPosition.toCartesian(), geographicPosition);
+        this(true, geographicPosition.toCartesian(), Validate.notNull(geographicPosition));
     }
 
     /**
@@ -70,14 +72,21 @@ public class Position implements Serializable {
      * @param projectedPosition the {@link CartesianPoint} describing the cartessian position with x,y
      */
     public Position(final CartesianPoint projectedPosition) {
-        this(true, projectedPosition, projectedPosition.toGeo());
+        this(true, projectedPosition, null);
     }
 
     /**
-     * Returns the geographic coordinate of this position.
+     * Returns the geographic coordinate of this position. If not known yet,
+     * it is calculated from the projected position on the first call.
      */
     public GeoPoint getGeographicPosition() {
-        return geographicPosition;
+        GeoPoint result = geographicPosition;
+        if (result == null) {
+            // concurrent calls may calculate the same point twice, which is cheaper than locking
+            result = projectedPosition.toGeo();
+            geographicPosition = result;
+        }
+        return result;
     }
 
     /**
@@ -112,10 +121,13 @@ public class Position implements Serializable {
         return projectedPosition;
     }
 
+    /**
+     * The geographic position is derived from the projected position and therefore
+     * not considered in {@link #hashCode()} and {@link #equals(Object)}.
+     */
     @Override
     public int hashCode() {
         return new HashCodeBuilder(1, 31)
-            .append(geographicPosition)
             .append(projectedPosition)
             .append(valid)
             .toHashCode();
@@ -129,7 +141,6 @@ public class Position implements Serializable {
 
         Position rhs = (Position) obj;
         return new EqualsBuilder()
-                        .append(this.geographicPosition, rhs.geographicPosition)
                         .append(this.projectedPosition, rhs.projectedPosition)
                         .append(this.valid, rhs.valid)
                         .isEquals();
@@ -137,6 +148,6 @@ public class Position implements Serializable {
 
     @Override
     public String toString() {
-        return "Position [valid=" + valid + ", projectedPosition=" + projectedPosition + ", geographicPosition=" + geographicPosition + "]";
+        return "Position [valid=" + valid + ", projectedPosition=" + projectedPosition + ", geographicPosition=" + getGeographicPosition() + "]";
     }
 }
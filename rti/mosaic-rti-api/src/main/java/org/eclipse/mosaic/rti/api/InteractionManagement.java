@@ -62,4 +62,27 @@ public interface InteractionManagement {
      *                    describing its type and optional data.
      */
     void publishInteraction(Interaction interaction) throws IllegalValueException, InternalFederateException;
+
+    /**
+     * Blocks until all published interactions have been delivered to their subscribers. This is called by the
+     * time management after each time advance, before the next event is scheduled. Implementations which
+     * deliver interactions synchronously within {@link #publishInteraction(Interaction)} don't need to wait.
+     *
+     * @throws InternalFederateException if an error occurred during the delivery of an interaction
+     */
+    default void awaitDelivery() throws InternalFederateException {
+        // nop
+    }
+
+    /**
+     * Returns the smallest time stamp of all published interactions which have not been delivered to all their
+     * subscribers yet. A subscriber may still publish further interactions or request time advances in reaction
+     * to such an interaction. Implementations which deliver interactions synchronously within
+     * {@link #publishInteraction(Interaction)} have no pending deliveries.
+     *
+     * @return the smallest time stamp of all interactions pending for delivery, or {@link Long#MAX_VALUE} if there are none
+     */
+    default long getEarliestPendingDeliveryTime() {
+        return Long.MAX_VALUE;
+    }
 }
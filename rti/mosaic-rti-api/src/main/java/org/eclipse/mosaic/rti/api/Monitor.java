@@ -31,6 +31,30 @@ public interface Monitor {
         // nop
     }
 
+    /**
+     * Called after an interaction has been delivered to a subscribed federate, if interactions
+     * are delivered in parallel.
+     *
+     * @param id          the id of the receiving federate
+     * @param interaction the delivered interaction
+     * @param latencyInNs the wall clock time between publishing the interaction and completing
+     *                    its delivery to the federate
+     */
+    default void onDeliverInteraction(String id, Interaction interaction, long latencyInNs) {
+        // nop
+    }
+
+    /**
+     * Called by a federate after it has processed a simulation time step.
+     *
+     * @param id           the id of the federate
+     * @param time         the simulation time of the processed step
+     * @param durationInNs the wall clock time the federate required to process the step
+     */
+    default void onProcessTimeStep(String id, long time, long durationInNs) {
+        // nop
+    }
+
     default void onBeginSimulation(FederationManagement federationManagement, TimeManagement timeManagement, int numberOfThreads) {
         // nop
     }
@@ -50,4 +74,15 @@ public interface Monitor {
     default void onScheduling(int id, FederateEvent event) {
         // nop
     }
+
+    /**
+     * Called after all events of a scheduling block have been processed.
+     *
+     * @param id             the id of the scheduling block
+     * @param numberOfEvents the number of events which have been processed concurrently in this block
+     * @param durationInMs   the wall clock time required to process all events of this block
+     */
+    default void onEndScheduling(int id, int numberOfEvents, long durationInMs) {
+        // nop
+    }
 }
@@ -55,12 +55,41 @@ public interface RtiAmbassador extends Interactable {
      */
     void requestAdvanceTime(long time, long lookahead, byte priority) throws IllegalValueException;
 
+    /**
+     * Requests advancing the simulation time of the federate to multiple points in time at once. This
+     * should be preferred over several calls of {@link #requestAdvanceTime(long, long, byte)} by federate
+     * ambassadors which create many time advance requests while processing a single interaction or time advance.
+     *
+     * @param times     array holding the requested simulation times in [ns], may contain duplicates
+     * @param length    the number of valid entries in {@code times}, starting at index 0
+     * @param lookahead the time length in [ns] with which the federate guarantees to not request a time advance again
+     * @param priority  the priority of the events
+     * @throws IllegalValueException if an invalid time value has been passed
+     */
+    default void requestAdvanceTimes(long[] times, int length, long lookahead, byte priority) throws IllegalValueException {
+        for (int i = 0; i < length; i++) {
+            requestAdvanceTime(times[i], lookahead, priority);
+        }
+    }
+
     /**
      * Provides the timestamp of them next scheduled event. [ns]
      * @throws IllegalValueException if
      */
     long getNextEventTimestamp() throws IllegalValueException;
 
+    /**
+     * Provides the lower bound on the time stamp (LBTS) of all interactions which this federate may still receive
+     * from other federates. It is guaranteed that no interaction with a smaller time stamp will be received
+     * anymore, apart from the interactions which have been delivered already. [ns]
+     * By default, no such guarantee is given and {@link Long#MIN_VALUE} is returned.
+     *
+     * @return the lower bound on the time stamp of interactions which may still be received
+     */
+    default long getLowerBoundTimeStamp() {
+        return Long.MIN_VALUE;
+    }
+
     /**
      * Provides the list of the subscribed interactions.
      *
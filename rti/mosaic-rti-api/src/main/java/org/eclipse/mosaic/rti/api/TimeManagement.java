@@ -53,6 +53,24 @@ public interface TimeManagement {
      */
     void requestAdvanceTime(String federateId, long time, long lookahead, byte priority) throws IllegalValueException;
 
+    /**
+     * Stores schedulable events representing all requested times at once.
+     * This method is to be called only by an <code>RtiAmbassador</code> instance!
+     *
+     * @param federateId unique string identifying the calling federate
+     * @param times      array holding the requested times, may contain duplicates
+     * @param length     the number of valid entries in {@code times}, starting at index 0
+     * @param lookahead  time after the requested time in which the calling federate
+     *                   will not schedule any further events or send any interactions
+     * @param priority   priority of the events
+     * @throws IllegalValueException an exception if a parameter has an invalid value
+     */
+    default void requestAdvanceTimes(String federateId, long[] times, int length, long lookahead, byte priority) throws IllegalValueException {
+        for (int i = 0; i < length; i++) {
+            requestAdvanceTime(federateId, times[i], lookahead, priority);
+        }
+    }
+
     /**
      * The method is called once after the simulation has reached the end time.
      * It calls the finishSimulation method of all joined federates.
@@ -107,4 +125,14 @@ public interface TimeManagement {
      * @throws IllegalValueException a parameter has an invalid value
      */
     long getNextEventTimestamp() throws IllegalValueException;
+
+    /**
+     * Returns the lower bound on the time stamp (LBTS) of all interactions which the given federate may still
+     * receive from other federates, considering the requested times and lookahead values of all pending and
+     * currently processed events of other federates, as well as all interactions which are not delivered yet.
+     *
+     * @param federateId unique string identifying the federate which will receive the interactions
+     * @return the lower bound on the time stamp of interactions which may still be received
+     */
+    long getLowerBoundTimeStamp(String federateId);
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api.interaction;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import java.util.Arrays;
+
+/**
+ * Dispatches interactions to handlers registered for their type. Handlers are stored in an array
+ * indexed by {@link InteractionTypes#indexOf(Interaction)}, so that federate ambassadors don't need to compare
+ * the type id of each received interaction in their {@code processInteraction} methods.
+ * Handlers should be registered before interactions are dispatched, e.g. in the constructor of the ambassador.
+ * <p>
+ * An interaction is passed to a handler only if its type id equals the type id the handler has been registered for.
+ * Subclasses of an interaction are therefore only dispatched to the handler of their parent, if they override
+ * {@link Interaction#getTypeId()} to return the type id of their parent, as {@code ApplicationInteraction} does.
+ * Otherwise, a handler must be registered for their own type.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ *     dispatcher = new InteractionDispatcher()
+ *         .register(VehicleUpdates.class, this::process)
+ *         .register(VehicleRegistration.class, this::process);
+ *     ...
+ *     if (!dispatcher.dispatch(interaction)) {
+ *         log.warn("Unknown interaction received: {}", interaction.getTypeId());
+ *     }
+ * </pre>
+ * </p>
+ */
+public class InteractionDispatcher {
+
+    /**
+     * Handles an interaction of a specific type.
+     *
+     * @param <T> the type of the interaction
+     */
+    @FunctionalInterface
+    public interface Handler<T extends Interaction> {
+
+        void handle(T interaction) throws InternalFederateException;
+    }
+
+    private Handler<?>[] handlers = new Handler<?>[0];
+
+    /**
+     * Registers the handler for all interactions of the given type. An already registered
+     * handler for this type is replaced.
+     *
+     * @param interactionClass the class of the interaction to handle
+     * @param handler          the handler to call for interactions of the given type
+     * @param <T>              the type of the interaction
+     * @return this dispatcher for chaining
+     */
+    public <T extends Interaction> InteractionDispatcher register(Class<T> interactionClass, Handler<? super T> handler) {
+        return register(InteractionTypes.indexOf(interactionClass), handler);
+    }
+
+    /**
+     * Registers the handler for all interactions with the given type id, e.g. for interactions whose class
+     * is not known at compile time. An already registered handler for this type is replaced.
+     *
+     * @param typeId  the type id of the interactions to handle
+     * @param handler the handler to call for interactions of the given type
+     * @return this dispatcher for chaining
+     */
+    public InteractionDispatcher register(String typeId, Handler<Interaction> handler) {
+        return register(InteractionTypes.indexOf(typeId), handler);
+    }
+
+    private InteractionDispatcher register(int index, Handler<?> handler) {
+        if (index >= handlers.length) {
+            handlers = Arrays.copyOf(handlers, Math.max(index + 1, InteractionTypes.size()));
+        }
+        handlers[index] = handler;
+        return this;
+    }
+
+    /**
+     * Returns {@code true}, if a handler is registered for the type of the given interaction.
+     *
+     * @param interaction the interaction to check
+     * @return {@code true}, if the interaction would be handled by {@link #dispatch(Interaction)}
+     */
+    public boolean canHandle(Interaction interaction) {
+        return getHandler(InteractionTypes.indexOf(interaction)) != null;
+    }
+
+    /**
+     * Passes the given interaction to the handler registered for its type.
+     *
+     * @param interaction the interaction to dispatch
+     * @return {@code true}, if a handler was registered for the interaction, otherwise {@code false}
+     * @throws InternalFederateException if thrown by the handler
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean dispatch(Interaction interaction) throws InternalFederateException {
+        final Handler handler = getHandler(InteractionTypes.indexOf(interaction));
+        if (handler == null) {
+            return false;
+        }
+        handler.handle(interaction);
+        return true;
+    }
+
+    private Handler<?> getHandler(int index) {
+        final Handler<?>[] handlers = this.handlers;
+        return index < handlers.length ? handlers[index] : null;
+    }
+}
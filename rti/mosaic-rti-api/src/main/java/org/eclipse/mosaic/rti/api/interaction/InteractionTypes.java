@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api.interaction;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns a small, dense integer index to each interaction type id. The index is resolved only once per
+ * interaction class and cached afterwards, which allows dispatching interactions to subscribers or handlers
+ * by a simple array lookup instead of comparing type id strings.
+ * <p>
+ * Indices are valid only within the running JVM and must therefore not be serialized or exchanged with
+ * other processes.
+ * </p>
+ */
+public final class InteractionTypes {
+
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private static final Map<String, Integer> INDEX_BY_TYPE_ID = new ConcurrentHashMap<>();
+
+    /**
+     * Caches the index of each interaction class, or {@code -1} if the class overrides
+     * {@link Interaction#getTypeId()} and thus needs to be resolved per instance.
+     */
+    private static final ClassValue<Integer> INDEX_BY_CLASS = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            if (!Interaction.class.isAssignableFrom(type) || overridesTypeId(type)) {
+                return -1;
+            }
+            return indexOf(Interaction.createTypeIdentifier(type.asSubclass(Interaction.class)));
+        }
+    };
+
+    private InteractionTypes() {
+        // static methods only
+    }
+
+    /**
+     * Returns the index of the given interaction type id. If the type id is not known yet, a new index is assigned.
+     *
+     * @param typeId the type id of the interaction
+     * @return the index of the type id, starting at {@code 0}
+     */
+    public static int indexOf(String typeId) {
+        return INDEX_BY_TYPE_ID.computeIfAbsent(typeId, k -> NEXT_INDEX.getAndIncrement());
+    }
+
+    /**
+     * Returns the index of the type id of the given interaction class.
+     *
+     * @param interactionClass the class extending from {@link Interaction}
+     * @return the index of the type id of the class, starting at {@code 0}
+     */
+    public static int indexOf(Class<? extends Interaction> interactionClass) {
+        final int index = INDEX_BY_CLASS.get(interactionClass);
+        return index >= 0 ? index : indexOf(Interaction.createTypeIdentifier(interactionClass));
+    }
+
+    /**
+     * Returns the index of the type id of the given interaction.
+     *
+     * @param interaction the interaction
+     * @return the index of the type id of the interaction, starting at {@code 0}
+     */
+    public static int indexOf(Interaction interaction) {
+        final int index = INDEX_BY_CLASS.get(interaction.getClass());
+        return index >= 0 ? index : indexOf(interaction.getTypeId());
+    }
+
+    /**
+     * Returns the number of interaction types an index has been assigned to so far.
+     *
+     * @return the number of known interaction types
+     */
+    public static int size() {
+        return NEXT_INDEX.get();
+    }
+
+    private static boolean overridesTypeId(Class<?> type) {
+        try {
+            return type.getMethod("getTypeId").getDeclaringClass() != Interaction.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api.time;
+
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+
+import java.util.Arrays;
+
+/**
+ * Collects time advance requests of a federate ambassador and forwards them to the
+ * {@link RtiAmbassador} as one batch, containing each distinct time stamp only once.
+ * Requests are collected between {@link #begin()} and the matching {@link #end(RtiAmbassador)} call,
+ * which may be nested. Outside of such a block, requests are forwarded immediately. If the processing
+ * fails, the block is closed with {@link #discard()} instead, so that the original exception is not masked
+ * by an exception thrown while forwarding the requests.
+ * <p>
+ * Usage:
+ * <pre>
+ *     timeRequests.begin();
+ *     try {
+ *         // process interaction, calling timeRequests.request(rti, time) for each scheduled event
+ *     } catch (Exception e) {
+ *         timeRequests.discard();
+ *         throw e;
+ *     }
+ *     timeRequests.end(rti);
+ * </pre>
+ * </p>
+ */
+public class TimeAdvanceRequestBatch {
+
+    private final long lookahead;
+    private final byte priority;
+
+    private long[] times = new long[16];
+    private int size = 0;
+    private int depth = 0;
+
+    /**
+     * Creates a new batch whose requests are forwarded with the given lookahead and priority.
+     *
+     * @param lookahead the lookahead of the requests
+     * @param priority  the priority of the requests
+     */
+    public TimeAdvanceRequestBatch(long lookahead, byte priority) {
+        this.lookahead = lookahead;
+        this.priority = priority;
+    }
+
+    /**
+     * Starts collecting time advance requests.
+     */
+    public synchronized void begin() {
+        depth++;
+    }
+
+    /**
+     * Requests a time advance. If called between {@link #begin()} and {@link #end(RtiAmbassador)},
+     * the request is buffered, otherwise it is forwarded to the given {@link RtiAmbassador} immediately.
+     *
+     * @param rti  the {@link RtiAmbassador} to forward the request to
+     * @param time the requested time
+     * @throws IllegalValueException if the request is forwarded immediately and the time is invalid
+     */
+    public synchronized void request(RtiAmbassador rti, long time) throws IllegalValueException {
+        if (depth == 0) {
+            rti.requestAdvanceTime(time, lookahead, priority);
+            return;
+        }
+        if (size > 0 && times[size - 1] == time) {
+            return;
+        }
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+        }
+        times[size++] = time;
+    }
+
+    /**
+     * Stops collecting time advance requests. If this ends the outermost block, all collected
+     * distinct requests are forwarded to the given {@link RtiAmbassador}.
+     *
+     * @param rti the {@link RtiAmbassador} to forward the requests to
+     * @throws IllegalValueException if any of the requested times is invalid
+     */
+    public synchronized void end(RtiAmbassador rti) throws IllegalValueException {
+        if (depth == 0) {
+            throw new IllegalStateException("end() called without matching begin()");
+        }
+        if (--depth > 0 || size == 0) {
+            return;
+        }
+        final int distinct = sortDistinct();
+        size = 0;
+        rti.requestAdvanceTimes(times, distinct, lookahead, priority);
+    }
+
+    /**
+     * Stops collecting time advance requests without forwarding them. If this ends the outermost block,
+     * all collected requests are dropped. Used if the processing which created the requests has failed.
+     */
+    public synchronized void discard() {
+        if (depth == 0) {
+            throw new IllegalStateException("discard() called without matching begin()");
+        }
+        if (--depth == 0) {
+            size = 0;
+        }
+    }
+
+    private int sortDistinct() {
+        Arrays.sort(times, 0, size);
+        int distinct = 1;
+        for (int i = 1; i < size; i++) {
+            if (times[i] != times[distinct - 1]) {
+                times[distinct++] = times[i];
+            }
+        }
+        return distinct;
+    }
+}
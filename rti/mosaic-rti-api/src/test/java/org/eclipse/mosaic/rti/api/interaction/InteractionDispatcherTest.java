@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api.interaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InteractionDispatcherTest {
+
+    @Test
+    public void typeIndexIsStable() {
+        final int indexA = InteractionTypes.indexOf(InteractionA.class);
+
+        assertEquals(indexA, InteractionTypes.indexOf(new InteractionA()));
+        assertEquals(indexA, InteractionTypes.indexOf(Interaction.createTypeIdentifier(InteractionA.class)));
+        assertNotEquals(indexA, InteractionTypes.indexOf(InteractionB.class));
+        assertTrue(InteractionTypes.size() > indexA);
+    }
+
+    @Test
+    public void typeIndexOfOverriddenTypeId() {
+        assertEquals(InteractionTypes.indexOf("custom-a"), InteractionTypes.indexOf(new CustomTypeInteraction("custom-a")));
+        assertEquals(InteractionTypes.indexOf("custom-b"), InteractionTypes.indexOf(new CustomTypeInteraction("custom-b")));
+        assertNotEquals(InteractionTypes.indexOf("custom-a"), InteractionTypes.indexOf("custom-b"));
+    }
+
+    @Test
+    public void dispatchToRegisteredHandler() throws Exception {
+        final List<Interaction> handledA = new ArrayList<>();
+        final List<Interaction> handledB = new ArrayList<>();
+
+        InteractionDispatcher dispatcher = new InteractionDispatcher()
+                .register(InteractionA.class, handledA::add)
+                .register(InteractionB.class, handledB::add);
+
+        InteractionA a = new InteractionA();
+        InteractionB b = new InteractionB();
+
+        assertTrue(dispatcher.canHandle(a));
+        assertTrue(dispatcher.dispatch(a));
+        assertTrue(dispatcher.dispatch(b));
+        assertFalse(dispatcher.canHandle(new InteractionC()));
+        assertFalse(dispatcher.dispatch(new InteractionC()));
+
+        assertEquals(1, handledA.size());
+        assertSame(a, handledA.get(0));
+        assertEquals(1, handledB.size());
+        assertSame(b, handledB.get(0));
+    }
+
+    @Test
+    public void replaceHandler() throws Exception {
+        final List<Interaction> handled = new ArrayList<>();
+
+        InteractionDispatcher dispatcher = new InteractionDispatcher()
+                .register(InteractionA.class, i -> {
+                    throw new IllegalStateException("replaced handler must not be called");
+                })
+                .register(InteractionA.class, handled::add);
+
+        dispatcher.dispatch(new InteractionA());
+        assertEquals(1, handled.size());
+    }
+
+    @Test
+    public void dispatchByTypeId() throws Exception {
+        final List<Interaction> handled = new ArrayList<>();
+
+        InteractionDispatcher dispatcher = new InteractionDispatcher()
+                .register("custom-a", handled::add);
+
+        assertTrue(dispatcher.dispatch(new CustomTypeInteraction("custom-a")));
+        assertFalse(dispatcher.dispatch(new CustomTypeInteraction("custom-b")));
+        assertEquals(1, handled.size());
+    }
+
+    @Test
+    public void dispatchOnlyExactTypeId() throws Exception {
+        final List<Interaction> handled = new ArrayList<>();
+
+        InteractionDispatcher dispatcher = new InteractionDispatcher()
+                .register(InteractionA.class, handled::add);
+
+        // the type id "InteractionAExtended" starts with "InteractionA", but is not equal
+        assertFalse(dispatcher.dispatch(new InteractionAExtended()));
+        assertTrue(handled.isEmpty());
+    }
+
+    private static class InteractionA extends Interaction {
+
+        private static final long serialVersionUID = 1L;
+
+        InteractionA() {
+            super(0);
+        }
+    }
+
+    private static class InteractionAExtended extends InteractionA {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static class InteractionB extends Interaction {
+
+        private static final long serialVersionUID = 1L;
+
+        InteractionB() {
+            super(0);
+        }
+    }
+
+    private static class InteractionC extends Interaction {
+
+        private static final long serialVersionUID = 1L;
+
+        InteractionC() {
+            super(0);
+        }
+    }
+
+    private static class CustomTypeInteraction extends Interaction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String typeId;
+
+        CustomTypeInteraction(String typeId) {
+            super(0);
+            this.typeId = typeId;
+        }
+
+        @Override
+        public String getTypeId() {
+            return typeId;
+        }
+    }
+}
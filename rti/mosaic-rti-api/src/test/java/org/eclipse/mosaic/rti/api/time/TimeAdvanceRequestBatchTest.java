@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api.time;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class TimeAdvanceRequestBatchTest {
+
+    private RtiAmbassador rtiMock;
+
+    private long[] requestedTimes;
+
+    @Before
+    public void setup() throws IllegalValueException {
+        rtiMock = mock(RtiAmbassador.class);
+        doAnswer(invocation -> {
+            requestedTimes = Arrays.copyOf((long[]) invocation.getArgument(0), (int) invocation.getArgument(1));
+            return null;
+        }).when(rtiMock).requestAdvanceTimes(any(long[].class), anyInt(), anyLong(), anyByte());
+    }
+
+    @Test
+    public void requestOutsideOfBatchIsForwardedImmediately() throws IllegalValueException {
+        TimeAdvanceRequestBatch batch = new TimeAdvanceRequestBatch(5, (byte) 3);
+
+        batch.request(rtiMock, 10);
+
+        verify(rtiMock).requestAdvanceTime(eq(10L), eq(5L), eq((byte) 3));
+        verify(rtiMock, never()).requestAdvanceTimes(any(long[].class), anyInt(), anyLong(), anyByte());
+    }
+
+    @Test
+    public void requestsAreSortedAndDistinct() throws IllegalValueException {
+        TimeAdvanceRequestBatch batch = new TimeAdvanceRequestBatch(5, (byte) 3);
+
+        batch.begin();
+        for (long time : new long[]{30, 10, 10, 20, 30, 10, 40}) {
+            batch.request(rtiMock, time);
+        }
+        verify(rtiMock, never()).requestAdvanceTimes(any(long[].class), anyInt(), anyLong(), anyByte());
+        batch.end(rtiMock);
+
+        verify(rtiMock, times(1)).requestAdvanceTimes(any(long[].class), anyInt(), eq(5L), eq((byte) 3));
+        verify(rtiMock, never()).requestAdvanceTime(anyLong(), anyLong(), anyByte());
+        assertArrayEquals(new long[]{10, 20, 30, 40}, requestedTimes);
+    }
+
+    @Test
+    public void nestedBatchIsForwardedOnOutermostEnd() throws IllegalValueException {
+        TimeAdvanceRequestBatch batch = new TimeAdvanceRequestBatch(0, (byte) 0);
+
+        batch.begin();
+        batch.request(rtiMock, 20);
+        batch.begin();
+        batch.request(rtiMock, 10);
+        batch.end(rtiMock);
+        verify(rtiMock, never()).requestAdvanceTimes(any(long[].class), anyInt(), anyLong(), anyByte());
+        batch.end(rtiMock);
+
+        assertArrayEquals(new long[]{10, 20}, requestedTimes);
+
+        // the buffer is cleared after forwarding
+        batch.begin();
+        batch.end(rtiMock);
+        verify(rtiMock, times(1)).requestAdvanceTimes(any(long[].class), anyInt(), anyLong(), anyByte());
+    }
+
+    @Test
+    public void bufferGrowsBeyondInitialCapacity() throws IllegalValueException {
+        TimeAdvanceRequestBatch batch = new TimeAdvanceRequestBatch(0, (byte) 0);
+
+        batch.begin();
+        for (long time = 100; time > 0; time--) {
+            batch.request(rtiMock, time);
+        }
+        batch.end(rtiMock);
+
+        long[] expected = new long[100];
+        Arrays.setAll(expected, i -> i + 1);
+        assertArrayEquals(expected, requestedTimes);
+    }
+
+    @Test
+    public void discardDropsCollectedRequests() throws IllegalValueException {
+        TimeAdvanceRequestBatch batch = new TimeAdvanceRequestBatch(0, (byte) 0);
+
+        batch.begin();
+        batch.request(rtiMock, 20);
+        batch.begin();
+        batch.request(rtiMock, 10);
+        batch.discard();
+        batch.discard();
+        verify(rtiMock, never()).requestAdvanceTimes(any(long[].class), anyInt(), anyLong(), anyByte());
+
+        // the next batch does not contain the discarded requests
+        batch.begin();
+        batch.request(rtiMock, 30);
+        batch.end(rtiMock);
+        assertArrayEquals(new long[]{30}, requestedTimes);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endWithoutBegin() throws IllegalValueException {
+        new TimeAdvanceRequestBatch(0, (byte) 0).end(rtiMock);
+    }
+}
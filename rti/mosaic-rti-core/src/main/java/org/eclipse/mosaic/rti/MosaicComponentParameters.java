@@ -15,6 +15,10 @@
 
 package org.eclipse.mosaic.rti;
 
+import org.eclipse.mosaic.rti.interaction.InteractionManagementType;
+import org.eclipse.mosaic.rti.time.ThreadPoolType;
+import org.eclipse.mosaic.rti.time.TimeManagementType;
+
 public class MosaicComponentParameters {
 
     /**
@@ -42,6 +46,26 @@ public class MosaicComponentParameters {
      */
     private int numberOfThreads = 1;
 
+    /**
+     * Defines the thread pool implementation to use if more than one thread is configured.
+     */
+    private ThreadPoolType threadPoolType = ThreadPoolType.BUSY_WAITING;
+
+    /**
+     * Defines the time management implementation to use.
+     */
+    private TimeManagementType timeManagementType = TimeManagementType.DEFAULT;
+
+    /**
+     * Defines the interaction management implementation to use.
+     */
+    private InteractionManagementType interactionManagementType = InteractionManagementType.DEFAULT;
+
+    /**
+     * Defines the maximum number of interactions pending for a single federate, if interactions are delivered in parallel.
+     */
+    private int interactionQueueCapacity = 1024;
+
     public String getFederationId() {
         return federationId;
     }
@@ -87,4 +111,40 @@ public class MosaicComponentParameters {
         return this;
     }
 
+    public ThreadPoolType getThreadPoolType() {
+        return threadPoolType;
+    }
+
+    public MosaicComponentParameters setThreadPoolType(ThreadPoolType threadPoolType) {
+        this.threadPoolType = threadPoolType;
+        return this;
+    }
+
+    public TimeManagementType getTimeManagementType() {
+        return timeManagementType;
+    }
+
+    public MosaicComponentParameters setTimeManagementType(TimeManagementType timeManagementType) {
+        this.timeManagementType = timeManagementType;
+        return this;
+    }
+
+    public InteractionManagementType getInteractionManagementType() {
+        return interactionManagementType;
+    }
+
+    public MosaicComponentParameters setInteractionManagementType(InteractionManagementType interactionManagementType) {
+        this.interactionManagementType = interactionManagementType;
+        return this;
+    }
+
+    public int getInteractionQueueCapacity() {
+        return interactionQueueCapacity;
+    }
+
+    public MosaicComponentParameters setInteractionQueueCapacity(int interactionQueueCapacity) {
+        this.interactionQueueCapacity = interactionQueueCapacity;
+        return this;
+    }
+
 }
@@ -25,10 +25,14 @@ import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.TimeManagement;
 import org.eclipse.mosaic.rti.federation.DistributedFederationManagement;
 import org.eclipse.mosaic.rti.federation.LocalFederationManagement;
+import org.eclipse.mosaic.rti.interaction.InteractionManagementType;
+import org.eclipse.mosaic.rti.interaction.ParallelInteractionManagement;
 import org.eclipse.mosaic.rti.interaction.TypeBasedInteractionManagement;
 import org.eclipse.mosaic.rti.monitor.ActivityLoggingMonitor;
+import org.eclipse.mosaic.rti.time.ConservativeTimeManagement;
 import org.eclipse.mosaic.rti.time.MultiThreadedTimeManagement;
 import org.eclipse.mosaic.rti.time.SequentialTimeManagement;
+import org.eclipse.mosaic.rti.time.TimeManagementType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,7 +78,9 @@ public class MosaicComponentProvider implements ComponentProvider {
     }
 
     protected TimeManagement createTimeManagement(MosaicComponentParameters componentParameters) {
-        if (componentParameters.getNumberOfThreads() > 1) {
+        if (componentParameters.getTimeManagementType() == TimeManagementType.CONSERVATIVE) {
+            return new ConservativeTimeManagement(this, componentParameters);
+        } else if (componentParameters.getNumberOfThreads() > 1) {
             return new MultiThreadedTimeManagement(this, componentParameters);
         } else {
             return new SequentialTimeManagement(this, componentParameters);
@@ -82,6 +88,9 @@ public class MosaicComponentProvider implements ComponentProvider {
     }
 
     protected InteractionManagement createInteractionManagement(MosaicComponentParameters componentParameters) {
+        if (componentParameters.getInteractionManagementType() == InteractionManagementType.PARALLEL) {
+            return new ParallelInteractionManagement(this, componentParameters.getInteractionQueueCapacity());
+        }
         return new TypeBasedInteractionManagement(this);
     }
 
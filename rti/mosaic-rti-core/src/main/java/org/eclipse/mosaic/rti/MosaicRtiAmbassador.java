@@ -53,6 +53,11 @@ public class MosaicRtiAmbassador implements RtiAmbassador {
         componentProvider.getTimeManagement().requestAdvanceTime(federateId, time, lookahead, priority);
     }
 
+    @Override
+    public synchronized void requestAdvanceTimes(long[] times, int length, long lookahead, byte priority) throws IllegalValueException {
+        componentProvider.getTimeManagement().requestAdvanceTimes(federateId, times, length, lookahead, priority);
+    }
+
     @Override
     public synchronized void triggerInteraction(Interaction interaction) throws IllegalValueException, InternalFederateException {
         // Attach sender information to interaction
@@ -65,6 +70,11 @@ public class MosaicRtiAmbassador implements RtiAmbassador {
         return componentProvider.getTimeManagement().getNextEventTimestamp();
     }
 
+    @Override
+    public synchronized long getLowerBoundTimeStamp() {
+        return componentProvider.getTimeManagement().getLowerBoundTimeStamp(federateId);
+    }
+
     @Override
     public synchronized ImmutableCollection<String> getSubscribedInteractions() {
         return componentProvider.getInteractionManagement().getSubscribedInteractions(federateId);
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.interaction;
+
+/**
+ * Available {@link org.eclipse.mosaic.rti.api.InteractionManagement} implementations.
+ */
+public enum InteractionManagementType {
+
+    /**
+     * Uses the {@link TypeBasedInteractionManagement}, which delivers each interaction to all
+     * subscribed federates sequentially on the thread of the publishing federate.
+     */
+    DEFAULT,
+
+    /**
+     * Uses the {@link ParallelInteractionManagement}, which delivers interactions to different
+     * subscribed federates concurrently.
+     */
+    PARALLEL
+}
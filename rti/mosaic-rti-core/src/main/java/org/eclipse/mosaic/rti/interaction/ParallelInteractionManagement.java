@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.interaction;
+
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InteractionManagement;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This implementation of {@link InteractionManagement} delivers published interactions to the subscribed
+ * federates asynchronously, so that different subscribers receive an interaction concurrently, while the
+ * publishing federate continues its time advance.
+ * <ul>
+ *     <li>Each subscriber has its own delivery lane, which delivers interactions one after another in the
+ *     order they were published. Time constrained federates queue received interactions as before.</li>
+ *     <li>Federates which are not time constrained process interactions immediately when receiving them.
+ *     Deliveries to those federates are synchronized with their time advance.</li>
+ *     <li>Each lane holds a limited number of pending interactions. If a lane is full, the publisher waits until
+ *     the subscriber catches up (back-pressure). A publisher which holds the monitor of a federate that is not
+ *     time constrained (e.g. while advancing its time or processing a delivered interaction) could block
+ *     deliveries to this federate and is therefore never held back. Instead, an interaction published by such
+ *     a federate to a full lane is rejected and the error is reported by {@link #awaitDelivery()}.</li>
+ *     <li>The time management waits for all pending deliveries via {@link #awaitDelivery()}
+ *     before scheduling the next event.</li>
+ * </ul>
+ */
+public class ParallelInteractionManagement extends TypeBasedInteractionManagement {
+
+    private final static Logger LOG = LoggerFactory.getLogger(ParallelInteractionManagement.class);
+
+    private final int queueCapacity;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "InteractionDelivery");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<FederateAmbassador, DeliveryLane> lanes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pendingDeliveries = new AtomicInteger();
+
+    private final Object deliveryCompleted = new Object();
+
+    private volatile InternalFederateException lastException;
+
+    /**
+     * Creates a new {@link ParallelInteractionManagement}.
+     *
+     * @param federation    reference to the {@link ComponentProvider} to access simulation components
+     * @param queueCapacity the maximum number of interactions which may be pending for a single subscriber
+     */
+    public ParallelInteractionManagement(ComponentProvider federation, int queueCapacity) {
+        super(federation);
+        Validate.isTrue(queueCapacity > 0, "The queue capacity must be greater than zero.");
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    protected void deliverInteraction(FederateAmbassador ambassador, Interaction interaction) {
+        lanes.computeIfAbsent(ambassador, DeliveryLane::new).enqueue(interaction);
+    }
+
+    @Override
+    public void awaitDelivery() throws InternalFederateException {
+        synchronized (deliveryCompleted) {
+            while (pendingDeliveries.get() > 0) {
+                try {
+                    deliveryCompleted.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InternalFederateException("Interrupted while waiting for the delivery of interactions", e);
+                }
+            }
+        }
+        final InternalFederateException exception = lastException;
+        if (exception != null) {
+            lastException = null;
+            throw exception;
+        }
+    }
+
+    @Override
+    public long getEarliestPendingDeliveryTime() {
+        long earliest = Long.MAX_VALUE;
+        for (DeliveryLane lane : lanes.values()) {
+            for (PendingDelivery delivery : lane.queue) {
+                earliest = Math.min(earliest, delivery.interaction.getTime());
+            }
+        }
+        return earliest;
+    }
+
+    private void onDeliveryCompleted() {
+        if (pendingDeliveries.decrementAndGet() == 0) {
+            synchronized (deliveryCompleted) {
+                deliveryCompleted.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true}, if the current thread holds the monitor of any subscriber which is not time constrained.
+     * Deliveries to such a subscriber can't proceed until the monitor is released.
+     */
+    private boolean holdsLockOfImmediateSubscriber() {
+        for (DeliveryLane lane : lanes.values()) {
+            if (!lane.timeConstrained && Thread.holdsLock(lane.ambassador)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class PendingDelivery {
+
+        private final Interaction interaction;
+        private final long publishTime;
+
+        private PendingDelivery(Interaction interaction, long publishTime) {
+            this.interaction = interaction;
+            this.publishTime = publishTime;
+        }
+    }
+
+    /**
+     * Delivers interactions to a single subscriber in the order they were published.
+     * At most one task per lane is running on the executor at any time. An interaction is only removed
+     * from the queue once its delivery is completed, so that it is considered by {@link #getEarliestPendingDeliveryTime()}.
+     */
+    private class DeliveryLane implements Runnable {
+
+        private final FederateAmbassador ambassador;
+
+        private final boolean timeConstrained;
+
+        private final Queue<PendingDelivery> queue = new ConcurrentLinkedQueue<>();
+
+        private final Semaphore permits = new Semaphore(queueCapacity);
+
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private DeliveryLane(FederateAmbassador ambassador) {
+            this.ambassador = ambassador;
+            this.timeConstrained = ambassador.isTimeConstrained();
+        }
+
+        private void enqueue(Interaction interaction) {
+            final long publishTime = System.nanoTime();
+            if (!acquirePermit()) {
+                return;
+            }
+            pendingDeliveries.incrementAndGet();
+            queue.add(new PendingDelivery(interaction, publishTime));
+            schedule();
+        }
+
+        private boolean acquirePermit() {
+            if (permits.tryAcquire()) {
+                return true;
+            }
+            if (!timeConstrained && holdsLockOfImmediateSubscriber()) {
+                // waiting could block the delivery thread of this lane, or of any lane we would wait for
+                final String message = String.format(
+                        "Could not deliver interaction to %s, since %d interactions are pending for this federate. "
+                                + "Consider increasing the interactionQueueCapacity.", ambassador.getId(), queueCapacity
+                );
+                LOG.error(message);
+                lastException = new InternalFederateException(message);
+                return false;
+            }
+            try {
+                permits.acquire();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.error("Interrupted while waiting for the delivery of interactions to {}", ambassador.getId());
+                lastException = new InternalFederateException("Interrupted while waiting for the delivery of interactions", e);
+                return false;
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                PendingDelivery delivery;
+                while ((delivery = queue.peek()) != null) {
+                    deliver(delivery);
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // an interaction may have been added after the queue was found empty
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void deliver(PendingDelivery delivery) {
+            final Interaction interaction = delivery.interaction;
+            try {
+                federation.getMonitor().onReceiveInteraction(ambassador.getId(), interaction);
+                if (timeConstrained) {
+                    ambassador.receiveInteraction(interaction);
+                } else {
+                    // the interaction is processed immediately, which must not interfere with the time advance of the federate
+                    synchronized (ambassador) {
+                        ambassador.receiveInteraction(interaction);
+                    }
+                }
+                federation.getMonitor().onDeliverInteraction(ambassador.getId(), interaction, System.nanoTime() - delivery.publishTime);
+            } catch (InternalFederateException e) {
+                LOG.error("Error during interaction distribution", e);
+                lastException = e;
+            } catch (RuntimeException e) {
+                LOG.error("Error during interaction distribution", e);
+                lastException = new InternalFederateException(e);
+            } finally {
+                queue.poll();
+                permits.release();
+                onDeliveryCompleted();
+            }
+        }
+    }
+}
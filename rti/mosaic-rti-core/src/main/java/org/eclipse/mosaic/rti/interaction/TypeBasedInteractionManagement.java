@@ -20,6 +20,7 @@ import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InteractionManagement;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.interaction.InteractionTypes;
 import org.eclipse.mosaic.rti.api.parameters.InteractionDescriptor;
 
 import com.google.common.collect.ImmutableCollection;
@@ -46,6 +47,12 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
      */
     protected final Map<String, List<FederateAmbassador>> interactionAmbassadorMap = new HashMap<>();
 
+    /**
+     * Subscribed ambassadors sorted by priority, indexed by {@link InteractionTypes#indexOf(Interaction)}.
+     * Derived from {@link #interactionAmbassadorMap} whenever subscriptions change.
+     */
+    private volatile FederateAmbassador[][] subscribersByTypeIndex = new FederateAmbassador[0][];
+
     protected final ComponentProvider federation;
 
     public TypeBasedInteractionManagement(ComponentProvider federation) {
@@ -72,6 +79,7 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
         for (List<FederateAmbassador> ambassadorMessageMapping : interactionAmbassadorMap.values()) {
             Collections.sort(ambassadorMessageMapping);
         }
+        updateSubscribersByTypeIndex();
     }
 
     @Override
@@ -82,7 +90,20 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
                     interactionAmbassadorMap.get(intId).remove(federation.getFederationManagement().getAmbassador(federateId));
                 }
             }
+            updateSubscribersByTypeIndex();
+        }
+    }
+
+    private void updateSubscribersByTypeIndex() {
+        int length = 0;
+        for (String interactionId : interactionAmbassadorMap.keySet()) {
+            length = Math.max(length, InteractionTypes.indexOf(interactionId) + 1);
+        }
+        final FederateAmbassador[][] subscribers = new FederateAmbassador[length][];
+        for (Map.Entry<String, List<FederateAmbassador>> entry : interactionAmbassadorMap.entrySet()) {
+            subscribers[InteractionTypes.indexOf(entry.getKey())] = entry.getValue().toArray(new FederateAmbassador[0]);
         }
+        subscribersByTypeIndex = subscribers;
     }
 
     @Override
@@ -102,19 +123,32 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
     public void publishInteraction(Interaction interaction) throws InternalFederateException {
         federation.getMonitor().onInteraction(interaction);
 
-        List<FederateAmbassador> ambassadors = this.interactionAmbassadorMap.get(interaction.getTypeId());
-        if (ambassadors == null || ambassadors.isEmpty()) {
+        final FederateAmbassador[][] subscribers = this.subscribersByTypeIndex;
+        final int typeIndex = InteractionTypes.indexOf(interaction);
+        if (typeIndex >= subscribers.length || subscribers[typeIndex] == null) {
             return;
         }
+        final FederateAmbassador[] ambassadors = subscribers[typeIndex];
 
         for (FederateAmbassador ambassador : ambassadors) {
-            try {
-                federation.getMonitor().onReceiveInteraction(ambassador.getId(), interaction);
-                ambassador.receiveInteraction(interaction);
-            } catch (InternalFederateException e) {
-                LOG.error("Error during interaction distribution", e);
-                throw e;
-            }
+            deliverInteraction(ambassador, interaction);
+        }
+    }
+
+    /**
+     * Delivers the interaction to a single subscribed ambassador.
+     *
+     * @param ambassador  the subscribed ambassador
+     * @param interaction the interaction to deliver
+     * @throws InternalFederateException if the ambassador failed to receive the interaction
+     */
+    protected void deliverInteraction(FederateAmbassador ambassador, Interaction interaction) throws InternalFederateException {
+        try {
+            federation.getMonitor().onReceiveInteraction(ambassador.getId(), interaction);
+            ambassador.receiveInteraction(interaction);
+        } catch (InternalFederateException e) {
+            LOG.error("Error during interaction distribution", e);
+            throw e;
         }
     }
 }
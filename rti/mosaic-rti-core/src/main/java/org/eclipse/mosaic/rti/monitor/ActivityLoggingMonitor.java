@@ -45,6 +45,22 @@ public class ActivityLoggingMonitor implements Monitor {
 
     private final LinkedList<FederateEventDetails> eventList = new LinkedList<>();
 
+    /**
+     * Number of scheduling blocks and events executed within those, used to calculate the achieved parallelism.
+     */
+    private long schedulingBlocks = 0;
+    private long scheduledEvents = 0;
+
+    /**
+     * Number of delivered interactions, total and maximum delivery latency in ns per receiving federate.
+     */
+    private final Map<String, long[]> deliveryLatencies = new HashMap<>();
+
+    /**
+     * Number of steps, total and maximum processing time in ns per federate.
+     */
+    private final Map<String, long[]> stepDurations = new HashMap<>();
+
     public ActivityLoggingMonitor(Logger activityLogger) {
         statLog = activityLogger;
     }
@@ -140,6 +156,22 @@ public class ActivityLoggingMonitor implements Monitor {
                 String.format("%08X", interaction.hashCode()));
     }
 
+    @Override
+    public synchronized void onDeliverInteraction(String receiver, Interaction interaction, long latencyInNs) {
+        final long[] latencies = deliveryLatencies.computeIfAbsent(receiver, k -> new long[3]);
+        latencies[0]++;
+        latencies[1] += latencyInNs;
+        latencies[2] = Math.max(latencies[2], latencyInNs);
+    }
+
+    @Override
+    public synchronized void onProcessTimeStep(String id, long time, long durationInNs) {
+        final long[] durations = stepDurations.computeIfAbsent(id, k -> new long[3]);
+        durations[0]++;
+        durations[1] += durationInNs;
+        durations[2] = Math.max(durations[2], durationInNs);
+    }
+
     @Override
     public void onScheduling(int id, FederateEvent event) {
         statLog.info(
@@ -151,6 +183,17 @@ public class ActivityLoggingMonitor implements Monitor {
                 event.getLookahead());
     }
 
+    @Override
+    public void onEndScheduling(int id, int numberOfEvents, long duration) {
+        schedulingBlocks++;
+        scheduledEvents += numberOfEvents;
+        statLog.info(
+                "PRL;{};N:{};D:{}",
+                id,
+                numberOfEvents,
+                duration);
+    }
+
     private void printStatisticsInfo() {
         statLog.info("Simulation ended. Statistics:");
         // Calculate average event values
@@ -196,8 +239,29 @@ public class ActivityLoggingMonitor implements Monitor {
         statLog.info("Minimum event distance: {}", minDistance);
         statLog.info("Maximum event distance: {}", maxDistance);
         statLog.info("Average event distance: {}", avgDistance);
+        if (schedulingBlocks > 0) {
+            statLog.info("Average events per scheduling block: {}", scheduledEvents / (double) schedulingBlocks);
+        }
 
         // //////////////////////////////////////// Message passing information
+        statLog.info("Interaction Delivery:");
+        statLog.info("Federate;avgDeliveryLatencyNs;maxDeliveryLatencyNs;DeliveredInteractions");
+        synchronized (this) {
+            for (Entry<String, long[]> entry : deliveryLatencies.entrySet()) {
+                final long[] latencies = entry.getValue();
+                statLog.info("{};{};{};{}", entry.getKey(), latencies[1] / (double) latencies[0], latencies[2], latencies[0]);
+            }
+        }
+
+        statLog.info("Federate Steps:");
+        statLog.info("Federate;avgStepDurationNs;maxStepDurationNs;Steps");
+        synchronized (this) {
+            for (Entry<String, long[]> entry : stepDurations.entrySet()) {
+                final long[] durations = entry.getValue();
+                statLog.info("{};{};{};{}", entry.getKey(), durations[1] / (double) durations[0], durations[2], durations[0]);
+            }
+        }
+
         statLog.info("Message Counts (sent):");
         statLog.info("MessageType;MessageCount");
         for (Entry<String, Integer> msg : messageCounter.entrySet()) {
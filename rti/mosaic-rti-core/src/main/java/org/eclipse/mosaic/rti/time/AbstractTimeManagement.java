@@ -15,7 +15,6 @@
 
 package org.eclipse.mosaic.rti.time;
 
-import org.eclipse.mosaic.lib.util.EfficientPriorityQueue;
 import org.eclipse.mosaic.lib.util.PerformanceMonitor;
 import org.eclipse.mosaic.rti.ExternalWatchDog;
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
@@ -40,7 +39,8 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Observable;
-import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 
 /**
@@ -76,7 +76,13 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
      *     <li/> maybe it's enough to just reverse the compareTo logic
      * </ul>
      */
-    protected final Queue<FederateEvent> events;
+    protected final FederateEventCalendar events;
+
+    /**
+     * Events which have been taken from {@link #events} and are currently processed by their federates.
+     * Required to calculate the {@link #getLowerBoundTimeStamp(String) LBTS} of a federate.
+     */
+    protected final Set<FederateEvent> runningEvents = ConcurrentHashMap.newKeySet();
 
     protected final ComponentProvider federation;
 
@@ -96,7 +102,7 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
     protected AbstractTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
         this.progressLogger = LoggerFactory.getLogger("SimulationProgress");
         this.logger = LoggerFactory.getLogger(getClass());
-        this.events = new EfficientPriorityQueue<>();
+        this.events = new FederateEventCalendar();
         this.federation = federation;
         this.endTime = componentParameters.getEndTime();
     }
@@ -119,12 +125,20 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
                     federateId, time, this.time
             ));
         }
-        synchronized (this.events) {
-            FederateEvent e = new FederateEvent(federateId, time, lookahead, priority);
-            if (!this.events.contains(e)) {
-                this.events.add(e);
+        this.events.request(federateId, time, lookahead, priority);
+    }
+
+    @Override
+    public void requestAdvanceTimes(String federateId, long[] times, int length, long lookahead, byte priority) throws IllegalValueException {
+        for (int i = 0; i < length; i++) {
+            if (times[i] < this.time) {
+                throw new IllegalValueException(String.format(
+                        "The federate '%s' requested a time (%d) which is already in the past (current time is: %d)",
+                        federateId, times[i], this.time
+                ));
             }
         }
+        this.events.requestAll(federateId, times, length, lookahead, priority);
     }
 
     /**
@@ -148,10 +162,21 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
         for (FederateAmbassador fed : ambassadors) {
             fed.initialize(0, getEndTime());
         }
+        awaitInteractionDelivery();
 
         simStartRealtimeNs = System.nanoTime();
     }
 
+    /**
+     * Waits until all interactions published during the last time advance have been delivered, so that
+     * all time advance requests resulting from them are known before the next event is scheduled.
+     *
+     * @throws InternalFederateException if an error occurred during the delivery of an interaction
+     */
+    protected void awaitInteractionDelivery() throws InternalFederateException {
+        federation.getInteractionManagement().awaitDelivery();
+    }
+
     @Override
     public void finishSimulationRun(int statusCode) throws InternalFederateException {
         long durationMs = simStartRealtimeNs > 0
@@ -209,6 +234,37 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
         }
     }
 
+    /**
+     * The LBTS of a federate is bounded by the requested time plus lookahead of each pending or running event of any
+     * other federate, since a federate may publish interactions only when its time is advanced. Federates which are
+     * time constrained but not time regulating request their time advances with an infinite lookahead and are therefore
+     * not considered. Federates which are not time constrained (e.g. the application simulator) additionally
+     * process interactions immediately when receiving them. Their reactions are bounded by the time stamp of
+     * interactions which are not yet delivered.
+     */
+    @Override
+    public long getLowerBoundTimeStamp(String federateId) {
+        // read before the events, since a delivery requests its resulting time advances before it is completed
+        long lbts = federation.getInteractionManagement().getEarliestPendingDeliveryTime();
+        synchronized (this.events) {
+            for (FederateEvent event : this.events) {
+                lbts = Math.min(lbts, getLowerBoundTimeStamp(event, federateId));
+            }
+            for (FederateEvent event : this.runningEvents) {
+                lbts = Math.min(lbts, getLowerBoundTimeStamp(event, federateId));
+            }
+        }
+        return lbts;
+    }
+
+    private static long getLowerBoundTimeStamp(FederateEvent event, String federateId) {
+        if (federateId.equals(event.getFederateId())) {
+            return Long.MAX_VALUE;
+        }
+        final long result = event.getRequestedTime() + event.getLookahead();
+        return result < event.getRequestedTime() ? Long.MAX_VALUE : result;
+    }
+
     @Nonnull
     @Override
     public WatchDog startWatchDog(String simId, int maxIdleTime) {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread pool which lets its workers spin on the {@link ScheduledEvents} queue
+ * until new events are available. Workers do not yield their CPU between
+ * scheduling blocks.
+ */
+class BusyWaitingThreadPool extends ThreadPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BusyWaitingThreadPool.class);
+
+    private final Worker[] workers;
+    private boolean running = false;
+
+    private int activeCount = 0;
+
+    BusyWaitingThreadPool(ComponentProvider federation, ScheduledEvents queue, int numberOfThreads) {
+        super(federation, queue);
+        this.workers = new Worker[numberOfThreads];
+    }
+
+    @Override
+    void initialize() {
+        this.running = true;
+        for (int i = 0; i < this.workers.length; i++) {
+            this.workers[i] = new Worker(i + 1);
+            this.workers[i].start();
+        }
+    }
+
+    @Override
+    void shutdown() {
+        this.running = false;
+        for (Worker worker : workers) {
+            if (worker != null && worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (Exception e) {
+                    // nop
+                }
+            }
+        }
+    }
+
+    @Override
+    void schedule(FederateEvent event) {
+        this.queue.addEvent(event);
+    }
+
+    @Override
+    void awaitSchedulingBlock() {
+        synchronized (this.queue.isEmptyMutex) {
+            try {
+                if (isActive()) {
+                    this.queue.isEmptyMutex.wait();
+                }
+            } catch (InterruptedException ignored) {
+                // nop
+            }
+        }
+    }
+
+    private boolean isActive() {
+        synchronized (this.queue.isEmptyMutex) {
+            return this.activeCount > 0 || !this.queue.isEmpty();
+        }
+    }
+
+    @Override
+    int getThreadCount() {
+        return workers.length;
+    }
+
+    private class Worker extends Thread {
+
+        private Worker(int i) {
+            super(String.format("%04d", i));
+        }
+
+        @Override
+        public void run() {
+            FederateEvent ev;
+
+            while (true) {
+                synchronized (queue.accessMutex) {
+                    while (queue.isEmpty()) {
+                        if (!running) {
+                            return;
+                        }
+                    }
+                    synchronized (queue.isEmptyMutex) {
+                        ev = queue.getNextScheduledEvent();
+                        activeCount++;
+                    }
+                }
+
+                try {
+                    processEvent(ev);
+                } catch (RuntimeException e) {
+                    LOG.error("Could not execute task", e);
+                }
+                synchronized (queue.isEmptyMutex) {
+                    queue.setEventProcessed(ev);
+                    activeCount--;
+                    LOG.debug("active count: {}; isEmpty: {}", activeCount, queue.isEmpty());
+                    if (activeCount == 0 && queue.isEmpty()) {
+                        queue.isEmptyMutex.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Conservative parallel implementation of the {@link org.eclipse.mosaic.rti.api.TimeManagement} interface,
+ * following the idea of YAWNS/Chandy-Misra-Bryant. In each scheduling block, a lower bound on time stamp (LBTS)
+ * is calculated from the requested times and lookahead values of all federates with pending events. Each federate
+ * whose next event does not exceed the LBTS of all other pending events is advanced concurrently.
+ * <p>
+ * An event may be executed in parallel to an event of another federate, if
+ * <ul>
+ *     <li>the other federate can't create any event before this event, i.e. its requested time plus lookahead
+ *     lies strictly after the requested time of this event, or</li>
+ *     <li>both events are requested for the same time (requested time plus lookahead is equal), and both
+ *     federates share the same priority.</li>
+ * </ul>
+ * Events of the same time but different priorities are never executed in parallel, since the federate with
+ * the higher priority may publish interactions for this time (e.g. {@code VehicleUpdates}) which
+ * must be processed by the other federate first.
+ * In contrast to the {@link MultiThreadedTimeManagement}, events do not have to be at the head of the
+ * event queue to be scheduled in parallel.
+ * </p>
+ */
+public class ConservativeTimeManagement extends AbstractTimeManagement {
+
+    private static final AtomicInteger idCounter = new AtomicInteger();
+
+    private final ThreadPool threadPool;
+
+    private final ScheduledEvents scheduledEvents;
+
+    public ConservativeTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
+        super(federation, componentParameters);
+        this.scheduledEvents = new ScheduledEvents();
+        this.threadPool = ThreadPool.create(federation, componentParameters, scheduledEvents);
+    }
+
+    @Override
+    protected void prepareSimulationRun() throws IllegalValueException, InternalFederateException {
+        this.threadPool.initialize();
+        super.prepareSimulationRun();
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @throws InternalFederateException an exception inside of a joined federate occurs
+     * @throws IllegalValueException     a parameter has an invalid value
+     */
+    @Override
+    public void runSimulation() throws InternalFederateException, IllegalValueException {
+        federation.getMonitor().onBeginSimulation(
+                federation.getFederationManagement(),
+                this,
+                threadPool.getThreadCount()
+        );
+
+        this.prepareSimulationRun();
+
+        final PerformanceCalculator performanceCalculator = new PerformanceCalculator();
+        long currentRealtimeNs;
+
+        while (this.time <= getEndTime()) {
+            final List<FederateEvent> schedulingBlock = nextSchedulingBlock();
+            if (schedulingBlock.isEmpty() || schedulingBlock.get(0).getRequestedTime() > getEndTime()) {
+                this.logger.trace("No more events in event queue. Finishing simulation run.");
+                this.time = getEndTime();
+                break;
+            }
+            // the first event of a scheduling block has always the smallest requested time
+            this.time = schedulingBlock.get(0).getRequestedTime();
+
+            final int id = createEventId();
+            final long startTime = System.currentTimeMillis();
+            this.runningEvents.addAll(schedulingBlock);
+            if (schedulingBlock.size() == 1) {
+                advanceAmbassador(id, schedulingBlock.get(0));
+            } else {
+                for (FederateEvent event : schedulingBlock) {
+                    this.logger.trace("Parallel execution: {} time={} lookahead={}",
+                            event.getFederateId(), event.getRequestedTime(), event.getLookahead());
+                    federation.getMonitor().onScheduling(id, event);
+                    this.threadPool.schedule(event);
+                }
+                this.threadPool.awaitSchedulingBlock();
+            }
+            this.runningEvents.clear();
+            awaitInteractionDelivery();
+            federation.getMonitor().onEndScheduling(id, schedulingBlock.size(), System.currentTimeMillis() - startTime);
+
+            // check if an exception was thrown
+            if (this.threadPool.hasException()) {
+                throw this.threadPool.getLastException();
+            }
+
+            currentRealtimeNs = System.nanoTime();
+
+            final PerformanceInformation performanceInformation =
+                    performanceCalculator.update(time, getEndTime(), currentRealtimeNs);
+
+            printProgress(currentRealtimeNs, performanceInformation);
+            updateWatchDog();
+        }
+
+        this.finishSimulationRun(STATUS_CODE_SUCCESS);
+    }
+
+    private void advanceAmbassador(int id, FederateEvent event) throws InternalFederateException {
+        final FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(event.getFederateId());
+        if (ambassador != null) {
+            this.logger.trace("Advancing {} to time {}", event.getFederateId(), event.getRequestedTime());
+            federation.getMonitor().onScheduling(id, event);
+            federation.getMonitor().onBeginActivity(event);
+            long startTime = System.currentTimeMillis();
+            ambassador.advanceTime(event.getRequestedTime());
+            federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * Removes all events from the event queue which can be executed concurrently in the next scheduling block.
+     * At most one event per federate is taken, all other events remain in the queue.
+     *
+     * @return list of events to be executed concurrently, ordered by their requested time
+     */
+    List<FederateEvent> nextSchedulingBlock() {
+        final List<FederateEvent> schedulingBlock = new ArrayList<>();
+        synchronized (this.events) {
+            FederateEvent event = this.events.poll();
+            if (event == null) {
+                return schedulingBlock;
+            }
+            schedulingBlock.add(event);
+
+            final List<FederateEvent> visited = new ArrayList<>();
+            final List<FederateEvent> postponed = new ArrayList<>();
+            final Set<String> scheduledFederates = new HashSet<>();
+            visited.add(event);
+            scheduledFederates.add(event.getFederateId());
+
+            // lower bound on time stamp of any event created by federates of already visited events
+            long lbts = saturatedAdd(event.getRequestedTime(), event.getLookahead());
+
+            while (this.events.peek() != null && this.events.peek().getRequestedTime() <= lbts) {
+                event = this.events.poll();
+                if (!scheduledFederates.contains(event.getFederateId()) && isIndependent(event, visited)) {
+                    schedulingBlock.add(event);
+                    scheduledFederates.add(event.getFederateId());
+                } else {
+                    postponed.add(event);
+                }
+                visited.add(event);
+                lbts = Math.min(lbts, saturatedAdd(event.getRequestedTime(), event.getLookahead()));
+            }
+            this.events.addAll(postponed);
+        }
+        return schedulingBlock;
+    }
+
+    private boolean isIndependent(FederateEvent event, List<FederateEvent> visited) {
+        for (FederateEvent other : visited) {
+            final long otherLbts = saturatedAdd(other.getRequestedTime(), other.getLookahead());
+            if (otherLbts > event.getRequestedTime()) {
+                continue;
+            }
+            if (otherLbts == event.getRequestedTime()
+                    && other.getPriority() == event.getPriority()) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static long saturatedAdd(long time, long lookahead) {
+        final long result = time + lookahead;
+        return result < time ? Long.MAX_VALUE : result;
+    }
+
+    private static int createEventId() {
+        return idCounter.incrementAndGet();
+    }
+
+    @Override
+    public void finishSimulationRun(int statusCode) throws InternalFederateException {
+        this.threadPool.shutdown();
+        this.events.clear();
+        super.finishSimulationRun(statusCode);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import com.carrotsearch.hppc.LongObjectHashMap;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ordered calendar of {@link FederateEvent}s requested by federates. Requests are indexed by
+ * federate and requested time, hence duplicate requests are coalesced without creating new event
+ * objects. The effort for adding and removing events is logarithmic in the number of pending events,
+ * which scales with the number of federates and distinct time stamps rather than with the number of requests.
+ * <p>
+ * A request which equals the most recent pending request of the same federate is detected without
+ * acquiring the lock of this calendar. All other operations synchronize on this calendar, which allows
+ * callers to synchronize on this calendar for compound operations.
+ * </p>
+ */
+public class FederateEventCalendar extends AbstractQueue<FederateEvent> {
+
+    private final PriorityQueue<FederateEvent> queue = new PriorityQueue<>();
+
+    private final Map<String, FederateSlot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a new event for the given request, if no equal event is pending already.
+     *
+     * @param federateId the id of the requesting federate
+     * @param time       the requested time
+     * @param lookahead  the lookahead of the federate
+     * @param priority   the priority of the federate
+     * @return {@code true}, if a new event has been added to this calendar
+     */
+    public boolean request(String federateId, long time, long lookahead, byte priority) {
+        final FederateSlot slot = slots.get(federateId);
+        if (slot != null && matches(slot.lastRequested, time, lookahead, priority)) {
+            return false;
+        }
+        synchronized (this) {
+            return add(federateId, time, lookahead, priority);
+        }
+    }
+
+    /**
+     * Adds new events for all given requests, for which no equal event is pending already.
+     * The lock of this calendar is acquired at most once.
+     *
+     * @param federateId the id of the requesting federate
+     * @param times      array holding the requested times
+     * @param length     the number of valid entries in {@code times}
+     * @param lookahead  the lookahead of the federate
+     * @param priority   the priority of the federate
+     * @return the number of events added to this calendar
+     */
+    public int requestAll(String federateId, long[] times, int length, long lookahead, byte priority) {
+        final FederateSlot slot = slots.get(federateId);
+        int first = 0;
+        while (slot != null && first < length && matches(slot.lastRequested, times[first], lookahead, priority)) {
+            first++;
+        }
+        if (first == length) {
+            return 0;
+        }
+        int added = 0;
+        synchronized (this) {
+            for (int i = first; i < length; i++) {
+                if (add(federateId, times[i], lookahead, priority)) {
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    private boolean add(String federateId, long time, long lookahead, byte priority) {
+        final FederateSlot slot = slots.computeIfAbsent(federateId, k -> new FederateSlot());
+        final FederateEvent pending = slot.findPending(time, lookahead, priority);
+        if (pending != null) {
+            slot.lastRequested = pending;
+            return false;
+        }
+        insert(slot, new FederateEvent(federateId, time, lookahead, priority));
+        return true;
+    }
+
+    private void insert(FederateSlot slot, FederateEvent event) {
+        queue.add(event);
+        slot.addPending(event);
+        slot.lastRequested = event;
+    }
+
+    private static boolean matches(FederateEvent event, long time, long lookahead, byte priority) {
+        return event != null
+                && event.getRequestedTime() == time
+                && event.getLookahead() == lookahead
+                && event.getPriority() == priority;
+    }
+
+    /**
+     * Adds the given event, if no equal event is pending already.
+     *
+     * @param event the event to add
+     * @return {@code true}, if the event has been added to this calendar
+     */
+    @Override
+    public synchronized boolean offer(FederateEvent event) {
+        final FederateSlot slot = slots.computeIfAbsent(event.getFederateId(), k -> new FederateSlot());
+        if (slot.findPending(event.getRequestedTime(), event.getLookahead(), event.getPriority()) != null) {
+            return false;
+        }
+        insert(slot, event);
+        return true;
+    }
+
+    /**
+     * Adds the given event, if no equal event is pending already. In contrast to {@link AbstractQueue#add},
+     * no exception is thrown if an equal event is pending.
+     *
+     * @param event the event to add
+     * @return {@code true}, if the event has been added to this calendar
+     */
+    @Override
+    public boolean add(FederateEvent event) {
+        return offer(event);
+    }
+
+    @Override
+    public synchronized FederateEvent poll() {
+        final FederateEvent event = queue.poll();
+        if (event != null) {
+            final FederateSlot slot = slots.get(event.getFederateId());
+            slot.removePending(event);
+            if (slot.lastRequested == event) {
+                slot.lastRequested = null;
+            }
+        }
+        return event;
+    }
+
+    @Override
+    public synchronized FederateEvent peek() {
+        return queue.peek();
+    }
+
+    @Override
+    public synchronized boolean contains(Object o) {
+        if (!(o instanceof FederateEvent)) {
+            return false;
+        }
+        final FederateEvent event = (FederateEvent) o;
+        final FederateSlot slot = slots.get(event.getFederateId());
+        return slot != null && slot.findPending(event.getRequestedTime(), event.getLookahead(), event.getPriority()) != null;
+    }
+
+    @Override
+    public synchronized void clear() {
+        queue.clear();
+        slots.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Returns an iterator over a snapshot of all pending events in no particular order.
+     */
+    @Override
+    public synchronized Iterator<FederateEvent> iterator() {
+        return new ArrayList<>(queue).iterator();
+    }
+
+    private static class FederateSlot {
+
+        /**
+         * Pending events of the federate indexed by their requested time.
+         */
+        private final LongObjectHashMap<FederateEvent> pendingByTime = new LongObjectHashMap<>();
+
+        /**
+         * Pending events of the federate which share the requested time of an event in {@link #pendingByTime}
+         * but differ in lookahead or priority. Usually not required, therefore created lazily.
+         */
+        private List<FederateEvent> pendingOverflow = null;
+
+        /**
+         * The most recently requested event, as long as it is pending. Read without lock.
+         */
+        private volatile FederateEvent lastRequested;
+
+        private FederateEvent findPending(long time, long lookahead, byte priority) {
+            final FederateEvent event = pendingByTime.get(time);
+            if (matches(event, time, lookahead, priority)) {
+                return event;
+            }
+            if (pendingOverflow != null) {
+                for (FederateEvent overflowEvent : pendingOverflow) {
+                    if (matches(overflowEvent, time, lookahead, priority)) {
+                        return overflowEvent;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private void addPending(FederateEvent event) {
+            if (pendingByTime.containsKey(event.getRequestedTime())) {
+                if (pendingOverflow == null) {
+                    pendingOverflow = new ArrayList<>(2);
+                }
+                pendingOverflow.add(event);
+            } else {
+                pendingByTime.put(event.getRequestedTime(), event);
+            }
+        }
+
+        private void removePending(FederateEvent event) {
+            if (pendingByTime.get(event.getRequestedTime()) == event) {
+                pendingByTime.remove(event.getRequestedTime());
+            } else if (pendingOverflow != null) {
+                pendingOverflow.remove(event);
+            }
+        }
+    }
+}
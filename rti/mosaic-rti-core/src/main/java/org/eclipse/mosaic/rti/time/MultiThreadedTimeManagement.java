@@ -37,14 +37,13 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
 
     public MultiThreadedTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
         super(federation, componentParameters);
-        this.threadPool = new ThreadPool(federation, componentParameters.getNumberOfThreads());
         this.scheduledEvents = new ScheduledEvents();
+        this.threadPool = ThreadPool.create(federation, componentParameters, scheduledEvents);
     }
 
     @Override
     protected void prepareSimulationRun() throws IllegalValueException, InternalFederateException {
         // initialize thread pool
-        this.threadPool.setEventQueue(this.scheduledEvents);
         this.threadPool.initialize();
         // initialize all federates
         super.prepareSimulationRun();
@@ -105,8 +104,11 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
 
                 // schedule next event
                 int id = createEventId(); // Acquire scheduling block id
+                int numberOfEvents = 1;
+                long startTime = System.currentTimeMillis();
                 federation.getMonitor().onScheduling(id, event);
-                this.scheduledEvents.addEvent(event);
+                this.runningEvents.add(event);
+                this.threadPool.schedule(event);
 
                 // schedule further events that can be executed in parallel
                 while (this.events.peek() != null
@@ -114,23 +116,20 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
                         && scheduledEvents.getMaximumValidTime() >= this.events.peek().getRequestedTime()
                 ) {
                     synchronized (events) {
+                        // other federates of this block may already calculate their LBTS
                         event = this.events.poll();
+                        this.runningEvents.add(event);
                     }
                     this.logger.trace("Parallel execution: {} time={} lookahead={}", event.getFederateId(), event.getRequestedTime(), event.getLookahead());
                     federation.getMonitor().onScheduling(id, event);
-                    this.scheduledEvents.addEvent(event);
+                    this.threadPool.schedule(event);
+                    numberOfEvents++;
                 }
 
                 // wait until all events are processed in parallel
-                synchronized (this.scheduledEvents.isEmptyMutex) {
-                    try {
-                        if (this.threadPool.isActive()) {
-                            this.scheduledEvents.isEmptyMutex.wait();
-                        }
-                    } catch (InterruptedException ignored) {
-                        // nop
-                    }
-                }
+                this.threadPool.awaitSchedulingBlock();
+                this.runningEvents.clear();
+                federation.getMonitor().onEndScheduling(id, numberOfEvents, System.currentTimeMillis() - startTime);
                 ambassadorRunningSemaphore.release();
             } else {
                 // call ambassador associated with the scheduled event to
@@ -159,6 +158,8 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
                     updateWatchDog();
                 }
             }
+            awaitInteractionDelivery();
+
             // check if an exception was thrown
             if (this.threadPool.hasException()) {
                 throw this.threadPool.getLastException();
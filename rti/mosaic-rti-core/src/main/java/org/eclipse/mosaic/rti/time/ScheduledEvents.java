@@ -61,6 +61,16 @@ class ScheduledEvents {
         this.lookahead.add(event.getRequestedTime() + event.getLookahead());
     }
 
+    /**
+     * Appends the lookahead of the specified element to the PriorityBlockingQueue's lookahead only. Used by
+     * thread pools which dispatch events to their workers directly instead of polling this queue.
+     *
+     * @param event element whose lookahead is to be appended.
+     */
+    void addLookahead(FederateEvent event) {
+        this.lookahead.add(event.getRequestedTime() + event.getLookahead());
+    }
+
     /**
      * Returns the next event in the queue (the head) and removes it from the queue.
      *
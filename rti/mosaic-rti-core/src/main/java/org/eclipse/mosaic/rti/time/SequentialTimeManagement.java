@@ -89,6 +89,7 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
                 federation.getMonitor().onBeginActivity(event);
                 long startTime = System.currentTimeMillis();
                 ambassador.advanceTime(event.getRequestedTime());
+                awaitInteractionDelivery();
                 federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
 
                 // check, if event queue is empty after the last time advance.
@@ -99,6 +100,7 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
                     federation.getMonitor().onBeginActivity(event);
                     startTime = System.currentTimeMillis();
                     ambassador.advanceTime(getEndTime());
+                    awaitInteractionDelivery();
                     federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
                 }
             }
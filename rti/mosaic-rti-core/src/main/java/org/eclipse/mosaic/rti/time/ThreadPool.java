@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Fraunhofer FOKUS and others. All rights reserved.
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
  *
  * See the NOTICE file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -15,149 +15,99 @@
 
 package org.eclipse.mosaic.rti.time;
 
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.time.FederateEvent;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-class ThreadPool {
-
-    private static final Logger LOG = LoggerFactory.getLogger(ThreadPool.class);
-
+/**
+ * Base class for thread pools used by the {@link MultiThreadedTimeManagement} to execute
+ * all {@link FederateEvent}s of one scheduling block in parallel.
+ */
+abstract class ThreadPool {
 
-    private final Worker[] workers;
     private final ComponentProvider federation;
-    private boolean running = false;
 
-    private ScheduledEvents queue = null;
-    private int activeCount = 0;
+    protected final ScheduledEvents queue;
 
-    private InternalFederateException exceptionInThread = null;
+    private volatile InternalFederateException exceptionInThread = null;
 
-    ThreadPool(ComponentProvider federation, int numberOfThreads) {
-        this.workers = new Worker[numberOfThreads];
+    ThreadPool(ComponentProvider federation, ScheduledEvents queue) {
         this.federation = federation;
-    }
-
-    void setEventQueue(ScheduledEvents events) {
-        this.queue = events;
+        this.queue = queue;
     }
 
     /**
-     * Initializes the workers of this thread pool.
+     * Creates the thread pool implementation configured in the given {@link MosaicComponentParameters}.
+     *
+     * @param federation          reference to the <code>ComponentProvider</code> to access simulation components
+     * @param componentParameters parameters containing the number of threads and the thread pool type
+     * @param scheduledEvents     the queue holding the events and lookahead values of the current scheduling block
+     * @return the created thread pool
      */
-    void initialize() {
-        this.running = true;
-        for (int i = 0; i < this.workers.length; i++) {
-            this.workers[i] = new Worker(i + 1);
-            this.workers[i].start();
+    static ThreadPool create(ComponentProvider federation, MosaicComponentParameters componentParameters, ScheduledEvents scheduledEvents) {
+        if (componentParameters.getThreadPoolType() == ThreadPoolType.WORK_STEALING) {
+            return new WorkStealingThreadPool(federation, scheduledEvents, componentParameters.getNumberOfThreads());
         }
+        return new BusyWaitingThreadPool(federation, scheduledEvents, componentParameters.getNumberOfThreads());
     }
 
-    void shutdown() {
-        this.running = false;
-        for (Worker worker : workers) {
-            if (worker.isAlive()) {
-                try {
-                    worker.join();
-                } catch (Exception e) {
-                    // nop
-                }
-            }
-        }
-    }
+    /**
+     * Initializes the workers of this thread pool.
+     */
+    abstract void initialize();
 
-    boolean hasException() {
-        return this.exceptionInThread != null;
-    }
+    /**
+     * Stops all workers of this thread pool.
+     */
+    abstract void shutdown();
 
-    InternalFederateException getLastException() {
-        return this.exceptionInThread;
-    }
+    /**
+     * Schedules the given event to be executed within the current scheduling block.
+     *
+     * @param event the event to execute
+     */
+    abstract void schedule(FederateEvent event);
 
-    boolean isActive() {
-        synchronized (this.queue.isEmptyMutex) {
-            return this.activeCount > 0 || !this.queue.isEmpty();
-        }
-    }
+    /**
+     * Blocks until all events scheduled within the current scheduling block have been processed.
+     */
+    abstract void awaitSchedulingBlock();
 
     /**
      * Returns the number of worker threads in this thread pool.
      *
      * @return the number of worker threads in this thread pool.
      */
-    int getThreadCount() {
-        return workers.length;
-    }
-
-    private class Worker extends Thread {
-
-        private Worker(int i) {
-            super(String.format("%04d", i));
-        }
+    abstract int getThreadCount();
 
-        @Override
-        public void run() {
-            FederateEvent ev;
-            Task task;
-
-            while (true) {
-                synchronized (queue.accessMutex) {
-                    while (queue.isEmpty()) {
-                        if (!running) {
-                            return;
-                        }
-                    }
-                    synchronized (queue.isEmptyMutex) {
-                        ev = queue.getNextScheduledEvent();
-                        activeCount++;
-                    }
-                    task = new Task(ev);
-                }
-
-                try {
-                    task.run();
-                } catch (RuntimeException e) {
-                    LOG.error("Could not execute task", e);
-                }
-                synchronized (queue.isEmptyMutex) {
-                    queue.setEventProcessed(ev);
-                    activeCount--;
-                    LOG.debug("active count: {}; isEmpty: {}", activeCount, queue.isEmpty());
-                    if (activeCount == 0 && queue.isEmpty()) {
-                        queue.isEmptyMutex.notifyAll();
-                    }
-                }
-            }
-        }
+    boolean hasException() {
+        return this.exceptionInThread != null;
     }
 
-    private class Task implements Runnable {
-
-        private final FederateEvent ev;
-
-        private Task(FederateEvent ev) {
-            this.ev = ev;
-        }
+    InternalFederateException getLastException() {
+        return this.exceptionInThread;
+    }
 
-        @Override
-        public void run() {
-            try {
-                FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(ev.getFederateId());
-                if (ambassador != null) {
-                    federation.getMonitor().onBeginActivity(ev);
-                    long startTime = System.currentTimeMillis();
-                    ambassador.advanceTime(ev.getRequestedTime());
-                    federation.getMonitor().onEndActivity(ev, System.currentTimeMillis() - startTime);
-                }
-            } catch (InternalFederateException iex) {
-                exceptionInThread = iex;
-            } catch (Exception ex) {
-                exceptionInThread = new InternalFederateException(ex);
+    /**
+     * Advances the ambassador associated with the given event to its requested time.
+     *
+     * @param ev the event to process
+     */
+    void processEvent(FederateEvent ev) {
+        try {
+            FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(ev.getFederateId());
+            if (ambassador != null) {
+                federation.getMonitor().onBeginActivity(ev);
+                long startTime = System.currentTimeMillis();
+                ambassador.advanceTime(ev.getRequestedTime());
+                federation.getMonitor().onEndActivity(ev, System.currentTimeMillis() - startTime);
             }
+        } catch (InternalFederateException iex) {
+            exceptionInThread = iex;
+        } catch (Exception ex) {
+            exceptionInThread = new InternalFederateException(ex);
         }
     }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+/**
+ * Available thread pool implementations used by the {@link MultiThreadedTimeManagement}
+ * to execute events of one scheduling block in parallel.
+ */
+public enum ThreadPoolType {
+
+    /**
+     * Workers spin on the queue of scheduled events, even if no events are available.
+     */
+    BUSY_WAITING,
+
+    /**
+     * Workers are parked while no events are available and share work via work-stealing queues.
+     */
+    WORK_STEALING
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+/**
+ * Available {@link org.eclipse.mosaic.rti.api.TimeManagement} implementations.
+ */
+public enum TimeManagementType {
+
+    /**
+     * Uses the {@link SequentialTimeManagement}, or the {@link MultiThreadedTimeManagement} if
+     * more than one thread is configured.
+     */
+    DEFAULT,
+
+    /**
+     * Uses the {@link ConservativeTimeManagement}, which advances all federates concurrently whose
+     * next event lies below the lower bound on time stamp of all other federates.
+     */
+    CONSERVATIVE
+}
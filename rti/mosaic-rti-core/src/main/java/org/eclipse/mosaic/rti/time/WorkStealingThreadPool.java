@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pool based on a {@link ForkJoinPool}, which hands out events of a scheduling block
+ * to its workers via work-stealing queues. Idle workers are parked instead of spinning, and
+ * the completion of a scheduling block is signalled via a {@link Phaser}.
+ */
+class WorkStealingThreadPool extends ThreadPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingThreadPool.class);
+
+    private final int numberOfThreads;
+
+    /**
+     * The time management thread is the only permanently registered party. Each scheduled event
+     * registers an additional party which arrives and deregisters after the event has been processed.
+     */
+    private final Phaser schedulingBlock = new Phaser(1);
+
+    private ForkJoinPool pool;
+
+    WorkStealingThreadPool(ComponentProvider federation, ScheduledEvents queue, int numberOfThreads) {
+        super(federation, queue);
+        this.numberOfThreads = numberOfThreads;
+    }
+
+    @Override
+    void initialize() {
+        this.pool = new ForkJoinPool(numberOfThreads, new WorkerFactory(), null, true);
+    }
+
+    @Override
+    void shutdown() {
+        if (pool == null) {
+            return;
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            // nop
+        }
+    }
+
+    @Override
+    void schedule(FederateEvent event) {
+        queue.addLookahead(event);
+        schedulingBlock.register();
+        pool.execute(() -> {
+            try {
+                processEvent(event);
+            } catch (RuntimeException e) {
+                LOG.error("Could not execute task", e);
+            } finally {
+                queue.setEventProcessed(event);
+                schedulingBlock.arriveAndDeregister();
+            }
+        });
+    }
+
+    @Override
+    void awaitSchedulingBlock() {
+        schedulingBlock.arriveAndAwaitAdvance();
+    }
+
+    @Override
+    int getThreadCount() {
+        return numberOfThreads;
+    }
+
+    private static class WorkerFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private int counter = 0;
+
+        @Override
+        public synchronized ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(String.format("%04d", ++counter));
+            return thread;
+        }
+    }
+}
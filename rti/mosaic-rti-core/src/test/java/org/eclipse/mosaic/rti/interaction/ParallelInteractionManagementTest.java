@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.interaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.parameters.InteractionDescriptor;
+import org.eclipse.mosaic.rti.junit.FederationManagementRule;
+import org.eclipse.mosaic.rti.junit.TestDummyInteraction;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ParallelInteractionManagementTest {
+
+    private ParallelInteractionManagement interactionManagement;
+
+    private final Monitor monitorMock = mock(Monitor.class);
+
+    @Rule
+    public FederationManagementRule fedManagement = new FederationManagementRule("ambassador1", "ambassador2");
+
+    @Before
+    public void setup() {
+        ComponentProvider componentProviderMock = mock(ComponentProvider.class);
+        when(componentProviderMock.getMonitor()).thenReturn(monitorMock);
+        when(componentProviderMock.getFederationManagement()).thenReturn(fedManagement.getFederationManagementMock());
+        when(fedManagement.getAmbassador("ambassador1").getId()).thenReturn("ambassador1");
+        when(fedManagement.getAmbassador("ambassador2").getId()).thenReturn("ambassador2");
+        interactionManagement = new ParallelInteractionManagement(componentProviderMock, 4);
+
+        interactionManagement.subscribeInteractions("ambassador1", Lists.newArrayList(new InteractionDescriptor("type1")));
+        interactionManagement.subscribeInteractions("ambassador2",
+                Lists.newArrayList(new InteractionDescriptor("type1"), new InteractionDescriptor("type2")));
+    }
+
+    @Test
+    public void publishInteractions_allSubscribersReceiveInteractionsInOrder() throws Exception {
+        //SETUP
+        final List<Interaction> received1 = Collections.synchronizedList(new ArrayList<>());
+        final List<Interaction> received2 = Collections.synchronizedList(new ArrayList<>());
+        recordReceivedInteractions(fedManagement.getAmbassador("ambassador1"), received1);
+        recordReceivedInteractions(fedManagement.getAmbassador("ambassador2"), received2);
+
+        final List<Interaction> published = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            published.add(new TestDummyInteraction(i, "type1"));
+        }
+
+        //RUN
+        for (Interaction interaction : published) {
+            interactionManagement.publishInteraction(interaction);
+        }
+        interactionManagement.awaitDelivery();
+
+        //ASSERT
+        assertEquals(published, received1);
+        assertEquals(published, received2);
+        verify(monitorMock, times(100)).onDeliverInteraction(eq("ambassador1"), any(), anyLong());
+        verify(monitorMock, times(100)).onDeliverInteraction(eq("ambassador2"), any(), anyLong());
+    }
+
+    @Test
+    public void publishInteraction_onlySubscribersReceiveInteraction() throws Exception {
+        //SETUP
+        final Interaction interaction = new TestDummyInteraction(0, "type2");
+
+        //RUN
+        interactionManagement.publishInteraction(interaction);
+        interactionManagement.awaitDelivery();
+
+        //ASSERT
+        verify(fedManagement.getAmbassador("ambassador1"), never()).receiveInteraction(same(interaction));
+        verify(fedManagement.getAmbassador("ambassador2"), times(1)).receiveInteraction(same(interaction));
+    }
+
+    @Test
+    public void publishInteractions_subscribersReceiveConcurrently() throws Exception {
+        //SETUP
+        final CountDownLatch bothReceiving = new CountDownLatch(2);
+        final Rendezvous rendezvous = new Rendezvous(bothReceiving);
+        doAnswer(invocation -> rendezvous.call())
+                .when(fedManagement.getAmbassador("ambassador1")).receiveInteraction(any());
+        doAnswer(invocation -> rendezvous.call())
+                .when(fedManagement.getAmbassador("ambassador2")).receiveInteraction(any());
+
+        //RUN
+        interactionManagement.publishInteraction(new TestDummyInteraction(0, "type1"));
+        interactionManagement.awaitDelivery();
+
+        //ASSERT
+        assertEquals(2, rendezvous.successful.get());
+    }
+
+    @Test
+    public void publishInteractions_fullLane_publisherIsHeldBack() throws Exception {
+        //SETUP
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(fedManagement.getAmbassador("ambassador2")).receiveInteraction(any());
+        final Thread releaseThread = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+
+        //RUN
+        releaseThread.start();
+        final long start = System.nanoTime();
+        // four interactions fill the lane, the fifth is held back until the subscriber catches up
+        for (int i = 0; i < 5; i++) {
+            interactionManagement.publishInteraction(new TestDummyInteraction(i, "type2"));
+        }
+        final long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        interactionManagement.awaitDelivery();
+        releaseThread.join();
+
+        //ASSERT
+        assertTrue("Publisher has not been held back", durationMs >= 150);
+        verify(fedManagement.getAmbassador("ambassador2"), times(5)).receiveInteraction(any());
+    }
+
+    @Test
+    public void publishInteractions_fullLane_lockingPublisherIsRejected() throws Exception {
+        //SETUP
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(fedManagement.getAmbassador("ambassador2")).receiveInteraction(any());
+        final FederateAmbassador publisher = fedManagement.getAmbassador("ambassador1");
+        interactionManagement.publishInteraction(new TestDummyInteraction(0, "type1"));
+
+        //RUN
+        // the publisher processes an interaction, during which deliveries to it are blocked
+        synchronized (publisher) {
+            for (int i = 1; i < 6; i++) {
+                interactionManagement.publishInteraction(new TestDummyInteraction(i, "type2"));
+            }
+        }
+        release.countDown();
+        try {
+            interactionManagement.awaitDelivery();
+            fail("Expected exception has not been thrown");
+        } catch (InternalFederateException e) {
+            assertTrue(e.getMessage().contains("interactionQueueCapacity"));
+        }
+
+        //ASSERT
+        // one interaction of type1 and three interactions of type2 filled the lane, the others have been rejected
+        verify(fedManagement.getAmbassador("ambassador2"), times(4)).receiveInteraction(any());
+    }
+
+    @Test
+    public void getEarliestPendingDeliveryTime_interactionsPendingUntilDelivered() throws Exception {
+        //SETUP
+        final CountDownLatch receiving = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            receiving.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).when(fedManagement.getAmbassador("ambassador2")).receiveInteraction(any());
+
+        //RUN
+        interactionManagement.publishInteraction(new TestDummyInteraction(3, "type2"));
+        interactionManagement.publishInteraction(new TestDummyInteraction(5, "type2"));
+        assertTrue(receiving.await(5, TimeUnit.SECONDS));
+
+        //ASSERT the interaction which is currently delivered is still pending
+        assertEquals(3, interactionManagement.getEarliestPendingDeliveryTime());
+
+        //RUN
+        release.countDown();
+        interactionManagement.awaitDelivery();
+
+        //ASSERT
+        assertEquals(Long.MAX_VALUE, interactionManagement.getEarliestPendingDeliveryTime());
+    }
+
+    @Test
+    public void publishInteraction_subscriberThrowsException_exceptionIsThrownOnAwait() throws Exception {
+        //SETUP
+        doThrow(new InternalFederateException("error"))
+                .when(fedManagement.getAmbassador("ambassador2")).receiveInteraction(any());
+
+        //RUN
+        interactionManagement.publishInteraction(new TestDummyInteraction(0, "type1"));
+        try {
+            interactionManagement.awaitDelivery();
+            fail("Expected exception has not been thrown");
+        } catch (InternalFederateException e) {
+            assertEquals("error", e.getMessage());
+        }
+
+        //ASSERT
+        verify(fedManagement.getAmbassador("ambassador1"), times(1)).receiveInteraction(any());
+        // the exception is reported only once
+        interactionManagement.awaitDelivery();
+    }
+
+    private static void recordReceivedInteractions(FederateAmbassador ambassador, List<Interaction> received) throws Exception {
+        doAnswer(invocation -> received.add(invocation.getArgument(0)))
+                .when(ambassador).receiveInteraction(any());
+    }
+
+    private static class Rendezvous {
+
+        private final CountDownLatch latch;
+        private final AtomicInteger successful = new AtomicInteger();
+
+        private Rendezvous(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        private Object call() throws InterruptedException {
+            latch.countDown();
+            if (latch.await(5, TimeUnit.SECONDS)) {
+                successful.incrementAndGet();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.InteractionManagement;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+import org.eclipse.mosaic.rti.junit.FederationManagementRule;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ConservativeTimeManagementTest {
+
+    @Rule
+    public FederationManagementRule fedManagement = new FederationManagementRule("a", "b", "c");
+
+    private ComponentProvider componentProviderMock;
+
+    private InteractionManagement interactionManagementMock;
+
+    private Monitor monitorMock;
+
+    @Before
+    public void setup() {
+        interactionManagementMock = mock(InteractionManagement.class);
+        when(interactionManagementMock.getEarliestPendingDeliveryTime()).thenReturn(Long.MAX_VALUE);
+        monitorMock = mock(Monitor.class);
+        componentProviderMock = mock(ComponentProvider.class);
+        when(componentProviderMock.getInteractionManagement()).thenReturn(interactionManagementMock);
+        when(componentProviderMock.getFederationManagement()).thenReturn(fedManagement.getFederationManagementMock());
+        when(componentProviderMock.getMonitor()).thenReturn(monitorMock);
+    }
+
+    private static MosaicComponentParameters createParameters() {
+        return new MosaicComponentParameters()
+                .setNumberOfThreads(2)
+                .setThreadPoolType(ThreadPoolType.WORK_STEALING)
+                .setEndTime(20 * TIME.SECOND);
+    }
+
+    @Test
+    public void runSimulation() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("a", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("c", 5 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("a", 10 * TIME.SECOND, 0, (byte) 1);
+
+        timeManagement.runSimulation();
+
+        final FederateAmbassador ambassadorA = fedManagement.getAmbassador("a");
+        final FederateAmbassador ambassadorB = fedManagement.getAmbassador("b");
+        final FederateAmbassador ambassadorC = fedManagement.getAmbassador("c");
+
+        verify(ambassadorA).advanceTime(eq(0L));
+        verify(ambassadorB).advanceTime(eq(0L));
+        verify(ambassadorC).advanceTime(eq(5 * TIME.SECOND));
+        verify(ambassadorA).advanceTime(eq(10 * TIME.SECOND));
+
+        verify(ambassadorA).finishSimulation();
+        verify(ambassadorB).finishSimulation();
+        verify(ambassadorC).finishSimulation();
+
+        // a and b have been executed in parallel in the first scheduling block
+        verify(monitorMock).onEndScheduling(anyInt(), eq(2), anyLong());
+        verify(monitorMock).onEndSimulation(any(), any(), anyLong(), anyInt());
+    }
+
+    private ConservativeTimeManagement createConservativeTimeManagement() {
+        return new ConservativeTimeManagement(componentProviderMock, createParameters());
+    }
+
+    @Test
+    public void nextSchedulingBlock_eventsWithinLookahead() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("a", 1 * TIME.SECOND, 2 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 2 * TIME.SECOND, 5 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("c", 3 * TIME.SECOND, 0, (byte) 1);
+
+        // c may be advanced concurrently, since neither a nor b can create events before 3s
+        List<FederateEvent> block = timeManagement.nextSchedulingBlock();
+        assertEquals(3, block.size());
+        assertEquals(1 * TIME.SECOND, block.get(0).getRequestedTime());
+        assertEquals(3 * TIME.SECOND, block.get(2).getRequestedTime());
+    }
+
+    @Test
+    public void nextSchedulingBlock_eventsBeyondLbtsArePostponed() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("a", 1 * TIME.SECOND, 1 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 2 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("c", 3 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("a", 4 * TIME.SECOND, 0, (byte) 1);
+
+        List<FederateEvent> block = timeManagement.nextSchedulingBlock();
+        assertEquals(2, block.size());
+        assertEquals("a", block.get(0).getFederateId());
+        assertEquals("b", block.get(1).getFederateId());
+
+        block = timeManagement.nextSchedulingBlock();
+        assertEquals(1, block.size());
+        assertEquals("c", block.get(0).getFederateId());
+
+        block = timeManagement.nextSchedulingBlock();
+        assertEquals(1, block.size());
+        assertEquals("a", block.get(0).getFederateId());
+        assertEquals(4 * TIME.SECOND, block.get(0).getRequestedTime());
+    }
+
+    @Test
+    public void nextSchedulingBlock_sameTimeOnlyWithSamePriority() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("a", 1 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 1 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("c", 1 * TIME.SECOND, 0, (byte) 0);
+
+        // c has the highest priority and may publish interactions for a and b at the same time (e.g. VehicleUpdates)
+        List<FederateEvent> block = timeManagement.nextSchedulingBlock();
+        assertEquals(1, block.size());
+        assertEquals("c", block.get(0).getFederateId());
+
+        block = timeManagement.nextSchedulingBlock();
+        assertEquals(2, block.size());
+    }
+
+    @Test
+    public void nextSchedulingBlock_sameTimeDifferentPriority() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("a", 1 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 1 * TIME.SECOND, 0, (byte) 2);
+
+        // a and b have different priorities, a may publish interactions for b at the same time
+        List<FederateEvent> block = timeManagement.nextSchedulingBlock();
+        assertEquals(1, block.size());
+        assertEquals("a", block.get(0).getFederateId());
+
+        block = timeManagement.nextSchedulingBlock();
+        assertEquals(1, block.size());
+        assertEquals("b", block.get(0).getFederateId());
+    }
+
+    @Test
+    public void nextSchedulingBlock_onlyOneEventPerFederate() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("a", 1 * TIME.SECOND, 10 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("a", 2 * TIME.SECOND, 10 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 3 * TIME.SECOND, 10 * TIME.SECOND, (byte) 1);
+
+        List<FederateEvent> block = timeManagement.nextSchedulingBlock();
+        assertEquals(2, block.size());
+        assertEquals("a", block.get(0).getFederateId());
+        assertEquals("b", block.get(1).getFederateId());
+
+        block = timeManagement.nextSchedulingBlock();
+        assertEquals(1, block.size());
+        assertEquals(2 * TIME.SECOND, block.get(0).getRequestedTime());
+    }
+
+    @Test
+    public void getLowerBoundTimeStamp_pendingEventsOfOtherFederates() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("a", 1 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 3 * TIME.SECOND, 2 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 6 * TIME.SECOND, 0, (byte) 1);
+        // c is not time regulating, requests with infinite lookahead, and does not send any time stamped interactions
+        timeManagement.requestAdvanceTime("c", 2 * TIME.SECOND, Long.MAX_VALUE, (byte) 1);
+
+        // the own events of a are not considered
+        assertEquals(5 * TIME.SECOND, timeManagement.getLowerBoundTimeStamp("a"));
+        assertEquals(1 * TIME.SECOND, timeManagement.getLowerBoundTimeStamp("b"));
+    }
+
+    @Test
+    public void getLowerBoundTimeStamp_pendingDeliveries() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        timeManagement.requestAdvanceTime("b", 3 * TIME.SECOND, 0, (byte) 1);
+        when(interactionManagementMock.getEarliestPendingDeliveryTime()).thenReturn(2 * TIME.SECOND);
+
+        // the receiver of the pending interaction may react on it before b
+        assertEquals(2 * TIME.SECOND, timeManagement.getLowerBoundTimeStamp("a"));
+    }
+
+    @Test
+    public void getLowerBoundTimeStamp_eventsProcessedConcurrently() throws Exception {
+        ConservativeTimeManagement timeManagement = createConservativeTimeManagement();
+        final List<Long> lowerBoundTimeStamps = new ArrayList<>();
+        doAnswer(invocation -> {
+            lowerBoundTimeStamps.add(timeManagement.getLowerBoundTimeStamp("a"));
+            return null;
+        }).when(fedManagement.getAmbassador("a")).advanceTime(anyLong());
+        timeManagement.requestAdvanceTime("a", 1 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("b", 1 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("c", 4 * TIME.SECOND, 0, (byte) 1);
+
+        timeManagement.runSimulation();
+
+        // b is processed concurrently to a, and may still publish interactions at 1s
+        assertEquals(Lists.newArrayList(1 * TIME.SECOND), lowerBoundTimeStamps);
+    }
+}
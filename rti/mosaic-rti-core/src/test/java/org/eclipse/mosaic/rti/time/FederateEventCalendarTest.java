@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.eclipse.mosaic.lib.util.EfficientPriorityQueue;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.Random;
+
+public class FederateEventCalendarTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FederateEventCalendarTest.class);
+
+    @Test
+    public void requestsAreCoalesced() {
+        FederateEventCalendar calendar = new FederateEventCalendar();
+
+        assertTrue(calendar.request("application", 1 * TIME.SECOND, 0, (byte) 1));
+        assertFalse(calendar.request("application", 1 * TIME.SECOND, 0, (byte) 1));
+        assertTrue(calendar.request("application", 2 * TIME.SECOND, 0, (byte) 1));
+        assertFalse(calendar.request("application", 1 * TIME.SECOND, 0, (byte) 1));
+        assertTrue(calendar.request("sumo", 1 * TIME.SECOND, 0, (byte) 1));
+
+        // different lookahead or priority results in a different event
+        assertTrue(calendar.request("application", 1 * TIME.SECOND, 5, (byte) 1));
+        assertTrue(calendar.request("application", 1 * TIME.SECOND, 0, (byte) 2));
+        assertFalse(calendar.request("application", 1 * TIME.SECOND, 0, (byte) 2));
+
+        assertEquals(5, calendar.size());
+        assertTrue(calendar.contains(new FederateEvent("application", 1 * TIME.SECOND, 5, (byte) 1)));
+        assertFalse(calendar.contains(new FederateEvent("application", 3 * TIME.SECOND, 0, (byte) 1)));
+    }
+
+    @Test
+    public void eventsArePolledInOrder() {
+        FederateEventCalendar calendar = new FederateEventCalendar();
+        calendar.request("application", 3 * TIME.SECOND, 0, (byte) 1);
+        calendar.request("sumo", 1 * TIME.SECOND, 0, (byte) 1);
+        calendar.request("application", 2 * TIME.SECOND, 0, (byte) 1);
+        calendar.request("sns", 1 * TIME.SECOND, 0, (byte) 1);
+
+        assertEquals(1 * TIME.SECOND, calendar.peek().getRequestedTime());
+        assertEquals(1 * TIME.SECOND, calendar.poll().getRequestedTime());
+        assertEquals(1 * TIME.SECOND, calendar.poll().getRequestedTime());
+        assertEquals(2 * TIME.SECOND, calendar.poll().getRequestedTime());
+        assertEquals(3 * TIME.SECOND, calendar.poll().getRequestedTime());
+        assertNull(calendar.poll());
+        assertTrue(calendar.isEmpty());
+    }
+
+    @Test
+    public void requestAfterPollAddsNewEvent() {
+        FederateEventCalendar calendar = new FederateEventCalendar();
+        calendar.request("application", 1 * TIME.SECOND, 0, (byte) 1);
+
+        FederateEvent event = calendar.poll();
+        assertEquals("application", event.getFederateId());
+
+        // the same time is requested again while (or after) the event is processed
+        assertTrue(calendar.request("application", 1 * TIME.SECOND, 0, (byte) 1));
+        assertEquals(1, calendar.size());
+    }
+
+    @Test
+    public void offerPostponedEvent() {
+        FederateEventCalendar calendar = new FederateEventCalendar();
+        calendar.request("application", 1 * TIME.SECOND, 0, (byte) 1);
+
+        FederateEvent event = calendar.poll();
+        assertTrue(calendar.add(event));
+        assertFalse(calendar.add(event));
+        assertFalse(calendar.request("application", 1 * TIME.SECOND, 0, (byte) 1));
+        assertSame(event, calendar.poll());
+        assertTrue(calendar.isEmpty());
+    }
+
+    @Test
+    public void requestAllAddsMissingEventsOnly() {
+        FederateEventCalendar calendar = new FederateEventCalendar();
+        calendar.request("application", 1 * TIME.SECOND, 0, (byte) 1);
+        calendar.request("application", 3 * TIME.SECOND, 0, (byte) 1);
+
+        long[] times = {1 * TIME.SECOND, 2 * TIME.SECOND, 3 * TIME.SECOND, 4 * TIME.SECOND, -1};
+        assertEquals(2, calendar.requestAll("application", times, 4, 0, (byte) 1));
+        assertEquals(0, calendar.requestAll("application", times, 4, 0, (byte) 1));
+        assertEquals(4, calendar.size());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(times[i], calendar.poll().getRequestedTime());
+        }
+        assertTrue(calendar.isEmpty());
+    }
+
+    /**
+     * Replays a trace of requests resembling a simulation with 20.000 vehicles, in which the application
+     * federate requests a time advance for each vehicle event, and other federates request once per step.
+     */
+    @Test
+    public void performanceTest() {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int steps = 50;
+        final int vehicles = 20_000;
+        final Random random = new Random(1L);
+
+        final String[] federates = new String[steps * (vehicles + 3)];
+        final long[] times = new long[federates.length];
+        int index = 0;
+        for (int step = 1; step <= steps; step++) {
+            final long time = step * 100 * TIME.MILLI_SECOND;
+            federates[index] = "sumo";
+            times[index++] = time;
+            federates[index] = "sns";
+            times[index++] = time;
+            federates[index] = "cell";
+            times[index++] = time + 10 * TIME.MILLI_SECOND;
+            for (int vehicle = 0; vehicle < vehicles; vehicle++) {
+                federates[index] = "application";
+                // most vehicle events are scheduled for the next step, some at random times within the next second
+                times[index++] = random.nextInt(10) == 0
+                        ? time + random.nextInt(1000) * TIME.MILLI_SECOND
+                        : time + 100 * TIME.MILLI_SECOND;
+            }
+        }
+
+        final Queue<FederateEvent> legacyQueue = new EfficientPriorityQueue<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < federates.length; i++) {
+            synchronized (legacyQueue) {
+                FederateEvent e = new FederateEvent(federates[i], times[i], 0, (byte) 1);
+                if (!legacyQueue.contains(e)) {
+                    legacyQueue.add(e);
+                }
+            }
+        }
+        long duration = System.nanoTime() - start;
+        log.debug("EfficientPriorityQueue: {}ms for {} requests", duration / 1e6, federates.length);
+
+        final FederateEventCalendar calendar = new FederateEventCalendar();
+        start = System.nanoTime();
+        for (int i = 0; i < federates.length; i++) {
+            calendar.request(federates[i], times[i], 0, (byte) 1);
+        }
+        duration = System.nanoTime() - start;
+        log.debug("FederateEventCalendar: {}ms for {} requests", duration / 1e6, federates.length);
+
+        assertEquals(legacyQueue.size(), calendar.size());
+    }
+}
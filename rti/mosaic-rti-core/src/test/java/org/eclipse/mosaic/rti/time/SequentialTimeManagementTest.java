@@ -25,6 +25,7 @@ import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.InteractionManagement;
 import org.eclipse.mosaic.rti.api.TimeManagement;
 import org.eclipse.mosaic.rti.junit.FederationManagementRule;
 import org.eclipse.mosaic.rti.monitor.ActivityLoggingMonitor;
@@ -53,6 +54,7 @@ public class SequentialTimeManagementTest {
         Logger logger = mock(Logger.class);
         when(componentProviderMock.getMonitor()).thenReturn(new ActivityLoggingMonitor(logger));
         when(componentProviderMock.getFederationManagement()).thenReturn(fedManagement.getFederationManagementMock());
+        when(componentProviderMock.getInteractionManagement()).thenReturn(mock(InteractionManagement.class));
         this.timeManagement = Mockito.spy(createTimeManagement(componentProviderMock));
         this.timeManagement.startWatchDog("test", 10_000); //in seconds
     }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+import org.eclipse.mosaic.rti.junit.FederationManagementRule;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ThreadPoolTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadPoolTest.class);
+
+    private final static String[] AMBASSADORS = {"ambassador1", "ambassador2", "ambassador3", "ambassador4"};
+
+    @Rule
+    public FederationManagementRule fedManagement = new FederationManagementRule(AMBASSADORS);
+
+    private ComponentProvider componentProviderMock;
+
+    private final AtomicInteger processedEvents = new AtomicInteger();
+
+    @Before
+    public void setup() throws Exception {
+        componentProviderMock = mock(ComponentProvider.class);
+        when(componentProviderMock.getMonitor()).thenReturn(new Monitor() {});
+        when(componentProviderMock.getFederationManagement()).thenReturn(fedManagement.getFederationManagementMock());
+
+        for (String ambassadorId : AMBASSADORS) {
+            FederateAmbassador ambassador = fedManagement.getAmbassador(ambassadorId);
+            doAnswer(invocation -> processedEvents.incrementAndGet()).when(ambassador).advanceTime(anyLong());
+        }
+    }
+
+    @Test
+    public void busyWaitingThreadPool_processAllEventsOfSchedulingBlock() {
+        ScheduledEvents scheduledEvents = new ScheduledEvents();
+        processAllEventsOfSchedulingBlock(new BusyWaitingThreadPool(componentProviderMock, scheduledEvents, 2), scheduledEvents);
+    }
+
+    @Test
+    public void workStealingThreadPool_processAllEventsOfSchedulingBlock() {
+        ScheduledEvents scheduledEvents = new ScheduledEvents();
+        processAllEventsOfSchedulingBlock(new WorkStealingThreadPool(componentProviderMock, scheduledEvents, 2), scheduledEvents);
+    }
+
+    private void processAllEventsOfSchedulingBlock(ThreadPool threadPool, ScheduledEvents scheduledEvents) {
+        threadPool.initialize();
+        try {
+            for (int block = 1; block <= 10; block++) {
+                for (String ambassadorId : AMBASSADORS) {
+                    threadPool.schedule(new FederateEvent(ambassadorId, block * TIME.SECOND, 0, (byte) 1));
+                }
+                threadPool.awaitSchedulingBlock();
+
+                // all events of this block are processed and their lookahead is released
+                assertEquals(block * AMBASSADORS.length, processedEvents.get());
+                assertEquals(Long.MAX_VALUE, scheduledEvents.getMaximumValidTime());
+            }
+            assertFalse(threadPool.hasException());
+        } finally {
+            threadPool.shutdown();
+        }
+    }
+
+    @Test
+    public void performanceTest() throws InterruptedException {
+        assumeTrue("Skipping performance test", System.getProperty("performanceTests") != null);
+
+        final int blocks = 500;
+        final int threads = 4;
+
+        ScheduledEvents busyWaitingEvents = new ScheduledEvents();
+        measureSchedulingBlocks(new BusyWaitingThreadPool(componentProviderMock, busyWaitingEvents, threads), blocks);
+
+        ScheduledEvents workStealingEvents = new ScheduledEvents();
+        measureSchedulingBlocks(new WorkStealingThreadPool(componentProviderMock, workStealingEvents, threads), blocks);
+    }
+
+    /**
+     * Executes the given number of scheduling blocks, and sleeps a short moment between them to emulate
+     * sequentially executed federates. Logs wall time and process CPU time per scheduling block.
+     */
+    private void measureSchedulingBlocks(ThreadPool threadPool, int blocks) throws InterruptedException {
+        final com.sun.management.OperatingSystemMXBean osBean =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        threadPool.initialize();
+        long startWallTime = System.nanoTime();
+        long startCpuTime = osBean.getProcessCpuTime();
+        try {
+            for (int block = 1; block <= blocks; block++) {
+                for (String ambassadorId : AMBASSADORS) {
+                    threadPool.schedule(new FederateEvent(ambassadorId, block * TIME.SECOND, 0, (byte) 1));
+                }
+                threadPool.awaitSchedulingBlock();
+                Thread.sleep(1);
+            }
+        } finally {
+            threadPool.shutdown();
+        }
+        long wallTime = System.nanoTime() - startWallTime;
+        long cpuTime = osBean.getProcessCpuTime() - startCpuTime;
+
+        log.debug("{}: wall time {}us/block, cpu time {}us/block",
+                threadPool.getClass().getSimpleName(), (wallTime / blocks) / 1e3, (cpuTime / blocks) / 1e3);
+    }
+}
@@ -180,7 +180,10 @@ public class MosaicSimulation {
             printMosaicVersion();
 
             final MosaicComponentParameters simParams = readSimulationParameters(scenarioConfiguration)
-                    .setNumberOfThreads(runtimeConfiguration.threads);
+                    .setNumberOfThreads(runtimeConfiguration.threads)
+                    .setThreadPoolType(runtimeConfiguration.threadPool)
+                    .setInteractionManagementType(runtimeConfiguration.interactionManagement)
+                    .setInteractionQueueCapacity(runtimeConfiguration.interactionQueueCapacity);
 
             initializeSingletons(scenarioConfiguration);
 
@@ -246,7 +249,8 @@ public class MosaicSimulation {
                 .setRealTimeBreak(realtimeBrake)
                 .setFederationId(federationId)
                 .setEndTime(scenarioConfiguration.simulation.duration * TIME.SECOND)
-                .setRandomSeed(scenarioConfiguration.simulation.randomSeed);
+                .setRandomSeed(scenarioConfiguration.simulation.randomSeed)
+                .setTimeManagementType(scenarioConfiguration.simulation.timeManagement);
     }
 
     private GeoProjection createTransformation(CScenario scenarioConfiguration) {
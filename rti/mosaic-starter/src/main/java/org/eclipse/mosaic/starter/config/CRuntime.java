@@ -16,6 +16,8 @@
 package org.eclipse.mosaic.starter.config;
 
 import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+import org.eclipse.mosaic.rti.interaction.InteractionManagementType;
+import org.eclipse.mosaic.rti.time.ThreadPoolType;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +35,32 @@ public class CRuntime {
      */
     public int threads = 1;
 
+    /**
+     * The thread pool implementation to be used if more than one thread is configured.
+     * <ul>
+     *     <li>{@link ThreadPoolType#BUSY_WAITING}: idle workers spin on the event queue (default).</li>
+     *     <li>{@link ThreadPoolType#WORK_STEALING}: idle workers are parked and do not occupy CPU cores.</li>
+     * </ul>
+     */
+    public ThreadPoolType threadPool = ThreadPoolType.BUSY_WAITING;
+
+    /**
+     * The interaction management implementation to be used.
+     * <ul>
+     *     <li>{@link InteractionManagementType#DEFAULT}: interactions are delivered to all subscribed federates
+     *     one after another by the publishing federate (default).</li>
+     *     <li>{@link InteractionManagementType#PARALLEL}: interactions are delivered to different subscribed federates
+     *     concurrently, while the order of interactions is kept for each federate.</li>
+     * </ul>
+     */
+    public InteractionManagementType interactionManagement = InteractionManagementType.DEFAULT;
+
+    /**
+     * The maximum number of interactions waiting for delivery to a single federate, if interactions
+     * are delivered in parallel. Publishing federates are held back if this limit is reached. Interactions
+     * which can't be held back without risking a deadlock are rejected with an error instead.
+     */
+    public int interactionQueueCapacity = 1024;
 
     public List<CFederate> federates = new ArrayList<>();
 
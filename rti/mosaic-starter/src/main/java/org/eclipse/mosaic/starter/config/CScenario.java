@@ -18,6 +18,7 @@ package org.eclipse.mosaic.starter.config;
 import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
 import org.eclipse.mosaic.rti.config.CIpResolver;
 import org.eclipse.mosaic.rti.config.CProjection;
+import org.eclipse.mosaic.rti.time.TimeManagementType;
 
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
@@ -62,6 +63,14 @@ public class CScenario {
         @Nullable
         public Long randomSeed;
 
+        /**
+         * The time management implementation to use. With {@link TimeManagementType#DEFAULT}, the time management
+         * is chosen depending on the number of threads configured in the runtime configuration. With
+         * {@link TimeManagementType#CONSERVATIVE}, all federates whose next event lies below the lower bound on
+         * time stamp (derived from the lookahead of all other federates) are advanced concurrently.
+         */
+        public TimeManagementType timeManagement = TimeManagementType.DEFAULT;
+
         /**
          * The projection configuration which defines the projection from WGS84 coordinates to local
          * cartesian coordinates of the simulation playground.